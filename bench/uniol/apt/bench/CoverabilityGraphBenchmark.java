@@ -0,0 +1,74 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.analysis.coverability.CoverabilityGraph;
+
+/**
+ * Benchmark for calculating the coverability graph. Since coverability graphs are cached in the Petri net, a fresh copy
+ * of the net is used for each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoverabilityGraphBenchmark {
+	@Param({ "philnet-4", "philnet-8", "philnet-12", "bitnet-4", "bitnet-8", "bitnet-12",
+		"cycle-4", "cycle-8", "cycle-12", "tnet-4", "tnet-5" })
+	public String source;
+
+	private PetriNet prototype;
+	private PetriNet pn;
+
+	@Setup(Level.Trial)
+	public void setupTrial() throws Exception {
+		prototype = Nets.getNet(source);
+	}
+
+	@Setup(Level.Invocation)
+	public void setup() {
+		pn = new PetriNet(prototype);
+	}
+
+	@Benchmark
+	public int calculateNodes() {
+		return CoverabilityGraph.get(pn).calculateNodes();
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
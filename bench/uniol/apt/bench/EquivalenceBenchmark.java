@@ -0,0 +1,77 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniol.apt.adt.PetriNetOrTransitionSystem;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.bisimulation.Bisimulation;
+import uniol.apt.analysis.isomorphism.IsomorphismLogic;
+
+/**
+ * Benchmark for comparing two copies of the reachability graph of a generated net with isomorphism and bisimulation
+ * checks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EquivalenceBenchmark {
+	@Param({ "philnet-3", "philnet-5", "philnet-7", "bitnet-3", "bitnet-5", "bitnet-7",
+		"cycle-3", "cycle-5", "cycle-7", "tnet-4", "tnet-5" })
+	public String source;
+
+	private TransitionSystem lts1;
+	private TransitionSystem lts2;
+
+	@Setup
+	public void setup() throws Exception {
+		lts1 = Nets.getLTS(source);
+		lts2 = Nets.getLTS(source);
+	}
+
+	@Benchmark
+	public boolean isomorphism() {
+		return new IsomorphismLogic(lts1, lts2, true).isIsomorphic();
+	}
+
+	@Benchmark
+	public Boolean bisimulation() throws Exception {
+		return new Bisimulation().checkBisimulation(new PetriNetOrTransitionSystem(lts1),
+				new PetriNetOrTransitionSystem(lts2));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,91 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uniol.apt.adt.pn.CompiledPetriNet;
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Transition;
+
+/**
+ * Benchmark for checking if transitions are fireable and firing them in the initial marking.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FiringBenchmark {
+	@Param({ "philnet-4", "philnet-16", "philnet-64", "bitnet-4", "bitnet-16", "bitnet-64",
+		"cycle-4", "cycle-16", "cycle-64", "tnet-4", "tnet-5" })
+	public String source;
+
+	private Marking marking;
+	private Transition[] transitions;
+	private CompiledPetriNet compiled;
+	private long[] tokens;
+
+	@Setup
+	public void setup() throws Exception {
+		PetriNet pn = Nets.getNet(source);
+		marking = pn.getInitialMarking();
+		transitions = pn.getTransitions().toArray(new Transition[0]);
+		compiled = CompiledPetriNet.get(pn);
+		tokens = compiled.getTokens(marking);
+	}
+
+	@Benchmark
+	public void isFireable(Blackhole blackhole) {
+		for (Transition transition : transitions)
+			blackhole.consume(transition.isFireable(marking));
+	}
+
+	@Benchmark
+	public void fire(Blackhole blackhole) {
+		for (Transition transition : transitions)
+			if (transition.isFireable(marking))
+				blackhole.consume(transition.fire(marking));
+	}
+
+	@Benchmark
+	public void compiledFire(Blackhole blackhole) {
+		for (int t = 0; t < compiled.getTransitionCount(); t++)
+			if (compiled.isFireable(t, tokens))
+				blackhole.consume(compiled.fire(t, tokens));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
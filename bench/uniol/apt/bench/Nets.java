@@ -0,0 +1,129 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.bench;
+
+import java.io.File;
+
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Place;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.coverability.CoverabilityGraph;
+import uniol.apt.analysis.coverability.CoverabilityGraphNode;
+import uniol.apt.generator.bitnet.SimpleBitNetGenerator;
+import uniol.apt.generator.cycle.CycleGenerator;
+import uniol.apt.generator.philnet.BistatePhilNetGenerator;
+import uniol.apt.generator.tnet.TNetGenerator;
+import uniol.apt.io.parser.impl.AptPNParser;
+import uniol.apt.io.parser.impl.apt.APTLTSParser;
+
+/**
+ * Input for the benchmarks. A source is either the name of a file in the net collection or the name of a generator
+ * followed by the size of the generated net, for example "philnet-4".
+ */
+final class Nets {
+	// The directory containing the net collection, can be overwritten via -Dapt.nets=...
+	static private final String NETS = System.getProperty("apt.nets", "nets");
+
+	private Nets() {
+	}
+
+	/**
+	 * Generate a Petri net.
+	 * @param generator The name of the generator: philnet, bitnet, cycle or tnet.
+	 * @param size The size of the generated net.
+	 * @return The generated Petri net.
+	 */
+	static PetriNet generate(String generator, int size) {
+		switch (generator) {
+			case "philnet":
+				return new BistatePhilNetGenerator().generateNet(size);
+			case "bitnet":
+				return new SimpleBitNetGenerator().generateNet(size);
+			case "cycle":
+				return new CycleGenerator().generateNet(size, 2);
+			case "tnet":
+				return generateTNet(size);
+			default:
+				throw new IllegalArgumentException("Unknown generator: " + generator);
+		}
+	}
+
+	/**
+	 * Select a T-net from the ones enumerated by the {@link TNetGenerator}. Every place gets one token and of the
+	 * resulting bounded nets with the given number of places, the first one with the largest reachability graph is
+	 * returned. The enumeration grows quickly, so this is only feasible for up to about six places.
+	 * @param places The number of places.
+	 * @return The selected T-net.
+	 */
+	static private PetriNet generateTNet(int places) {
+		PetriNet result = null;
+		int resultStates = -1;
+		for (PetriNet pn : new TNetGenerator(places)) {
+			if (pn.getPlaces().size() != places)
+				continue;
+			for (Place place : pn.getPlaces())
+				place.setInitialToken(1);
+			// Use a graph which is not cached in the Petri net, so that benchmarks start from scratch
+			CoverabilityGraph graph = CoverabilityGraph.get(pn, Long.MAX_VALUE);
+			int states = 0;
+			for (CoverabilityGraphNode node : graph.getNodes()) {
+				if (node.getMarking().hasOmega()) {
+					states = -1;
+					break;
+				}
+				states++;
+			}
+			if (states > resultStates) {
+				result = pn;
+				resultStates = states;
+			}
+		}
+		if (result == null || resultStates < 0)
+			throw new IllegalArgumentException("There is no bounded T-net with " + places + " places");
+		return result;
+	}
+
+	/**
+	 * Get the Petri net of a source.
+	 * @param source A file in the net collection or a generator and a size.
+	 * @return The Petri net.
+	 * @throws Exception If the file can't be parsed.
+	 */
+	static PetriNet getNet(String source) throws Exception {
+		if (source.endsWith(".apt"))
+			return new AptPNParser().parsePNFile(new File(NETS, source));
+		int index = source.lastIndexOf('-');
+		return generate(source.substring(0, index), Integer.parseInt(source.substring(index + 1)));
+	}
+
+	/**
+	 * Get the labeled transition system of a source. For Petri nets, this is the reachability graph.
+	 * @param source A file in the net collection or a generator and a size.
+	 * @return The transition system.
+	 * @throws Exception If the file can't be parsed or the Petri net is unbounded.
+	 */
+	static TransitionSystem getLTS(String source) throws Exception {
+		if (source.endsWith("-aut.apt"))
+			return APTLTSParser.getLTS(new File(NETS, source).getPath(), true);
+		return CoverabilityGraph.getReachabilityGraph(getNet(source)).toReachabilityLTS();
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,79 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.bench;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.io.parser.impl.AptPNParser;
+import uniol.apt.io.parser.impl.apt.APTLTSParser;
+import uniol.apt.io.renderer.impl.APTRenderer;
+
+/**
+ * Benchmark for the parsers of the APT file format. The input is a generated net and its reachability graph in the
+ * APT file format.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+	@Param({ "philnet-4", "philnet-8", "bitnet-4", "bitnet-8", "cycle-4", "cycle-8", "tnet-4", "tnet-5" })
+	public String source;
+
+	private String net;
+	private byte[] lts;
+
+	@Setup
+	public void setup() throws Exception {
+		APTRenderer renderer = new APTRenderer();
+		net = renderer.render(Nets.getNet(source));
+		lts = renderer.render(Nets.getLTS(source)).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public PetriNet parsePN() throws Exception {
+		return new AptPNParser().parsePN(net);
+	}
+
+	@Benchmark
+	public TransitionSystem parseLTS() throws Exception {
+		return APTLTSParser.getLTS(new ByteArrayInputStream(lts), true);
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
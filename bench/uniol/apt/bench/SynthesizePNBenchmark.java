@@ -0,0 +1,67 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.synthesize.SynthesizePN;
+
+/**
+ * Benchmark for Petri net synthesis from labeled transition systems of the net collection and from reachability
+ * graphs of generated nets.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SynthesizePNBenchmark {
+	@Param({ "crashkurs-cc1-aut.apt", "crashkurs-cc2-aut.apt", "crashkurs-cc3-aut.apt",
+		"crashkurs-cc2-net.apt", "readerWriter-net.apt", "philnet-3", "bitnet-3", "cycle-6", "tnet-4" })
+	public String source;
+
+	private TransitionSystem ts;
+
+	@Setup
+	public void setup() throws Exception {
+		ts = Nets.getLTS(source);
+	}
+
+	@Benchmark
+	public boolean synthesize() throws Exception {
+		return new SynthesizePN.Builder(ts).buildForIsomorphicBehavior().wasSuccessfullySeparated();
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
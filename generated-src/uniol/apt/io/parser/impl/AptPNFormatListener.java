@@ -0,0 +1,170 @@
+// Generated from /root/project/src/uniol/apt/io/parser/impl/AptPNFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link AptPNFormatParser}.
+ */
+public interface AptPNFormatListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#pn}.
+	 * @param ctx the parse tree
+	 */
+	void enterPn(AptPNFormatParser.PnContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#pn}.
+	 * @param ctx the parse tree
+	 */
+	void exitPn(AptPNFormatParser.PnContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#name}.
+	 * @param ctx the parse tree
+	 */
+	void enterName(AptPNFormatParser.NameContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#name}.
+	 * @param ctx the parse tree
+	 */
+	void exitName(AptPNFormatParser.NameContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void enterType(AptPNFormatParser.TypeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void exitType(AptPNFormatParser.TypeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#description}.
+	 * @param ctx the parse tree
+	 */
+	void enterDescription(AptPNFormatParser.DescriptionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#description}.
+	 * @param ctx the parse tree
+	 */
+	void exitDescription(AptPNFormatParser.DescriptionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#places}.
+	 * @param ctx the parse tree
+	 */
+	void enterPlaces(AptPNFormatParser.PlacesContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#places}.
+	 * @param ctx the parse tree
+	 */
+	void exitPlaces(AptPNFormatParser.PlacesContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#place}.
+	 * @param ctx the parse tree
+	 */
+	void enterPlace(AptPNFormatParser.PlaceContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#place}.
+	 * @param ctx the parse tree
+	 */
+	void exitPlace(AptPNFormatParser.PlaceContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#transitions}.
+	 * @param ctx the parse tree
+	 */
+	void enterTransitions(AptPNFormatParser.TransitionsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#transitions}.
+	 * @param ctx the parse tree
+	 */
+	void exitTransitions(AptPNFormatParser.TransitionsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#transition}.
+	 * @param ctx the parse tree
+	 */
+	void enterTransition(AptPNFormatParser.TransitionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#transition}.
+	 * @param ctx the parse tree
+	 */
+	void exitTransition(AptPNFormatParser.TransitionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#opts}.
+	 * @param ctx the parse tree
+	 */
+	void enterOpts(AptPNFormatParser.OptsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#opts}.
+	 * @param ctx the parse tree
+	 */
+	void exitOpts(AptPNFormatParser.OptsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#option}.
+	 * @param ctx the parse tree
+	 */
+	void enterOption(AptPNFormatParser.OptionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#option}.
+	 * @param ctx the parse tree
+	 */
+	void exitOption(AptPNFormatParser.OptionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#flows}.
+	 * @param ctx the parse tree
+	 */
+	void enterFlows(AptPNFormatParser.FlowsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#flows}.
+	 * @param ctx the parse tree
+	 */
+	void exitFlows(AptPNFormatParser.FlowsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#flow}.
+	 * @param ctx the parse tree
+	 */
+	void enterFlow(AptPNFormatParser.FlowContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#flow}.
+	 * @param ctx the parse tree
+	 */
+	void exitFlow(AptPNFormatParser.FlowContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#set}.
+	 * @param ctx the parse tree
+	 */
+	void enterSet(AptPNFormatParser.SetContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#set}.
+	 * @param ctx the parse tree
+	 */
+	void exitSet(AptPNFormatParser.SetContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#obj}.
+	 * @param ctx the parse tree
+	 */
+	void enterObj(AptPNFormatParser.ObjContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#obj}.
+	 * @param ctx the parse tree
+	 */
+	void exitObj(AptPNFormatParser.ObjContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#initialMarking}.
+	 * @param ctx the parse tree
+	 */
+	void enterInitialMarking(AptPNFormatParser.InitialMarkingContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#initialMarking}.
+	 * @param ctx the parse tree
+	 */
+	void exitInitialMarking(AptPNFormatParser.InitialMarkingContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link AptPNFormatParser#finalMarkings}.
+	 * @param ctx the parse tree
+	 */
+	void enterFinalMarkings(AptPNFormatParser.FinalMarkingsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link AptPNFormatParser#finalMarkings}.
+	 * @param ctx the parse tree
+	 */
+	void exitFinalMarkings(AptPNFormatParser.FinalMarkingsContext ctx);
+}
\ No newline at end of file
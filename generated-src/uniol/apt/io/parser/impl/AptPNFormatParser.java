@@ -0,0 +1,1289 @@
+// Generated from /root/project/src/uniol/apt/io/parser/impl/AptPNFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class AptPNFormatParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
+		T__17=18, T__18=19, INT=20, ID=21, COMMENT=22, WS=23, STR=24, STR_MULTI=25;
+	public static final int
+		RULE_pn = 0, RULE_name = 1, RULE_type = 2, RULE_description = 3, RULE_places = 4, 
+		RULE_place = 5, RULE_transitions = 6, RULE_transition = 7, RULE_opts = 8, 
+		RULE_option = 9, RULE_flows = 10, RULE_flow = 11, RULE_set = 12, RULE_obj = 13, 
+		RULE_initialMarking = 14, RULE_finalMarkings = 15;
+	public static final String[] ruleNames = {
+		"pn", "name", "type", "description", "places", "place", "transitions", 
+		"transition", "opts", "option", "flows", "flow", "set", "obj", "initialMarking", 
+		"finalMarkings"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'.name'", "'.type'", "'LPN'", "'PN'", "'.description'", "'.places'", 
+		"'.transitions'", "'['", "','", "']'", "'='", "'.flows'", "':'", "'->'", 
+		"'{'", "'}'", "'*'", "'.initial_marking'", "'.final_markings'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, "INT", "ID", "COMMENT", 
+		"WS", "STR", "STR_MULTI"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "AptPNFormat.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+
+		int descCount = 0;
+		int markCount = 0;
+		int nameCount = 0;
+		int typeCount = 0;
+
+	public AptPNFormatParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class PnContext extends ParserRuleContext {
+		public List<DescriptionContext> description() {
+			return getRuleContexts(DescriptionContext.class);
+		}
+		public DescriptionContext description(int i) {
+			return getRuleContext(DescriptionContext.class,i);
+		}
+		public List<FinalMarkingsContext> finalMarkings() {
+			return getRuleContexts(FinalMarkingsContext.class);
+		}
+		public FinalMarkingsContext finalMarkings(int i) {
+			return getRuleContext(FinalMarkingsContext.class,i);
+		}
+		public List<FlowsContext> flows() {
+			return getRuleContexts(FlowsContext.class);
+		}
+		public FlowsContext flows(int i) {
+			return getRuleContext(FlowsContext.class,i);
+		}
+		public List<InitialMarkingContext> initialMarking() {
+			return getRuleContexts(InitialMarkingContext.class);
+		}
+		public InitialMarkingContext initialMarking(int i) {
+			return getRuleContext(InitialMarkingContext.class,i);
+		}
+		public List<NameContext> name() {
+			return getRuleContexts(NameContext.class);
+		}
+		public NameContext name(int i) {
+			return getRuleContext(NameContext.class,i);
+		}
+		public List<PlacesContext> places() {
+			return getRuleContexts(PlacesContext.class);
+		}
+		public PlacesContext places(int i) {
+			return getRuleContext(PlacesContext.class,i);
+		}
+		public List<TransitionsContext> transitions() {
+			return getRuleContexts(TransitionsContext.class);
+		}
+		public TransitionsContext transitions(int i) {
+			return getRuleContext(TransitionsContext.class,i);
+		}
+		public List<TypeContext> type() {
+			return getRuleContexts(TypeContext.class);
+		}
+		public TypeContext type(int i) {
+			return getRuleContext(TypeContext.class,i);
+		}
+		public PnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pn; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterPn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitPn(this);
+		}
+	}
+
+	public final PnContext pn() throws RecognitionException {
+		PnContext _localctx = new PnContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_pn);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(42);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,1,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					setState(40);
+					switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
+					case 1:
+						{
+						setState(32);
+						description();
+						}
+						break;
+					case 2:
+						{
+						setState(33);
+						finalMarkings();
+						}
+						break;
+					case 3:
+						{
+						setState(34);
+						flows();
+						}
+						break;
+					case 4:
+						{
+						setState(35);
+						initialMarking();
+						}
+						break;
+					case 5:
+						{
+						setState(36);
+						name();
+						}
+						break;
+					case 6:
+						{
+						setState(37);
+						places();
+						}
+						break;
+					case 7:
+						{
+						setState(38);
+						transitions();
+						}
+						break;
+					case 8:
+						{
+						setState(39);
+						type();
+						}
+						break;
+					}
+					} 
+				}
+				setState(44);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,1,_ctx);
+			}
+			setState(45);
+			if (!(typeCount == 1)) throw new FailedPredicateException(this, "typeCount == 1");
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NameContext extends ParserRuleContext {
+		public TerminalNode STR() { return getToken(AptPNFormatParser.STR, 0); }
+		public NameContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_name; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterName(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitName(this);
+		}
+	}
+
+	public final NameContext name() throws RecognitionException {
+		NameContext _localctx = new NameContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_name);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(47);
+			if (!(nameCount == 0)) throw new FailedPredicateException(this, "nameCount == 0");
+			setState(48);
+			match(T__0);
+			setState(49);
+			match(STR);
+			nameCount++;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeContext extends ParserRuleContext {
+		public TypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitType(this);
+		}
+	}
+
+	public final TypeContext type() throws RecognitionException {
+		TypeContext _localctx = new TypeContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_type);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(52);
+			if (!(typeCount == 0)) throw new FailedPredicateException(this, "typeCount == 0");
+			setState(53);
+			match(T__1);
+			setState(54);
+			_la = _input.LA(1);
+			if ( !(_la==T__2 || _la==T__3) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			typeCount++;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DescriptionContext extends ParserRuleContext {
+		public Token txt;
+		public TerminalNode STR() { return getToken(AptPNFormatParser.STR, 0); }
+		public TerminalNode STR_MULTI() { return getToken(AptPNFormatParser.STR_MULTI, 0); }
+		public DescriptionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_description; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterDescription(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitDescription(this);
+		}
+	}
+
+	public final DescriptionContext description() throws RecognitionException {
+		DescriptionContext _localctx = new DescriptionContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_description);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(57);
+			if (!(descCount == 0)) throw new FailedPredicateException(this, "descCount == 0");
+			setState(58);
+			match(T__4);
+			setState(61);
+			switch (_input.LA(1)) {
+			case STR:
+				{
+				setState(59);
+				((DescriptionContext)_localctx).txt = match(STR);
+				}
+				break;
+			case STR_MULTI:
+				{
+				setState(60);
+				((DescriptionContext)_localctx).txt = match(STR_MULTI);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			descCount++;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PlacesContext extends ParserRuleContext {
+		public List<PlaceContext> place() {
+			return getRuleContexts(PlaceContext.class);
+		}
+		public PlaceContext place(int i) {
+			return getRuleContext(PlaceContext.class,i);
+		}
+		public PlacesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_places; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterPlaces(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitPlaces(this);
+		}
+	}
+
+	public final PlacesContext places() throws RecognitionException {
+		PlacesContext _localctx = new PlacesContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_places);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(65);
+			match(T__5);
+			setState(69);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(66);
+					place();
+					}
+					} 
+				}
+				setState(71);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PlaceContext extends ParserRuleContext {
+		public Token id;
+		public TerminalNode ID() { return getToken(AptPNFormatParser.ID, 0); }
+		public TerminalNode INT() { return getToken(AptPNFormatParser.INT, 0); }
+		public OptsContext opts() {
+			return getRuleContext(OptsContext.class,0);
+		}
+		public PlaceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_place; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterPlace(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitPlace(this);
+		}
+	}
+
+	public final PlaceContext place() throws RecognitionException {
+		PlaceContext _localctx = new PlaceContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_place);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(74);
+			switch (_input.LA(1)) {
+			case ID:
+				{
+				setState(72);
+				((PlaceContext)_localctx).id = match(ID);
+				}
+				break;
+			case INT:
+				{
+				setState(73);
+				((PlaceContext)_localctx).id = match(INT);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(77);
+			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
+			case 1:
+				{
+				setState(76);
+				opts();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TransitionsContext extends ParserRuleContext {
+		public List<TransitionContext> transition() {
+			return getRuleContexts(TransitionContext.class);
+		}
+		public TransitionContext transition(int i) {
+			return getRuleContext(TransitionContext.class,i);
+		}
+		public TransitionsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_transitions; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterTransitions(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitTransitions(this);
+		}
+	}
+
+	public final TransitionsContext transitions() throws RecognitionException {
+		TransitionsContext _localctx = new TransitionsContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_transitions);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(79);
+			match(T__6);
+			setState(83);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(80);
+					transition();
+					}
+					} 
+				}
+				setState(85);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TransitionContext extends ParserRuleContext {
+		public Token id;
+		public TerminalNode ID() { return getToken(AptPNFormatParser.ID, 0); }
+		public TerminalNode INT() { return getToken(AptPNFormatParser.INT, 0); }
+		public OptsContext opts() {
+			return getRuleContext(OptsContext.class,0);
+		}
+		public TransitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_transition; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterTransition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitTransition(this);
+		}
+	}
+
+	public final TransitionContext transition() throws RecognitionException {
+		TransitionContext _localctx = new TransitionContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_transition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(88);
+			switch (_input.LA(1)) {
+			case ID:
+				{
+				setState(86);
+				((TransitionContext)_localctx).id = match(ID);
+				}
+				break;
+			case INT:
+				{
+				setState(87);
+				((TransitionContext)_localctx).id = match(INT);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(91);
+			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
+			case 1:
+				{
+				setState(90);
+				opts();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OptsContext extends ParserRuleContext {
+		public List<OptionContext> option() {
+			return getRuleContexts(OptionContext.class);
+		}
+		public OptionContext option(int i) {
+			return getRuleContext(OptionContext.class,i);
+		}
+		public OptsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_opts; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterOpts(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitOpts(this);
+		}
+	}
+
+	public final OptsContext opts() throws RecognitionException {
+		OptsContext _localctx = new OptsContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_opts);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(93);
+			match(T__7);
+			setState(94);
+			option();
+			setState(99);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__8) {
+				{
+				{
+				setState(95);
+				match(T__8);
+				setState(96);
+				option();
+				}
+				}
+				setState(101);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(102);
+			match(T__9);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OptionContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(AptPNFormatParser.ID, 0); }
+		public TerminalNode STR() { return getToken(AptPNFormatParser.STR, 0); }
+		public TerminalNode INT() { return getToken(AptPNFormatParser.INT, 0); }
+		public OptionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_option; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterOption(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitOption(this);
+		}
+	}
+
+	public final OptionContext option() throws RecognitionException {
+		OptionContext _localctx = new OptionContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_option);
+		try {
+			setState(111);
+			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(104);
+				match(ID);
+				setState(105);
+				match(T__10);
+				setState(106);
+				match(STR);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(107);
+				match(ID);
+				setState(108);
+				match(T__10);
+				setState(109);
+				match(INT);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(110);
+				match(ID);
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FlowsContext extends ParserRuleContext {
+		public List<FlowContext> flow() {
+			return getRuleContexts(FlowContext.class);
+		}
+		public FlowContext flow(int i) {
+			return getRuleContext(FlowContext.class,i);
+		}
+		public FlowsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_flows; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterFlows(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitFlows(this);
+		}
+	}
+
+	public final FlowsContext flows() throws RecognitionException {
+		FlowsContext _localctx = new FlowsContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_flows);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(113);
+			match(T__11);
+			setState(117);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(114);
+					flow();
+					}
+					} 
+				}
+				setState(119);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FlowContext extends ParserRuleContext {
+		public Token id;
+		public SetContext preset;
+		public SetContext postset;
+		public List<SetContext> set() {
+			return getRuleContexts(SetContext.class);
+		}
+		public SetContext set(int i) {
+			return getRuleContext(SetContext.class,i);
+		}
+		public TerminalNode ID() { return getToken(AptPNFormatParser.ID, 0); }
+		public TerminalNode INT() { return getToken(AptPNFormatParser.INT, 0); }
+		public FlowContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_flow; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterFlow(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitFlow(this);
+		}
+	}
+
+	public final FlowContext flow() throws RecognitionException {
+		FlowContext _localctx = new FlowContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_flow);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(122);
+			switch (_input.LA(1)) {
+			case ID:
+				{
+				setState(120);
+				((FlowContext)_localctx).id = match(ID);
+				}
+				break;
+			case INT:
+				{
+				setState(121);
+				((FlowContext)_localctx).id = match(INT);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(124);
+			match(T__12);
+			setState(125);
+			((FlowContext)_localctx).preset = set();
+			setState(126);
+			match(T__13);
+			setState(127);
+			((FlowContext)_localctx).postset = set();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SetContext extends ParserRuleContext {
+		public List<ObjContext> obj() {
+			return getRuleContexts(ObjContext.class);
+		}
+		public ObjContext obj(int i) {
+			return getRuleContext(ObjContext.class,i);
+		}
+		public SetContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_set; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterSet(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitSet(this);
+		}
+	}
+
+	public final SetContext set() throws RecognitionException {
+		SetContext _localctx = new SetContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_set);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(129);
+			match(T__14);
+			setState(139);
+			switch (_input.LA(1)) {
+			case T__15:
+				{
+				}
+				break;
+			case INT:
+			case ID:
+				{
+				setState(131);
+				obj();
+				setState(136);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__8) {
+					{
+					{
+					setState(132);
+					match(T__8);
+					setState(133);
+					obj();
+					}
+					}
+					setState(138);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(141);
+			match(T__15);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ObjContext extends ParserRuleContext {
+		public Token mult;
+		public Token id;
+		public List<TerminalNode> INT() { return getTokens(AptPNFormatParser.INT); }
+		public TerminalNode INT(int i) {
+			return getToken(AptPNFormatParser.INT, i);
+		}
+		public TerminalNode ID() { return getToken(AptPNFormatParser.ID, 0); }
+		public ObjContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_obj; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterObj(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitObj(this);
+		}
+	}
+
+	public final ObjContext obj() throws RecognitionException {
+		ObjContext _localctx = new ObjContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_obj);
+		try {
+			setState(153);
+			switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(143);
+				((ObjContext)_localctx).mult = match(INT);
+				setState(144);
+				match(T__16);
+				setState(147);
+				switch (_input.LA(1)) {
+				case ID:
+					{
+					setState(145);
+					((ObjContext)_localctx).id = match(ID);
+					}
+					break;
+				case INT:
+					{
+					setState(146);
+					((ObjContext)_localctx).id = match(INT);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(151);
+				switch (_input.LA(1)) {
+				case ID:
+					{
+					setState(149);
+					((ObjContext)_localctx).id = match(ID);
+					}
+					break;
+				case INT:
+					{
+					setState(150);
+					((ObjContext)_localctx).id = match(INT);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InitialMarkingContext extends ParserRuleContext {
+		public SetContext set() {
+			return getRuleContext(SetContext.class,0);
+		}
+		public InitialMarkingContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_initialMarking; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterInitialMarking(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitInitialMarking(this);
+		}
+	}
+
+	public final InitialMarkingContext initialMarking() throws RecognitionException {
+		InitialMarkingContext _localctx = new InitialMarkingContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_initialMarking);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(155);
+			if (!(markCount == 0)) throw new FailedPredicateException(this, "markCount == 0");
+			setState(156);
+			match(T__17);
+			setState(158);
+			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
+			case 1:
+				{
+				setState(157);
+				set();
+				}
+				break;
+			}
+			markCount++;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FinalMarkingsContext extends ParserRuleContext {
+		public List<SetContext> set() {
+			return getRuleContexts(SetContext.class);
+		}
+		public SetContext set(int i) {
+			return getRuleContext(SetContext.class,i);
+		}
+		public FinalMarkingsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_finalMarkings; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).enterFinalMarkings(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof AptPNFormatListener ) ((AptPNFormatListener)listener).exitFinalMarkings(this);
+		}
+	}
+
+	public final FinalMarkingsContext finalMarkings() throws RecognitionException {
+		FinalMarkingsContext _localctx = new FinalMarkingsContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_finalMarkings);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(162);
+			match(T__18);
+			setState(166);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(163);
+					set();
+					}
+					} 
+				}
+				setState(168);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,19,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 0:
+			return pn_sempred((PnContext)_localctx, predIndex);
+		case 1:
+			return name_sempred((NameContext)_localctx, predIndex);
+		case 2:
+			return type_sempred((TypeContext)_localctx, predIndex);
+		case 3:
+			return description_sempred((DescriptionContext)_localctx, predIndex);
+		case 14:
+			return initialMarking_sempred((InitialMarkingContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean pn_sempred(PnContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return typeCount == 1;
+		}
+		return true;
+	}
+	private boolean name_sempred(NameContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 1:
+			return nameCount == 0;
+		}
+		return true;
+	}
+	private boolean type_sempred(TypeContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 2:
+			return typeCount == 0;
+		}
+		return true;
+	}
+	private boolean description_sempred(DescriptionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 3:
+			return descCount == 0;
+		}
+		return true;
+	}
+	private boolean initialMarking_sempred(InitialMarkingContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 4:
+			return markCount == 0;
+		}
+		return true;
+	}
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\33\u00ac\4\2\t\2"+
+		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\3\2\3\2"+
+		"\3\2\3\2\3\2\3\2\3\2\3\2\7\2+\n\2\f\2\16\2.\13\2\3\2\3\2\3\3\3\3\3\3\3"+
+		"\3\3\3\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\5\5\5@\n\5\3\5\3\5\3\6\3\6\7"+
+		"\6F\n\6\f\6\16\6I\13\6\3\7\3\7\5\7M\n\7\3\7\5\7P\n\7\3\b\3\b\7\bT\n\b"+
+		"\f\b\16\bW\13\b\3\t\3\t\5\t[\n\t\3\t\5\t^\n\t\3\n\3\n\3\n\3\n\7\nd\n\n"+
+		"\f\n\16\ng\13\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3\13\3\13\5\13r\n\13"+
+		"\3\f\3\f\7\fv\n\f\f\f\16\fy\13\f\3\r\3\r\5\r}\n\r\3\r\3\r\3\r\3\r\3\r"+
+		"\3\16\3\16\3\16\3\16\3\16\7\16\u0089\n\16\f\16\16\16\u008c\13\16\5\16"+
+		"\u008e\n\16\3\16\3\16\3\17\3\17\3\17\3\17\5\17\u0096\n\17\3\17\3\17\5"+
+		"\17\u009a\n\17\5\17\u009c\n\17\3\20\3\20\3\20\5\20\u00a1\n\20\3\20\3\20"+
+		"\3\21\3\21\7\21\u00a7\n\21\f\21\16\21\u00aa\13\21\3\21\2\2\22\2\4\6\b"+
+		"\n\f\16\20\22\24\26\30\32\34\36 \2\3\3\2\5\6\u00b6\2,\3\2\2\2\4\61\3\2"+
+		"\2\2\6\66\3\2\2\2\b;\3\2\2\2\nC\3\2\2\2\fL\3\2\2\2\16Q\3\2\2\2\20Z\3\2"+
+		"\2\2\22_\3\2\2\2\24q\3\2\2\2\26s\3\2\2\2\30|\3\2\2\2\32\u0083\3\2\2\2"+
+		"\34\u009b\3\2\2\2\36\u009d\3\2\2\2 \u00a4\3\2\2\2\"+\5\b\5\2#+\5 \21\2"+
+		"$+\5\26\f\2%+\5\36\20\2&+\5\4\3\2\'+\5\n\6\2(+\5\16\b\2)+\5\6\4\2*\"\3"+
+		"\2\2\2*#\3\2\2\2*$\3\2\2\2*%\3\2\2\2*&\3\2\2\2*\'\3\2\2\2*(\3\2\2\2*)"+
+		"\3\2\2\2+.\3\2\2\2,*\3\2\2\2,-\3\2\2\2-/\3\2\2\2.,\3\2\2\2/\60\6\2\2\2"+
+		"\60\3\3\2\2\2\61\62\6\3\3\2\62\63\7\3\2\2\63\64\7\32\2\2\64\65\b\3\1\2"+
+		"\65\5\3\2\2\2\66\67\6\4\4\2\678\7\4\2\289\t\2\2\29:\b\4\1\2:\7\3\2\2\2"+
+		";<\6\5\5\2<?\7\7\2\2=@\7\32\2\2>@\7\33\2\2?=\3\2\2\2?>\3\2\2\2@A\3\2\2"+
+		"\2AB\b\5\1\2B\t\3\2\2\2CG\7\b\2\2DF\5\f\7\2ED\3\2\2\2FI\3\2\2\2GE\3\2"+
+		"\2\2GH\3\2\2\2H\13\3\2\2\2IG\3\2\2\2JM\7\27\2\2KM\7\26\2\2LJ\3\2\2\2L"+
+		"K\3\2\2\2MO\3\2\2\2NP\5\22\n\2ON\3\2\2\2OP\3\2\2\2P\r\3\2\2\2QU\7\t\2"+
+		"\2RT\5\20\t\2SR\3\2\2\2TW\3\2\2\2US\3\2\2\2UV\3\2\2\2V\17\3\2\2\2WU\3"+
+		"\2\2\2X[\7\27\2\2Y[\7\26\2\2ZX\3\2\2\2ZY\3\2\2\2[]\3\2\2\2\\^\5\22\n\2"+
+		"]\\\3\2\2\2]^\3\2\2\2^\21\3\2\2\2_`\7\n\2\2`e\5\24\13\2ab\7\13\2\2bd\5"+
+		"\24\13\2ca\3\2\2\2dg\3\2\2\2ec\3\2\2\2ef\3\2\2\2fh\3\2\2\2ge\3\2\2\2h"+
+		"i\7\f\2\2i\23\3\2\2\2jk\7\27\2\2kl\7\r\2\2lr\7\32\2\2mn\7\27\2\2no\7\r"+
+		"\2\2or\7\26\2\2pr\7\27\2\2qj\3\2\2\2qm\3\2\2\2qp\3\2\2\2r\25\3\2\2\2s"+
+		"w\7\16\2\2tv\5\30\r\2ut\3\2\2\2vy\3\2\2\2wu\3\2\2\2wx\3\2\2\2x\27\3\2"+
+		"\2\2yw\3\2\2\2z}\7\27\2\2{}\7\26\2\2|z\3\2\2\2|{\3\2\2\2}~\3\2\2\2~\177"+
+		"\7\17\2\2\177\u0080\5\32\16\2\u0080\u0081\7\20\2\2\u0081\u0082\5\32\16"+
+		"\2\u0082\31\3\2\2\2\u0083\u008d\7\21\2\2\u0084\u008e\3\2\2\2\u0085\u008a"+
+		"\5\34\17\2\u0086\u0087\7\13\2\2\u0087\u0089\5\34\17\2\u0088\u0086\3\2"+
+		"\2\2\u0089\u008c\3\2\2\2\u008a\u0088\3\2\2\2\u008a\u008b\3\2\2\2\u008b"+
+		"\u008e\3\2\2\2\u008c\u008a\3\2\2\2\u008d\u0084\3\2\2\2\u008d\u0085\3\2"+
+		"\2\2\u008e\u008f\3\2\2\2\u008f\u0090\7\22\2\2\u0090\33\3\2\2\2\u0091\u0092"+
+		"\7\26\2\2\u0092\u0095\7\23\2\2\u0093\u0096\7\27\2\2\u0094\u0096\7\26\2"+
+		"\2\u0095\u0093\3\2\2\2\u0095\u0094\3\2\2\2\u0096\u009c\3\2\2\2\u0097\u009a"+
+		"\7\27\2\2\u0098\u009a\7\26\2\2\u0099\u0097\3\2\2\2\u0099\u0098\3\2\2\2"+
+		"\u009a\u009c\3\2\2\2\u009b\u0091\3\2\2\2\u009b\u0099\3\2\2\2\u009c\35"+
+		"\3\2\2\2\u009d\u009e\6\20\6\2\u009e\u00a0\7\24\2\2\u009f\u00a1\5\32\16"+
+		"\2\u00a0\u009f\3\2\2\2\u00a0\u00a1\3\2\2\2\u00a1\u00a2\3\2\2\2\u00a2\u00a3"+
+		"\b\20\1\2\u00a3\37\3\2\2\2\u00a4\u00a8\7\25\2\2\u00a5\u00a7\5\32\16\2"+
+		"\u00a6\u00a5\3\2\2\2\u00a7\u00aa\3\2\2\2\u00a8\u00a6\3\2\2\2\u00a8\u00a9"+
+		"\3\2\2\2\u00a9!\3\2\2\2\u00aa\u00a8\3\2\2\2\26*,?GLOUZ]eqw|\u008a\u008d"+
+		"\u0095\u0099\u009b\u00a0\u00a8";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+// Generated from /root/project/src/uniol/apt/io/parser/impl/LoLAPNFormat.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link LoLAPNFormatParser}.
+ */
+public interface LoLAPNFormatListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link LoLAPNFormatParser#pn}.
+	 * @param ctx the parse tree
+	 */
+	void enterPn(LoLAPNFormatParser.PnContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LoLAPNFormatParser#pn}.
+	 * @param ctx the parse tree
+	 */
+	void exitPn(LoLAPNFormatParser.PnContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LoLAPNFormatParser#places}.
+	 * @param ctx the parse tree
+	 */
+	void enterPlaces(LoLAPNFormatParser.PlacesContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LoLAPNFormatParser#places}.
+	 * @param ctx the parse tree
+	 */
+	void exitPlaces(LoLAPNFormatParser.PlacesContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LoLAPNFormatParser#marking}.
+	 * @param ctx the parse tree
+	 */
+	void enterMarking(LoLAPNFormatParser.MarkingContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LoLAPNFormatParser#marking}.
+	 * @param ctx the parse tree
+	 */
+	void exitMarking(LoLAPNFormatParser.MarkingContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LoLAPNFormatParser#transitions}.
+	 * @param ctx the parse tree
+	 */
+	void enterTransitions(LoLAPNFormatParser.TransitionsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LoLAPNFormatParser#transitions}.
+	 * @param ctx the parse tree
+	 */
+	void exitTransitions(LoLAPNFormatParser.TransitionsContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LoLAPNFormatParser#transition}.
+	 * @param ctx the parse tree
+	 */
+	void enterTransition(LoLAPNFormatParser.TransitionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LoLAPNFormatParser#transition}.
+	 * @param ctx the parse tree
+	 */
+	void exitTransition(LoLAPNFormatParser.TransitionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LoLAPNFormatParser#transitionPreset}.
+	 * @param ctx the parse tree
+	 */
+	void enterTransitionPreset(LoLAPNFormatParser.TransitionPresetContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LoLAPNFormatParser#transitionPreset}.
+	 * @param ctx the parse tree
+	 */
+	void exitTransitionPreset(LoLAPNFormatParser.TransitionPresetContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LoLAPNFormatParser#transitionPostset}.
+	 * @param ctx the parse tree
+	 */
+	void enterTransitionPostset(LoLAPNFormatParser.TransitionPostsetContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LoLAPNFormatParser#transitionPostset}.
+	 * @param ctx the parse tree
+	 */
+	void exitTransitionPostset(LoLAPNFormatParser.TransitionPostsetContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LoLAPNFormatParser#pwList}.
+	 * @param ctx the parse tree
+	 */
+	void enterPwList(LoLAPNFormatParser.PwListContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LoLAPNFormatParser#pwList}.
+	 * @param ctx the parse tree
+	 */
+	void exitPwList(LoLAPNFormatParser.PwListContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link LoLAPNFormatParser#pw}.
+	 * @param ctx the parse tree
+	 */
+	void enterPw(LoLAPNFormatParser.PwContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link LoLAPNFormatParser#pw}.
+	 * @param ctx the parse tree
+	 */
+	void exitPw(LoLAPNFormatParser.PwContext ctx);
+}
\ No newline at end of file
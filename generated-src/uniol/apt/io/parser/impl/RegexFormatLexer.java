@@ -0,0 +1,139 @@
+// Generated from /root/project/src/uniol/apt/io/parser/impl/RegexFormatLexer.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class RegexFormatLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		OR=1, AND=2, STAR=3, OPT=4, PLUS=5, EPSILON=6, EMPTY=7, REPEATOPEN=8, 
+		PAROPEN=9, PARCLOSE=10, ATOM=11, ID=12, COMMENT=13, WS=14, REPEATCLOSE=15, 
+		INT=16, COMMA=17;
+	public static final int REPEAT_MODE = 1;
+	public static String[] modeNames = {
+		"DEFAULT_MODE", "REPEAT_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"OR", "AND", "STAR", "OPT", "PLUS", "EPSILON", "EMPTY", "REPEATOPEN", 
+		"PAROPEN", "PARCLOSE", "ATOM", "ID", "COMMENT", "WS", "REPEATCLOSE", "INT", 
+		"COMMA", "SYMBOL", "DIGIT", "LETTER"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'|'", "'&'", "'*'", "'?'", "'+'", "'$'", "'~'", "'{'", "'('", "')'", 
+		null, null, null, null, "'}'", null, "','"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, "OR", "AND", "STAR", "OPT", "PLUS", "EPSILON", "EMPTY", "REPEATOPEN", 
+		"PAROPEN", "PARCLOSE", "ATOM", "ID", "COMMENT", "WS", "REPEATCLOSE", "INT", 
+		"COMMA"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public RegexFormatLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "RegexFormatLexer.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2\23\177\b\1\b\1\4"+
+		"\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n"+
+		"\4\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
+		"\t\22\4\23\t\23\4\24\t\24\4\25\t\25\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\3"+
+		"\6\3\6\3\7\3\7\3\b\3\b\3\t\3\t\3\t\3\t\3\n\3\n\3\13\3\13\3\f\3\f\3\r\3"+
+		"\r\6\rG\n\r\r\r\16\rH\3\r\3\r\3\16\3\16\3\16\3\16\7\16Q\n\16\f\16\16\16"+
+		"T\13\16\3\16\3\16\3\16\3\16\7\16Z\n\16\f\16\16\16]\13\16\3\16\3\16\5\16"+
+		"a\n\16\3\16\3\16\3\17\6\17f\n\17\r\17\16\17g\3\17\3\17\3\20\3\20\3\20"+
+		"\3\20\3\21\6\21q\n\21\r\21\16\21r\3\22\3\22\3\23\3\23\3\23\5\23z\n\23"+
+		"\3\24\3\24\3\25\3\25\3[\2\26\4\3\6\4\b\5\n\6\f\7\16\b\20\t\22\n\24\13"+
+		"\26\f\30\r\32\16\34\17\36\20 \21\"\22$\23&\2(\2*\2\4\2\3\5\4\2\f\f\17"+
+		"\17\5\2\13\f\17\17\"\"\4\2C\\c|\u0082\2\4\3\2\2\2\2\6\3\2\2\2\2\b\3\2"+
+		"\2\2\2\n\3\2\2\2\2\f\3\2\2\2\2\16\3\2\2\2\2\20\3\2\2\2\2\22\3\2\2\2\2"+
+		"\24\3\2\2\2\2\26\3\2\2\2\2\30\3\2\2\2\2\32\3\2\2\2\2\34\3\2\2\2\2\36\3"+
+		"\2\2\2\3 \3\2\2\2\3\"\3\2\2\2\3$\3\2\2\2\4,\3\2\2\2\6.\3\2\2\2\b\60\3"+
+		"\2\2\2\n\62\3\2\2\2\f\64\3\2\2\2\16\66\3\2\2\2\208\3\2\2\2\22:\3\2\2\2"+
+		"\24>\3\2\2\2\26@\3\2\2\2\30B\3\2\2\2\32D\3\2\2\2\34`\3\2\2\2\36e\3\2\2"+
+		"\2 k\3\2\2\2\"p\3\2\2\2$t\3\2\2\2&y\3\2\2\2({\3\2\2\2*}\3\2\2\2,-\7~\2"+
+		"\2-\5\3\2\2\2./\7(\2\2/\7\3\2\2\2\60\61\7,\2\2\61\t\3\2\2\2\62\63\7A\2"+
+		"\2\63\13\3\2\2\2\64\65\7-\2\2\65\r\3\2\2\2\66\67\7&\2\2\67\17\3\2\2\2"+
+		"89\7\u0080\2\29\21\3\2\2\2:;\7}\2\2;<\3\2\2\2<=\b\t\2\2=\23\3\2\2\2>?"+
+		"\7*\2\2?\25\3\2\2\2@A\7+\2\2A\27\3\2\2\2BC\5&\23\2C\31\3\2\2\2DF\7>\2"+
+		"\2EG\5&\23\2FE\3\2\2\2GH\3\2\2\2HF\3\2\2\2HI\3\2\2\2IJ\3\2\2\2JK\7@\2"+
+		"\2K\33\3\2\2\2LM\7\61\2\2MN\7\61\2\2NR\3\2\2\2OQ\n\2\2\2PO\3\2\2\2QT\3"+
+		"\2\2\2RP\3\2\2\2RS\3\2\2\2Sa\3\2\2\2TR\3\2\2\2UV\7\61\2\2VW\7,\2\2W[\3"+
+		"\2\2\2XZ\13\2\2\2YX\3\2\2\2Z]\3\2\2\2[\\\3\2\2\2[Y\3\2\2\2\\^\3\2\2\2"+
+		"][\3\2\2\2^_\7,\2\2_a\7\61\2\2`L\3\2\2\2`U\3\2\2\2ab\3\2\2\2bc\b\16\3"+
+		"\2c\35\3\2\2\2df\t\3\2\2ed\3\2\2\2fg\3\2\2\2ge\3\2\2\2gh\3\2\2\2hi\3\2"+
+		"\2\2ij\b\17\3\2j\37\3\2\2\2kl\7\177\2\2lm\3\2\2\2mn\b\20\4\2n!\3\2\2\2"+
+		"oq\5(\24\2po\3\2\2\2qr\3\2\2\2rp\3\2\2\2rs\3\2\2\2s#\3\2\2\2tu\7.\2\2"+
+		"u%\3\2\2\2vz\5(\24\2wz\5*\25\2xz\7a\2\2yv\3\2\2\2yw\3\2\2\2yx\3\2\2\2"+
+		"z\'\3\2\2\2{|\4\62;\2|)\3\2\2\2}~\t\4\2\2~+\3\2\2\2\13\2\3HR[`gry\5\4"+
+		"\3\2\b\2\2\4\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
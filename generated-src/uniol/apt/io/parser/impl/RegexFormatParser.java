@@ -0,0 +1,744 @@
+// Generated from /root/project/src/uniol/apt/io/parser/impl/RegexFormatParser.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class RegexFormatParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.5.1", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		OR=1, AND=2, STAR=3, OPT=4, PLUS=5, EPSILON=6, EMPTY=7, REPEATOPEN=8, 
+		PAROPEN=9, PARCLOSE=10, ATOM=11, ID=12, COMMENT=13, WS=14, REPEATCLOSE=15, 
+		INT=16, COMMA=17;
+	public static final int
+		RULE_start = 0, RULE_expr = 1, RULE_expr_or = 2, RULE_expr_and = 3, RULE_expr_concat = 4, 
+		RULE_expr_repeat = 5, RULE_expr_id = 6;
+	public static final String[] ruleNames = {
+		"start", "expr", "expr_or", "expr_and", "expr_concat", "expr_repeat", 
+		"expr_id"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'|'", "'&'", "'*'", "'?'", "'+'", "'$'", "'~'", "'{'", "'('", "')'", 
+		null, null, null, null, "'}'", null, "','"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, "OR", "AND", "STAR", "OPT", "PLUS", "EPSILON", "EMPTY", "REPEATOPEN", 
+		"PAROPEN", "PARCLOSE", "ATOM", "ID", "COMMENT", "WS", "REPEATCLOSE", "INT", 
+		"COMMA"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "RegexFormatParser.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public RegexFormatParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class StartContext extends ParserRuleContext {
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode EOF() { return getToken(RegexFormatParser.EOF, 0); }
+		public StartContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_start; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterStart(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitStart(this);
+		}
+	}
+
+	public final StartContext start() throws RecognitionException {
+		StartContext _localctx = new StartContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_start);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(14);
+			expr();
+			setState(15);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExprContext extends ParserRuleContext {
+		public Expr_orContext expr_or() {
+			return getRuleContext(Expr_orContext.class,0);
+		}
+		public ExprContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr(this);
+		}
+	}
+
+	public final ExprContext expr() throws RecognitionException {
+		ExprContext _localctx = new ExprContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_expr);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(17);
+			expr_or();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Expr_orContext extends ParserRuleContext {
+		public Expr_andContext ex1;
+		public Expr_orContext ex2;
+		public Expr_andContext expr_and() {
+			return getRuleContext(Expr_andContext.class,0);
+		}
+		public TerminalNode OR() { return getToken(RegexFormatParser.OR, 0); }
+		public Expr_orContext expr_or() {
+			return getRuleContext(Expr_orContext.class,0);
+		}
+		public Expr_orContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr_or; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_or(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_or(this);
+		}
+	}
+
+	public final Expr_orContext expr_or() throws RecognitionException {
+		Expr_orContext _localctx = new Expr_orContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_expr_or);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(19);
+			((Expr_orContext)_localctx).ex1 = expr_and();
+			setState(22);
+			_la = _input.LA(1);
+			if (_la==OR) {
+				{
+				setState(20);
+				match(OR);
+				setState(21);
+				((Expr_orContext)_localctx).ex2 = expr_or();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Expr_andContext extends ParserRuleContext {
+		public Expr_concatContext ex1;
+		public Expr_andContext ex2;
+		public Expr_concatContext expr_concat() {
+			return getRuleContext(Expr_concatContext.class,0);
+		}
+		public TerminalNode AND() { return getToken(RegexFormatParser.AND, 0); }
+		public Expr_andContext expr_and() {
+			return getRuleContext(Expr_andContext.class,0);
+		}
+		public Expr_andContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr_and; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_and(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_and(this);
+		}
+	}
+
+	public final Expr_andContext expr_and() throws RecognitionException {
+		Expr_andContext _localctx = new Expr_andContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_expr_and);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(24);
+			((Expr_andContext)_localctx).ex1 = expr_concat();
+			setState(27);
+			_la = _input.LA(1);
+			if (_la==AND) {
+				{
+				setState(25);
+				match(AND);
+				setState(26);
+				((Expr_andContext)_localctx).ex2 = expr_and();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Expr_concatContext extends ParserRuleContext {
+		public Expr_repeatContext ex1;
+		public Expr_concatContext ex2;
+		public Expr_repeatContext expr_repeat() {
+			return getRuleContext(Expr_repeatContext.class,0);
+		}
+		public Expr_concatContext expr_concat() {
+			return getRuleContext(Expr_concatContext.class,0);
+		}
+		public Expr_concatContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr_concat; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_concat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_concat(this);
+		}
+	}
+
+	public final Expr_concatContext expr_concat() throws RecognitionException {
+		Expr_concatContext _localctx = new Expr_concatContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_expr_concat);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(29);
+			((Expr_concatContext)_localctx).ex1 = expr_repeat();
+			setState(31);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << EPSILON) | (1L << EMPTY) | (1L << PAROPEN) | (1L << ATOM) | (1L << ID))) != 0)) {
+				{
+				setState(30);
+				((Expr_concatContext)_localctx).ex2 = expr_concat();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Expr_repeatContext extends ParserRuleContext {
+		public Expr_repeatContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr_repeat; }
+	 
+		public Expr_repeatContext() { }
+		public void copyFrom(Expr_repeatContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class Expr_repeat_exactContext extends Expr_repeatContext {
+		public Token x;
+		public Expr_idContext expr_id() {
+			return getRuleContext(Expr_idContext.class,0);
+		}
+		public TerminalNode REPEATOPEN() { return getToken(RegexFormatParser.REPEATOPEN, 0); }
+		public TerminalNode REPEATCLOSE() { return getToken(RegexFormatParser.REPEATCLOSE, 0); }
+		public TerminalNode INT() { return getToken(RegexFormatParser.INT, 0); }
+		public Expr_repeat_exactContext(Expr_repeatContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_repeat_exact(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_repeat_exact(this);
+		}
+	}
+	public static class Expr_repeat_nothingContext extends Expr_repeatContext {
+		public Expr_idContext expr_id() {
+			return getRuleContext(Expr_idContext.class,0);
+		}
+		public Expr_repeat_nothingContext(Expr_repeatContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_repeat_nothing(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_repeat_nothing(this);
+		}
+	}
+	public static class Expr_repeat_starContext extends Expr_repeatContext {
+		public Expr_idContext expr_id() {
+			return getRuleContext(Expr_idContext.class,0);
+		}
+		public TerminalNode STAR() { return getToken(RegexFormatParser.STAR, 0); }
+		public Expr_repeat_starContext(Expr_repeatContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_repeat_star(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_repeat_star(this);
+		}
+	}
+	public static class Expr_repeat_minmaxContext extends Expr_repeatContext {
+		public Token x;
+		public Token y;
+		public Expr_idContext expr_id() {
+			return getRuleContext(Expr_idContext.class,0);
+		}
+		public TerminalNode REPEATOPEN() { return getToken(RegexFormatParser.REPEATOPEN, 0); }
+		public TerminalNode COMMA() { return getToken(RegexFormatParser.COMMA, 0); }
+		public TerminalNode REPEATCLOSE() { return getToken(RegexFormatParser.REPEATCLOSE, 0); }
+		public List<TerminalNode> INT() { return getTokens(RegexFormatParser.INT); }
+		public TerminalNode INT(int i) {
+			return getToken(RegexFormatParser.INT, i);
+		}
+		public Expr_repeat_minmaxContext(Expr_repeatContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_repeat_minmax(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_repeat_minmax(this);
+		}
+	}
+	public static class Expr_repeat_optContext extends Expr_repeatContext {
+		public Expr_idContext expr_id() {
+			return getRuleContext(Expr_idContext.class,0);
+		}
+		public TerminalNode OPT() { return getToken(RegexFormatParser.OPT, 0); }
+		public Expr_repeat_optContext(Expr_repeatContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_repeat_opt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_repeat_opt(this);
+		}
+	}
+	public static class Expr_repeat_plusContext extends Expr_repeatContext {
+		public Expr_idContext expr_id() {
+			return getRuleContext(Expr_idContext.class,0);
+		}
+		public TerminalNode PLUS() { return getToken(RegexFormatParser.PLUS, 0); }
+		public Expr_repeat_plusContext(Expr_repeatContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_repeat_plus(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_repeat_plus(this);
+		}
+	}
+	public static class Expr_repeat_leastContext extends Expr_repeatContext {
+		public Token x;
+		public Expr_idContext expr_id() {
+			return getRuleContext(Expr_idContext.class,0);
+		}
+		public TerminalNode REPEATOPEN() { return getToken(RegexFormatParser.REPEATOPEN, 0); }
+		public TerminalNode COMMA() { return getToken(RegexFormatParser.COMMA, 0); }
+		public TerminalNode REPEATCLOSE() { return getToken(RegexFormatParser.REPEATCLOSE, 0); }
+		public TerminalNode INT() { return getToken(RegexFormatParser.INT, 0); }
+		public Expr_repeat_leastContext(Expr_repeatContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_repeat_least(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_repeat_least(this);
+		}
+	}
+
+	public final Expr_repeatContext expr_repeat() throws RecognitionException {
+		Expr_repeatContext _localctx = new Expr_repeatContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_expr_repeat);
+		try {
+			setState(61);
+			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+			case 1:
+				_localctx = new Expr_repeat_starContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(33);
+				expr_id();
+				setState(34);
+				match(STAR);
+				}
+				break;
+			case 2:
+				_localctx = new Expr_repeat_optContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(36);
+				expr_id();
+				setState(37);
+				match(OPT);
+				}
+				break;
+			case 3:
+				_localctx = new Expr_repeat_plusContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(39);
+				expr_id();
+				setState(40);
+				match(PLUS);
+				}
+				break;
+			case 4:
+				_localctx = new Expr_repeat_exactContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(42);
+				expr_id();
+				setState(43);
+				match(REPEATOPEN);
+				setState(44);
+				((Expr_repeat_exactContext)_localctx).x = match(INT);
+				setState(45);
+				match(REPEATCLOSE);
+				}
+				break;
+			case 5:
+				_localctx = new Expr_repeat_leastContext(_localctx);
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(47);
+				expr_id();
+				setState(48);
+				match(REPEATOPEN);
+				setState(49);
+				((Expr_repeat_leastContext)_localctx).x = match(INT);
+				setState(50);
+				match(COMMA);
+				setState(51);
+				match(REPEATCLOSE);
+				}
+				break;
+			case 6:
+				_localctx = new Expr_repeat_minmaxContext(_localctx);
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(53);
+				expr_id();
+				setState(54);
+				match(REPEATOPEN);
+				setState(55);
+				((Expr_repeat_minmaxContext)_localctx).x = match(INT);
+				setState(56);
+				match(COMMA);
+				setState(57);
+				((Expr_repeat_minmaxContext)_localctx).y = match(INT);
+				setState(58);
+				match(REPEATCLOSE);
+				}
+				break;
+			case 7:
+				_localctx = new Expr_repeat_nothingContext(_localctx);
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(60);
+				expr_id();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Expr_idContext extends ParserRuleContext {
+		public Expr_idContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expr_id; }
+	 
+		public Expr_idContext() { }
+		public void copyFrom(Expr_idContext ctx) {
+			super.copyFrom(ctx);
+		}
+	}
+	public static class Expr_id_epsilonContext extends Expr_idContext {
+		public TerminalNode EPSILON() { return getToken(RegexFormatParser.EPSILON, 0); }
+		public Expr_id_epsilonContext(Expr_idContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_id_epsilon(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_id_epsilon(this);
+		}
+	}
+	public static class Expr_id_parenthesesContext extends Expr_idContext {
+		public TerminalNode PAROPEN() { return getToken(RegexFormatParser.PAROPEN, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public TerminalNode PARCLOSE() { return getToken(RegexFormatParser.PARCLOSE, 0); }
+		public Expr_id_parenthesesContext(Expr_idContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_id_parentheses(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_id_parentheses(this);
+		}
+	}
+	public static class Expr_id_atomContext extends Expr_idContext {
+		public TerminalNode ATOM() { return getToken(RegexFormatParser.ATOM, 0); }
+		public Expr_id_atomContext(Expr_idContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_id_atom(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_id_atom(this);
+		}
+	}
+	public static class Expr_id_emptyContext extends Expr_idContext {
+		public TerminalNode EMPTY() { return getToken(RegexFormatParser.EMPTY, 0); }
+		public Expr_id_emptyContext(Expr_idContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_id_empty(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_id_empty(this);
+		}
+	}
+	public static class Expr_id_idContext extends Expr_idContext {
+		public TerminalNode ID() { return getToken(RegexFormatParser.ID, 0); }
+		public Expr_id_idContext(Expr_idContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).enterExpr_id_id(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof RegexFormatParserListener ) ((RegexFormatParserListener)listener).exitExpr_id_id(this);
+		}
+	}
+
+	public final Expr_idContext expr_id() throws RecognitionException {
+		Expr_idContext _localctx = new Expr_idContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_expr_id);
+		try {
+			setState(71);
+			switch (_input.LA(1)) {
+			case PAROPEN:
+				_localctx = new Expr_id_parenthesesContext(_localctx);
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(63);
+				match(PAROPEN);
+				setState(64);
+				expr();
+				setState(65);
+				match(PARCLOSE);
+				}
+				break;
+			case ATOM:
+				_localctx = new Expr_id_atomContext(_localctx);
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(67);
+				match(ATOM);
+				}
+				break;
+			case ID:
+				_localctx = new Expr_id_idContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(68);
+				match(ID);
+				}
+				break;
+			case EMPTY:
+				_localctx = new Expr_id_emptyContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(69);
+				match(EMPTY);
+				}
+				break;
+			case EPSILON:
+				_localctx = new Expr_id_epsilonContext(_localctx);
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(70);
+				match(EPSILON);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\23L\4\2\t\2\4\3\t"+
+		"\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\3\2\3\2\3\2\3\3\3\3\3\4\3\4"+
+		"\3\4\5\4\31\n\4\3\5\3\5\3\5\5\5\36\n\5\3\6\3\6\5\6\"\n\6\3\7\3\7\3\7\3"+
+		"\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7"+
+		"\3\7\3\7\3\7\3\7\3\7\3\7\3\7\5\7@\n\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b"+
+		"\5\bJ\n\b\3\b\2\2\t\2\4\6\b\n\f\16\2\2Q\2\20\3\2\2\2\4\23\3\2\2\2\6\25"+
+		"\3\2\2\2\b\32\3\2\2\2\n\37\3\2\2\2\f?\3\2\2\2\16I\3\2\2\2\20\21\5\4\3"+
+		"\2\21\22\7\2\2\3\22\3\3\2\2\2\23\24\5\6\4\2\24\5\3\2\2\2\25\30\5\b\5\2"+
+		"\26\27\7\3\2\2\27\31\5\6\4\2\30\26\3\2\2\2\30\31\3\2\2\2\31\7\3\2\2\2"+
+		"\32\35\5\n\6\2\33\34\7\4\2\2\34\36\5\b\5\2\35\33\3\2\2\2\35\36\3\2\2\2"+
+		"\36\t\3\2\2\2\37!\5\f\7\2 \"\5\n\6\2! \3\2\2\2!\"\3\2\2\2\"\13\3\2\2\2"+
+		"#$\5\16\b\2$%\7\5\2\2%@\3\2\2\2&\'\5\16\b\2\'(\7\6\2\2(@\3\2\2\2)*\5\16"+
+		"\b\2*+\7\7\2\2+@\3\2\2\2,-\5\16\b\2-.\7\n\2\2./\7\22\2\2/\60\7\21\2\2"+
+		"\60@\3\2\2\2\61\62\5\16\b\2\62\63\7\n\2\2\63\64\7\22\2\2\64\65\7\23\2"+
+		"\2\65\66\7\21\2\2\66@\3\2\2\2\678\5\16\b\289\7\n\2\29:\7\22\2\2:;\7\23"+
+		"\2\2;<\7\22\2\2<=\7\21\2\2=@\3\2\2\2>@\5\16\b\2?#\3\2\2\2?&\3\2\2\2?)"+
+		"\3\2\2\2?,\3\2\2\2?\61\3\2\2\2?\67\3\2\2\2?>\3\2\2\2@\r\3\2\2\2AB\7\13"+
+		"\2\2BC\5\4\3\2CD\7\f\2\2DJ\3\2\2\2EJ\7\r\2\2FJ\7\16\2\2GJ\7\t\2\2HJ\7"+
+		"\b\2\2IA\3\2\2\2IE\3\2\2\2IF\3\2\2\2IG\3\2\2\2IH\3\2\2\2J\17\3\2\2\2\7"+
+		"\30\35!?I";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+// Generated from /root/project/src/uniol/apt/io/parser/impl/RegexFormatParser.g4 by ANTLR 4.5.1
+package uniol.apt.io.parser.impl;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link RegexFormatParser}.
+ */
+public interface RegexFormatParserListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link RegexFormatParser#start}.
+	 * @param ctx the parse tree
+	 */
+	void enterStart(RegexFormatParser.StartContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link RegexFormatParser#start}.
+	 * @param ctx the parse tree
+	 */
+	void exitStart(RegexFormatParser.StartContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link RegexFormatParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr(RegexFormatParser.ExprContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link RegexFormatParser#expr}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr(RegexFormatParser.ExprContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link RegexFormatParser#expr_or}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_or(RegexFormatParser.Expr_orContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link RegexFormatParser#expr_or}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_or(RegexFormatParser.Expr_orContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link RegexFormatParser#expr_and}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_and(RegexFormatParser.Expr_andContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link RegexFormatParser#expr_and}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_and(RegexFormatParser.Expr_andContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link RegexFormatParser#expr_concat}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_concat(RegexFormatParser.Expr_concatContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link RegexFormatParser#expr_concat}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_concat(RegexFormatParser.Expr_concatContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_repeat_star}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_repeat_star(RegexFormatParser.Expr_repeat_starContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_repeat_star}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_repeat_star(RegexFormatParser.Expr_repeat_starContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_repeat_opt}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_repeat_opt(RegexFormatParser.Expr_repeat_optContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_repeat_opt}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_repeat_opt(RegexFormatParser.Expr_repeat_optContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_repeat_plus}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_repeat_plus(RegexFormatParser.Expr_repeat_plusContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_repeat_plus}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_repeat_plus(RegexFormatParser.Expr_repeat_plusContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_repeat_exact}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_repeat_exact(RegexFormatParser.Expr_repeat_exactContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_repeat_exact}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_repeat_exact(RegexFormatParser.Expr_repeat_exactContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_repeat_least}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_repeat_least(RegexFormatParser.Expr_repeat_leastContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_repeat_least}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_repeat_least(RegexFormatParser.Expr_repeat_leastContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_repeat_minmax}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_repeat_minmax(RegexFormatParser.Expr_repeat_minmaxContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_repeat_minmax}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_repeat_minmax(RegexFormatParser.Expr_repeat_minmaxContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_repeat_nothing}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_repeat_nothing(RegexFormatParser.Expr_repeat_nothingContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_repeat_nothing}
+	 * labeled alternative in {@link RegexFormatParser#expr_repeat}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_repeat_nothing(RegexFormatParser.Expr_repeat_nothingContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_id_parentheses}
+	 * labeled alternative in {@link RegexFormatParser#expr_id}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_id_parentheses(RegexFormatParser.Expr_id_parenthesesContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_id_parentheses}
+	 * labeled alternative in {@link RegexFormatParser#expr_id}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_id_parentheses(RegexFormatParser.Expr_id_parenthesesContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_id_atom}
+	 * labeled alternative in {@link RegexFormatParser#expr_id}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_id_atom(RegexFormatParser.Expr_id_atomContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_id_atom}
+	 * labeled alternative in {@link RegexFormatParser#expr_id}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_id_atom(RegexFormatParser.Expr_id_atomContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_id_id}
+	 * labeled alternative in {@link RegexFormatParser#expr_id}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_id_id(RegexFormatParser.Expr_id_idContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_id_id}
+	 * labeled alternative in {@link RegexFormatParser#expr_id}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_id_id(RegexFormatParser.Expr_id_idContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_id_empty}
+	 * labeled alternative in {@link RegexFormatParser#expr_id}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_id_empty(RegexFormatParser.Expr_id_emptyContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_id_empty}
+	 * labeled alternative in {@link RegexFormatParser#expr_id}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_id_empty(RegexFormatParser.Expr_id_emptyContext ctx);
+	/**
+	 * Enter a parse tree produced by the {@code expr_id_epsilon}
+	 * labeled alternative in {@link RegexFormatParser#expr_id}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpr_id_epsilon(RegexFormatParser.Expr_id_epsilonContext ctx);
+	/**
+	 * Exit a parse tree produced by the {@code expr_id_epsilon}
+	 * labeled alternative in {@link RegexFormatParser#expr_id}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpr_id_epsilon(RegexFormatParser.Expr_id_epsilonContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,916 @@
+// $ANTLR 3.5.2 /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g 2026-10-16 22:57:24
+
+	package uniol.apt.io.parser.impl.apt;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings("all")
+public class AptLTSFormatLexer extends Lexer {
+	public static final int EOF=-1;
+	public static final int T__10=10;
+	public static final int T__11=11;
+	public static final int T__12=12;
+	public static final int T__13=13;
+	public static final int T__14=14;
+	public static final int T__15=15;
+	public static final int T__16=16;
+	public static final int T__17=17;
+	public static final int T__18=18;
+	public static final int T__19=19;
+	public static final int T__20=20;
+	public static final int COMMENT=4;
+	public static final int ID=5;
+	public static final int INT=6;
+	public static final int STR=7;
+	public static final int STR_MULTI=8;
+	public static final int WS=9;
+
+		private boolean suppressWarnings = false;
+
+		public void suppressWarnings(boolean flag) {
+			suppressWarnings = flag;
+		}
+
+		@Override
+		public void emitErrorMessage(String msg) {
+			if(!suppressWarnings) {
+				System.out.println("[WARNING] Lexer: " + msg);
+			}
+		}
+
+
+	// delegates
+	// delegators
+	public Lexer[] getDelegates() {
+		return new Lexer[] {};
+	}
+
+	public AptLTSFormatLexer() {} 
+	public AptLTSFormatLexer(CharStream input) {
+		this(input, new RecognizerSharedState());
+	}
+	public AptLTSFormatLexer(CharStream input, RecognizerSharedState state) {
+		super(input,state);
+	}
+	@Override public String getGrammarFileName() { return "/root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g"; }
+
+	// $ANTLR start "T__10"
+	public final void mT__10() throws RecognitionException {
+		try {
+			int _type = T__10;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:20:7: ( ',' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:20:9: ','
+			{
+			match(','); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__10"
+
+	// $ANTLR start "T__11"
+	public final void mT__11() throws RecognitionException {
+		try {
+			int _type = T__11;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:21:7: ( '.arcs' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:21:9: '.arcs'
+			{
+			match(".arcs"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__11"
+
+	// $ANTLR start "T__12"
+	public final void mT__12() throws RecognitionException {
+		try {
+			int _type = T__12;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:22:7: ( '.description' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:22:9: '.description'
+			{
+			match(".description"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__12"
+
+	// $ANTLR start "T__13"
+	public final void mT__13() throws RecognitionException {
+		try {
+			int _type = T__13;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:23:7: ( '.labels' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:23:9: '.labels'
+			{
+			match(".labels"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__13"
+
+	// $ANTLR start "T__14"
+	public final void mT__14() throws RecognitionException {
+		try {
+			int _type = T__14;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:24:7: ( '.name' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:24:9: '.name'
+			{
+			match(".name"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__14"
+
+	// $ANTLR start "T__15"
+	public final void mT__15() throws RecognitionException {
+		try {
+			int _type = T__15;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:25:7: ( '.states' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:25:9: '.states'
+			{
+			match(".states"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__15"
+
+	// $ANTLR start "T__16"
+	public final void mT__16() throws RecognitionException {
+		try {
+			int _type = T__16;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:26:7: ( '.type' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:26:9: '.type'
+			{
+			match(".type"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__16"
+
+	// $ANTLR start "T__17"
+	public final void mT__17() throws RecognitionException {
+		try {
+			int _type = T__17;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:27:7: ( '=' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:27:9: '='
+			{
+			match('='); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__17"
+
+	// $ANTLR start "T__18"
+	public final void mT__18() throws RecognitionException {
+		try {
+			int _type = T__18;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:28:7: ( 'LTS' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:28:9: 'LTS'
+			{
+			match("LTS"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__18"
+
+	// $ANTLR start "T__19"
+	public final void mT__19() throws RecognitionException {
+		try {
+			int _type = T__19;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:29:7: ( '[' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:29:9: '['
+			{
+			match('['); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__19"
+
+	// $ANTLR start "T__20"
+	public final void mT__20() throws RecognitionException {
+		try {
+			int _type = T__20;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:30:7: ( ']' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:30:9: ']'
+			{
+			match(']'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__20"
+
+	// $ANTLR start "INT"
+	public final void mINT() throws RecognitionException {
+		try {
+			int _type = INT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:165:6: ( ( '0' .. '9' )+ )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:165:8: ( '0' .. '9' )+
+			{
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:165:8: ( '0' .. '9' )+
+			int cnt1=0;
+			loop1:
+			while (true) {
+				int alt1=2;
+				int LA1_0 = input.LA(1);
+				if ( ((LA1_0 >= '0' && LA1_0 <= '9')) ) {
+					alt1=1;
+				}
+
+				switch (alt1) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:
+					{
+					if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					if ( cnt1 >= 1 ) break loop1;
+					EarlyExitException eee = new EarlyExitException(1, input);
+					throw eee;
+				}
+				cnt1++;
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "INT"
+
+	// $ANTLR start "ID"
+	public final void mID() throws RecognitionException {
+		try {
+			int _type = ID;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:166:5: ( ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )* )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:166:7: ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+			{
+			if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:166:31: ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+			loop2:
+			while (true) {
+				int alt2=2;
+				int LA2_0 = input.LA(1);
+				if ( ((LA2_0 >= '0' && LA2_0 <= '9')||(LA2_0 >= 'A' && LA2_0 <= 'Z')||LA2_0=='_'||(LA2_0 >= 'a' && LA2_0 <= 'z')) ) {
+					alt2=1;
+				}
+
+				switch (alt2) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:
+					{
+					if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					break loop2;
+				}
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "ID"
+
+	// $ANTLR start "COMMENT"
+	public final void mCOMMENT() throws RecognitionException {
+		try {
+			int _type = COMMENT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:167:10: ( '//' (~ ( '\\n' | '\\r' ) )* | '/*' ( options {greedy=false; } : . )* '*/' )
+			int alt5=2;
+			int LA5_0 = input.LA(1);
+			if ( (LA5_0=='/') ) {
+				int LA5_1 = input.LA(2);
+				if ( (LA5_1=='/') ) {
+					alt5=1;
+				}
+				else if ( (LA5_1=='*') ) {
+					alt5=2;
+				}
+
+				else {
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 5, 1, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 5, 0, input);
+				throw nvae;
+			}
+
+			switch (alt5) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:167:12: '//' (~ ( '\\n' | '\\r' ) )*
+					{
+					match("//"); 
+
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:167:17: (~ ( '\\n' | '\\r' ) )*
+					loop3:
+					while (true) {
+						int alt3=2;
+						int LA3_0 = input.LA(1);
+						if ( ((LA3_0 >= '\u0000' && LA3_0 <= '\t')||(LA3_0 >= '\u000B' && LA3_0 <= '\f')||(LA3_0 >= '\u000E' && LA3_0 <= '\uFFFF')) ) {
+							alt3=1;
+						}
+
+						switch (alt3) {
+						case 1 :
+							// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:
+							{
+							if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\t')||(input.LA(1) >= '\u000B' && input.LA(1) <= '\f')||(input.LA(1) >= '\u000E' && input.LA(1) <= '\uFFFF') ) {
+								input.consume();
+							}
+							else {
+								MismatchedSetException mse = new MismatchedSetException(null,input);
+								recover(mse);
+								throw mse;
+							}
+							}
+							break;
+
+						default :
+							break loop3;
+						}
+					}
+
+					_channel=HIDDEN;
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:168:8: '/*' ( options {greedy=false; } : . )* '*/'
+					{
+					match("/*"); 
+
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:168:13: ( options {greedy=false; } : . )*
+					loop4:
+					while (true) {
+						int alt4=2;
+						int LA4_0 = input.LA(1);
+						if ( (LA4_0=='*') ) {
+							int LA4_1 = input.LA(2);
+							if ( (LA4_1=='/') ) {
+								alt4=2;
+							}
+							else if ( ((LA4_1 >= '\u0000' && LA4_1 <= '.')||(LA4_1 >= '0' && LA4_1 <= '\uFFFF')) ) {
+								alt4=1;
+							}
+
+						}
+						else if ( ((LA4_0 >= '\u0000' && LA4_0 <= ')')||(LA4_0 >= '+' && LA4_0 <= '\uFFFF')) ) {
+							alt4=1;
+						}
+
+						switch (alt4) {
+						case 1 :
+							// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:168:41: .
+							{
+							matchAny(); 
+							}
+							break;
+
+						default :
+							break loop4;
+						}
+					}
+
+					match("*/"); 
+
+					_channel=HIDDEN;
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "COMMENT"
+
+	// $ANTLR start "WS"
+	public final void mWS() throws RecognitionException {
+		try {
+			int _type = WS;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:169:5: ( ( ' ' | '\\n' | '\\r' | '\\t' )+ )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:169:7: ( ' ' | '\\n' | '\\r' | '\\t' )+
+			{
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:169:7: ( ' ' | '\\n' | '\\r' | '\\t' )+
+			int cnt6=0;
+			loop6:
+			while (true) {
+				int alt6=2;
+				int LA6_0 = input.LA(1);
+				if ( ((LA6_0 >= '\t' && LA6_0 <= '\n')||LA6_0=='\r'||LA6_0==' ') ) {
+					alt6=1;
+				}
+
+				switch (alt6) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:
+					{
+					if ( (input.LA(1) >= '\t' && input.LA(1) <= '\n')||input.LA(1)=='\r'||input.LA(1)==' ' ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					if ( cnt6 >= 1 ) break loop6;
+					EarlyExitException eee = new EarlyExitException(6, input);
+					throw eee;
+				}
+				cnt6++;
+			}
+
+			_channel=HIDDEN;
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "WS"
+
+	// $ANTLR start "STR"
+	public final void mSTR() throws RecognitionException {
+		try {
+			int _type = STR;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:170:6: ( '\"' (~ ( '\"' | '\\n' | '\\r' | '\\t' ) )* '\"' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:170:8: '\"' (~ ( '\"' | '\\n' | '\\r' | '\\t' ) )* '\"'
+			{
+			match('\"'); 
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:170:12: (~ ( '\"' | '\\n' | '\\r' | '\\t' ) )*
+			loop7:
+			while (true) {
+				int alt7=2;
+				int LA7_0 = input.LA(1);
+				if ( ((LA7_0 >= '\u0000' && LA7_0 <= '\b')||(LA7_0 >= '\u000B' && LA7_0 <= '\f')||(LA7_0 >= '\u000E' && LA7_0 <= '!')||(LA7_0 >= '#' && LA7_0 <= '\uFFFF')) ) {
+					alt7=1;
+				}
+
+				switch (alt7) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:
+					{
+					if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\b')||(input.LA(1) >= '\u000B' && input.LA(1) <= '\f')||(input.LA(1) >= '\u000E' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '\uFFFF') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					break loop7;
+				}
+			}
+
+			match('\"'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "STR"
+
+	// $ANTLR start "STR_MULTI"
+	public final void mSTR_MULTI() throws RecognitionException {
+		try {
+			int _type = STR_MULTI;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:171:11: ( '\"' (~ ( '\"' | '\\t' ) )* '\"' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:171:13: '\"' (~ ( '\"' | '\\t' ) )* '\"'
+			{
+			match('\"'); 
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:171:17: (~ ( '\"' | '\\t' ) )*
+			loop8:
+			while (true) {
+				int alt8=2;
+				int LA8_0 = input.LA(1);
+				if ( ((LA8_0 >= '\u0000' && LA8_0 <= '\b')||(LA8_0 >= '\n' && LA8_0 <= '!')||(LA8_0 >= '#' && LA8_0 <= '\uFFFF')) ) {
+					alt8=1;
+				}
+
+				switch (alt8) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:
+					{
+					if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\b')||(input.LA(1) >= '\n' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '\uFFFF') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					break loop8;
+				}
+			}
+
+			match('\"'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "STR_MULTI"
+
+	@Override
+	public void mTokens() throws RecognitionException {
+		// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:8: ( T__10 | T__11 | T__12 | T__13 | T__14 | T__15 | T__16 | T__17 | T__18 | T__19 | T__20 | INT | ID | COMMENT | WS | STR | STR_MULTI )
+		int alt9=17;
+		alt9 = dfa9.predict(input);
+		switch (alt9) {
+			case 1 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:10: T__10
+				{
+				mT__10(); 
+
+				}
+				break;
+			case 2 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:16: T__11
+				{
+				mT__11(); 
+
+				}
+				break;
+			case 3 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:22: T__12
+				{
+				mT__12(); 
+
+				}
+				break;
+			case 4 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:28: T__13
+				{
+				mT__13(); 
+
+				}
+				break;
+			case 5 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:34: T__14
+				{
+				mT__14(); 
+
+				}
+				break;
+			case 6 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:40: T__15
+				{
+				mT__15(); 
+
+				}
+				break;
+			case 7 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:46: T__16
+				{
+				mT__16(); 
+
+				}
+				break;
+			case 8 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:52: T__17
+				{
+				mT__17(); 
+
+				}
+				break;
+			case 9 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:58: T__18
+				{
+				mT__18(); 
+
+				}
+				break;
+			case 10 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:64: T__19
+				{
+				mT__19(); 
+
+				}
+				break;
+			case 11 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:70: T__20
+				{
+				mT__20(); 
+
+				}
+				break;
+			case 12 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:76: INT
+				{
+				mINT(); 
+
+				}
+				break;
+			case 13 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:80: ID
+				{
+				mID(); 
+
+				}
+				break;
+			case 14 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:83: COMMENT
+				{
+				mCOMMENT(); 
+
+				}
+				break;
+			case 15 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:91: WS
+				{
+				mWS(); 
+
+				}
+				break;
+			case 16 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:94: STR
+				{
+				mSTR(); 
+
+				}
+				break;
+			case 17 :
+				// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:1:98: STR_MULTI
+				{
+				mSTR_MULTI(); 
+
+				}
+				break;
+
+		}
+	}
+
+
+	protected DFA9 dfa9 = new DFA9(this);
+	static final String DFA9_eotS =
+		"\4\uffff\1\10\15\uffff\1\10\3\uffff\1\30\2\uffff";
+	static final String DFA9_eofS =
+		"\31\uffff";
+	static final String DFA9_minS =
+		"\1\11\1\uffff\1\141\1\uffff\1\124\6\uffff\1\0\6\uffff\1\123\1\0\2\uffff"+
+		"\1\60\2\uffff";
+	static final String DFA9_maxS =
+		"\1\172\1\uffff\1\164\1\uffff\1\124\6\uffff\1\uffff\6\uffff\1\123\1\uffff"+
+		"\2\uffff\1\172\2\uffff";
+	static final String DFA9_acceptS =
+		"\1\uffff\1\1\1\uffff\1\10\1\uffff\1\12\1\13\1\14\1\15\1\16\1\17\1\uffff"+
+		"\1\2\1\3\1\4\1\5\1\6\1\7\2\uffff\1\20\1\21\1\uffff\1\20\1\11";
+	static final String DFA9_specialS =
+		"\13\uffff\1\0\7\uffff\1\1\5\uffff}>";
+	static final String[] DFA9_transitionS = {
+			"\2\12\2\uffff\1\12\22\uffff\1\12\1\uffff\1\13\11\uffff\1\1\1\uffff\1"+
+			"\2\1\11\12\7\3\uffff\1\3\3\uffff\13\10\1\4\16\10\1\5\1\uffff\1\6\1\uffff"+
+			"\1\10\1\uffff\32\10",
+			"",
+			"\1\14\2\uffff\1\15\7\uffff\1\16\1\uffff\1\17\4\uffff\1\20\1\21",
+			"",
+			"\1\22",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"\11\23\1\uffff\1\25\2\23\1\25\24\23\1\24\uffdd\23",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"",
+			"\1\26",
+			"\11\23\1\uffff\1\25\2\23\1\25\24\23\1\24\uffdd\23",
+			"",
+			"",
+			"\12\10\7\uffff\32\10\4\uffff\1\10\1\uffff\32\10",
+			"",
+			""
+	};
+
+	static final short[] DFA9_eot = DFA.unpackEncodedString(DFA9_eotS);
+	static final short[] DFA9_eof = DFA.unpackEncodedString(DFA9_eofS);
+	static final char[] DFA9_min = DFA.unpackEncodedStringToUnsignedChars(DFA9_minS);
+	static final char[] DFA9_max = DFA.unpackEncodedStringToUnsignedChars(DFA9_maxS);
+	static final short[] DFA9_accept = DFA.unpackEncodedString(DFA9_acceptS);
+	static final short[] DFA9_special = DFA.unpackEncodedString(DFA9_specialS);
+	static final short[][] DFA9_transition;
+
+	static {
+		int numStates = DFA9_transitionS.length;
+		DFA9_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA9_transition[i] = DFA.unpackEncodedString(DFA9_transitionS[i]);
+		}
+	}
+
+	protected class DFA9 extends DFA {
+
+		public DFA9(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 9;
+			this.eot = DFA9_eot;
+			this.eof = DFA9_eof;
+			this.min = DFA9_min;
+			this.max = DFA9_max;
+			this.accept = DFA9_accept;
+			this.special = DFA9_special;
+			this.transition = DFA9_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "1:1: Tokens : ( T__10 | T__11 | T__12 | T__13 | T__14 | T__15 | T__16 | T__17 | T__18 | T__19 | T__20 | INT | ID | COMMENT | WS | STR | STR_MULTI );";
+		}
+		@Override
+		public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+			IntStream input = _input;
+			int _s = s;
+			switch ( s ) {
+					case 0 : 
+						int LA9_11 = input.LA(1);
+						s = -1;
+						if ( ((LA9_11 >= '\u0000' && LA9_11 <= '\b')||(LA9_11 >= '\u000B' && LA9_11 <= '\f')||(LA9_11 >= '\u000E' && LA9_11 <= '!')||(LA9_11 >= '#' && LA9_11 <= '\uFFFF')) ) {s = 19;}
+						else if ( (LA9_11=='\"') ) {s = 20;}
+						else if ( (LA9_11=='\n'||LA9_11=='\r') ) {s = 21;}
+						if ( s>=0 ) return s;
+						break;
+
+					case 1 : 
+						int LA9_19 = input.LA(1);
+						s = -1;
+						if ( (LA9_19=='\"') ) {s = 20;}
+						else if ( ((LA9_19 >= '\u0000' && LA9_19 <= '\b')||(LA9_19 >= '\u000B' && LA9_19 <= '\f')||(LA9_19 >= '\u000E' && LA9_19 <= '!')||(LA9_19 >= '#' && LA9_19 <= '\uFFFF')) ) {s = 19;}
+						else if ( (LA9_19=='\n'||LA9_19=='\r') ) {s = 21;}
+						if ( s>=0 ) return s;
+						break;
+			}
+			NoViableAltException nvae =
+				new NoViableAltException(getDescription(), 9, _s, input);
+			error(nvae);
+			throw nvae;
+		}
+	}
+
+}
@@ -0,0 +1,984 @@
+// $ANTLR 3.5.2 /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g 2026-10-16 22:57:24
+
+	package uniol.apt.io.parser.impl.apt;
+
+	import uniol.apt.io.parser.ILTSParserOutput;
+	import uniol.apt.io.parser.IParserOutput.Type;
+	import java.util.HashMap;
+	import java.util.Map;
+	import uniol.apt.io.parser.impl.exception.StructureException;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings("all")
+public class AptLTSFormatParser extends Parser {
+	public static final String[] tokenNames = new String[] {
+		"<invalid>", "<EOR>", "<DOWN>", "<UP>", "COMMENT", "ID", "INT", "STR", 
+		"STR_MULTI", "WS", "','", "'.arcs'", "'.description'", "'.labels'", "'.name'", 
+		"'.states'", "'.type'", "'='", "'LTS'", "'['", "']'"
+	};
+	public static final int EOF=-1;
+	public static final int T__10=10;
+	public static final int T__11=11;
+	public static final int T__12=12;
+	public static final int T__13=13;
+	public static final int T__14=14;
+	public static final int T__15=15;
+	public static final int T__16=16;
+	public static final int T__17=17;
+	public static final int T__18=18;
+	public static final int T__19=19;
+	public static final int T__20=20;
+	public static final int COMMENT=4;
+	public static final int ID=5;
+	public static final int INT=6;
+	public static final int STR=7;
+	public static final int STR_MULTI=8;
+	public static final int WS=9;
+
+	// delegates
+	public Parser[] getDelegates() {
+		return new Parser[] {};
+	}
+
+	// delegators
+
+
+	public AptLTSFormatParser(TokenStream input) {
+		this(input, new RecognizerSharedState());
+	}
+	public AptLTSFormatParser(TokenStream input, RecognizerSharedState state) {
+		super(input, state);
+	}
+
+	@Override public String[] getTokenNames() { return AptLTSFormatParser.tokenNames; }
+	@Override public String getGrammarFileName() { return "/root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g"; }
+
+
+		private ILTSParserOutput<?> out;
+
+		private String id;
+		private Map<String, Object> options = new HashMap<>();
+
+		private int name, type, description;
+
+		private boolean suppressWarnings = false;
+
+		public AptLTSFormatParser(CommonTokenStream cts, ILTSParserOutput<?> out) {
+			this(cts);
+			this.out = out;
+		}
+
+		public void suppressWarnings(boolean flag) {
+			suppressWarnings = flag;
+		}
+
+		@Override
+		public void emitErrorMessage(String msg) {
+			if(!suppressWarnings) {
+				System.out.println("[WARNING] Parser: " + msg);
+			}
+		}
+
+
+
+	// $ANTLR start "start"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:87:1: start : ( name | type | description | states | labels | arcs )* EOF ;
+	public final void start() throws StructureException, RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:87:32: ( ( name | type | description | states | labels | arcs )* EOF )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:87:34: ( name | type | description | states | labels | arcs )* EOF
+			{
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:87:34: ( name | type | description | states | labels | arcs )*
+			loop1:
+			while (true) {
+				int alt1=7;
+				switch ( input.LA(1) ) {
+				case 14:
+					{
+					alt1=1;
+					}
+					break;
+				case 16:
+					{
+					alt1=2;
+					}
+					break;
+				case 12:
+					{
+					alt1=3;
+					}
+					break;
+				case 15:
+					{
+					alt1=4;
+					}
+					break;
+				case 13:
+					{
+					alt1=5;
+					}
+					break;
+				case 11:
+					{
+					alt1=6;
+					}
+					break;
+				}
+				switch (alt1) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:88:4: name
+					{
+					pushFollow(FOLLOW_name_in_start59);
+					name();
+					state._fsp--;
+
+
+									if(name == 1) {
+										throw new StructureException("'.name' - identifier is used twice.");
+									} else {
+										 ++name;
+									}
+								
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:95:5: type
+					{
+					pushFollow(FOLLOW_type_in_start67);
+					type();
+					state._fsp--;
+
+
+									if(type == 1) {
+										throw new StructureException("'.type' - identifier is used twice.");
+									} else {
+										 ++type;
+									}
+								
+					}
+					break;
+				case 3 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:102:5: description
+					{
+					pushFollow(FOLLOW_description_in_start75);
+					description();
+					state._fsp--;
+
+
+									if(description == 1) {
+										throw new StructureException("'.description' - identifier is used twice.");
+									} else {
+										++description;
+									}
+								
+					}
+					break;
+				case 4 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:109:5: states
+					{
+					pushFollow(FOLLOW_states_in_start83);
+					states();
+					state._fsp--;
+
+					}
+					break;
+				case 5 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:109:14: labels
+					{
+					pushFollow(FOLLOW_labels_in_start87);
+					labels();
+					state._fsp--;
+
+					}
+					break;
+				case 6 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:109:23: arcs
+					{
+					pushFollow(FOLLOW_arcs_in_start91);
+					arcs();
+					state._fsp--;
+
+					}
+					break;
+
+				default :
+					break loop1;
+				}
+			}
+
+			match(input,EOF,FOLLOW_EOF_in_start97); 
+
+					if(type==0) {
+						throw new StructureException("'.type' - identifier not specified");
+					}
+				
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "start"
+
+
+
+	// $ANTLR start "name"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:118:1: name : '.name' string ;
+	public final void name() throws RecognitionException {
+		String string1 =null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:118:7: ( '.name' string )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:118:9: '.name' string
+			{
+			match(input,14,FOLLOW_14_in_name111); 
+			pushFollow(FOLLOW_string_in_name113);
+			string1=string();
+			state._fsp--;
+
+			out.setName(string1);
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "name"
+
+
+
+	// $ANTLR start "type"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:121:1: type : '.type' 'LTS' ;
+	public final void type() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:121:7: ( '.type' 'LTS' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:121:9: '.type' 'LTS'
+			{
+			match(input,16,FOLLOW_16_in_type127); 
+			match(input,18,FOLLOW_18_in_type129); 
+			out.setType(Type.LTS);
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "type"
+
+
+
+	// $ANTLR start "description"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:124:1: description : '.description' (txt= string |txt= string_multi ) ;
+	public final void description() throws RecognitionException {
+		String txt =null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:124:13: ( '.description' (txt= string |txt= string_multi ) )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:124:15: '.description' (txt= string |txt= string_multi )
+			{
+			match(input,12,FOLLOW_12_in_description141); 
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:124:30: (txt= string |txt= string_multi )
+			int alt2=2;
+			int LA2_0 = input.LA(1);
+			if ( (LA2_0==STR) ) {
+				alt2=1;
+			}
+			else if ( (LA2_0==STR_MULTI) ) {
+				alt2=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 2, 0, input);
+				throw nvae;
+			}
+
+			switch (alt2) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:124:31: txt= string
+					{
+					pushFollow(FOLLOW_string_in_description146);
+					txt=string();
+					state._fsp--;
+
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:124:44: txt= string_multi
+					{
+					pushFollow(FOLLOW_string_multi_in_description152);
+					txt=string_multi();
+					state._fsp--;
+
+					}
+					break;
+
+			}
+
+			 out.setDescription(txt);
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "description"
+
+
+
+	// $ANTLR start "states"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:127:1: states : '.states' ( state )* ;
+	public final void states() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:127:9: ( '.states' ( state )* )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:127:11: '.states' ( state )*
+			{
+			match(input,15,FOLLOW_15_in_states166); 
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:127:21: ( state )*
+			loop3:
+			while (true) {
+				int alt3=2;
+				int LA3_0 = input.LA(1);
+				if ( ((LA3_0 >= ID && LA3_0 <= INT)) ) {
+					alt3=1;
+				}
+
+				switch (alt3) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:127:21: state
+					{
+					pushFollow(FOLLOW_state_in_states168);
+					state();
+					state._fsp--;
+
+					}
+					break;
+
+				default :
+					break loop3;
+				}
+			}
+
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "states"
+
+
+
+	// $ANTLR start "state"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:128:1: state : idi ( opts )? ;
+	public final void state() throws RecognitionException {
+		ParserRuleReturnScope idi2 =null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:128:8: ( idi ( opts )? )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:128:10: idi ( opts )?
+			{
+			pushFollow(FOLLOW_idi_in_state177);
+			idi2=idi();
+			state._fsp--;
+
+
+							id = (idi2!=null?input.toString(idi2.start,idi2.stop):null); options = new HashMap<>();
+							
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:131:3: ( opts )?
+			int alt4=2;
+			int LA4_0 = input.LA(1);
+			if ( (LA4_0==19) ) {
+				alt4=1;
+			}
+			switch (alt4) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:131:4: opts
+					{
+					pushFollow(FOLLOW_opts_in_state184);
+					opts();
+					state._fsp--;
+
+					}
+					break;
+
+			}
+
+
+							out.addState(id, options, input);
+							 
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "state"
+
+
+
+	// $ANTLR start "opts"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:135:1: opts : '[' option ( ',' option )* ']' ;
+	public final void opts() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:135:7: ( '[' option ( ',' option )* ']' )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:135:9: '[' option ( ',' option )* ']'
+			{
+			match(input,19,FOLLOW_19_in_opts197); 
+			pushFollow(FOLLOW_option_in_opts199);
+			option();
+			state._fsp--;
+
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:135:20: ( ',' option )*
+			loop5:
+			while (true) {
+				int alt5=2;
+				int LA5_0 = input.LA(1);
+				if ( (LA5_0==10) ) {
+					alt5=1;
+				}
+
+				switch (alt5) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:135:21: ',' option
+					{
+					match(input,10,FOLLOW_10_in_opts202); 
+					pushFollow(FOLLOW_option_in_opts204);
+					option();
+					state._fsp--;
+
+					}
+					break;
+
+				default :
+					break loop5;
+				}
+			}
+
+			match(input,20,FOLLOW_20_in_opts208); 
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "opts"
+
+
+
+	// $ANTLR start "option"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:136:1: option : ( ID '=' string | ID | ID '=' INT );
+	public final void option() throws RecognitionException {
+		Token ID3=null;
+		Token ID5=null;
+		Token ID6=null;
+		Token INT7=null;
+		String string4 =null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:136:9: ( ID '=' string | ID | ID '=' INT )
+			int alt6=3;
+			int LA6_0 = input.LA(1);
+			if ( (LA6_0==ID) ) {
+				int LA6_1 = input.LA(2);
+				if ( (LA6_1==17) ) {
+					int LA6_2 = input.LA(3);
+					if ( (LA6_2==INT) ) {
+						alt6=3;
+					}
+					else if ( (LA6_2==STR) ) {
+						alt6=1;
+					}
+
+					else {
+						int nvaeMark = input.mark();
+						try {
+							for (int nvaeConsume = 0; nvaeConsume < 3 - 1; nvaeConsume++) {
+								input.consume();
+							}
+							NoViableAltException nvae =
+								new NoViableAltException("", 6, 2, input);
+							throw nvae;
+						} finally {
+							input.rewind(nvaeMark);
+						}
+					}
+
+				}
+				else if ( (LA6_1==10||LA6_1==20) ) {
+					alt6=2;
+				}
+
+				else {
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 6, 1, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 6, 0, input);
+				throw nvae;
+			}
+
+			switch (alt6) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:136:11: ID '=' string
+					{
+					ID3=(Token)match(input,ID,FOLLOW_ID_in_option216); 
+					match(input,17,FOLLOW_17_in_option218); 
+					pushFollow(FOLLOW_string_in_option220);
+					string4=string();
+					state._fsp--;
+
+
+									options.put((ID3!=null?ID3.getText():null), string4);
+									
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:139:22: ID
+					{
+					ID5=(Token)match(input,ID,FOLLOW_ID_in_option248); 
+
+					                                options.put((ID5!=null?ID5.getText():null), "true");
+					                                
+					}
+					break;
+				case 3 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:142:23: ID '=' INT
+					{
+					ID6=(Token)match(input,ID,FOLLOW_ID_in_option274); 
+					match(input,17,FOLLOW_17_in_option276); 
+					INT7=(Token)match(input,INT,FOLLOW_INT_in_option278); 
+
+									options.put((ID6!=null?ID6.getText():null), Integer.parseInt((INT7!=null?INT7.getText():null)));
+									
+					}
+					break;
+
+			}
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "option"
+
+
+
+	// $ANTLR start "labels"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:147:1: labels : '.labels' ( label )* ;
+	public final void labels() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:147:9: ( '.labels' ( label )* )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:147:11: '.labels' ( label )*
+			{
+			match(input,13,FOLLOW_13_in_labels291); 
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:147:21: ( label )*
+			loop7:
+			while (true) {
+				int alt7=2;
+				int LA7_0 = input.LA(1);
+				if ( ((LA7_0 >= ID && LA7_0 <= INT)) ) {
+					alt7=1;
+				}
+
+				switch (alt7) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:147:21: label
+					{
+					pushFollow(FOLLOW_label_in_labels293);
+					label();
+					state._fsp--;
+
+					}
+					break;
+
+				default :
+					break loop7;
+				}
+			}
+
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "labels"
+
+
+
+	// $ANTLR start "label"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:148:1: label : idi ( opts )? ;
+	public final void label() throws RecognitionException {
+		ParserRuleReturnScope idi8 =null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:148:8: ( idi ( opts )? )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:148:10: idi ( opts )?
+			{
+			pushFollow(FOLLOW_idi_in_label302);
+			idi8=idi();
+			state._fsp--;
+
+
+							id =  (idi8!=null?input.toString(idi8.start,idi8.stop):null); options = new HashMap<>();
+							
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:151:3: ( opts )?
+			int alt8=2;
+			int LA8_0 = input.LA(1);
+			if ( (LA8_0==19) ) {
+				alt8=1;
+			}
+			switch (alt8) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:151:4: opts
+					{
+					pushFollow(FOLLOW_opts_in_label309);
+					opts();
+					state._fsp--;
+
+					}
+					break;
+
+			}
+
+
+							out.addLabel(id, options);
+							
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "label"
+
+
+
+	// $ANTLR start "arcs"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:156:1: arcs : '.arcs' ( arc )* ;
+	public final void arcs() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:156:7: ( '.arcs' ( arc )* )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:156:9: '.arcs' ( arc )*
+			{
+			match(input,11,FOLLOW_11_in_arcs324); 
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:156:17: ( arc )*
+			loop9:
+			while (true) {
+				int alt9=2;
+				int LA9_0 = input.LA(1);
+				if ( ((LA9_0 >= ID && LA9_0 <= INT)) ) {
+					alt9=1;
+				}
+
+				switch (alt9) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:156:17: arc
+					{
+					pushFollow(FOLLOW_arc_in_arcs326);
+					arc();
+					state._fsp--;
+
+					}
+					break;
+
+				default :
+					break loop9;
+				}
+			}
+
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "arcs"
+
+
+
+	// $ANTLR start "arc"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:157:1: arc : id1= idi id2= idi id3= idi ;
+	public final void arc() throws RecognitionException {
+		ParserRuleReturnScope id1 =null;
+		ParserRuleReturnScope id2 =null;
+		ParserRuleReturnScope id3 =null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:157:6: (id1= idi id2= idi id3= idi )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:157:8: id1= idi id2= idi id3= idi
+			{
+			pushFollow(FOLLOW_idi_in_arc337);
+			id1=idi();
+			state._fsp--;
+
+			pushFollow(FOLLOW_idi_in_arc341);
+			id2=idi();
+			state._fsp--;
+
+			pushFollow(FOLLOW_idi_in_arc345);
+			id3=idi();
+			state._fsp--;
+
+
+									out.addArc((id1!=null?input.toString(id1.start,id1.stop):null), (id2!=null?input.toString(id2.start,id2.stop):null), (id3!=null?input.toString(id3.start,id3.stop):null));
+									
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "arc"
+
+
+	public static class idi_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "idi"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:161:1: idi : ( ID | INT );
+	public final AptLTSFormatParser.idi_return idi() throws RecognitionException {
+		AptLTSFormatParser.idi_return retval = new AptLTSFormatParser.idi_return();
+		retval.start = input.LT(1);
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:161:6: ( ID | INT )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:
+			{
+			if ( (input.LA(1) >= ID && input.LA(1) <= INT) ) {
+				input.consume();
+				state.errorRecovery=false;
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				throw mse;
+			}
+			}
+
+			retval.stop = input.LT(-1);
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "idi"
+
+
+
+	// $ANTLR start "string"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:162:1: string returns [String val] : STR ;
+	public final String string() throws RecognitionException {
+		String val = null;
+
+
+		Token STR9=null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:162:28: ( STR )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:162:30: STR
+			{
+			STR9=(Token)match(input,STR,FOLLOW_STR_in_string370); 
+			val = (STR9!=null?STR9.getText():null).substring(1,(STR9!=null?STR9.getText():null).length() -1);
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return val;
+	}
+	// $ANTLR end "string"
+
+
+
+	// $ANTLR start "string_multi"
+	// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:163:1: string_multi returns [String val] : STR_MULTI ;
+	public final String string_multi() throws RecognitionException {
+		String val = null;
+
+
+		Token STR_MULTI10=null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:163:34: ( STR_MULTI )
+			// /root/project/src/uniol/apt/io/parser/impl/apt/AptLTSFormat.g:163:36: STR_MULTI
+			{
+			STR_MULTI10=(Token)match(input,STR_MULTI,FOLLOW_STR_MULTI_in_string_multi382); 
+			val = (STR_MULTI10!=null?STR_MULTI10.getText():null).substring(1,(STR_MULTI10!=null?STR_MULTI10.getText():null).length() -1);
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return val;
+	}
+	// $ANTLR end "string_multi"
+
+	// Delegated rules
+
+
+
+	public static final BitSet FOLLOW_name_in_start59 = new BitSet(new long[]{0x000000000001F800L});
+	public static final BitSet FOLLOW_type_in_start67 = new BitSet(new long[]{0x000000000001F800L});
+	public static final BitSet FOLLOW_description_in_start75 = new BitSet(new long[]{0x000000000001F800L});
+	public static final BitSet FOLLOW_states_in_start83 = new BitSet(new long[]{0x000000000001F800L});
+	public static final BitSet FOLLOW_labels_in_start87 = new BitSet(new long[]{0x000000000001F800L});
+	public static final BitSet FOLLOW_arcs_in_start91 = new BitSet(new long[]{0x000000000001F800L});
+	public static final BitSet FOLLOW_EOF_in_start97 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_14_in_name111 = new BitSet(new long[]{0x0000000000000080L});
+	public static final BitSet FOLLOW_string_in_name113 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_16_in_type127 = new BitSet(new long[]{0x0000000000040000L});
+	public static final BitSet FOLLOW_18_in_type129 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_12_in_description141 = new BitSet(new long[]{0x0000000000000180L});
+	public static final BitSet FOLLOW_string_in_description146 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_string_multi_in_description152 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_15_in_states166 = new BitSet(new long[]{0x0000000000000062L});
+	public static final BitSet FOLLOW_state_in_states168 = new BitSet(new long[]{0x0000000000000062L});
+	public static final BitSet FOLLOW_idi_in_state177 = new BitSet(new long[]{0x0000000000080002L});
+	public static final BitSet FOLLOW_opts_in_state184 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_19_in_opts197 = new BitSet(new long[]{0x0000000000000020L});
+	public static final BitSet FOLLOW_option_in_opts199 = new BitSet(new long[]{0x0000000000100400L});
+	public static final BitSet FOLLOW_10_in_opts202 = new BitSet(new long[]{0x0000000000000020L});
+	public static final BitSet FOLLOW_option_in_opts204 = new BitSet(new long[]{0x0000000000100400L});
+	public static final BitSet FOLLOW_20_in_opts208 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_option216 = new BitSet(new long[]{0x0000000000020000L});
+	public static final BitSet FOLLOW_17_in_option218 = new BitSet(new long[]{0x0000000000000080L});
+	public static final BitSet FOLLOW_string_in_option220 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_option248 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_option274 = new BitSet(new long[]{0x0000000000020000L});
+	public static final BitSet FOLLOW_17_in_option276 = new BitSet(new long[]{0x0000000000000040L});
+	public static final BitSet FOLLOW_INT_in_option278 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_13_in_labels291 = new BitSet(new long[]{0x0000000000000062L});
+	public static final BitSet FOLLOW_label_in_labels293 = new BitSet(new long[]{0x0000000000000062L});
+	public static final BitSet FOLLOW_idi_in_label302 = new BitSet(new long[]{0x0000000000080002L});
+	public static final BitSet FOLLOW_opts_in_label309 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_11_in_arcs324 = new BitSet(new long[]{0x0000000000000062L});
+	public static final BitSet FOLLOW_arc_in_arcs326 = new BitSet(new long[]{0x0000000000000062L});
+	public static final BitSet FOLLOW_idi_in_arc337 = new BitSet(new long[]{0x0000000000000060L});
+	public static final BitSet FOLLOW_idi_in_arc341 = new BitSet(new long[]{0x0000000000000060L});
+	public static final BitSet FOLLOW_idi_in_arc345 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STR_in_string370 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STR_MULTI_in_string_multi382 = new BitSet(new long[]{0x0000000000000002L});
+}
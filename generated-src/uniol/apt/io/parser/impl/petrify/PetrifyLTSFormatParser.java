@@ -0,0 +1,603 @@
+// $ANTLR 3.5.2 /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g 2026-10-16 22:57:29
+
+	package uniol.apt.io.parser.impl.petrify;
+
+	import uniol.apt.io.parser.ILTSParserOutput;
+	import uniol.apt.io.parser.IParserOutput.Type;
+	import java.util.HashMap;
+	import java.util.Map;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings("all")
+public class PetrifyLTSFormatParser extends Parser {
+	public static final String[] tokenNames = new String[] {
+		"<invalid>", "<EOR>", "<DOWN>", "<UP>", "COMMENT", "ESC_SEQ", "ID", "INT", 
+		"STR", "WS", "'.end'", "'.inputs'", "'.marking'", "'.model'", "'.state graph'", 
+		"'{'", "'}'"
+	};
+	public static final int EOF=-1;
+	public static final int T__10=10;
+	public static final int T__11=11;
+	public static final int T__12=12;
+	public static final int T__13=13;
+	public static final int T__14=14;
+	public static final int T__15=15;
+	public static final int T__16=16;
+	public static final int COMMENT=4;
+	public static final int ESC_SEQ=5;
+	public static final int ID=6;
+	public static final int INT=7;
+	public static final int STR=8;
+	public static final int WS=9;
+
+	// delegates
+	public Parser[] getDelegates() {
+		return new Parser[] {};
+	}
+
+	// delegators
+
+
+	public PetrifyLTSFormatParser(TokenStream input) {
+		this(input, new RecognizerSharedState());
+	}
+	public PetrifyLTSFormatParser(TokenStream input, RecognizerSharedState state) {
+		super(input, state);
+	}
+
+	@Override public String[] getTokenNames() { return PetrifyLTSFormatParser.tokenNames; }
+	@Override public String getGrammarFileName() { return "/root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g"; }
+
+
+		private ILTSParserOutput<?> out;
+		private Map<String, Object> options = new HashMap<>();
+		private boolean suppressWarnings = false;
+
+		public PetrifyLTSFormatParser(CommonTokenStream cts, ILTSParserOutput<?> out) {
+			this(cts);
+			this.out = out;
+		}
+
+
+		public void suppressWarnings(boolean flag) {
+			suppressWarnings = flag;
+		}
+
+		@Override
+		public void emitErrorMessage(String msg) {
+			if(!suppressWarnings) {
+				System.out.println("[WARNING] Parser: " + msg);
+			}
+		}
+
+
+
+	// $ANTLR start "start"
+	// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:82:1: start : model inputs state translist marking end ;
+	public final void start() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:82:10: ( model inputs state translist marking end )
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:82:12: model inputs state translist marking end
+			{
+			pushFollow(FOLLOW_model_in_start54);
+			model();
+			state._fsp--;
+
+			pushFollow(FOLLOW_inputs_in_start56);
+			inputs();
+			state._fsp--;
+
+			pushFollow(FOLLOW_state_in_start58);
+			state();
+			state._fsp--;
+
+			pushFollow(FOLLOW_translist_in_start60);
+			translist();
+			state._fsp--;
+
+			pushFollow(FOLLOW_marking_in_start62);
+			marking();
+			state._fsp--;
+
+			pushFollow(FOLLOW_end_in_start64);
+			end();
+			state._fsp--;
+
+			out.setType(Type.LTS);
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "start"
+
+
+
+	// $ANTLR start "model"
+	// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:83:1: model : '.model' NAME= ( INT | STR | ID )* ;
+	public final void model() throws RecognitionException {
+		Token NAME=null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:83:10: ( '.model' NAME= ( INT | STR | ID )* )
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:83:12: '.model' NAME= ( INT | STR | ID )*
+			{
+			match(input,13,FOLLOW_13_in_model76); 
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:83:26: ( INT | STR | ID )*
+			loop1:
+			while (true) {
+				int alt1=2;
+				int LA1_0 = input.LA(1);
+				if ( ((LA1_0 >= ID && LA1_0 <= STR)) ) {
+					alt1=1;
+				}
+
+				switch (alt1) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:
+					{
+					if ( (input.LA(1) >= ID && input.LA(1) <= STR) ) {
+						input.consume();
+						state.errorRecovery=false;
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					break loop1;
+				}
+			}
+
+			out.setName((NAME!=null?NAME.getText():null));
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "model"
+
+
+
+	// $ANTLR start "inputs"
+	// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:84:1: inputs : '.inputs' ( INT | ID )* ;
+	public final void inputs() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:84:10: ( '.inputs' ( INT | ID )* )
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:84:12: '.inputs' ( INT | ID )*
+			{
+			match(input,11,FOLLOW_11_in_inputs98); 
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:84:22: ( INT | ID )*
+			loop2:
+			while (true) {
+				int alt2=2;
+				int LA2_0 = input.LA(1);
+				if ( ((LA2_0 >= ID && LA2_0 <= INT)) ) {
+					alt2=1;
+				}
+
+				switch (alt2) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:
+					{
+					if ( (input.LA(1) >= ID && input.LA(1) <= INT) ) {
+						input.consume();
+						state.errorRecovery=false;
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					break loop2;
+				}
+			}
+
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "inputs"
+
+
+
+	// $ANTLR start "state"
+	// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:85:1: state : '.state graph' ;
+	public final void state() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:85:10: ( '.state graph' )
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:85:12: '.state graph'
+			{
+			match(input,14,FOLLOW_14_in_state115); 
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "state"
+
+
+
+	// $ANTLR start "translist"
+	// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:86:1: translist : ( trans )* ;
+	public final void translist() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:86:10: ( ( trans )* )
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:86:12: ( trans )*
+			{
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:86:12: ( trans )*
+			loop3:
+			while (true) {
+				int alt3=2;
+				int LA3_0 = input.LA(1);
+				if ( ((LA3_0 >= ID && LA3_0 <= STR)) ) {
+					alt3=1;
+				}
+
+				switch (alt3) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:86:12: trans
+					{
+					pushFollow(FOLLOW_trans_in_translist121);
+					trans();
+					state._fsp--;
+
+					}
+					break;
+
+				default :
+					break loop3;
+				}
+			}
+
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "translist"
+
+
+
+	// $ANTLR start "trans"
+	// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:87:1: trans : from= stateid eventid to= stateid ;
+	public final void trans() throws RecognitionException {
+		ParserRuleReturnScope from =null;
+		ParserRuleReturnScope to =null;
+		ParserRuleReturnScope eventid1 =null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:87:10: (from= stateid eventid to= stateid )
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:87:12: from= stateid eventid to= stateid
+			{
+			pushFollow(FOLLOW_stateid_in_trans134);
+			from=stateid();
+			state._fsp--;
+
+			pushFollow(FOLLOW_eventid_in_trans136);
+			eventid1=eventid();
+			state._fsp--;
+
+			pushFollow(FOLLOW_stateid_in_trans140);
+			to=stateid();
+			state._fsp--;
+
+			out.addArc((from!=null?input.toString(from.start,from.stop):null), (eventid1!=null?input.toString(eventid1.start,eventid1.stop):null), (to!=null?input.toString(to.start,to.stop):null));
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "trans"
+
+
+	public static class stateid_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "stateid"
+	// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:88:1: stateid : ( INT | STR | ID );
+	public final PetrifyLTSFormatParser.stateid_return stateid() throws RecognitionException {
+		PetrifyLTSFormatParser.stateid_return retval = new PetrifyLTSFormatParser.stateid_return();
+		retval.start = input.LT(1);
+
+		Token INT2=null;
+		Token STR3=null;
+		Token ID4=null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:88:10: ( INT | STR | ID )
+			int alt4=3;
+			switch ( input.LA(1) ) {
+			case INT:
+				{
+				alt4=1;
+				}
+				break;
+			case STR:
+				{
+				alt4=2;
+				}
+				break;
+			case ID:
+				{
+				alt4=3;
+				}
+				break;
+			default:
+				NoViableAltException nvae =
+					new NoViableAltException("", 4, 0, input);
+				throw nvae;
+			}
+			switch (alt4) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:88:12: INT
+					{
+					INT2=(Token)match(input,INT,FOLLOW_INT_in_stateid150); 
+					out.addState((INT2!=null?INT2.getText():null), options, input);
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:88:61: STR
+					{
+					STR3=(Token)match(input,STR,FOLLOW_STR_in_stateid156); 
+					out.addState((STR3!=null?STR3.getText():null), options, input);
+					}
+					break;
+				case 3 :
+					// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:89:6: ID
+					{
+					ID4=(Token)match(input,ID,FOLLOW_ID_in_stateid165); 
+					out.addState((ID4!=null?ID4.getText():null), options, input);
+					}
+					break;
+
+			}
+			retval.stop = input.LT(-1);
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "stateid"
+
+
+	public static class eventid_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "eventid"
+	// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:90:1: eventid : ( INT | STR | ID );
+	public final PetrifyLTSFormatParser.eventid_return eventid() throws RecognitionException {
+		PetrifyLTSFormatParser.eventid_return retval = new PetrifyLTSFormatParser.eventid_return();
+		retval.start = input.LT(1);
+
+		Token INT5=null;
+		Token STR6=null;
+		Token ID7=null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:90:10: ( INT | STR | ID )
+			int alt5=3;
+			switch ( input.LA(1) ) {
+			case INT:
+				{
+				alt5=1;
+				}
+				break;
+			case STR:
+				{
+				alt5=2;
+				}
+				break;
+			case ID:
+				{
+				alt5=3;
+				}
+				break;
+			default:
+				NoViableAltException nvae =
+					new NoViableAltException("", 5, 0, input);
+				throw nvae;
+			}
+			switch (alt5) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:90:12: INT
+					{
+					INT5=(Token)match(input,INT,FOLLOW_INT_in_eventid175); 
+					out.addLabel((INT5!=null?INT5.getText():null), options);
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:90:54: STR
+					{
+					STR6=(Token)match(input,STR,FOLLOW_STR_in_eventid181); 
+					out.addLabel((STR6!=null?STR6.getText():null), options);
+					}
+					break;
+				case 3 :
+					// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:91:6: ID
+					{
+					ID7=(Token)match(input,ID,FOLLOW_ID_in_eventid190); 
+					out.addLabel((ID7!=null?ID7.getText():null), options);
+					}
+					break;
+
+			}
+			retval.stop = input.LT(-1);
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "eventid"
+
+
+
+	// $ANTLR start "marking"
+	// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:92:1: marking : '.marking' '{' st= ( INT | STR | ID ) '}' ;
+	public final void marking() throws RecognitionException {
+		Token st=null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:92:10: ( '.marking' '{' st= ( INT | STR | ID ) '}' )
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:92:12: '.marking' '{' st= ( INT | STR | ID ) '}'
+			{
+			match(input,12,FOLLOW_12_in_marking200); 
+			match(input,15,FOLLOW_15_in_marking202); 
+			st=input.LT(1);
+			if ( (input.LA(1) >= ID && input.LA(1) <= STR) ) {
+				input.consume();
+				state.errorRecovery=false;
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				throw mse;
+			}
+			out.setInitialState((st!=null?st.getText():null));
+			match(input,16,FOLLOW_16_in_marking216); 
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "marking"
+
+
+
+	// $ANTLR start "end"
+	// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:93:1: end : '.end' ;
+	public final void end() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:93:10: ( '.end' )
+			// /root/project/src/uniol/apt/io/parser/impl/petrify/PetrifyLTSFormat.g:93:12: '.end'
+			{
+			match(input,10,FOLLOW_10_in_end228); 
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "end"
+
+	// Delegated rules
+
+
+
+	public static final BitSet FOLLOW_model_in_start54 = new BitSet(new long[]{0x0000000000000800L});
+	public static final BitSet FOLLOW_inputs_in_start56 = new BitSet(new long[]{0x0000000000004000L});
+	public static final BitSet FOLLOW_state_in_start58 = new BitSet(new long[]{0x00000000000011C0L});
+	public static final BitSet FOLLOW_translist_in_start60 = new BitSet(new long[]{0x0000000000001000L});
+	public static final BitSet FOLLOW_marking_in_start62 = new BitSet(new long[]{0x0000000000000400L});
+	public static final BitSet FOLLOW_end_in_start64 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_13_in_model76 = new BitSet(new long[]{0x00000000000001C2L});
+	public static final BitSet FOLLOW_11_in_inputs98 = new BitSet(new long[]{0x00000000000000C2L});
+	public static final BitSet FOLLOW_14_in_state115 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_trans_in_translist121 = new BitSet(new long[]{0x00000000000001C2L});
+	public static final BitSet FOLLOW_stateid_in_trans134 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_eventid_in_trans136 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_stateid_in_trans140 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_INT_in_stateid150 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STR_in_stateid156 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_stateid165 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_INT_in_eventid175 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STR_in_eventid181 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_eventid190 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_12_in_marking200 = new BitSet(new long[]{0x0000000000008000L});
+	public static final BitSet FOLLOW_15_in_marking202 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_set_in_marking206 = new BitSet(new long[]{0x0000000000010000L});
+	public static final BitSet FOLLOW_16_in_marking216 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_10_in_end228 = new BitSet(new long[]{0x0000000000000002L});
+}
@@ -0,0 +1,695 @@
+// $ANTLR 3.5.2 /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g 2026-10-16 22:57:26
+
+	package uniol.apt.io.parser.impl.synet;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings("all")
+public class SynetLTSFormatLexer extends Lexer {
+	public static final int EOF=-1;
+	public static final int T__10=10;
+	public static final int T__11=11;
+	public static final int T__12=12;
+	public static final int T__13=13;
+	public static final int COMMENT=4;
+	public static final int ESC_SEQ=5;
+	public static final int ID=6;
+	public static final int INT=7;
+	public static final int STR=8;
+	public static final int WS=9;
+
+		private boolean suppressWarnings = false;
+
+		public void suppressWarnings(boolean flag) {
+			suppressWarnings = flag;
+		}
+
+		@Override
+		public void emitErrorMessage(String msg) {
+			if(!suppressWarnings) {
+				System.out.println("[WARNING] Lexer: " + msg);
+			}
+		}
+
+
+	// delegates
+	// delegators
+	public Lexer[] getDelegates() {
+		return new Lexer[] {};
+	}
+
+	public SynetLTSFormatLexer() {} 
+	public SynetLTSFormatLexer(CharStream input) {
+		this(input, new RecognizerSharedState());
+	}
+	public SynetLTSFormatLexer(CharStream input, RecognizerSharedState state) {
+		super(input,state);
+	}
+	@Override public String getGrammarFileName() { return "/root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g"; }
+
+	// $ANTLR start "T__10"
+	public final void mT__10() throws RecognitionException {
+		try {
+			int _type = T__10;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:20:7: ( '(' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:20:9: '('
+			{
+			match('('); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__10"
+
+	// $ANTLR start "T__11"
+	public final void mT__11() throws RecognitionException {
+		try {
+			int _type = T__11;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:21:7: ( ')' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:21:9: ')'
+			{
+			match(')'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__11"
+
+	// $ANTLR start "T__12"
+	public final void mT__12() throws RecognitionException {
+		try {
+			int _type = T__12;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:22:7: ( ',' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:22:9: ','
+			{
+			match(','); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__12"
+
+	// $ANTLR start "T__13"
+	public final void mT__13() throws RecognitionException {
+		try {
+			int _type = T__13;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:23:7: ( 'des(' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:23:9: 'des('
+			{
+			match("des("); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__13"
+
+	// $ANTLR start "ID"
+	public final void mID() throws RecognitionException {
+		try {
+			int _type = ID;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:91:5: ( ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )* )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:91:7: ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+			{
+			if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:91:31: ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+			loop1:
+			while (true) {
+				int alt1=2;
+				int LA1_0 = input.LA(1);
+				if ( ((LA1_0 >= '0' && LA1_0 <= '9')||(LA1_0 >= 'A' && LA1_0 <= 'Z')||LA1_0=='_'||(LA1_0 >= 'a' && LA1_0 <= 'z')) ) {
+					alt1=1;
+				}
+
+				switch (alt1) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:
+					{
+					if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					break loop1;
+				}
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "ID"
+
+	// $ANTLR start "INT"
+	public final void mINT() throws RecognitionException {
+		try {
+			int _type = INT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:93:6: ( ( '0' .. '9' )+ )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:93:8: ( '0' .. '9' )+
+			{
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:93:8: ( '0' .. '9' )+
+			int cnt2=0;
+			loop2:
+			while (true) {
+				int alt2=2;
+				int LA2_0 = input.LA(1);
+				if ( ((LA2_0 >= '0' && LA2_0 <= '9')) ) {
+					alt2=1;
+				}
+
+				switch (alt2) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:
+					{
+					if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					if ( cnt2 >= 1 ) break loop2;
+					EarlyExitException eee = new EarlyExitException(2, input);
+					throw eee;
+				}
+				cnt2++;
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "INT"
+
+	// $ANTLR start "COMMENT"
+	public final void mCOMMENT() throws RecognitionException {
+		try {
+			int _type = COMMENT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:95:10: ( '//' (~ ( '\\n' | '\\r' ) )* | '/*' ( options {greedy=false; } : . )* '*/' )
+			int alt5=2;
+			int LA5_0 = input.LA(1);
+			if ( (LA5_0=='/') ) {
+				int LA5_1 = input.LA(2);
+				if ( (LA5_1=='/') ) {
+					alt5=1;
+				}
+				else if ( (LA5_1=='*') ) {
+					alt5=2;
+				}
+
+				else {
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 5, 1, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 5, 0, input);
+				throw nvae;
+			}
+
+			switch (alt5) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:95:12: '//' (~ ( '\\n' | '\\r' ) )*
+					{
+					match("//"); 
+
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:95:17: (~ ( '\\n' | '\\r' ) )*
+					loop3:
+					while (true) {
+						int alt3=2;
+						int LA3_0 = input.LA(1);
+						if ( ((LA3_0 >= '\u0000' && LA3_0 <= '\t')||(LA3_0 >= '\u000B' && LA3_0 <= '\f')||(LA3_0 >= '\u000E' && LA3_0 <= '\uFFFF')) ) {
+							alt3=1;
+						}
+
+						switch (alt3) {
+						case 1 :
+							// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:
+							{
+							if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\t')||(input.LA(1) >= '\u000B' && input.LA(1) <= '\f')||(input.LA(1) >= '\u000E' && input.LA(1) <= '\uFFFF') ) {
+								input.consume();
+							}
+							else {
+								MismatchedSetException mse = new MismatchedSetException(null,input);
+								recover(mse);
+								throw mse;
+							}
+							}
+							break;
+
+						default :
+							break loop3;
+						}
+					}
+
+					_channel=HIDDEN;
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:96:7: '/*' ( options {greedy=false; } : . )* '*/'
+					{
+					match("/*"); 
+
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:96:12: ( options {greedy=false; } : . )*
+					loop4:
+					while (true) {
+						int alt4=2;
+						int LA4_0 = input.LA(1);
+						if ( (LA4_0=='*') ) {
+							int LA4_1 = input.LA(2);
+							if ( (LA4_1=='/') ) {
+								alt4=2;
+							}
+							else if ( ((LA4_1 >= '\u0000' && LA4_1 <= '.')||(LA4_1 >= '0' && LA4_1 <= '\uFFFF')) ) {
+								alt4=1;
+							}
+
+						}
+						else if ( ((LA4_0 >= '\u0000' && LA4_0 <= ')')||(LA4_0 >= '+' && LA4_0 <= '\uFFFF')) ) {
+							alt4=1;
+						}
+
+						switch (alt4) {
+						case 1 :
+							// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:96:40: .
+							{
+							matchAny(); 
+							}
+							break;
+
+						default :
+							break loop4;
+						}
+					}
+
+					match("*/"); 
+
+					_channel=HIDDEN;
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "COMMENT"
+
+	// $ANTLR start "WS"
+	public final void mWS() throws RecognitionException {
+		try {
+			int _type = WS;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:98:5: ( ( ' ' | '\\n' | '\\r' | '\\t' ) )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:98:7: ( ' ' | '\\n' | '\\r' | '\\t' )
+			{
+			if ( (input.LA(1) >= '\t' && input.LA(1) <= '\n')||input.LA(1)=='\r'||input.LA(1)==' ' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			_channel=HIDDEN;
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "WS"
+
+	// $ANTLR start "STR"
+	public final void mSTR() throws RecognitionException {
+		try {
+			int _type = STR;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:100:6: ( '\"' ( ESC_SEQ |~ ( '\\\\' | '\"' ) )* '\"' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:100:8: '\"' ( ESC_SEQ |~ ( '\\\\' | '\"' ) )* '\"'
+			{
+			match('\"'); 
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:100:12: ( ESC_SEQ |~ ( '\\\\' | '\"' ) )*
+			loop6:
+			while (true) {
+				int alt6=3;
+				int LA6_0 = input.LA(1);
+				if ( (LA6_0=='\\') ) {
+					alt6=1;
+				}
+				else if ( ((LA6_0 >= '\u0000' && LA6_0 <= '!')||(LA6_0 >= '#' && LA6_0 <= '[')||(LA6_0 >= ']' && LA6_0 <= '\uFFFF')) ) {
+					alt6=2;
+				}
+
+				switch (alt6) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:100:14: ESC_SEQ
+					{
+					mESC_SEQ(); 
+
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:100:24: ~ ( '\\\\' | '\"' )
+					{
+					if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '[')||(input.LA(1) >= ']' && input.LA(1) <= '\uFFFF') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					break loop6;
+				}
+			}
+
+			match('\"'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "STR"
+
+	// $ANTLR start "ESC_SEQ"
+	public final void mESC_SEQ() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:104:10: ( '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' ) )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:104:12: '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' )
+			{
+			match('\\'); 
+			if ( input.LA(1)=='\"'||input.LA(1)=='\''||input.LA(1)=='\\'||input.LA(1)=='b'||input.LA(1)=='f'||input.LA(1)=='n'||input.LA(1)=='r'||input.LA(1)=='t' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "ESC_SEQ"
+
+	@Override
+	public void mTokens() throws RecognitionException {
+		// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:1:8: ( T__10 | T__11 | T__12 | T__13 | ID | INT | COMMENT | WS | STR )
+		int alt7=9;
+		switch ( input.LA(1) ) {
+		case '(':
+			{
+			alt7=1;
+			}
+			break;
+		case ')':
+			{
+			alt7=2;
+			}
+			break;
+		case ',':
+			{
+			alt7=3;
+			}
+			break;
+		case 'd':
+			{
+			int LA7_4 = input.LA(2);
+			if ( (LA7_4=='e') ) {
+				int LA7_10 = input.LA(3);
+				if ( (LA7_10=='s') ) {
+					int LA7_11 = input.LA(4);
+					if ( (LA7_11=='(') ) {
+						alt7=4;
+					}
+
+					else {
+						alt7=5;
+					}
+
+				}
+
+				else {
+					alt7=5;
+				}
+
+			}
+
+			else {
+				alt7=5;
+			}
+
+			}
+			break;
+		case 'A':
+		case 'B':
+		case 'C':
+		case 'D':
+		case 'E':
+		case 'F':
+		case 'G':
+		case 'H':
+		case 'I':
+		case 'J':
+		case 'K':
+		case 'L':
+		case 'M':
+		case 'N':
+		case 'O':
+		case 'P':
+		case 'Q':
+		case 'R':
+		case 'S':
+		case 'T':
+		case 'U':
+		case 'V':
+		case 'W':
+		case 'X':
+		case 'Y':
+		case 'Z':
+		case '_':
+		case 'a':
+		case 'b':
+		case 'c':
+		case 'e':
+		case 'f':
+		case 'g':
+		case 'h':
+		case 'i':
+		case 'j':
+		case 'k':
+		case 'l':
+		case 'm':
+		case 'n':
+		case 'o':
+		case 'p':
+		case 'q':
+		case 'r':
+		case 's':
+		case 't':
+		case 'u':
+		case 'v':
+		case 'w':
+		case 'x':
+		case 'y':
+		case 'z':
+			{
+			alt7=5;
+			}
+			break;
+		case '0':
+		case '1':
+		case '2':
+		case '3':
+		case '4':
+		case '5':
+		case '6':
+		case '7':
+		case '8':
+		case '9':
+			{
+			alt7=6;
+			}
+			break;
+		case '/':
+			{
+			alt7=7;
+			}
+			break;
+		case '\t':
+		case '\n':
+		case '\r':
+		case ' ':
+			{
+			alt7=8;
+			}
+			break;
+		case '\"':
+			{
+			alt7=9;
+			}
+			break;
+		default:
+			NoViableAltException nvae =
+				new NoViableAltException("", 7, 0, input);
+			throw nvae;
+		}
+		switch (alt7) {
+			case 1 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:1:10: T__10
+				{
+				mT__10(); 
+
+				}
+				break;
+			case 2 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:1:16: T__11
+				{
+				mT__11(); 
+
+				}
+				break;
+			case 3 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:1:22: T__12
+				{
+				mT__12(); 
+
+				}
+				break;
+			case 4 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:1:28: T__13
+				{
+				mT__13(); 
+
+				}
+				break;
+			case 5 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:1:34: ID
+				{
+				mID(); 
+
+				}
+				break;
+			case 6 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:1:37: INT
+				{
+				mINT(); 
+
+				}
+				break;
+			case 7 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:1:41: COMMENT
+				{
+				mCOMMENT(); 
+
+				}
+				break;
+			case 8 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:1:49: WS
+				{
+				mWS(); 
+
+				}
+				break;
+			case 9 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:1:52: STR
+				{
+				mSTR(); 
+
+				}
+				break;
+
+		}
+	}
+
+
+
+}
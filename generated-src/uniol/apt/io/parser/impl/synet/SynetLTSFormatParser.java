@@ -0,0 +1,388 @@
+// $ANTLR 3.5.2 /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g 2026-10-16 22:57:26
+
+	package uniol.apt.io.parser.impl.synet;
+
+	import uniol.apt.io.parser.ILTSParserOutput;
+	import uniol.apt.io.parser.IParserOutput.Type;
+	import java.util.HashMap;
+	import java.util.Map;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings("all")
+public class SynetLTSFormatParser extends Parser {
+	public static final String[] tokenNames = new String[] {
+		"<invalid>", "<EOR>", "<DOWN>", "<UP>", "COMMENT", "ESC_SEQ", "ID", "INT", 
+		"STR", "WS", "'('", "')'", "','", "'des('"
+	};
+	public static final int EOF=-1;
+	public static final int T__10=10;
+	public static final int T__11=11;
+	public static final int T__12=12;
+	public static final int T__13=13;
+	public static final int COMMENT=4;
+	public static final int ESC_SEQ=5;
+	public static final int ID=6;
+	public static final int INT=7;
+	public static final int STR=8;
+	public static final int WS=9;
+
+	// delegates
+	public Parser[] getDelegates() {
+		return new Parser[] {};
+	}
+
+	// delegators
+
+
+	public SynetLTSFormatParser(TokenStream input) {
+		this(input, new RecognizerSharedState());
+	}
+	public SynetLTSFormatParser(TokenStream input, RecognizerSharedState state) {
+		super(input, state);
+	}
+
+	@Override public String[] getTokenNames() { return SynetLTSFormatParser.tokenNames; }
+	@Override public String getGrammarFileName() { return "/root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g"; }
+
+
+		private ILTSParserOutput<?> out;
+		private Map<String, Object> options = new HashMap<>();
+		private boolean suppressWarnings = false;
+
+		public SynetLTSFormatParser(CommonTokenStream cts, ILTSParserOutput<?> out) {
+			this(cts);
+			this.out = out;
+		}
+
+
+		public void suppressWarnings(boolean flag) {
+			suppressWarnings = flag;
+		}
+
+		@Override
+		public void emitErrorMessage(String msg) {
+			if(!suppressWarnings) {
+				System.out.println("[WARNING] Parser: " + msg);
+			}
+		}
+
+
+
+	// $ANTLR start "start"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:82:1: start : 'des(' INT ',' INT ',' INT ')' translist ;
+	public final void start() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:82:10: ( 'des(' INT ',' INT ',' INT ')' translist )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:82:12: 'des(' INT ',' INT ',' INT ')' translist
+			{
+			match(input,13,FOLLOW_13_in_start54); 
+			match(input,INT,FOLLOW_INT_in_start56); 
+			match(input,12,FOLLOW_12_in_start58); 
+			match(input,INT,FOLLOW_INT_in_start60); 
+			match(input,12,FOLLOW_12_in_start62); 
+			match(input,INT,FOLLOW_INT_in_start64); 
+			match(input,11,FOLLOW_11_in_start66); 
+			pushFollow(FOLLOW_translist_in_start68);
+			translist();
+			state._fsp--;
+
+			out.setType(Type.LTS);
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "start"
+
+
+
+	// $ANTLR start "translist"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:83:1: translist : ( trans )* ;
+	public final void translist() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:83:10: ( ( trans )* )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:83:12: ( trans )*
+			{
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:83:12: ( trans )*
+			loop1:
+			while (true) {
+				int alt1=2;
+				int LA1_0 = input.LA(1);
+				if ( (LA1_0==10) ) {
+					alt1=1;
+				}
+
+				switch (alt1) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:83:12: trans
+					{
+					pushFollow(FOLLOW_trans_in_translist76);
+					trans();
+					state._fsp--;
+
+					}
+					break;
+
+				default :
+					break loop1;
+				}
+			}
+
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "translist"
+
+
+
+	// $ANTLR start "trans"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:84:1: trans : '(' from= stateid ',' eventid ',' to= stateid ')' ;
+	public final void trans() throws RecognitionException {
+		ParserRuleReturnScope from =null;
+		ParserRuleReturnScope to =null;
+		ParserRuleReturnScope eventid1 =null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:84:10: ( '(' from= stateid ',' eventid ',' to= stateid ')' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:84:12: '(' from= stateid ',' eventid ',' to= stateid ')'
+			{
+			match(input,10,FOLLOW_10_in_trans87); 
+			pushFollow(FOLLOW_stateid_in_trans91);
+			from=stateid();
+			state._fsp--;
+
+			match(input,12,FOLLOW_12_in_trans93); 
+			pushFollow(FOLLOW_eventid_in_trans95);
+			eventid1=eventid();
+			state._fsp--;
+
+			match(input,12,FOLLOW_12_in_trans97); 
+			pushFollow(FOLLOW_stateid_in_trans101);
+			to=stateid();
+			state._fsp--;
+
+			match(input,11,FOLLOW_11_in_trans103); 
+			out.addArc((from!=null?input.toString(from.start,from.stop):null), (eventid1!=null?input.toString(eventid1.start,eventid1.stop):null), (to!=null?input.toString(to.start,to.stop):null));
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "trans"
+
+
+	public static class stateid_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "stateid"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:86:1: stateid : ( INT | STR | ID );
+	public final SynetLTSFormatParser.stateid_return stateid() throws RecognitionException {
+		SynetLTSFormatParser.stateid_return retval = new SynetLTSFormatParser.stateid_return();
+		retval.start = input.LT(1);
+
+		Token INT2=null;
+		Token STR3=null;
+		Token ID4=null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:86:10: ( INT | STR | ID )
+			int alt2=3;
+			switch ( input.LA(1) ) {
+			case INT:
+				{
+				alt2=1;
+				}
+				break;
+			case STR:
+				{
+				alt2=2;
+				}
+				break;
+			case ID:
+				{
+				alt2=3;
+				}
+				break;
+			default:
+				NoViableAltException nvae =
+					new NoViableAltException("", 2, 0, input);
+				throw nvae;
+			}
+			switch (alt2) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:86:12: INT
+					{
+					INT2=(Token)match(input,INT,FOLLOW_INT_in_stateid114); 
+					out.addState((INT2!=null?INT2.getText():null), options, input);
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:86:61: STR
+					{
+					STR3=(Token)match(input,STR,FOLLOW_STR_in_stateid120); 
+					out.addState((STR3!=null?STR3.getText():null), options, input);
+					}
+					break;
+				case 3 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:87:6: ID
+					{
+					ID4=(Token)match(input,ID,FOLLOW_ID_in_stateid129); 
+					out.addState((ID4!=null?ID4.getText():null), options, input);
+					}
+					break;
+
+			}
+			retval.stop = input.LT(-1);
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "stateid"
+
+
+	public static class eventid_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "eventid"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:88:1: eventid : ( INT | STR | ID );
+	public final SynetLTSFormatParser.eventid_return eventid() throws RecognitionException {
+		SynetLTSFormatParser.eventid_return retval = new SynetLTSFormatParser.eventid_return();
+		retval.start = input.LT(1);
+
+		Token INT5=null;
+		Token STR6=null;
+		Token ID7=null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:88:10: ( INT | STR | ID )
+			int alt3=3;
+			switch ( input.LA(1) ) {
+			case INT:
+				{
+				alt3=1;
+				}
+				break;
+			case STR:
+				{
+				alt3=2;
+				}
+				break;
+			case ID:
+				{
+				alt3=3;
+				}
+				break;
+			default:
+				NoViableAltException nvae =
+					new NoViableAltException("", 3, 0, input);
+				throw nvae;
+			}
+			switch (alt3) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:88:12: INT
+					{
+					INT5=(Token)match(input,INT,FOLLOW_INT_in_eventid139); 
+					out.addLabel((INT5!=null?INT5.getText():null), options);
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:88:54: STR
+					{
+					STR6=(Token)match(input,STR,FOLLOW_STR_in_eventid145); 
+					out.addLabel((STR6!=null?STR6.getText():null), options);
+					}
+					break;
+				case 3 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetLTSFormat.g:89:6: ID
+					{
+					ID7=(Token)match(input,ID,FOLLOW_ID_in_eventid154); 
+					out.addLabel((ID7!=null?ID7.getText():null), options);
+					}
+					break;
+
+			}
+			retval.stop = input.LT(-1);
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "eventid"
+
+	// Delegated rules
+
+
+
+	public static final BitSet FOLLOW_13_in_start54 = new BitSet(new long[]{0x0000000000000080L});
+	public static final BitSet FOLLOW_INT_in_start56 = new BitSet(new long[]{0x0000000000001000L});
+	public static final BitSet FOLLOW_12_in_start58 = new BitSet(new long[]{0x0000000000000080L});
+	public static final BitSet FOLLOW_INT_in_start60 = new BitSet(new long[]{0x0000000000001000L});
+	public static final BitSet FOLLOW_12_in_start62 = new BitSet(new long[]{0x0000000000000080L});
+	public static final BitSet FOLLOW_INT_in_start64 = new BitSet(new long[]{0x0000000000000800L});
+	public static final BitSet FOLLOW_11_in_start66 = new BitSet(new long[]{0x0000000000000400L});
+	public static final BitSet FOLLOW_translist_in_start68 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_trans_in_translist76 = new BitSet(new long[]{0x0000000000000402L});
+	public static final BitSet FOLLOW_10_in_trans87 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_stateid_in_trans91 = new BitSet(new long[]{0x0000000000001000L});
+	public static final BitSet FOLLOW_12_in_trans93 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_eventid_in_trans95 = new BitSet(new long[]{0x0000000000001000L});
+	public static final BitSet FOLLOW_12_in_trans97 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_stateid_in_trans101 = new BitSet(new long[]{0x0000000000000800L});
+	public static final BitSet FOLLOW_11_in_trans103 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_INT_in_stateid114 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STR_in_stateid120 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_stateid129 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_INT_in_eventid139 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_STR_in_eventid145 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_eventid154 = new BitSet(new long[]{0x0000000000000002L});
+}
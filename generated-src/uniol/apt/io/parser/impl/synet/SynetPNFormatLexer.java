@@ -0,0 +1,1085 @@
+// $ANTLR 3.5.2 /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g 2026-10-16 22:57:28
+
+	package uniol.apt.io.parser.impl.synet;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings("all")
+public class SynetPNFormatLexer extends Lexer {
+	public static final int EOF=-1;
+	public static final int T__10=10;
+	public static final int T__11=11;
+	public static final int T__12=12;
+	public static final int T__13=13;
+	public static final int T__14=14;
+	public static final int T__15=15;
+	public static final int T__16=16;
+	public static final int T__17=17;
+	public static final int T__18=18;
+	public static final int COMMENT=4;
+	public static final int ESC_SEQ=5;
+	public static final int ID=6;
+	public static final int INT=7;
+	public static final int STR=8;
+	public static final int WS=9;
+
+		private boolean suppressWarnings = false;
+
+		public void suppressWarnings(boolean flag) {
+			suppressWarnings = flag;
+		}
+
+		@Override
+		public void emitErrorMessage(String msg) {
+			if(!suppressWarnings) {
+				System.out.println("[WARNING] Lexer: " + msg);
+			}
+		}
+
+
+	// delegates
+	// delegators
+	public Lexer[] getDelegates() {
+		return new Lexer[] {};
+	}
+
+	public SynetPNFormatLexer() {} 
+	public SynetPNFormatLexer(CharStream input) {
+		this(input, new RecognizerSharedState());
+	}
+	public SynetPNFormatLexer(CharStream input, RecognizerSharedState state) {
+		super(input,state);
+	}
+	@Override public String getGrammarFileName() { return "/root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g"; }
+
+	// $ANTLR start "T__10"
+	public final void mT__10() throws RecognitionException {
+		try {
+			int _type = T__10;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:20:7: ( '--' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:20:9: '--'
+			{
+			match("--"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__10"
+
+	// $ANTLR start "T__11"
+	public final void mT__11() throws RecognitionException {
+		try {
+			int _type = T__11;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:21:7: ( '->' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:21:9: '->'
+			{
+			match("->"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__11"
+
+	// $ANTLR start "T__12"
+	public final void mT__12() throws RecognitionException {
+		try {
+			int _type = T__12;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:22:7: ( '::' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:22:9: '::'
+			{
+			match("::"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__12"
+
+	// $ANTLR start "T__13"
+	public final void mT__13() throws RecognitionException {
+		try {
+			int _type = T__13;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:23:7: ( ':=' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:23:9: ':='
+			{
+			match(":="); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__13"
+
+	// $ANTLR start "T__14"
+	public final void mT__14() throws RecognitionException {
+		try {
+			int _type = T__14;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:24:7: ( '<-' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:24:9: '<-'
+			{
+			match("<-"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__14"
+
+	// $ANTLR start "T__15"
+	public final void mT__15() throws RecognitionException {
+		try {
+			int _type = T__15;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:25:7: ( 'flow' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:25:9: 'flow'
+			{
+			match("flow"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__15"
+
+	// $ANTLR start "T__16"
+	public final void mT__16() throws RecognitionException {
+		try {
+			int _type = T__16;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:26:7: ( 'location' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:26:9: 'location'
+			{
+			match("location"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__16"
+
+	// $ANTLR start "T__17"
+	public final void mT__17() throws RecognitionException {
+		try {
+			int _type = T__17;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:27:7: ( 'place' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:27:9: 'place'
+			{
+			match("place"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__17"
+
+	// $ANTLR start "T__18"
+	public final void mT__18() throws RecognitionException {
+		try {
+			int _type = T__18;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:28:7: ( 'transition' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:28:9: 'transition'
+			{
+			match("transition"); 
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "T__18"
+
+	// $ANTLR start "INT"
+	public final void mINT() throws RecognitionException {
+		try {
+			int _type = INT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:111:10: ( ( '0' .. '9' )+ )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:111:12: ( '0' .. '9' )+
+			{
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:111:12: ( '0' .. '9' )+
+			int cnt1=0;
+			loop1:
+			while (true) {
+				int alt1=2;
+				int LA1_0 = input.LA(1);
+				if ( ((LA1_0 >= '0' && LA1_0 <= '9')) ) {
+					alt1=1;
+				}
+
+				switch (alt1) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:
+					{
+					if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					if ( cnt1 >= 1 ) break loop1;
+					EarlyExitException eee = new EarlyExitException(1, input);
+					throw eee;
+				}
+				cnt1++;
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "INT"
+
+	// $ANTLR start "ID"
+	public final void mID() throws RecognitionException {
+		try {
+			int _type = ID;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:113:9: ( ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )* )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:113:11: ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+			{
+			if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:113:35: ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+			loop2:
+			while (true) {
+				int alt2=2;
+				int LA2_0 = input.LA(1);
+				if ( ((LA2_0 >= '0' && LA2_0 <= '9')||(LA2_0 >= 'A' && LA2_0 <= 'Z')||LA2_0=='_'||(LA2_0 >= 'a' && LA2_0 <= 'z')) ) {
+					alt2=1;
+				}
+
+				switch (alt2) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:
+					{
+					if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					break loop2;
+				}
+			}
+
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "ID"
+
+	// $ANTLR start "COMMENT"
+	public final void mCOMMENT() throws RecognitionException {
+		try {
+			int _type = COMMENT;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:115:14: ( '//' (~ ( '\\n' | '\\r' ) )* | '/*' ( options {greedy=false; } : . )* '*/' )
+			int alt5=2;
+			int LA5_0 = input.LA(1);
+			if ( (LA5_0=='/') ) {
+				int LA5_1 = input.LA(2);
+				if ( (LA5_1=='/') ) {
+					alt5=1;
+				}
+				else if ( (LA5_1=='*') ) {
+					alt5=2;
+				}
+
+				else {
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 5, 1, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 5, 0, input);
+				throw nvae;
+			}
+
+			switch (alt5) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:115:16: '//' (~ ( '\\n' | '\\r' ) )*
+					{
+					match("//"); 
+
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:115:21: (~ ( '\\n' | '\\r' ) )*
+					loop3:
+					while (true) {
+						int alt3=2;
+						int LA3_0 = input.LA(1);
+						if ( ((LA3_0 >= '\u0000' && LA3_0 <= '\t')||(LA3_0 >= '\u000B' && LA3_0 <= '\f')||(LA3_0 >= '\u000E' && LA3_0 <= '\uFFFF')) ) {
+							alt3=1;
+						}
+
+						switch (alt3) {
+						case 1 :
+							// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:
+							{
+							if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\t')||(input.LA(1) >= '\u000B' && input.LA(1) <= '\f')||(input.LA(1) >= '\u000E' && input.LA(1) <= '\uFFFF') ) {
+								input.consume();
+							}
+							else {
+								MismatchedSetException mse = new MismatchedSetException(null,input);
+								recover(mse);
+								throw mse;
+							}
+							}
+							break;
+
+						default :
+							break loop3;
+						}
+					}
+
+					_channel=HIDDEN;
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:116:9: '/*' ( options {greedy=false; } : . )* '*/'
+					{
+					match("/*"); 
+
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:116:14: ( options {greedy=false; } : . )*
+					loop4:
+					while (true) {
+						int alt4=2;
+						int LA4_0 = input.LA(1);
+						if ( (LA4_0=='*') ) {
+							int LA4_1 = input.LA(2);
+							if ( (LA4_1=='/') ) {
+								alt4=2;
+							}
+							else if ( ((LA4_1 >= '\u0000' && LA4_1 <= '.')||(LA4_1 >= '0' && LA4_1 <= '\uFFFF')) ) {
+								alt4=1;
+							}
+
+						}
+						else if ( ((LA4_0 >= '\u0000' && LA4_0 <= ')')||(LA4_0 >= '+' && LA4_0 <= '\uFFFF')) ) {
+							alt4=1;
+						}
+
+						switch (alt4) {
+						case 1 :
+							// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:116:42: .
+							{
+							matchAny(); 
+							}
+							break;
+
+						default :
+							break loop4;
+						}
+					}
+
+					match("*/"); 
+
+					_channel=HIDDEN;
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "COMMENT"
+
+	// $ANTLR start "WS"
+	public final void mWS() throws RecognitionException {
+		try {
+			int _type = WS;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:118:9: ( ( ' ' | '\\n' | '\\r' | '\\t' ) )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:118:11: ( ' ' | '\\n' | '\\r' | '\\t' )
+			{
+			if ( (input.LA(1) >= '\t' && input.LA(1) <= '\n')||input.LA(1)=='\r'||input.LA(1)==' ' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			_channel=HIDDEN;
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "WS"
+
+	// $ANTLR start "STR"
+	public final void mSTR() throws RecognitionException {
+		try {
+			int _type = STR;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:120:10: ( '\"' ( ESC_SEQ |~ ( '\\\\' | '\"' ) )* '\"' )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:120:12: '\"' ( ESC_SEQ |~ ( '\\\\' | '\"' ) )* '\"'
+			{
+			match('\"'); 
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:120:16: ( ESC_SEQ |~ ( '\\\\' | '\"' ) )*
+			loop6:
+			while (true) {
+				int alt6=3;
+				int LA6_0 = input.LA(1);
+				if ( (LA6_0=='\\') ) {
+					alt6=1;
+				}
+				else if ( ((LA6_0 >= '\u0000' && LA6_0 <= '!')||(LA6_0 >= '#' && LA6_0 <= '[')||(LA6_0 >= ']' && LA6_0 <= '\uFFFF')) ) {
+					alt6=2;
+				}
+
+				switch (alt6) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:120:18: ESC_SEQ
+					{
+					mESC_SEQ(); 
+
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:120:28: ~ ( '\\\\' | '\"' )
+					{
+					if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '[')||(input.LA(1) >= ']' && input.LA(1) <= '\uFFFF') ) {
+						input.consume();
+					}
+					else {
+						MismatchedSetException mse = new MismatchedSetException(null,input);
+						recover(mse);
+						throw mse;
+					}
+					}
+					break;
+
+				default :
+					break loop6;
+				}
+			}
+
+			match('\"'); 
+			}
+
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "STR"
+
+	// $ANTLR start "ESC_SEQ"
+	public final void mESC_SEQ() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:124:14: ( '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' ) )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:124:16: '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' )
+			{
+			match('\\'); 
+			if ( input.LA(1)=='\"'||input.LA(1)=='\''||input.LA(1)=='\\'||input.LA(1)=='b'||input.LA(1)=='f'||input.LA(1)=='n'||input.LA(1)=='r'||input.LA(1)=='t' ) {
+				input.consume();
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				recover(mse);
+				throw mse;
+			}
+			}
+
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "ESC_SEQ"
+
+	@Override
+	public void mTokens() throws RecognitionException {
+		// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:8: ( T__10 | T__11 | T__12 | T__13 | T__14 | T__15 | T__16 | T__17 | T__18 | INT | ID | COMMENT | WS | STR )
+		int alt7=14;
+		switch ( input.LA(1) ) {
+		case '-':
+			{
+			int LA7_1 = input.LA(2);
+			if ( (LA7_1=='-') ) {
+				alt7=1;
+			}
+			else if ( (LA7_1=='>') ) {
+				alt7=2;
+			}
+
+			else {
+				int nvaeMark = input.mark();
+				try {
+					input.consume();
+					NoViableAltException nvae =
+						new NoViableAltException("", 7, 1, input);
+					throw nvae;
+				} finally {
+					input.rewind(nvaeMark);
+				}
+			}
+
+			}
+			break;
+		case ':':
+			{
+			int LA7_2 = input.LA(2);
+			if ( (LA7_2==':') ) {
+				alt7=3;
+			}
+			else if ( (LA7_2=='=') ) {
+				alt7=4;
+			}
+
+			else {
+				int nvaeMark = input.mark();
+				try {
+					input.consume();
+					NoViableAltException nvae =
+						new NoViableAltException("", 7, 2, input);
+					throw nvae;
+				} finally {
+					input.rewind(nvaeMark);
+				}
+			}
+
+			}
+			break;
+		case '<':
+			{
+			alt7=5;
+			}
+			break;
+		case 'f':
+			{
+			int LA7_4 = input.LA(2);
+			if ( (LA7_4=='l') ) {
+				int LA7_17 = input.LA(3);
+				if ( (LA7_17=='o') ) {
+					int LA7_21 = input.LA(4);
+					if ( (LA7_21=='w') ) {
+						int LA7_25 = input.LA(5);
+						if ( ((LA7_25 >= '0' && LA7_25 <= '9')||(LA7_25 >= 'A' && LA7_25 <= 'Z')||LA7_25=='_'||(LA7_25 >= 'a' && LA7_25 <= 'z')) ) {
+							alt7=11;
+						}
+
+						else {
+							alt7=6;
+						}
+
+					}
+
+					else {
+						alt7=11;
+					}
+
+				}
+
+				else {
+					alt7=11;
+				}
+
+			}
+
+			else {
+				alt7=11;
+			}
+
+			}
+			break;
+		case 'l':
+			{
+			int LA7_5 = input.LA(2);
+			if ( (LA7_5=='o') ) {
+				int LA7_18 = input.LA(3);
+				if ( (LA7_18=='c') ) {
+					int LA7_22 = input.LA(4);
+					if ( (LA7_22=='a') ) {
+						int LA7_26 = input.LA(5);
+						if ( (LA7_26=='t') ) {
+							int LA7_30 = input.LA(6);
+							if ( (LA7_30=='i') ) {
+								int LA7_33 = input.LA(7);
+								if ( (LA7_33=='o') ) {
+									int LA7_36 = input.LA(8);
+									if ( (LA7_36=='n') ) {
+										int LA7_38 = input.LA(9);
+										if ( ((LA7_38 >= '0' && LA7_38 <= '9')||(LA7_38 >= 'A' && LA7_38 <= 'Z')||LA7_38=='_'||(LA7_38 >= 'a' && LA7_38 <= 'z')) ) {
+											alt7=11;
+										}
+
+										else {
+											alt7=7;
+										}
+
+									}
+
+									else {
+										alt7=11;
+									}
+
+								}
+
+								else {
+									alt7=11;
+								}
+
+							}
+
+							else {
+								alt7=11;
+							}
+
+						}
+
+						else {
+							alt7=11;
+						}
+
+					}
+
+					else {
+						alt7=11;
+					}
+
+				}
+
+				else {
+					alt7=11;
+				}
+
+			}
+
+			else {
+				alt7=11;
+			}
+
+			}
+			break;
+		case 'p':
+			{
+			int LA7_6 = input.LA(2);
+			if ( (LA7_6=='l') ) {
+				int LA7_19 = input.LA(3);
+				if ( (LA7_19=='a') ) {
+					int LA7_23 = input.LA(4);
+					if ( (LA7_23=='c') ) {
+						int LA7_27 = input.LA(5);
+						if ( (LA7_27=='e') ) {
+							int LA7_31 = input.LA(6);
+							if ( ((LA7_31 >= '0' && LA7_31 <= '9')||(LA7_31 >= 'A' && LA7_31 <= 'Z')||LA7_31=='_'||(LA7_31 >= 'a' && LA7_31 <= 'z')) ) {
+								alt7=11;
+							}
+
+							else {
+								alt7=8;
+							}
+
+						}
+
+						else {
+							alt7=11;
+						}
+
+					}
+
+					else {
+						alt7=11;
+					}
+
+				}
+
+				else {
+					alt7=11;
+				}
+
+			}
+
+			else {
+				alt7=11;
+			}
+
+			}
+			break;
+		case 't':
+			{
+			int LA7_7 = input.LA(2);
+			if ( (LA7_7=='r') ) {
+				int LA7_20 = input.LA(3);
+				if ( (LA7_20=='a') ) {
+					int LA7_24 = input.LA(4);
+					if ( (LA7_24=='n') ) {
+						int LA7_28 = input.LA(5);
+						if ( (LA7_28=='s') ) {
+							int LA7_32 = input.LA(6);
+							if ( (LA7_32=='i') ) {
+								int LA7_35 = input.LA(7);
+								if ( (LA7_35=='t') ) {
+									int LA7_37 = input.LA(8);
+									if ( (LA7_37=='i') ) {
+										int LA7_39 = input.LA(9);
+										if ( (LA7_39=='o') ) {
+											int LA7_41 = input.LA(10);
+											if ( (LA7_41=='n') ) {
+												int LA7_42 = input.LA(11);
+												if ( ((LA7_42 >= '0' && LA7_42 <= '9')||(LA7_42 >= 'A' && LA7_42 <= 'Z')||LA7_42=='_'||(LA7_42 >= 'a' && LA7_42 <= 'z')) ) {
+													alt7=11;
+												}
+
+												else {
+													alt7=9;
+												}
+
+											}
+
+											else {
+												alt7=11;
+											}
+
+										}
+
+										else {
+											alt7=11;
+										}
+
+									}
+
+									else {
+										alt7=11;
+									}
+
+								}
+
+								else {
+									alt7=11;
+								}
+
+							}
+
+							else {
+								alt7=11;
+							}
+
+						}
+
+						else {
+							alt7=11;
+						}
+
+					}
+
+					else {
+						alt7=11;
+					}
+
+				}
+
+				else {
+					alt7=11;
+				}
+
+			}
+
+			else {
+				alt7=11;
+			}
+
+			}
+			break;
+		case '0':
+		case '1':
+		case '2':
+		case '3':
+		case '4':
+		case '5':
+		case '6':
+		case '7':
+		case '8':
+		case '9':
+			{
+			alt7=10;
+			}
+			break;
+		case 'A':
+		case 'B':
+		case 'C':
+		case 'D':
+		case 'E':
+		case 'F':
+		case 'G':
+		case 'H':
+		case 'I':
+		case 'J':
+		case 'K':
+		case 'L':
+		case 'M':
+		case 'N':
+		case 'O':
+		case 'P':
+		case 'Q':
+		case 'R':
+		case 'S':
+		case 'T':
+		case 'U':
+		case 'V':
+		case 'W':
+		case 'X':
+		case 'Y':
+		case 'Z':
+		case '_':
+		case 'a':
+		case 'b':
+		case 'c':
+		case 'd':
+		case 'e':
+		case 'g':
+		case 'h':
+		case 'i':
+		case 'j':
+		case 'k':
+		case 'm':
+		case 'n':
+		case 'o':
+		case 'q':
+		case 'r':
+		case 's':
+		case 'u':
+		case 'v':
+		case 'w':
+		case 'x':
+		case 'y':
+		case 'z':
+			{
+			alt7=11;
+			}
+			break;
+		case '/':
+			{
+			alt7=12;
+			}
+			break;
+		case '\t':
+		case '\n':
+		case '\r':
+		case ' ':
+			{
+			alt7=13;
+			}
+			break;
+		case '\"':
+			{
+			alt7=14;
+			}
+			break;
+		default:
+			NoViableAltException nvae =
+				new NoViableAltException("", 7, 0, input);
+			throw nvae;
+		}
+		switch (alt7) {
+			case 1 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:10: T__10
+				{
+				mT__10(); 
+
+				}
+				break;
+			case 2 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:16: T__11
+				{
+				mT__11(); 
+
+				}
+				break;
+			case 3 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:22: T__12
+				{
+				mT__12(); 
+
+				}
+				break;
+			case 4 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:28: T__13
+				{
+				mT__13(); 
+
+				}
+				break;
+			case 5 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:34: T__14
+				{
+				mT__14(); 
+
+				}
+				break;
+			case 6 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:40: T__15
+				{
+				mT__15(); 
+
+				}
+				break;
+			case 7 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:46: T__16
+				{
+				mT__16(); 
+
+				}
+				break;
+			case 8 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:52: T__17
+				{
+				mT__17(); 
+
+				}
+				break;
+			case 9 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:58: T__18
+				{
+				mT__18(); 
+
+				}
+				break;
+			case 10 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:64: INT
+				{
+				mINT(); 
+
+				}
+				break;
+			case 11 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:68: ID
+				{
+				mID(); 
+
+				}
+				break;
+			case 12 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:71: COMMENT
+				{
+				mCOMMENT(); 
+
+				}
+				break;
+			case 13 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:79: WS
+				{
+				mWS(); 
+
+				}
+				break;
+			case 14 :
+				// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:1:82: STR
+				{
+				mSTR(); 
+
+				}
+				break;
+
+		}
+	}
+
+
+
+}
@@ -0,0 +1,719 @@
+// $ANTLR 3.5.2 /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g 2026-10-16 22:57:27
+
+	package uniol.apt.io.parser.impl.synet;
+
+	import uniol.apt.io.parser.IPNParserOutput;
+	import uniol.apt.io.parser.IParserOutput.Type;
+	import java.util.HashMap;
+	import java.util.Map;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings("all")
+public class SynetPNFormatParser extends Parser {
+	public static final String[] tokenNames = new String[] {
+		"<invalid>", "<EOR>", "<DOWN>", "<UP>", "COMMENT", "ESC_SEQ", "ID", "INT", 
+		"STR", "WS", "'--'", "'->'", "'::'", "':='", "'<-'", "'flow'", "'location'", 
+		"'place'", "'transition'"
+	};
+	public static final int EOF=-1;
+	public static final int T__10=10;
+	public static final int T__11=11;
+	public static final int T__12=12;
+	public static final int T__13=13;
+	public static final int T__14=14;
+	public static final int T__15=15;
+	public static final int T__16=16;
+	public static final int T__17=17;
+	public static final int T__18=18;
+	public static final int COMMENT=4;
+	public static final int ESC_SEQ=5;
+	public static final int ID=6;
+	public static final int INT=7;
+	public static final int STR=8;
+	public static final int WS=9;
+
+	// delegates
+	public Parser[] getDelegates() {
+		return new Parser[] {};
+	}
+
+	// delegators
+
+
+	public SynetPNFormatParser(TokenStream input) {
+		this(input, new RecognizerSharedState());
+	}
+	public SynetPNFormatParser(TokenStream input, RecognizerSharedState state) {
+		super(input, state);
+	}
+
+	@Override public String[] getTokenNames() { return SynetPNFormatParser.tokenNames; }
+	@Override public String getGrammarFileName() { return "/root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g"; }
+
+
+		private IPNParserOutput<?> out;
+		private Map<String, Integer> initMarking = new HashMap<>();
+		private boolean suppressWarnings = false;
+
+		public SynetPNFormatParser(CommonTokenStream cts, IPNParserOutput<?> out) {
+			this(cts);
+			this.out = out;
+		}
+
+		public void suppressWarnings(boolean flag) {
+			suppressWarnings = flag;
+		}
+
+		@Override
+		public void emitErrorMessage(String msg) {
+			if(!suppressWarnings) {
+				System.out.println("[WARNING] Parser: " + msg);
+			}
+		}
+
+
+
+	// $ANTLR start "start"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:81:1: start : statementlist ;
+	public final void start() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:81:12: ( statementlist )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:81:14: statementlist
+			{
+			pushFollow(FOLLOW_statementlist_in_start56);
+			statementlist();
+			state._fsp--;
+
+			out.setType(Type.LPN); out.setInitialMarking(initMarking); 
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "start"
+
+
+
+	// $ANTLR start "statementlist"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:82:1: statementlist : (| statement statementlist );
+	public final void statementlist() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:82:14: (| statement statementlist )
+			int alt1=2;
+			int LA1_0 = input.LA(1);
+			if ( (LA1_0==EOF) ) {
+				alt1=1;
+			}
+			else if ( ((LA1_0 >= 15 && LA1_0 <= 18)) ) {
+				alt1=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 1, 0, input);
+				throw nvae;
+			}
+
+			switch (alt1) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:82:16: 
+					{
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:82:18: statement statementlist
+					{
+					pushFollow(FOLLOW_statement_in_statementlist66);
+					statement();
+					state._fsp--;
+
+					pushFollow(FOLLOW_statementlist_in_statementlist68);
+					statementlist();
+					state._fsp--;
+
+					}
+					break;
+
+			}
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "statementlist"
+
+
+
+	// $ANTLR start "statement"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:83:1: statement : ( location | transition | place | flow );
+	public final void statement() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:83:14: ( location | transition | place | flow )
+			int alt2=4;
+			switch ( input.LA(1) ) {
+			case 16:
+				{
+				alt2=1;
+				}
+				break;
+			case 18:
+				{
+				alt2=2;
+				}
+				break;
+			case 17:
+				{
+				alt2=3;
+				}
+				break;
+			case 15:
+				{
+				alt2=4;
+				}
+				break;
+			default:
+				NoViableAltException nvae =
+					new NoViableAltException("", 2, 0, input);
+				throw nvae;
+			}
+			switch (alt2) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:83:16: location
+					{
+					pushFollow(FOLLOW_location_in_statement78);
+					location();
+					state._fsp--;
+
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:83:27: transition
+					{
+					pushFollow(FOLLOW_transition_in_statement82);
+					transition();
+					state._fsp--;
+
+					}
+					break;
+				case 3 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:83:40: place
+					{
+					pushFollow(FOLLOW_place_in_statement86);
+					place();
+					state._fsp--;
+
+					}
+					break;
+				case 4 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:83:48: flow
+					{
+					pushFollow(FOLLOW_flow_in_statement90);
+					flow();
+					state._fsp--;
+
+					}
+					break;
+
+			}
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "statement"
+
+
+
+	// $ANTLR start "location"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:84:1: location : 'location' locationid ;
+	public final void location() throws RecognitionException {
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:84:14: ( 'location' locationid )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:84:16: 'location' locationid
+			{
+			match(input,16,FOLLOW_16_in_location102); 
+			pushFollow(FOLLOW_locationid_in_location104);
+			locationid();
+			state._fsp--;
+
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "location"
+
+
+
+	// $ANTLR start "transition"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:85:1: transition : 'transition' eventid ( '::' locationid )? ;
+	public final void transition() throws RecognitionException {
+		ParserRuleReturnScope locationid1 =null;
+		ParserRuleReturnScope eventid2 =null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:85:14: ( 'transition' eventid ( '::' locationid )? )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:85:16: 'transition' eventid ( '::' locationid )?
+			{
+			match(input,18,FOLLOW_18_in_transition113); 
+			pushFollow(FOLLOW_eventid_in_transition115);
+			eventid2=eventid();
+			state._fsp--;
+
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:85:37: ( '::' locationid )?
+			int alt3=2;
+			int LA3_0 = input.LA(1);
+			if ( (LA3_0==12) ) {
+				alt3=1;
+			}
+			switch (alt3) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:85:38: '::' locationid
+					{
+					match(input,12,FOLLOW_12_in_transition118); 
+					pushFollow(FOLLOW_locationid_in_transition120);
+					locationid1=locationid();
+					state._fsp--;
+
+					}
+					break;
+
+			}
+
+
+						 Map<String, Object> op = new HashMap<>();
+						 if((locationid1!=null?input.toString(locationid1.start,locationid1.stop):null)!=null) { op.put("location",(locationid1!=null?input.toString(locationid1.start,locationid1.stop):null));}
+			                         out.addTransition((eventid2!=null?input.toString(eventid2.start,eventid2.stop):null),op,input);
+						
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "transition"
+
+
+
+	// $ANTLR start "place"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:91:1: place : 'place' placeid ( ':=' INT )? ( '::' locationid )? ;
+	public final void place() throws RecognitionException {
+		Token INT4=null;
+		ParserRuleReturnScope placeid3 =null;
+		ParserRuleReturnScope locationid5 =null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:91:14: ( 'place' placeid ( ':=' INT )? ( '::' locationid )? )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:91:16: 'place' placeid ( ':=' INT )? ( '::' locationid )?
+			{
+			match(input,17,FOLLOW_17_in_place156); 
+			pushFollow(FOLLOW_placeid_in_place158);
+			placeid3=placeid();
+			state._fsp--;
+
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:91:32: ( ':=' INT )?
+			int alt4=2;
+			int LA4_0 = input.LA(1);
+			if ( (LA4_0==13) ) {
+				alt4=1;
+			}
+			switch (alt4) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:91:33: ':=' INT
+					{
+					match(input,13,FOLLOW_13_in_place161); 
+					INT4=(Token)match(input,INT,FOLLOW_INT_in_place163); 
+					initMarking.put((placeid3!=null?input.toString(placeid3.start,placeid3.stop):null),Integer.parseInt((INT4!=null?INT4.getText():null)));
+					}
+					break;
+
+			}
+
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:92:4: ( '::' locationid )?
+			int alt5=2;
+			int LA5_0 = input.LA(1);
+			if ( (LA5_0==12) ) {
+				alt5=1;
+			}
+			switch (alt5) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:92:5: '::' locationid
+					{
+					match(input,12,FOLLOW_12_in_place173); 
+					pushFollow(FOLLOW_locationid_in_place175);
+					locationid5=locationid();
+					state._fsp--;
+
+					}
+					break;
+
+			}
+
+
+						Map<String, Object> op = new HashMap<>();
+						if((locationid5!=null?input.toString(locationid5.start,locationid5.stop):null)!=null) { op.put("location",(locationid5!=null?input.toString(locationid5.start,locationid5.stop):null));}
+						out.addPlace((placeid3!=null?input.toString(placeid3.start,placeid3.stop):null),op,input);
+						
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "place"
+
+
+
+	// $ANTLR start "flow"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:98:1: flow : ( 'flow' placeid '--' ( INT )? '->' eventid | 'flow' placeid '<-' ( INT )? '--' eventid );
+	public final void flow() throws RecognitionException {
+		Token INT8=null;
+		Token INT11=null;
+		ParserRuleReturnScope placeid6 =null;
+		ParserRuleReturnScope eventid7 =null;
+		ParserRuleReturnScope eventid9 =null;
+		ParserRuleReturnScope placeid10 =null;
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:98:14: ( 'flow' placeid '--' ( INT )? '->' eventid | 'flow' placeid '<-' ( INT )? '--' eventid )
+			int alt8=2;
+			int LA8_0 = input.LA(1);
+			if ( (LA8_0==15) ) {
+				int LA8_1 = input.LA(2);
+				if ( ((LA8_1 >= ID && LA8_1 <= STR)) ) {
+					int LA8_2 = input.LA(3);
+					if ( (LA8_2==10) ) {
+						alt8=1;
+					}
+					else if ( (LA8_2==14) ) {
+						alt8=2;
+					}
+
+					else {
+						int nvaeMark = input.mark();
+						try {
+							for (int nvaeConsume = 0; nvaeConsume < 3 - 1; nvaeConsume++) {
+								input.consume();
+							}
+							NoViableAltException nvae =
+								new NoViableAltException("", 8, 2, input);
+							throw nvae;
+						} finally {
+							input.rewind(nvaeMark);
+						}
+					}
+
+				}
+
+				else {
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 8, 1, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 8, 0, input);
+				throw nvae;
+			}
+
+			switch (alt8) {
+				case 1 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:98:16: 'flow' placeid '--' ( INT )? '->' eventid
+					{
+					match(input,15,FOLLOW_15_in_flow213); 
+					pushFollow(FOLLOW_placeid_in_flow215);
+					placeid6=placeid();
+					state._fsp--;
+
+					match(input,10,FOLLOW_10_in_flow217); 
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:98:36: ( INT )?
+					int alt6=2;
+					int LA6_0 = input.LA(1);
+					if ( (LA6_0==INT) ) {
+						alt6=1;
+					}
+					switch (alt6) {
+						case 1 :
+							// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:98:38: INT
+							{
+							INT8=(Token)match(input,INT,FOLLOW_INT_in_flow221); 
+							}
+							break;
+
+					}
+
+					match(input,11,FOLLOW_11_in_flow226); 
+					pushFollow(FOLLOW_eventid_in_flow228);
+					eventid7=eventid();
+					state._fsp--;
+
+
+								out.addFlow((placeid6!=null?input.toString(placeid6.start,placeid6.stop):null), (eventid7!=null?input.toString(eventid7.start,eventid7.stop):null), ((INT8!=null?INT8.getText():null) != null)? Integer.parseInt((INT8!=null?INT8.getText():null)):1);
+								 
+					}
+					break;
+				case 2 :
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:102:19: 'flow' placeid '<-' ( INT )? '--' eventid
+					{
+					match(input,15,FOLLOW_15_in_flow270); 
+					pushFollow(FOLLOW_placeid_in_flow272);
+					placeid10=placeid();
+					state._fsp--;
+
+					match(input,14,FOLLOW_14_in_flow274); 
+					// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:102:39: ( INT )?
+					int alt7=2;
+					int LA7_0 = input.LA(1);
+					if ( (LA7_0==INT) ) {
+						alt7=1;
+					}
+					switch (alt7) {
+						case 1 :
+							// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:102:41: INT
+							{
+							INT11=(Token)match(input,INT,FOLLOW_INT_in_flow278); 
+							}
+							break;
+
+					}
+
+					match(input,10,FOLLOW_10_in_flow283); 
+					pushFollow(FOLLOW_eventid_in_flow285);
+					eventid9=eventid();
+					state._fsp--;
+
+
+								out.addFlow((eventid9!=null?input.toString(eventid9.start,eventid9.stop):null), (placeid10!=null?input.toString(placeid10.start,placeid10.stop):null), ((INT11!=null?INT11.getText():null) != null)? Integer.parseInt((INT11!=null?INT11.getText():null)):1);
+								 
+					}
+					break;
+
+			}
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "flow"
+
+
+	public static class eventid_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "eventid"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:107:1: eventid : ( INT | STR | ID );
+	public final SynetPNFormatParser.eventid_return eventid() throws RecognitionException {
+		SynetPNFormatParser.eventid_return retval = new SynetPNFormatParser.eventid_return();
+		retval.start = input.LT(1);
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:107:14: ( INT | STR | ID )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:
+			{
+			if ( (input.LA(1) >= ID && input.LA(1) <= STR) ) {
+				input.consume();
+				state.errorRecovery=false;
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				throw mse;
+			}
+			}
+
+			retval.stop = input.LT(-1);
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "eventid"
+
+
+	public static class locationid_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "locationid"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:108:1: locationid : ( INT | STR | ID );
+	public final SynetPNFormatParser.locationid_return locationid() throws RecognitionException {
+		SynetPNFormatParser.locationid_return retval = new SynetPNFormatParser.locationid_return();
+		retval.start = input.LT(1);
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:108:14: ( INT | STR | ID )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:
+			{
+			if ( (input.LA(1) >= ID && input.LA(1) <= STR) ) {
+				input.consume();
+				state.errorRecovery=false;
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				throw mse;
+			}
+			}
+
+			retval.stop = input.LT(-1);
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "locationid"
+
+
+	public static class placeid_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "placeid"
+	// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:109:1: placeid : ( INT | STR | ID );
+	public final SynetPNFormatParser.placeid_return placeid() throws RecognitionException {
+		SynetPNFormatParser.placeid_return retval = new SynetPNFormatParser.placeid_return();
+		retval.start = input.LT(1);
+
+		try {
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:109:14: ( INT | STR | ID )
+			// /root/project/src/uniol/apt/io/parser/impl/synet/SynetPNFormat.g:
+			{
+			if ( (input.LA(1) >= ID && input.LA(1) <= STR) ) {
+				input.consume();
+				state.errorRecovery=false;
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				throw mse;
+			}
+			}
+
+			retval.stop = input.LT(-1);
+
+		}
+
+			catch (RecognitionException re) {
+				recover(input,re);
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return retval;
+	}
+	// $ANTLR end "placeid"
+
+	// Delegated rules
+
+
+
+	public static final BitSet FOLLOW_statementlist_in_start56 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_statement_in_statementlist66 = new BitSet(new long[]{0x0000000000078000L});
+	public static final BitSet FOLLOW_statementlist_in_statementlist68 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_location_in_statement78 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_transition_in_statement82 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_place_in_statement86 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_flow_in_statement90 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_16_in_location102 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_locationid_in_location104 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_18_in_transition113 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_eventid_in_transition115 = new BitSet(new long[]{0x0000000000001002L});
+	public static final BitSet FOLLOW_12_in_transition118 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_locationid_in_transition120 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_17_in_place156 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_placeid_in_place158 = new BitSet(new long[]{0x0000000000003002L});
+	public static final BitSet FOLLOW_13_in_place161 = new BitSet(new long[]{0x0000000000000080L});
+	public static final BitSet FOLLOW_INT_in_place163 = new BitSet(new long[]{0x0000000000001002L});
+	public static final BitSet FOLLOW_12_in_place173 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_locationid_in_place175 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_15_in_flow213 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_placeid_in_flow215 = new BitSet(new long[]{0x0000000000000400L});
+	public static final BitSet FOLLOW_10_in_flow217 = new BitSet(new long[]{0x0000000000000880L});
+	public static final BitSet FOLLOW_INT_in_flow221 = new BitSet(new long[]{0x0000000000000800L});
+	public static final BitSet FOLLOW_11_in_flow226 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_eventid_in_flow228 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_15_in_flow270 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_placeid_in_flow272 = new BitSet(new long[]{0x0000000000004000L});
+	public static final BitSet FOLLOW_14_in_flow274 = new BitSet(new long[]{0x0000000000000480L});
+	public static final BitSet FOLLOW_INT_in_flow278 = new BitSet(new long[]{0x0000000000000400L});
+	public static final BitSet FOLLOW_10_in_flow283 = new BitSet(new long[]{0x00000000000001C0L});
+	public static final BitSet FOLLOW_eventid_in_flow285 = new BitSet(new long[]{0x0000000000000002L});
+}
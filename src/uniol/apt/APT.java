@@ -24,6 +24,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintStream;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -70,6 +71,7 @@ import uniol.apt.analysis.connectivity.WeakComponentsModule;
 import uniol.apt.analysis.connectivity.WeakConnectivityModule;
 import uniol.apt.analysis.conpres.ConcurrencyPreservingModule;
 import uniol.apt.analysis.coverability.CoverabilityModule;
+import uniol.apt.analysis.coverability.MinimalCoverabilitySetModule;
 import uniol.apt.analysis.coverability.ReachabilityModule;
 import uniol.apt.analysis.cycles.CheckAllCyclePropertiesModule;
 import uniol.apt.analysis.cycles.lts.CycleCounterExample;
@@ -91,6 +93,7 @@ import uniol.apt.analysis.language.ToRegularExpressionModule;
 import uniol.apt.analysis.language.Word;
 import uniol.apt.analysis.language.WordInLanguageModule;
 import uniol.apt.analysis.language.WordList;
+import uniol.apt.analysis.live.DeadlockFreeModule;
 import uniol.apt.analysis.live.SimplyLiveModule;
 import uniol.apt.analysis.live.StronglyLiveModule;
 import uniol.apt.analysis.live.WeaklyLiveModule;
@@ -114,6 +117,7 @@ import uniol.apt.analysis.sideconditions.PureModule;
 import uniol.apt.analysis.sideconditions.SideConditions;
 import uniol.apt.analysis.snet.SNetModule;
 import uniol.apt.analysis.snet.SNetResult;
+import uniol.apt.analysis.symbolic.SymbolicReachabilityModule;
 import uniol.apt.analysis.synet.SynthesizeDistributedLTSModule;
 import uniol.apt.analysis.synthesize.FindWordsModule;
 import uniol.apt.analysis.synthesize.LimitedUnfoldingModule;
@@ -226,6 +230,7 @@ public class APT {
 		new CycleNetGeneratorModule(),
 		new CyclesHaveSameOrMutallyDisjointPVModule(),
 		new CyclesHaveSamePVModule(),
+		new DeadlockFreeModule(),
 		new DeterministicModule(),
 		new DrawModule(),
 		new ExamineLTSModule(),
@@ -248,6 +253,7 @@ public class APT {
 		new LimitedUnfoldingModule(),
 		new LoLARendererModule(),
 		new MatrixModule(),
+		new MinimalCoverabilitySetModule(),
 		new NonPureModule(),
 		new OutputNonBranchingModule(),
 		new PNML2AptModule(),
@@ -273,6 +279,7 @@ public class APT {
 		new StrongSeparationLengthModule(),
 		new StrongSeparationModule(),
 		new StronglyLiveModule(),
+		new SymbolicReachabilityModule(),
 		new Synet2AptModule(),
 		new SynthesizeDistributedLTSModule(),
 		new SynthesizeModule(),
@@ -362,6 +369,8 @@ public class APT {
 	 */
 	@SuppressWarnings("unchecked")
 	public static void addReturnValuesTransformations() {
+		returnValuesTransformer.addTransformation(BigInteger.class,
+				new ToStringReturnValueTransformation<BigInteger>());
 		returnValuesTransformer.addTransformation(Boolean.class, new BooleanReturnValueTransformation());
 		returnValuesTransformer.addTransformation(Component.class,
 				new INodeCollectionReturnValueTransformation<Component>());
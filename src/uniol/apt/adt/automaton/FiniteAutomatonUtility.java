@@ -19,7 +19,9 @@
 
 package uniol.apt.adt.automaton;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
@@ -35,9 +37,6 @@ import java.util.Set;
 
 import uniol.apt.adt.ts.Arc;
 import uniol.apt.adt.ts.TransitionSystem;
-import uniol.apt.util.EquivalenceRelation;
-import uniol.apt.util.IEquivalenceRelation;
-import uniol.apt.util.Pair;
 
 /**
  * Utility functions for constructing and working with {@link FiniteAutomaton} instances.
@@ -349,10 +348,14 @@ public class FiniteAutomatonUtility {
 	}
 
 	/**
-	 * Find a word that is only accepted by one of the automatons.
+	 * Find a word that is only accepted by one of the automatons. Both automatons are determinised lazily and
+	 * explored in breadth first order together. Pairs of states which are already known to be equivalent because
+	 * of the pairs visited so far are skipped. This is the algorithm of Hopcroft and Karp with a union-find data
+	 * structure. The search stops at the first pair of states that differ.
 	 * @param a1 The first automaton to test with
 	 * @param a2 The second automaton to test with
-	 * @return A word that is only accepted by one of the automatons
+	 * @return A shortest word that is only accepted by one of the automatons or null if the automatons are
+	 * language equivalent.
 	 */
 	static public List<String> findWordDifference(FiniteAutomaton a1, FiniteAutomaton a2) {
 		DeterministicFiniteAutomaton dfa1 = constructDFA(a1);
@@ -360,44 +363,110 @@ public class FiniteAutomatonUtility {
 
 		Set<Symbol> alphabet = new HashSet<>(dfa1.getAlphabet());
 		alphabet.addAll(dfa2.getAlphabet());
-		// We are looking for words that dfa1 accepts and dfa2 does not accept or that dfa1 does not accept and
-		// dfa2 accepts. This can be expressed as an automaton which accepts the empty language iff the two
-		// input automaton are language equivalent
-		DeterministicFiniteAutomaton notDfa1 = negate(dfa1, alphabet);
-		DeterministicFiniteAutomaton notDfa2 = negate(dfa2, alphabet);
-		DeterministicFiniteAutomaton dfa = union(intersection(dfa1, notDfa2), intersection(notDfa1, dfa2));
-		return findAcceptedWord(minimize(dfa));
+		return new EquivalenceChecker(dfa1, dfa2, alphabet).findWordDifference();
 	}
 
-	// Find a word that the given automaton accepts
-	static private List<String> findAcceptedWord(DeterministicFiniteAutomaton dfa) {
-		Set<DFAState> statesSeen = new HashSet<>();
-		LinkedList<String> word = new LinkedList<>();
-		Deque<Pair<DFAState, Iterator<Symbol>>> trace = new LinkedList<>();
-		DFAState initial = dfa.getInitialState();
-		trace.add(new Pair<>(initial, initial.getDefinedSymbols().iterator()));
-
-		while (!trace.isEmpty()) {
-			Pair<DFAState, Iterator<Symbol>> pair = trace.peekLast();
-			if (!pair.getSecond().hasNext()) {
-				trace.removeLast();
-				word.pollLast();
-			} else {
-				Symbol symbol = pair.getSecond().next();
-				DFAState nextState = pair.getFirst().getFollowingState(symbol);
-
-				// Only follow this state if we haven't followed it yet before
-				if (statesSeen.add(nextState)) {
-					trace.add(new Pair<>(nextState, nextState.getDefinedSymbols().iterator()));
-					word.add(symbol.getEvent());
-
-					if (nextState.isFinalState())
-						return word;
+	// Implementation of the Hopcroft-Karp equivalence check used by findWordDifference(). The states of both
+	// automatons are numbered separately so that the union-find structure can work on int arrays. The missing
+	// target of an undefined transition is represented by null, which is a non-final state without transitions.
+	static private class EquivalenceChecker {
+		private final List<Symbol> alphabet;
+		private final List<Map<DFAState, Integer>> indices = new ArrayList<>();
+		private final List<DFAState> states = new ArrayList<>();
+		private int[] parent = new int[16];
+
+		// The pairs of states that were visited. Each entry is saved as four consecutive values: The index of
+		// the first state, the index of the second state, the entry from which it was reached and the index
+		// of the symbol with which it was reached.
+		private int[] pairs = new int[4 * 16];
+		private int numPairs = 0;
+
+		EquivalenceChecker(DeterministicFiniteAutomaton dfa1, DeterministicFiniteAutomaton dfa2,
+				Set<Symbol> alphabet) {
+			this.alphabet = new ArrayList<>(alphabet);
+			indices.add(new HashMap<DFAState, Integer>());
+			indices.add(new HashMap<DFAState, Integer>());
+
+			int first = getIndex(0, dfa1.getInitialState());
+			int second = getIndex(1, dfa2.getInitialState());
+			union(first, second);
+			addPair(first, second, -1, -1);
+		}
+
+		private int getIndex(int automaton, DFAState state) {
+			Map<DFAState, Integer> map = indices.get(automaton);
+			Integer index = map.get(state);
+			if (index != null)
+				return index;
+
+			index = states.size();
+			states.add(state);
+			map.put(state, index);
+			if (index == parent.length)
+				parent = Arrays.copyOf(parent, 2 * index);
+			parent[index] = index;
+			return index;
+		}
+
+		private int find(int index) {
+			while (parent[index] != index) {
+				parent[index] = parent[parent[index]];
+				index = parent[index];
+			}
+			return index;
+		}
+
+		private void union(int first, int second) {
+			parent[find(first)] = find(second);
+		}
+
+		private void addPair(int first, int second, int from, int symbol) {
+			if (4 * numPairs == pairs.length)
+				pairs = Arrays.copyOf(pairs, 2 * pairs.length);
+			pairs[4 * numPairs] = first;
+			pairs[4 * numPairs + 1] = second;
+			pairs[4 * numPairs + 2] = from;
+			pairs[4 * numPairs + 3] = symbol;
+			numPairs++;
+		}
+
+		static private boolean isFinalState(DFAState state) {
+			return state != null && state.isFinalState();
+		}
+
+		static private DFAState getFollowingState(DFAState state, Symbol symbol) {
+			if (state == null)
+				return null;
+			return state.getFollowingState(symbol);
+		}
+
+		List<String> findWordDifference() {
+			for (int pair = 0; pair < numPairs; pair++) {
+				DFAState first = states.get(pairs[4 * pair]);
+				DFAState second = states.get(pairs[4 * pair + 1]);
+				if (isFinalState(first) != isFinalState(second))
+					return getWord(pair);
+
+				for (int symbol = 0; symbol < alphabet.size(); symbol++) {
+					int nextFirst = getIndex(0, getFollowingState(first, alphabet.get(symbol)));
+					int nextSecond = getIndex(1, getFollowingState(second, alphabet.get(symbol)));
+					if (find(nextFirst) != find(nextSecond)) {
+						union(nextFirst, nextSecond);
+						addPair(nextFirst, nextSecond, pair, symbol);
+					}
 				}
 			}
+			return null;
 		}
 
-		return null;
+		private List<String> getWord(int pair) {
+			LinkedList<String> word = new LinkedList<>();
+			while (pairs[4 * pair + 2] >= 0) {
+				word.addFirst(alphabet.get(pairs[4 * pair + 3]).getEvent());
+				pair = pairs[4 * pair + 2];
+			}
+			return word;
+		}
 	}
 
 	/**
@@ -790,39 +859,120 @@ public class FiniteAutomatonUtility {
 		}
 	}
 
-	// Implementation of the power set construction used by constructDFA().
+	// Implementation of the power set construction used by constructDFA(). The states of the NFA are numbered and
+	// sets of them are saved as bitsets. Epsilon closures of single states and the transitions of the DFA are only
+	// computed once when they are first needed.
 	static private class PowerSetConstruction implements DeterministicFiniteAutomaton {
 		private final Set<Symbol> alphabet;
+		private final Map<Symbol, Integer> symbolIndices = new HashMap<>();
+		private final List<State> nfaStates = new ArrayList<>();
+		private final int[] nfaHashCodes;
+		private final boolean[] nfaFinalStates;
+		// successors[state][symbol] are the indices of the states reached from state by symbol
+		private final int[][][] successors;
+		// The indices of the states in the epsilon closure of each state or null if not yet computed
+		private final int[][] closures;
 		private final DFAState initialState;
 
-		// Speed up PowerSetState.equals() by having a canonical version of each state so that this == o hits.
-		private final Map<Set<State>, PowerSetState> stateIdentityCache = new HashMap<>();
-
-		private PowerSetState getState(Set<State> states) {
-			PowerSetState canonical = stateIdentityCache.get(states);
-			if (canonical != null)
-				return canonical;
-
-			PowerSetState result = new PowerSetState(states);
-			canonical = stateIdentityCache.get(result.states);
-			if (canonical != null)
-				result = canonical;
-
-			stateIdentityCache.put(states, result);
-			stateIdentityCache.put(result.states, result);
-			return result;
-		}
+		// Each set of states is represented by a single PowerSetState, so PowerSetState.equals() can compare
+		// references.
+		private final Map<StateSet, PowerSetState> stateIdentityCache = new HashMap<>();
 
 		PowerSetConstruction(FiniteAutomaton a) {
-			// Calculate some alphabet
+			// Calculate some alphabet and number all states
 			Set<Symbol> alphabet = new HashSet<>();
-			for (State state : statesIterable(a))
+			Map<State, Integer> stateIndices = new HashMap<>();
+			for (State state : statesIterable(a)) {
 				alphabet.addAll(state.getDefinedSymbols());
+				stateIndices.put(state, nfaStates.size());
+				nfaStates.add(state);
+			}
 			assert !alphabet.contains(Symbol.EPSILON);
 
-			// Remember the alphabet for later and construct an initial state
+			// Remember the alphabet for later
 			this.alphabet = Collections.unmodifiableSet(alphabet);
-			this.initialState = getState(Collections.singleton(a.getInitialState()));
+			List<Symbol> symbols = new ArrayList<>(alphabet);
+			symbols.add(Symbol.EPSILON);
+			for (Symbol symbol : symbols)
+				symbolIndices.put(symbol, symbolIndices.size());
+
+			int numStates = nfaStates.size();
+			nfaHashCodes = new int[numStates];
+			nfaFinalStates = new boolean[numStates];
+			successors = new int[numStates][][];
+			closures = new int[numStates][];
+			for (int i = 0; i < numStates; i++) {
+				State state = nfaStates.get(i);
+				nfaHashCodes[i] = state.hashCode();
+				nfaFinalStates[i] = state.isFinalState();
+				successors[i] = new int[symbols.size()][];
+				for (int c = 0; c < symbols.size(); c++) {
+					Set<State> following = state.getFollowingStates(symbols.get(c));
+					int[] indices = new int[following.size()];
+					int j = 0;
+					for (State next : following)
+						indices[j++] = stateIndices.get(next);
+					successors[i][c] = indices;
+				}
+			}
+
+			// Construct an initial state
+			long[] initial = new long[(numStates + 63) / 64];
+			addClosure(initial, stateIndices.get(a.getInitialState()));
+			this.initialState = getState(initial);
+		}
+
+		// Add the epsilon closure of the given state to a bitset
+		private void addClosure(long[] bits, int state) {
+			int[] closure = closures[state];
+			if (closure == null) {
+				closure = computeClosure(state);
+				closures[state] = closure;
+			}
+			for (int index : closure)
+				bits[index / 64] |= 1L << (index % 64);
+		}
+
+		private int[] computeClosure(int state) {
+			int epsilon = symbolIndices.get(Symbol.EPSILON);
+			long[] seen = new long[(nfaStates.size() + 63) / 64];
+			int[] result = new int[8];
+			int size = 0;
+			seen[state / 64] |= 1L << (state % 64);
+			result[size++] = state;
+			for (int i = 0; i < size; i++) {
+				for (int next : successors[result[i]][epsilon]) {
+					long bit = 1L << (next % 64);
+					if ((seen[next / 64] & bit) != 0)
+						continue;
+					seen[next / 64] |= bit;
+					if (size == result.length)
+						result = Arrays.copyOf(result, 2 * size);
+					result[size++] = next;
+				}
+			}
+			return Arrays.copyOf(result, size);
+		}
+
+		private PowerSetState getState(long[] bits) {
+			// Drop trailing zeros so that the bitsets of sets of states are as short as possible
+			int length = bits.length;
+			while (length > 0 && bits[length - 1] == 0)
+				length--;
+			long[] words = length == bits.length ? bits : Arrays.copyOf(bits, length);
+
+			int hashCode = 0;
+			for (int i = 0; i < words.length; i++)
+				for (long word = words[i]; word != 0; word &= word - 1)
+					hashCode += nfaHashCodes[64 * i + Long.numberOfTrailingZeros(word)];
+
+			StateSet set = new StateSet(words, hashCode);
+			PowerSetState result = stateIdentityCache.get(set);
+			if (result == null) {
+				result = new PowerSetState(set);
+				stateIdentityCache.put(set, result);
+			}
+			return result;
 		}
 
 		@Override
@@ -835,14 +985,45 @@ public class FiniteAutomatonUtility {
 			return initialState;
 		}
 
-		private class PowerSetState extends DFAState {
-			private final Set<State> states;
+		// A set of states of the NFA as a bitset. The hash code equals that of the corresponding Set<State>.
+		static private class StateSet {
+			private final long[] words;
 			private final int hashCode;
-			private final Map<Symbol, DFAState> transitions = new HashMap<>();
 
-			private PowerSetState(Set<State> states) {
-				this.states = followEpsilons(states);
-				this.hashCode = states.hashCode();
+			private StateSet(long[] words, int hashCode) {
+				this.words = words;
+				this.hashCode = hashCode;
+			}
+
+			@Override
+			public int hashCode() {
+				return hashCode;
+			}
+
+			@Override
+			public boolean equals(Object o) {
+				if (!(o instanceof StateSet))
+					return false;
+				StateSet other = (StateSet) o;
+				return hashCode == other.hashCode && Arrays.equals(words, other.words);
+			}
+		}
+
+		private class PowerSetState extends DFAState {
+			private final StateSet states;
+			private final boolean isFinalState;
+			private final DFAState[] transitions;
+
+			private PowerSetState(StateSet states) {
+				this.states = states;
+				this.transitions = new DFAState[symbolIndices.size()];
+
+				boolean isFinal = false;
+				for (int i = 0; i < states.words.length && !isFinal; i++)
+					for (long word = states.words[i]; word != 0; word &= word - 1)
+						if (nfaFinalStates[64 * i + Long.numberOfTrailingZeros(word)])
+							isFinal = true;
+				this.isFinalState = isFinal;
 			}
 
 			@Override
@@ -852,10 +1033,7 @@ public class FiniteAutomatonUtility {
 
 			@Override
 			public boolean isFinalState() {
-				for (State state : states)
-					if (state.isFinalState())
-						return true;
-				return false;
+				return isFinalState;
 			}
 
 			@Override
@@ -863,47 +1041,114 @@ public class FiniteAutomatonUtility {
 				if (!getAlphabet().contains(atom))
 					return null;
 
-				DFAState result = transitions.get(atom);
+				int symbol = symbolIndices.get(atom);
+				DFAState result = transitions[symbol];
 				if (result != null)
 					return result;
 
-				Set<State> newStates = new HashSet<>();
-				for (State state : states)
-					newStates.addAll(state.getFollowingStates(atom));
+				long[] bits = new long[(nfaStates.size() + 63) / 64];
+				long[] words = states.words;
+				for (int i = 0; i < words.length; i++)
+					for (long word = words[i]; word != 0; word &= word - 1) {
+						int state = 64 * i + Long.numberOfTrailingZeros(word);
+						for (int next : successors[state][symbol])
+							if ((bits[next / 64] & (1L << (next % 64))) == 0)
+								addClosure(bits, next);
+					}
 
-				result = getState(newStates);
-				transitions.put(atom, result);
+				result = getState(bits);
+				transitions[symbol] = result;
+				return result;
+			}
+
+			private PowerSetConstruction getConstruction() {
+				return PowerSetConstruction.this;
+			}
+
+			private Set<State> getStates() {
+				Set<State> result = new HashSet<>();
+				for (int i = 0; i < states.words.length; i++)
+					for (long word = states.words[i]; word != 0; word &= word - 1)
+						result.add(nfaStates.get(64 * i + Long.numberOfTrailingZeros(word)));
 				return result;
 			}
 
 			@Override
 			public int hashCode() {
-				return hashCode;
+				return states.hashCode();
 			}
 
 			@Override
 			public boolean equals(Object o) {
+				if (this == o)
+					return true;
 				if (!(o instanceof PowerSetState))
 					return false;
 				PowerSetState other = (PowerSetState) o;
-				return states.equals(other.states);
+				// Within one construction, each set of states has exactly one PowerSetState
+				if (getConstruction() == other.getConstruction())
+					return false;
+				return hashCode() == other.hashCode() && getStates().equals(other.getStates());
 			}
 		}
 	}
 
-	// Implementation of the table filing algorithm used by minimize().
+	// Implementation of Hopcroft's partition refinement algorithm used by minimize(). The states of the input
+	// automaton are numbered and all transitions are saved in int arrays.
 	static private class MinimalDeterministicFiniteAutomaton implements DeterministicFiniteAutomaton {
 		private final Set<Symbol> alphabet;
+		private final Map<Symbol, Integer> symbolIndices = new HashMap<>();
 		private final MinimalState[] states;
 
 		public MinimalDeterministicFiniteAutomaton(FiniteAutomaton a) {
 			DeterministicFiniteAutomaton dfa = constructDFA(a);
 			this.alphabet = Collections.unmodifiableSet(dfa.getAlphabet());
-
-			// Calculate equivalent states via the table filling algorithm
-			EquivalenceRelation<DFAState> partition = getInitialPartitionForMinimize(dfa);
-			partition = refinePartition(partition, alphabet);
-			this.states = constructStates(partition, dfa.getInitialState());
+			List<Symbol> symbols = new ArrayList<>(alphabet);
+			for (Symbol symbol : symbols)
+				symbolIndices.put(symbol, symbolIndices.size());
+			int numSymbols = symbols.size();
+
+			// Number the states in breadth first order. A missing transition goes to an additional sink
+			// state which gets the last index.
+			Map<DFAState, Integer> stateIndices = new HashMap<>();
+			List<DFAState> dfaStates = new ArrayList<>();
+			stateIndices.put(dfa.getInitialState(), 0);
+			dfaStates.add(dfa.getInitialState());
+			List<Integer> transitionList = new ArrayList<>();
+			boolean needSink = false;
+			for (int i = 0; i < dfaStates.size(); i++) {
+				DFAState state = dfaStates.get(i);
+				for (Symbol symbol : symbols) {
+					DFAState next = state.getFollowingState(symbol);
+					if (next == null) {
+						needSink = true;
+						transitionList.add(-1);
+						continue;
+					}
+					Integer index = stateIndices.get(next);
+					if (index == null) {
+						index = dfaStates.size();
+						stateIndices.put(next, index);
+						dfaStates.add(next);
+					}
+					transitionList.add(index);
+				}
+			}
+			int numStates = dfaStates.size() + (needSink ? 1 : 0);
+			int sink = dfaStates.size();
+			int[] transitions = new int[numStates * numSymbols];
+			for (int i = 0; i < transitionList.size(); i++) {
+				int target = transitionList.get(i);
+				transitions[i] = target < 0 ? sink : target;
+			}
+			for (int i = transitionList.size(); i < transitions.length; i++)
+				transitions[i] = sink;
+			boolean[] finalStates = new boolean[numStates];
+			for (int i = 0; i < dfaStates.size(); i++)
+				finalStates[i] = dfaStates.get(i).isFinalState();
+
+			int[] blockOf = new Hopcroft(numStates, numSymbols, transitions, finalStates).refine();
+			this.states = constructStates(numStates, numSymbols, transitions, finalStates, blockOf);
 		}
 
 		@Override
@@ -918,10 +1163,10 @@ public class FiniteAutomatonUtility {
 
 		static private class MinimalState extends DFAState {
 			private final MinimalDeterministicFiniteAutomaton automaton;
-			private final Map<Symbol, Integer> postset;
+			private final int[] postset;
 			private final boolean isFinalState;
 
-			public MinimalState(MinimalDeterministicFiniteAutomaton automaton, Map<Symbol, Integer> postset,
+			public MinimalState(MinimalDeterministicFiniteAutomaton automaton, int[] postset,
 					boolean isFinalState) {
 				this.automaton = automaton;
 				this.isFinalState = isFinalState;
@@ -940,91 +1185,196 @@ public class FiniteAutomatonUtility {
 
 			@Override
 			public DFAState getFollowingState(Symbol atom) {
-				if (!automaton.getAlphabet().contains(atom))
+				Integer index = automaton.symbolIndices.get(atom);
+				if (index == null)
 					return null;
-				return automaton.states[postset.get(atom)];
+				return automaton.states[postset[index]];
 			}
 		}
 
-		static private EquivalenceRelation<DFAState> getInitialPartitionForMinimize(
-				DeterministicFiniteAutomaton a) {
-			DFAState finalState = null;
-			DFAState nonFinalState = null;
-			EquivalenceRelation<DFAState> relation = new EquivalenceRelation<>();
-			for (DFAState state : statesIterable(a)) {
-				if (state.isFinalState()) {
-					if (finalState == null)
-						finalState = state;
-					relation.joinClasses(finalState, state);
-				} else {
-					if (nonFinalState == null)
-						nonFinalState = state;
-					relation.joinClasses(nonFinalState, state);
-				}
+		// Hopcroft's algorithm in O(n log n) for n states and a fixed alphabet. The partition is saved as a
+		// permutation of the states in which each block occupies a consecutive range.
+		static private class Hopcroft {
+			private final int numStates;
+			private final int numSymbols;
+			// Predecessors of state t under symbol c are predecessors[predecessorStart[c*(n+1)+t] ...
+			// predecessorStart[c*(n+1)+t+1]-1].
+			private final int[] predecessorStart;
+			private final int[] predecessors;
+
+			private final int[] elements;
+			private final int[] location;
+			private final int[] blockOf;
+			private final int[] blockFirst;
+			private final int[] blockEnd;
+			// The first marked[b] elements of block b are marked
+			private final int[] marked;
+			private int numBlocks;
+			// Scratch space for the states of the current splitter block
+			private final int[] splitterStates;
+
+			// The splitters are pairs of a block and a symbol, encoded as block * numSymbols + symbol
+			private final boolean[] inWorklist;
+			private final Deque<Integer> worklist = new ArrayDeque<>();
+
+			Hopcroft(int numStates, int numSymbols, int[] transitions, boolean[] finalStates) {
+				this.numStates = numStates;
+				this.numSymbols = numSymbols;
+
+				predecessorStart = new int[numSymbols * (numStates + 1) + 1];
+				for (int state = 0; state < numStates; state++)
+					for (int c = 0; c < numSymbols; c++) {
+						int target = transitions[state * numSymbols + c];
+						predecessorStart[c * (numStates + 1) + target + 1]++;
+					}
+				for (int i = 1; i < predecessorStart.length; i++)
+					predecessorStart[i] += predecessorStart[i - 1];
+				predecessors = new int[numStates * numSymbols];
+				int[] fill = Arrays.copyOf(predecessorStart, predecessorStart.length);
+				for (int state = 0; state < numStates; state++)
+					for (int c = 0; c < numSymbols; c++) {
+						int target = transitions[state * numSymbols + c];
+						predecessors[fill[c * (numStates + 1) + target]++] = state;
+					}
+
+				elements = new int[numStates];
+				location = new int[numStates];
+				blockOf = new int[numStates];
+				blockFirst = new int[numStates];
+				blockEnd = new int[numStates];
+				marked = new int[numStates];
+				splitterStates = new int[numStates];
+				inWorklist = new boolean[numStates * numSymbols];
+
+				// The initial partition separates final and non-final states
+				int next = 0;
+				for (int state = 0; state < numStates; state++)
+					if (finalStates[state])
+						elements[next++] = state;
+				int numFinal = next;
+				for (int state = 0; state < numStates; state++)
+					if (!finalStates[state])
+						elements[next++] = state;
+				for (int i = 0; i < numStates; i++)
+					location[elements[i]] = i;
+				if (numFinal > 0)
+					addBlock(0, numFinal);
+				if (numFinal < numStates)
+					addBlock(numFinal, numStates);
+
+				// It is enough to split with respect to the smaller of both blocks
+				int smaller = numBlocks == 2 && numFinal > numStates - numFinal ? 1 : 0;
+				for (int c = 0; c < numSymbols && numBlocks > 0; c++)
+					addSplitter(smaller, c);
 			}
 
-			return relation;
-		}
+			private void addBlock(int first, int end) {
+				int block = numBlocks++;
+				blockFirst[block] = first;
+				blockEnd[block] = end;
+				for (int i = first; i < end; i++)
+					blockOf[elements[i]] = block;
+			}
 
-		static private EquivalenceRelation<DFAState> refinePartition(EquivalenceRelation<DFAState> partition,
-				Set<Symbol> alphabet) {
-			EquivalenceRelation<DFAState> lastPartition;
-			do {
-				lastPartition = partition;
-				for (final Symbol symbol : alphabet) {
-					// If there are two states in the same equivalence class and they have a
-					// transition with symbol 'symbol' going to different classes, then this class
-					// must be split.
-					final IEquivalenceRelation<DFAState> current = partition;
-					IEquivalenceRelation<DFAState> predicate
-						= new IEquivalenceRelation<DFAState>() {
-						@Override
-						public boolean isEquivalent(DFAState state1, DFAState state2) {
-							DFAState follow1 = state1.getFollowingState(symbol);
-							DFAState follow2 = state2.getFollowingState(symbol);
-							return current.isEquivalent(follow1, follow2);
-						}
-					};
-					partition = partition.refine(predicate);
+			private void addSplitter(int block, int symbol) {
+				int splitter = block * numSymbols + symbol;
+				if (!inWorklist[splitter]) {
+					inWorklist[splitter] = true;
+					worklist.add(splitter);
 				}
-			} while (lastPartition != partition);
-			return partition;
-		}
-
-		private MinimalState[] constructStates(EquivalenceRelation<DFAState> partition, DFAState initialState) {
-			Map<Set<DFAState>, Integer> stateIndex = new HashMap<>();
-			Map<Integer, Boolean> isFinalState = new HashMap<>();
-			stateIndex.put(partition.getClass(initialState), 0);
-			isFinalState.put(0, initialState.isFinalState());
-			int nextIndex = 1;
-			Map<Integer, Map<Symbol, Integer>> transitions = new HashMap<>();
-			Deque<Set<DFAState>> unhandled = new LinkedList<>();
-
-			unhandled.add(partition.getClass(initialState));
-			while (!unhandled.isEmpty()) {
-				Set<DFAState> state = unhandled.removeFirst();
-
-				DFAState representingState = state.iterator().next();
-				Map<Symbol, Integer> postset = new HashMap<>();
-				for (Symbol symbol : getAlphabet()) {
-					DFAState followingState = representingState.getFollowingState(symbol);
-					Set<DFAState> next = partition.getClass(followingState);
-					if (!stateIndex.containsKey(next)) {
-						isFinalState.put(nextIndex, followingState.isFinalState());
-						stateIndex.put(next, nextIndex++);
-						unhandled.add(next);
+			}
+
+			private void mark(int state, List<Integer> touched) {
+				int block = blockOf[state];
+				int position = location[state];
+				int target = blockFirst[block] + marked[block];
+				if (position < target)
+					return;
+				// Swap the state to the end of the marked part of its block
+				int other = elements[target];
+				elements[target] = state;
+				location[state] = target;
+				elements[position] = other;
+				location[other] = position;
+				if (marked[block]++ == 0)
+					touched.add(block);
+			}
+
+			int[] refine() {
+				List<Integer> touched = new ArrayList<>();
+				while (!worklist.isEmpty()) {
+					int splitter = worklist.removeFirst();
+					inWorklist[splitter] = false;
+					int splitBlock = splitter / numSymbols;
+					int symbol = splitter % numSymbols;
+
+					// Mark all states with a transition into the splitter block. Marking moves
+					// states around inside their block, which might be the splitter block
+					// itself, so iterate over a copy.
+					int offset = symbol * (numStates + 1);
+					int numSplitterStates = blockEnd[splitBlock] - blockFirst[splitBlock];
+					System.arraycopy(elements, blockFirst[splitBlock], splitterStates, 0,
+							numSplitterStates);
+					for (int i = 0; i < numSplitterStates; i++) {
+						int state = splitterStates[i];
+						for (int j = predecessorStart[offset + state];
+								j < predecessorStart[offset + state + 1]; j++)
+							mark(predecessors[j], touched);
 					}
 
-					postset.put(symbol, stateIndex.get(next));
+					// Split all blocks which are only partially marked
+					for (int block : touched) {
+						int first = blockFirst[block];
+						int split = first + marked[block];
+						marked[block] = 0;
+						if (split == blockEnd[block])
+							continue;
+
+						blockFirst[block] = split;
+						int newBlock = numBlocks;
+						addBlock(first, split);
+						for (int c = 0; c < numSymbols; c++) {
+							if (inWorklist[block * numSymbols + c]
+									|| split - first <= blockEnd[block] - split)
+								addSplitter(newBlock, c);
+							else
+								addSplitter(block, c);
+						}
+					}
+					touched.clear();
 				}
-				transitions.put(stateIndex.get(state), postset);
+				return blockOf;
 			}
+		}
 
-			int numStates = nextIndex;
-			MinimalState[] states = new MinimalState[numStates];
-			for (int i = 0; i < numStates; i++)
-				states[i] = new MinimalState(this, transitions.get(i), isFinalState.get(i));
+		private MinimalState[] constructStates(int numStates, int numSymbols, int[] transitions,
+				boolean[] finalStates, int[] blockOf) {
+			// Number the blocks in breadth first order so that the initial state gets index zero
+			int[] blockIndex = new int[numStates];
+			Arrays.fill(blockIndex, -1);
+			int[] representatives = new int[numStates];
+			blockIndex[blockOf[0]] = 0;
+			representatives[0] = 0;
+			int numBlocks = 1;
+			for (int i = 0; i < numBlocks; i++) {
+				int state = representatives[i];
+				for (int c = 0; c < numSymbols; c++) {
+					int next = transitions[state * numSymbols + c];
+					if (blockIndex[blockOf[next]] < 0) {
+						blockIndex[blockOf[next]] = numBlocks;
+						representatives[numBlocks++] = next;
+					}
+				}
+			}
 
+			MinimalState[] states = new MinimalState[numBlocks];
+			for (int i = 0; i < numBlocks; i++) {
+				int state = representatives[i];
+				int[] postset = new int[numSymbols];
+				for (int c = 0; c < numSymbols; c++)
+					postset[c] = blockIndex[blockOf[transitions[state * numSymbols + c]]];
+				states[i] = new MinimalState(this, postset, finalStates[state]);
+			}
 			return states;
 		}
 	}
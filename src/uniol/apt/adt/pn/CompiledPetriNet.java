@@ -0,0 +1,388 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package uniol.apt.adt.pn;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import uniol.apt.adt.StructuralExtensionRemover;
+import uniol.apt.adt.exception.StructureException;
+import uniol.apt.adt.exception.TransitionFireException;
+
+/**
+ * A compiled form of the firing rule of a Petri net. Places and transitions are numbered densely in lexical order of
+ * their ids and for every transition the preset, postset and effect are stored as sparse arrays of place indices and
+ * weights. This allows to check if a transition is enabled and to compute successor markings on the packed
+ * representation of markings without looking up any flows.
+ * <p/>
+ * Instances are immutable. A compiled net is cached on its Petri net and dropped as soon as the structure of the
+ * Petri net changes, so {@link #get(PetriNet)} always returns an up-to-date instance.
+ */
+public class CompiledPetriNet {
+
+	private final PetriNet net;
+	private final Place[] places;
+	private final Transition[] transitions;
+	private final Map<Transition, Integer> transitionIndices = new HashMap<>();
+	// For transition t, the places with indices preIndices[t][i] are consumed from with weight preWeights[t][i].
+	private final int[][] preIndices;
+	private final int[][] preWeights;
+	// For transition t, the places with indices postIndices[t][i] are produced on with weight postWeights[t][i].
+	private final int[][] postIndices;
+	private final int[][] postWeights;
+	// For transition t, the token count of place effectIndices[t][i] changes by effectWeights[t][i] (never zero).
+	private final int[][] effectIndices;
+	private final int[][] effectWeights;
+
+	/**
+	 * Get the compiled form of the given Petri net. If the Petri net was already compiled and its structure was
+	 * not changed since then, the existing instance is returned.
+	 * @param pn The Petri net that should be compiled.
+	 * @return The compiled Petri net.
+	 */
+	static public CompiledPetriNet get(PetriNet pn) {
+		String key = CompiledPetriNet.class.getName();
+
+		Object extension = null;
+		try {
+			extension = pn.getExtension(key);
+		}
+		catch (StructureException e) {
+			// No such extension.
+		}
+
+		if (extension instanceof CompiledPetriNet && ((CompiledPetriNet) extension).net == pn)
+			return (CompiledPetriNet) extension;
+
+		CompiledPetriNet result = new CompiledPetriNet(pn);
+		// Save the compiled form as an extension which is not copied together with the Petri net, but make sure
+		// that it is removed if the structure of the Petri net is changed in any way.
+		pn.putExtension(key, result, false);
+		pn.addListener(new StructuralExtensionRemover<PetriNet, Flow, Node>(key));
+		return result;
+	}
+
+	/**
+	 * Compile the given Petri net.
+	 * @param pn The Petri net that should be compiled.
+	 */
+	private CompiledPetriNet(PetriNet pn) {
+		this.net = pn;
+		this.places = pn.getIndexedPlaces();
+		this.transitions = pn.getTransitions().toArray(new Transition[0]);
+
+		int numTransitions = transitions.length;
+		preIndices = new int[numTransitions][];
+		preWeights = new int[numTransitions][];
+		postIndices = new int[numTransitions][];
+		postWeights = new int[numTransitions][];
+		effectIndices = new int[numTransitions][];
+		effectWeights = new int[numTransitions][];
+
+		int[] effect = new int[places.length];
+		for (int t = 0; t < numTransitions; t++) {
+			transitionIndices.put(transitions[t], t);
+
+			int[][] pre = compileFlows(pn.getPresetEdges(transitions[t]));
+			preIndices[t] = pre[0];
+			preWeights[t] = pre[1];
+			int[][] post = compileFlows(pn.getPostsetEdges(transitions[t]));
+			postIndices[t] = post[0];
+			postWeights[t] = post[1];
+
+			for (int i = 0; i < preIndices[t].length; i++)
+				effect[preIndices[t][i]] -= preWeights[t][i];
+			for (int i = 0; i < postIndices[t].length; i++)
+				effect[postIndices[t][i]] += postWeights[t][i];
+
+			int[] indices = new int[preIndices[t].length + postIndices[t].length];
+			int[] weights = new int[indices.length];
+			int size = 0;
+			for (int[] touched : new int[][] { preIndices[t], postIndices[t] }) {
+				for (int place : touched) {
+					if (effect[place] != 0) {
+						indices[size] = place;
+						weights[size] = effect[place];
+						size++;
+						effect[place] = 0;
+					}
+				}
+			}
+			effectIndices[t] = Arrays.copyOf(indices, size);
+			effectWeights[t] = Arrays.copyOf(weights, size);
+		}
+	}
+
+	/**
+	 * Turn the given flows of a transition into an array of place indices and an array of weights.
+	 * @param flows The flows that should be compiled.
+	 * @return An array containing the place indices and the weights.
+	 */
+	private int[][] compileFlows(Set<Flow> flows) {
+		int size = flows.size();
+		int[] indices = new int[size];
+		int[] weights = new int[size];
+		int i = 0;
+		for (Flow f : flows) {
+			indices[i] = f.getPlace().index;
+			weights[i] = f.getWeight();
+			i++;
+		}
+		// Sort by place index for a nicer memory access pattern
+		for (int j = 1; j < size; j++) {
+			for (int k = j; k > 0 && indices[k - 1] > indices[k]; k--) {
+				int tmp = indices[k];
+				indices[k] = indices[k - 1];
+				indices[k - 1] = tmp;
+				tmp = weights[k];
+				weights[k] = weights[k - 1];
+				weights[k - 1] = tmp;
+			}
+		}
+		return new int[][] { indices, weights };
+	}
+
+	/**
+	 * Get the Petri net that was compiled.
+	 * @return The Petri net.
+	 */
+	public PetriNet getNet() {
+		return net;
+	}
+
+	/**
+	 * Get the number of places of the compiled net.
+	 * @return The number of places.
+	 */
+	public int getPlaceCount() {
+		return places.length;
+	}
+
+	/**
+	 * Get the number of transitions of the compiled net.
+	 * @return The number of transitions.
+	 */
+	public int getTransitionCount() {
+		return transitions.length;
+	}
+
+	/**
+	 * Get the place with the given index.
+	 * @param index The index of the place.
+	 * @return The place.
+	 */
+	public Place getPlace(int index) {
+		return places[index];
+	}
+
+	/**
+	 * Get the transition with the given index.
+	 * @param index The index of the transition.
+	 * @return The transition.
+	 */
+	public Transition getTransition(int index) {
+		return transitions[index];
+	}
+
+	/**
+	 * Get the index of the given place.
+	 * @param place The place.
+	 * @return The index of the place.
+	 * @throws StructureException if the place does not belong to the compiled net.
+	 */
+	public int getPlaceIndex(Place place) {
+		int index = place.index;
+		if (index < 0 || index >= places.length || places[index] != place)
+			throw new StructureException("place '" + place.getId() + "' does not belong to net '"
+					+ net.getName() + "'.");
+		return index;
+	}
+
+	/**
+	 * Get the index of the given transition.
+	 * @param transition The transition.
+	 * @return The index of the transition.
+	 * @throws StructureException if the transition does not belong to the compiled net.
+	 */
+	public int getTransitionIndex(Transition transition) {
+		Integer index = transitionIndices.get(transition);
+		if (index == null)
+			throw new StructureException("transition '" + transition.getId() + "' does not belong to net '"
+					+ net.getName() + "'.");
+		return index;
+	}
+
+	/**
+	 * Get the indices of the places in the preset of the given transition.
+	 * @param transition The index of the transition.
+	 * @return The place indices. This array must not be modified.
+	 */
+	public int[] getPresetIndices(int transition) {
+		return preIndices[transition];
+	}
+
+	/**
+	 * Get the flow weights from the places in the preset of the given transition.
+	 * @param transition The index of the transition.
+	 * @return The weights in the same order as {@link #getPresetIndices(int)}. This array must not be modified.
+	 */
+	public int[] getPresetWeights(int transition) {
+		return preWeights[transition];
+	}
+
+	/**
+	 * Get the indices of the places in the postset of the given transition.
+	 * @param transition The index of the transition.
+	 * @return The place indices. This array must not be modified.
+	 */
+	public int[] getPostsetIndices(int transition) {
+		return postIndices[transition];
+	}
+
+	/**
+	 * Get the flow weights to the places in the postset of the given transition.
+	 * @param transition The index of the transition.
+	 * @return The weights in the same order as {@link #getPostsetIndices(int)}. This array must not be modified.
+	 */
+	public int[] getPostsetWeights(int transition) {
+		return postWeights[transition];
+	}
+
+	/**
+	 * Get the indices of the places whose token count is changed by firing the given transition.
+	 * @param transition The index of the transition.
+	 * @return The place indices. This array must not be modified.
+	 */
+	public int[] getEffectIndices(int transition) {
+		return effectIndices[transition];
+	}
+
+	/**
+	 * Get the change of the token counts of the places whose token count is changed by firing the given
+	 * transition.
+	 * @param transition The index of the transition.
+	 * @return The changes in the same order as {@link #getEffectIndices(int)}. This array must not be modified.
+	 */
+	public int[] getEffectWeights(int transition) {
+		return effectWeights[transition];
+	}
+
+	/**
+	 * Get the packed representation of the given marking. The result is indexed by the place indices of this
+	 * compiled net and {@link Token#OMEGA} is represented as -1.
+	 * @param marking A marking of the compiled net.
+	 * @return The token counts. This array must not be modified.
+	 */
+	public long[] getTokens(Marking marking) {
+		checkMarking(marking);
+		return marking.getTokenArray();
+	}
+
+	/**
+	 * Create a marking from its packed representation.
+	 * @param tokens The token counts indexed by the place indices of this compiled net. The array is used without
+	 * copying it and must not be modified afterwards.
+	 * @return The marking.
+	 */
+	public Marking toMarking(long[] tokens) {
+		if (tokens.length != places.length)
+			throw new StructureException("Count of tokencounts does not match the count of"
+					+ "places in graph '" + net.getName() + "'.");
+		return new Marking(net, places, tokens);
+	}
+
+	/**
+	 * Check if the given transition is fireable in the given marking.
+	 * @param transition The index of the transition.
+	 * @param tokens The packed representation of the marking.
+	 * @return true if the transition is fireable.
+	 */
+	public boolean isFireable(int transition, long[] tokens) {
+		int[] indices = preIndices[transition];
+		int[] weights = preWeights[transition];
+		for (int i = 0; i < indices.length; i++) {
+			long value = tokens[indices[i]];
+			if (value != Token.OMEGA_VALUE && value < weights[i])
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Check if the given transition is fireable in the given marking.
+	 * @param transition The index of the transition.
+	 * @param marking The marking.
+	 * @return true if the transition is fireable.
+	 */
+	public boolean isFireable(int transition, Marking marking) {
+		return isFireable(transition, getTokens(marking));
+	}
+
+	/**
+	 * Fire the given transition in the given marking and calculate the resulting marking. The given marking is not
+	 * modified.
+	 * @param transition The index of the transition.
+	 * @param tokens The packed representation of the marking.
+	 * @return The packed representation of the resulting marking.
+	 * @throws TransitionFireException if the transition is not fireable in the given marking.
+	 */
+	public long[] fire(int transition, long[] tokens) {
+		if (!isFireable(transition, tokens))
+			throw new TransitionFireException("transition '" + transitions[transition].getId()
+					+ "' is not fireable in marking '" + toMarking(tokens).toString() + "'.");
+		long[] result = tokens.clone();
+		int[] indices = effectIndices[transition];
+		int[] weights = effectWeights[transition];
+		for (int i = 0; i < indices.length; i++) {
+			if (result[indices[i]] != Token.OMEGA_VALUE)
+				result[indices[i]] += weights[i];
+		}
+		return result;
+	}
+
+	/**
+	 * Fire the given transition in the given marking and calculate the resulting marking.
+	 * @param transition The index of the transition.
+	 * @param marking The marking.
+	 * @return The resulting marking.
+	 * @throws TransitionFireException if the transition is not fireable in the given marking.
+	 */
+	public Marking fire(int transition, Marking marking) {
+		return toMarking(fire(transition, getTokens(marking)));
+	}
+
+	/**
+	 * Check that the given marking belongs to the compiled net and uses the same place indices.
+	 * @param marking The marking to check.
+	 */
+	private void checkMarking(Marking marking) {
+		if (marking.getNet() != net)
+			throw new StructureException("marking '" + marking + "' does not belong to net '"
+					+ net.getName() + "'.");
+		if (net.getIndexedPlaces() != places)
+			throw new StructureException("the places of net '" + net.getName()
+					+ "' changed since it was compiled.");
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
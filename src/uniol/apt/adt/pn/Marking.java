@@ -19,19 +19,15 @@
 
 package uniol.apt.adt.pn;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
 import uniol.apt.adt.exception.NoSuchNodeException;
 import uniol.apt.adt.exception.StructureException;
 
 /**
- * The Marking class represents the marking of a petri net. It stores the places of the net and the count of tokens on
- * the places in a hashmap.
+ * The Marking class represents the marking of a petri net. The token counts are stored in a packed array of longs
+ * which is indexed by the dense place indices that the petri net assigns to its places (see {@link
+ * PetriNet#getIndexedPlaces()}). OMEGA is represented by the sentinel value {@link Token#OMEGA_VALUE}.
  * <p/>
  * At each access the consistency of the places of the marking is checked with the petri net.
  * <p/>
@@ -39,9 +35,11 @@ import uniol.apt.adt.exception.StructureException;
  */
 public class Marking {
 
-	private final HashMap<Place, Token> map = new HashMap<>();
 	private final PetriNet net;
-	private long rev = -1;
+	// The places of the net at the time the tokens array was last synchronised; tokens[i] belongs to places[i].
+	// This array is shared with the net and must never be modified.
+	private Place[] places;
+	private long[] tokens;
 
 	/**
 	 * Constructor. Sets the tokencount of every place of the given petri net to zero.
@@ -50,10 +48,8 @@ public class Marking {
 	 */
 	public Marking(PetriNet net) {
 		this.net = net;
-		for (Place place : net.getPlaces()) {
-			map.put(place, Token.ZERO);
-		}
-		this.rev = net.getPlaceRev();
+		this.places = net.getIndexedPlaces();
+		this.tokens = new long[this.places.length];
 	}
 
 	/**
@@ -88,7 +84,7 @@ public class Marking {
 	 * @throws StructureException if the places of the given net and tokenmap do not fit.
 	 */
 	public Marking(PetriNet net, Map<String, Integer> m) {
-		this.net = net;
+		this(net);
 		this.setMarking(m);
 	}
 
@@ -103,19 +99,31 @@ public class Marking {
 	 * @throws IllegalArgumentException thrown if a token count is less than zero.
 	 */
 	public Marking(PetriNet net, int... orderedTokenCounts) {
-		this.net = net;
-		Set<Place> places = this.net.getPlaces();
-		if (orderedTokenCounts.length != places.size()) {
+		this(net);
+		if (orderedTokenCounts.length != this.places.length) {
 			throw new StructureException("Count of tokencounts does not match the count of"
 				+ "places in graph '" + this.net.getName() + "'.");
 		}
-		int count = -1;
-		for (Iterator<Place> it = places.iterator(); it.hasNext();) {
-			Place place = it.next();
-			this.map.put(place, new Token(orderedTokenCounts[++count]));
+		for (int i = 0; i < orderedTokenCounts.length; i++) {
+			this.tokens[i] = checkValue(orderedTokenCounts[i]);
 		}
 	}
 
+	/**
+	 * Constructor for creating a marking directly from its packed representation. The given array is used without
+	 * copying it and thus must not be modified afterwards.
+	 * <p/>
+	 * @param net    The net for which the marking instance gets created.
+	 * @param places The indexed places of the net that the array refers to.
+	 * @param tokens The token counts indexed like the given places.
+	 */
+	Marking(PetriNet net, Place[] places, long[] tokens) {
+		assert places.length == tokens.length;
+		this.net = net;
+		this.places = places;
+		this.tokens = tokens;
+	}
+
 	/**
 	 * Copies the marking in the instance.
 	 * <p/>
@@ -123,15 +131,17 @@ public class Marking {
 	 */
 	private void setMarking(Marking m) {
 		assert this != m;
-		this.map.clear();
+		m.ensureConsistency();
 		if (this.net == m.net) {
-			this.map.putAll(m.map);
+			this.places = m.places;
+			this.tokens = m.tokens.clone();
 		} else {
-			for (Map.Entry<Place, Token> entry : m.map.entrySet()) {
-				this.map.put(this.net.getPlace(entry.getKey().getId()), entry.getValue());
+			this.places = this.net.getIndexedPlaces();
+			this.tokens = new long[this.places.length];
+			for (int i = 0; i < m.places.length; i++) {
+				this.tokens[indexOf(this.net.getPlace(m.places[i].getId()))] = m.tokens[i];
 			}
 		}
-		this.rev = m.rev;
 	}
 
 	/**
@@ -147,9 +157,8 @@ public class Marking {
 				throw new StructureException("place '" + entry.getKey() + "' does not belong to net '"
 					+ this.net.getName() + "'.");
 			}
-			this.map.put(this.net.getPlace(entry.getKey()), new Token(entry.getValue()));
+			this.tokens[indexOf(this.net.getPlace(entry.getKey()))] = checkValue(entry.getValue());
 		}
-		ensureConsistency();
 	}
 
 	/**
@@ -161,6 +170,17 @@ public class Marking {
 		return this.net;
 	}
 
+	/**
+	 * Returns the packed representation of this marking. The result is indexed like {@link
+	 * PetriNet#getIndexedPlaces()} and must not be modified.
+	 * <p/>
+	 * @return the token counts of all places.
+	 */
+	long[] getTokenArray() {
+		ensureConsistency();
+		return this.tokens;
+	}
+
 	/**
 	 * Fires the given transitions and creates a new marking.
 	 * <p/>
@@ -262,12 +282,13 @@ public class Marking {
 	public Marking setTokenCount(Place p, Token m) {
 		assert p != null && m != null;
 		ensureConsistency();
-		if (net != p.getGraph() || !map.containsKey(p)) {
+		int index = indexOf(p);
+		if (net != p.getGraph() || index < 0) {
 			throw new StructureException("place '" + p.getId() + "' does not belong to net '"
 				+ this.net.getName() + "'.");
 		}
 		Marking result = new Marking(this);
-		result.map.put(p, m);
+		result.tokens[index] = m.getValue();
 		return result;
 	}
 
@@ -284,11 +305,12 @@ public class Marking {
 	public void setToken(Place p, Token m) {
 		assert p != null && m != null;
 		ensureConsistency();
-		if (net != p.getGraph() || !map.containsKey(p)) {
+		int index = indexOf(p);
+		if (net != p.getGraph() || index < 0) {
 			throw new StructureException("place '" + p.getId() + "' does not belong to net '"
 				+ this.net.getName() + "'.");
 		}
-		map.put(p, m);
+		tokens[index] = m.getValue();
 	}
 
 	/**
@@ -360,9 +382,9 @@ public class Marking {
 	 */
 	public Marking addTokenCount(Place p, Token m) {
 		assert p != null && m != null;
-		Token val = getToken(p);
+		int index = getIndex(p);
 		Marking result = new Marking(this);
-		result.map.put(p, val.add(m));
+		result.tokens[index] = add(tokens[index], m);
 		return result;
 	}
 
@@ -379,8 +401,8 @@ public class Marking {
 	public void addToken(Place p, Token m) {
 		assert p != null && m != null;
 		ensureConsistency();
-		Token val = getToken(p);
-		map.put(p, val.add(m));
+		int index = getIndex(p);
+		tokens[index] = add(tokens[index], m);
 	}
 
 	/**
@@ -427,9 +449,9 @@ public class Marking {
 	public Marking addTokenCount(Place p, int m) {
 		assert p != null;
 		ensureConsistency();
-		Token val = getToken(p);
+		int index = getIndex(p);
 		Marking result = new Marking(this);
-		result.map.put(p, val.add(m));
+		result.tokens[index] = add(tokens[index], m);
 		return result;
 	}
 
@@ -447,8 +469,8 @@ public class Marking {
 	public void addToken(Place p, int m) {
 		assert p != null;
 		ensureConsistency();
-		Token val = getToken(p);
-		map.put(p, val.add(m));
+		int index = getIndex(p);
+		tokens[index] = add(tokens[index], m);
 	}
 
 	/**
@@ -476,41 +498,145 @@ public class Marking {
 	 * @throws NoSuchNodeException thrown if the place with the given id does not exists in the net.
 	 */
 	public Token getToken(Place p) {
+		int index = getIndex(p);
+		long val = tokens[index];
+		if (val == Token.OMEGA_VALUE) {
+			return Token.OMEGA;
+		} else if (val == 0) {
+			return Token.ZERO;
+		}
+		return new Token(val);
+	}
+
+	/**
+	 * Returns the index of the given place in the packed representation of this marking.
+	 * <p/>
+	 * @param p a place of the corresponding net.
+	 * <p/>
+	 * @return the index of the place.
+	 * <p/>
+	 * @throws StructureException  thrown if the place belong to an other net.
+	 * @throws NoSuchNodeException thrown if the place with the given id does not exists in the net.
+	 */
+	private int getIndex(Place p) {
 		assert p != null;
 		if (net != p.getGraph()) {
 			throw new StructureException("place '" + p.getId() + "' does not belong to net '"
 				+ this.net.getName() + "'.");
 		}
-		ensureConsistency();
-		Token val = map.get(p);
-		if (val == null) {
+		int index = indexOf(p);
+		if (index < 0) {
 			throw new NoSuchNodeException(net, p.getId());
 		}
-		return val;
+		return index;
 	}
 
 	/**
-	 * Used for ensuring the consistency of the marking. The function checks the place revision variable of the net
-	 * and incase the marking has an earlier revision, the hashmap of the marking gets updated.
+	 * Returns the index of the given place in the packed representation of this marking or -1 if the place is not
+	 * part of it.
+	 * <p/>
+	 * @param p a place.
+	 * <p/>
+	 * @return the index of the place or -1.
+	 */
+	private int indexOf(Place p) {
+		ensureConsistency();
+		int index = p.index;
+		if (index < 0 || index >= places.length || places[index] != p) {
+			return -1;
+		}
+		return index;
+	}
+
+	/**
+	 * Used for ensuring the consistency of the marking. The function checks whether the indexed places of the net
+	 * changed since the tokens array was created and in that case the tokens array gets updated to the new
+	 * indices.
 	 */
 	final void ensureConsistency() {
-		if (rev != net.getPlaceRev()) {
-			Collection<Place> places = this.net.getPlaces();
-			Iterator<Map.Entry<Place, Token>> iter = this.map.entrySet().iterator();
-			while (iter.hasNext()) {
-				Map.Entry<Place, Token> entry = iter.next();
-				Place place = entry.getKey();
-				if (!places.contains(place)) {
-					iter.remove();
-				}
-			}
-			for (Place p : places) {
-				if (!this.map.containsKey(p)) {
-					map.put(p, Token.ZERO);
-				}
+		Place[] current = net.getIndexedPlaces();
+		if (places == current) {
+			return;
+		}
+		long[] newTokens = new long[current.length];
+		for (int i = 0; i < places.length; i++) {
+			int index = places[i].index;
+			if (index >= 0 && index < current.length && current[index] == places[i]) {
+				newTokens[index] = tokens[i];
 			}
-			rev = net.getPlaceRev();
 		}
+		places = current;
+		tokens = newTokens;
+	}
+
+	/**
+	 * Check that the given value is a valid token count.
+	 * <p/>
+	 * @param v the value.
+	 * <p/>
+	 * @return the value.
+	 * <p/>
+	 * @throws IllegalArgumentException if the given value is less than zero.
+	 */
+	private static long checkValue(long v) {
+		if (v < 0) {
+			throw new IllegalArgumentException("v<0");
+		}
+		return v;
+	}
+
+	/**
+	 * Adds a token to a token count. If one value is OMEGA the result is OMEGA.
+	 * <p/>
+	 * @param v the token count.
+	 * @param t the token to add.
+	 * <p/>
+	 * @return the sum of both values.
+	 */
+	private static long add(long v, Token t) {
+		if (t.isOmega()) {
+			return Token.OMEGA_VALUE;
+		}
+		return add(v, t.getValue());
+	}
+
+	/**
+	 * Adds a value to a token count. If the token count is OMEGA it stays OMEGA.
+	 * <p/>
+	 * @param v the token count.
+	 * @param t the value to add.
+	 * <p/>
+	 * @return the sum of both values.
+	 * <p/>
+	 * @throws IllegalArgumentException if the result of this addition would be less than zero.
+	 */
+	static long add(long v, long t) {
+		if (v == Token.OMEGA_VALUE) {
+			return v;
+		}
+		if (v + t < 0) {
+			throw new IllegalArgumentException("this.v + v < 0");
+		}
+		return v + t;
+	}
+
+	/**
+	 * Compares two token counts where OMEGA is bigger than any other value.
+	 * <p/>
+	 * @param a the first token count.
+	 * @param b the second token count.
+	 * <p/>
+	 * @return a negative value, zero or a positive value if the first argument is less than, equal to or bigger
+	 *         than the second argument.
+	 */
+	static int compare(long a, long b) {
+		if (a == Token.OMEGA_VALUE) {
+			return (b == Token.OMEGA_VALUE) ? 0 : 1;
+		}
+		if (b == Token.OMEGA_VALUE) {
+			return -1;
+		}
+		return (a < b) ? -1 : (a > b) ? 1 : 0;
 	}
 
 	/**
@@ -524,34 +650,11 @@ public class Marking {
 	 * @author Uli Schlachter, Manuel Gieseking
 	 */
 	public Marking cover(Marking o) {
-		ensureConsistency();
-		o.ensureConsistency();
-		assert map.keySet().equals(o.map.keySet());
-
-		Set<Place> covered = new HashSet<>();
-		for (Map.Entry<Place, Token> e : map.entrySet()) {
-			Token own = e.getValue();
-			Token other = o.map.get(e.getKey());
-
-			int comp = own.compareTo(other);
-			if (comp < 0) {
-				return null;
-			} else if (comp > 0 && !own.isOmega()) {
-				covered.add(e.getKey());
-			}
-		}
-		if (covered.isEmpty()) {
-			// Both markings are equal and thus we don't cover anything
+		long[] result = coverTokens(o);
+		if (result == null) {
 			return null;
 		}
-
-		// We are covering the other marking, add the suitable omegas
-		Marking result = new Marking(this);
-		for (Place place : covered) {
-			result.map.put(place, Token.OMEGA);
-		}
-
-		return result;
+		return new Marking(net, places, result);
 	}
 
 	/**
@@ -567,33 +670,42 @@ public class Marking {
 	 */
 	@Deprecated
 	public boolean covers(Marking o) {
+		long[] result = coverTokens(o);
+		if (result == null) {
+			return false;
+		}
+		this.tokens = result;
+		return true;
+	}
+
+	/**
+	 * Check if this object covers the given other marking and calculate the covering token counts.
+	 * <p/>
+	 * @param o The marking that should be covered.
+	 * <p/>
+	 * @return The token counts of this marking with suitable omegas added, or null if this does not cover the
+	 *         other marking.
+	 */
+	private long[] coverTokens(Marking o) {
 		ensureConsistency();
 		o.ensureConsistency();
-		assert map.keySet().equals(o.map.keySet());
-
-		Set<Place> covered = new HashSet<>();
-		for (Map.Entry<Place, Token> e : map.entrySet()) {
-			Token own = e.getValue();
-			Token other = o.map.get(e.getKey());
+		assert places == o.places;
 
-			int comp = own.compareTo(other);
+		long[] result = null;
+		for (int i = 0; i < tokens.length; i++) {
+			long own = tokens[i];
+			int comp = compare(own, o.tokens[i]);
 			if (comp < 0) {
-				return false;
-			} else if (comp > 0 && !own.isOmega()) {
-				covered.add(e.getKey());
+				return null;
+			} else if (comp > 0 && own != Token.OMEGA_VALUE) {
+				if (result == null) {
+					result = tokens.clone();
+				}
+				result[i] = Token.OMEGA_VALUE;
 			}
 		}
-		if (covered.isEmpty()) {
-			// Both markings are equal and thus we don't cover anything
-			return false;
-		}
-
-		// We are covering the other marking, add the suitable omegas
-		for (Place place : covered) {
-			this.map.put(place, Token.OMEGA);
-		}
-
-		return true;
+		// If nothing was changed, both markings are equal and thus we don't cover anything
+		return result;
 	}
 
 	/**
@@ -603,8 +715,8 @@ public class Marking {
 	 */
 	public boolean hasOmega() {
 		ensureConsistency();
-		for (Token val : map.values()) {
-			if (val.isOmega()) {
+		for (long val : tokens) {
+			if (val == Token.OMEGA_VALUE) {
 				return true;
 			}
 		}
@@ -614,24 +726,9 @@ public class Marking {
 	@Override
 	public int hashCode() {
 		ensureConsistency();
-
-		// Previously this used return this.map.hashCode() which did sum(key.hashCode() ^ value.hashCode).
-		// Sadly, we had lots of hash collisions due to this, because all the keys were the same (the IDs of
-		// places) and the values are the number of token on a place. Since these are small integers, only the
-		// low-order bits of their hash code differed, making hash collisions in the addition easy.
-
-		int hashCode = 0;
-		// Loop over all entries in our map and calculate a hash code. For two different Markings that "are
-		// logically the same" (according to equals()), this must produce the same hash code. Since the
-		// iteration of a map is unstable, this must use an associative operation like plus inside the loop.
-		for (Map.Entry<Place, Token> entry : map.entrySet()) {
-			// Mix the hash codes more so that hopefully all bits of the resulting hash code are influenced.
-			int keyCode = entry.getKey().hashCode();
-			int valCode = entry.getValue().hashCode();
-			hashCode += Integer.rotateLeft(valCode, keyCode);
-			hashCode += Integer.rotateLeft(keyCode, valCode);
-		}
-		return hashCode;
+		// The position of a token count inside of the array is taken into account, so markings which only
+		// permute the same token counts (which are usually small integers) get different hash codes.
+		return Arrays.hashCode(tokens);
 	}
 
 	@Override
@@ -647,11 +744,11 @@ public class Marking {
 			return false;
 		}
 		final Marking other = (Marking) obj;
-		other.ensureConsistency();
 		if (this.net != other.net) {
 			return false;
 		}
-		if (!Objects.equals(this.map, other.map)) {
+		other.ensureConsistency();
+		if (!Arrays.equals(this.tokens, other.tokens)) {
 			return false;
 		}
 		return true;
@@ -661,8 +758,14 @@ public class Marking {
 	public String toString() {
 		ensureConsistency();
 		StringBuilder strBuilder = new StringBuilder("[ ");
-		for (Place place : net.getPlaces()) {
-			strBuilder.append("[").append(place.getId()).append(":").append(map.get(place).toString()).append("] ");
+		for (int i = 0; i < places.length; i++) {
+			strBuilder.append("[").append(places[i].getId()).append(":");
+			if (tokens[i] == Token.OMEGA_VALUE) {
+				strBuilder.append(Token.OMEGA.toString());
+			} else {
+				strBuilder.append(tokens[i]);
+			}
+			strBuilder.append("] ");
 		}
 		strBuilder.append("]");
 		return strBuilder.toString();
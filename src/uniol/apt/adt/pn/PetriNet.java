@@ -58,6 +58,7 @@ public class PetriNet extends AbstractGraph<PetriNet, Flow, Node> implements IGr
 	private long nextPlaceId = 0;
 	private long nextTransitionId = 0;
 	private long placeRev = 0;
+	private volatile Place[] indexedPlaces = null;
 	private final SortedMap<String, Node> nodes = new TreeMap<>();
 	private final SortedMap<String, Place> places = new TreeMap<>();
 	private final SortedMap<String, Transition> transitions = new TreeMap<>();
@@ -271,6 +272,7 @@ public class PetriNet extends AbstractGraph<PetriNet, Flow, Node> implements IGr
 		presetEdges.put(id, new HashMap<EdgeKey, Flow>());
 		postsetEdges.put(id, new HashMap<EdgeKey, Flow>());
 		++placeRev;
+		indexedPlaces = null;
 		invokeListeners();
 		return p;
 	}
@@ -710,6 +712,7 @@ public class PetriNet extends AbstractGraph<PetriNet, Flow, Node> implements IGr
 		rmNode(id);
 		places.remove(id);
 		++placeRev;
+		indexedPlaces = null;
 		invokeListeners();
 	}
 
@@ -1043,6 +1046,32 @@ public class PetriNet extends AbstractGraph<PetriNet, Flow, Node> implements IGr
 		return placeRev;
 	}
 
+	/**
+	 * Gets the places of this net in lexical order of their ids. The position of a place in this array is its
+	 * dense index, which is used for example by the packed representation of markings. A new array is created
+	 * everytime a place is created or removed, so a changed array reference means that the indices changed. The
+	 * indices are assigned under the lock of this net and only then the array is published, so concurrent readers,
+	 * for example the workers of a parallel coverability graph construction, see consistent indices.
+	 * <p/>
+	 * @return the indexed places. This array must not be modified.
+	 */
+	Place[] getIndexedPlaces() {
+		Place[] result = indexedPlaces;
+		if (result == null) {
+			synchronized (this) {
+				result = indexedPlaces;
+				if (result == null) {
+					result = places.values().toArray(new Place[places.size()]);
+					for (int i = 0; i < result.length; i++) {
+						result[i].index = i;
+					}
+					indexedPlaces = result;
+				}
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Creates an edge key to find or save a flow by it's primary key, that mean it's sourceId and targetId.
 	 * <p/>
@@ -1211,7 +1240,7 @@ public class PetriNet extends AbstractGraph<PetriNet, Flow, Node> implements IGr
 	 */
 	boolean getTransitionIsFireable(String id, Marking m) {
 		for (Flow f : this.getPresetEdges(id)) {
-			if (m.getToken(f.getPlace()).compareTo(new Token(f.getWeight())) < 0) {
+			if (Marking.compare(m.getTokenArray()[indexOfPlace(m, f.getPlace())], f.getWeight()) < 0) {
 				return false;
 			}
 		}
@@ -1230,19 +1259,41 @@ public class PetriNet extends AbstractGraph<PetriNet, Flow, Node> implements IGr
 	 */
 	Marking fireTransition(String id, Marking m) {
 		if (getTransitionIsFireable(id, m)) {
+			long[] tokens = m.getTokenArray().clone();
 			for (Flow f : this.getPresetEdges(id)) {
-				m = m.addTokenCount(f.getPlace(), -f.getWeight());
+				int index = indexOfPlace(m, f.getPlace());
+				tokens[index] = Marking.add(tokens[index], -f.getWeight());
 			}
 			for (Flow f : this.getPostsetEdges(id)) {
-				m = m.addTokenCount(f.getPlace(), +f.getWeight());
+				int index = indexOfPlace(m, f.getPlace());
+				tokens[index] = Marking.add(tokens[index], f.getWeight());
 			}
-			return m;
+			return new Marking(this, getIndexedPlaces(), tokens);
 		} else {
 			throw new TransitionFireException("transition '" + id
 				+ "' is not fireable in marking '" + m.toString() + "'.");
 		}
 	}
 
+	/**
+	 * Returns the index of a place of this net in the packed representation of a marking.
+	 * <p/>
+	 * @param m the marking.
+	 * @param p the place.
+	 * <p/>
+	 * @return the index of the place.
+	 * <p/>
+	 * @throws StructureException thrown if the marking does not belong to this net.
+	 */
+	private int indexOfPlace(Marking m, Place p) {
+		if (m.getNet() != this) {
+			throw new StructureException("place '" + p.getId() + "' does not belong to net '"
+				+ m.getNet().getName() + "'.");
+		}
+		getIndexedPlaces();
+		return p.index;
+	}
+
 	/**
 	 * Calculates and returns the incidencematrix of this petri net.
 	 * <p/>
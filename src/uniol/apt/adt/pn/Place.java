@@ -30,6 +30,9 @@ import java.util.Set;
  */
 public class Place extends Node {
 
+	// The index of this place in the array of indexed places of the net, see PetriNet#getIndexedPlaces().
+	int index = -1;
+
 	/**
 	 * Constructor to create a place with the given id in the given Petri net.
 	 * <p/>
@@ -30,7 +30,12 @@ import java.util.Objects;
 public class Token implements Comparable<Token> {
 
 	private final long v;
-	public final static Token OMEGA = new Token(-1, false);
+	/**
+	 * The value that is used for representing OMEGA, for example in the packed representation of a {@link
+	 * Marking}.
+	 */
+	final static long OMEGA_VALUE = -1;
+	public final static Token OMEGA = new Token(OMEGA_VALUE, false);
 	public final static Token ZERO = new Token(0);
 
 	private Token(long v, boolean checkValue) {
@@ -90,7 +90,12 @@ public class Bisimulation {
 			ltsTwo = pnOrLts2.getTs();
 		}
 
-		//Step 2: Check if the reachability graphs are bisimilar
+		//Step 2: Check if the reachability graphs are bisimilar. Partition refinement does this without
+		// modifying the LTS. The algorithms below are only needed to find a non bisimilar path.
+		errorPath = null;
+		if (BisimulationPartition.isBisimilar(ltsOne, ltsTwo))
+			return true;
+
 		// if at least one of the LTS is deterministic, we can choose a more simple algorithm
 		this.lts1 = ltsOne;
 		this.lts2 = ltsTwo;
@@ -0,0 +1,328 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.bisimulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+
+import static uniol.apt.util.DebugUtil.debug;
+
+/**
+ * Calculate the coarsest strong bisimulation on the states of some transition systems by signature based partition
+ * refinement. States and labels are numbered and all computations work on int arrays. In each round, the signature
+ * of a state is the set of pairs of a label and the block of the target state for all of its outgoing arcs. States
+ * stay in the same block if they were in the same block before and have the same signature. This is repeated until
+ * the number of blocks no longer changes. The signatures of different states can be computed in parallel.
+ *
+ * The transition systems are not modified.
+ */
+public class BisimulationPartition {
+	// Only use threads if there are at least this many states
+	static private final int PARALLEL_THRESHOLD = 4096;
+
+	private final Map<State, Integer> stateIndices = new HashMap<>();
+	private final List<String> labels = new ArrayList<>();
+	private final int numStates;
+	// The arcs of state s are at the indices arcStart[s] to arcStart[s+1]-1 in arcLabels and arcTargets
+	private final int[] arcStart;
+	private final int[] arcLabels;
+	private final int[] arcTargets;
+	// The signature of state s is saved at the indices arcStart[s] to arcStart[s]+signatureLength[s]-1. Each entry
+	// contains a label in the upper and the block of the target state in the lower 32 bits.
+	private final long[] signatures;
+	private final int[] signatureLength;
+	private int[] blocks;
+	private int numBlocks;
+
+	/**
+	 * Calculate the coarsest bisimulation on the states of the given transition systems.
+	 * @param systems The transition systems whose states should be partitioned.
+	 */
+	public BisimulationPartition(TransitionSystem... systems) {
+		this(Arrays.asList(systems), 1);
+	}
+
+	/**
+	 * Calculate the coarsest bisimulation on the states of the given transition systems.
+	 * @param systems The transition systems whose states should be partitioned.
+	 * @param numThreads The number of threads that may be used for computing signatures.
+	 */
+	public BisimulationPartition(List<TransitionSystem> systems, int numThreads) {
+		if (numThreads < 1)
+			throw new IllegalArgumentException("Number of threads must be positive, but is " + numThreads);
+
+		// Number all states. A transition system that is given more than once is only handled once.
+		Set<TransitionSystem> seen = Collections.newSetFromMap(
+				new IdentityHashMap<TransitionSystem, Boolean>());
+		List<State> states = new ArrayList<>();
+		int numArcs = 0;
+		for (TransitionSystem ts : systems) {
+			if (!seen.add(ts))
+				continue;
+			for (State state : ts.getNodes()) {
+				stateIndices.put(state, states.size());
+				states.add(state);
+			}
+			numArcs += ts.getEdges().size();
+		}
+		this.numStates = states.size();
+
+		// Number all labels and save the arcs
+		Map<String, Integer> labelIndices = new HashMap<>();
+		arcStart = new int[numStates + 1];
+		arcLabels = new int[numArcs];
+		arcTargets = new int[numArcs];
+		int arc = 0;
+		for (int state = 0; state < numStates; state++) {
+			arcStart[state] = arc;
+			for (Arc a : states.get(state).getPostsetEdges()) {
+				Integer label = labelIndices.get(a.getLabel());
+				if (label == null) {
+					label = labels.size();
+					labelIndices.put(a.getLabel(), label);
+					labels.add(a.getLabel());
+				}
+				arcLabels[arc] = label;
+				arcTargets[arc] = stateIndices.get(a.getTarget());
+				arc++;
+			}
+		}
+		arcStart[numStates] = arc;
+		assert arc == numArcs;
+
+		signatures = new long[numArcs];
+		signatureLength = new int[numStates];
+		blocks = new int[numStates];
+		numBlocks = numStates == 0 ? 0 : 1;
+		refine(numThreads);
+	}
+
+	private void refine(int numThreads) {
+		ExecutorService executor = null;
+		if (numThreads > 1 && numStates >= PARALLEL_THRESHOLD)
+			executor = Executors.newFixedThreadPool(numThreads);
+		try {
+			while (true) {
+				if (executor == null)
+					computeSignatures(0, numStates);
+				else
+					computeSignaturesParallel(executor, numThreads);
+
+				int[] newBlocks = new int[numStates];
+				Map<Signature, Integer> blockIndices = new HashMap<>();
+				for (int state = 0; state < numStates; state++) {
+					Signature signature = new Signature(state);
+					Integer block = blockIndices.get(signature);
+					if (block == null) {
+						block = blockIndices.size();
+						blockIndices.put(signature, block);
+					}
+					newBlocks[state] = block;
+				}
+
+				// Blocks are only ever split and numbered in the order of their first state. Thus, the
+				// same number of blocks means that the partition did not change.
+				boolean stable = blockIndices.size() == numBlocks;
+				blocks = newBlocks;
+				numBlocks = blockIndices.size();
+				debug("Refined partition has ", numBlocks, " blocks");
+				if (stable)
+					return;
+			}
+		} finally {
+			if (executor != null)
+				executor.shutdownNow();
+		}
+	}
+
+	private void computeSignatures(int from, int to) {
+		for (int state = from; state < to; state++) {
+			int start = arcStart[state];
+			int end = arcStart[state + 1];
+			for (int arc = start; arc < end; arc++)
+				signatures[arc] = ((long) arcLabels[arc] << 32) | blocks[arcTargets[arc]];
+			Arrays.sort(signatures, start, end);
+
+			// Remove duplicates
+			int length = 0;
+			for (int arc = start; arc < end; arc++)
+				if (length == 0 || signatures[start + length - 1] != signatures[arc])
+					signatures[start + length++] = signatures[arc];
+			signatureLength[state] = length;
+		}
+	}
+
+	private void computeSignaturesParallel(ExecutorService executor, int numThreads) {
+		List<Callable<Void>> tasks = new ArrayList<>();
+		int chunk = (numStates + numThreads - 1) / numThreads;
+		for (int start = 0; start < numStates; start += chunk) {
+			final int from = start;
+			final int to = Math.min(start + chunk, numStates);
+			tasks.add(new Callable<Void>() {
+				@Override
+				public Void call() {
+					computeSignatures(from, to);
+					return null;
+				}
+			});
+		}
+		try {
+			for (Future<Void> future : executor.invokeAll(tasks))
+				future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while computing signatures", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new RuntimeException(cause);
+		}
+	}
+
+	// The current block of a state together with its signature
+	private class Signature {
+		private final int state;
+		private final int hashCode;
+
+		private Signature(int state) {
+			this.state = state;
+			int hash = blocks[state];
+			int start = arcStart[state];
+			for (int i = start; i < start + signatureLength[state]; i++)
+				hash = 31 * hash + (int) (signatures[i] ^ (signatures[i] >>> 32));
+			this.hashCode = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Signature))
+				return false;
+			int other = ((Signature) o).state;
+			int length = signatureLength[state];
+			if (blocks[state] != blocks[other] || length != signatureLength[other])
+				return false;
+			int start = arcStart[state];
+			int otherStart = arcStart[other];
+			for (int i = 0; i < length; i++)
+				if (signatures[start + i] != signatures[otherStart + i])
+					return false;
+			return true;
+		}
+	}
+
+	/**
+	 * Get the number of blocks of the partition, which is the number of equivalence classes of the bisimulation.
+	 * @return The number of blocks.
+	 */
+	public int getNumberOfBlocks() {
+		return numBlocks;
+	}
+
+	/**
+	 * Get the block of a state. Two states are bisimilar iff they are in the same block.
+	 * @param state A state of one of the transition systems.
+	 * @return The index of the block of the state.
+	 */
+	public int getBlock(State state) {
+		Integer index = stateIndices.get(state);
+		if (index == null)
+			throw new IllegalArgumentException("State " + state + " is not known");
+		return blocks[index];
+	}
+
+	/**
+	 * Check if two states are bisimilar.
+	 * @param state1 A state of one of the transition systems.
+	 * @param state2 A state of one of the transition systems.
+	 * @return true iff both states are bisimilar.
+	 */
+	public boolean areBisimilar(State state1, State state2) {
+		return getBlock(state1) == getBlock(state2);
+	}
+
+	/**
+	 * Calculate the quotient of one of the transition systems. The quotient has a state for each block that
+	 * contains a state of the given transition system. The arcs of the quotient are the arcs between these blocks.
+	 * This is the smallest transition system that is bisimilar to the given one.
+	 * @param ts One of the transition systems.
+	 * @return A new transition system which is the quotient of ts under the bisimulation.
+	 */
+	public TransitionSystem getQuotient(TransitionSystem ts) {
+		TransitionSystem result = new TransitionSystem();
+		Map<Integer, State> blockStates = new HashMap<>();
+		List<Integer> representatives = new ArrayList<>();
+		for (State state : ts.getNodes()) {
+			int index = stateIndices.get(state);
+			if (!blockStates.containsKey(blocks[index])) {
+				blockStates.put(blocks[index], result.createState());
+				representatives.add(index);
+			}
+		}
+
+		// The partition is stable, so all states of a block have the same signature as its representative
+		for (int state : representatives) {
+			State source = blockStates.get(blocks[state]);
+			for (int i = arcStart[state]; i < arcStart[state] + signatureLength[state]; i++) {
+				String label = labels.get((int) (signatures[i] >>> 32));
+				State target = blockStates.get((int) signatures[i]);
+				result.createArc(source, target, label);
+			}
+		}
+
+		result.setInitialState(blockStates.get(getBlock(ts.getInitialState())));
+		return result;
+	}
+
+	/**
+	 * Check if the initial states of two transition systems are bisimilar.
+	 * @param ts1 The first transition system.
+	 * @param ts2 The second transition system.
+	 * @return true iff the transition systems are bisimilar.
+	 */
+	static public boolean isBisimilar(TransitionSystem ts1, TransitionSystem ts2) {
+		BisimulationPartition partition = new BisimulationPartition(ts1, ts2);
+		return partition.areBisimilar(ts1.getInitialState(), ts2.getInitialState());
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
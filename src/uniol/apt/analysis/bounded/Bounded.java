@@ -29,7 +29,8 @@ import uniol.apt.adt.pn.Place;
 import uniol.apt.adt.pn.Token;
 import uniol.apt.adt.pn.Transition;
 import uniol.apt.analysis.coverability.CoverabilityGraph;
-import uniol.apt.analysis.coverability.CoverabilityGraphNode;
+import uniol.apt.analysis.coverability.CoverabilityNode;
+import uniol.apt.analysis.coverability.MinimalCoverabilitySet;
 import uniol.apt.analysis.language.FiringSequence;
 
 /**
@@ -53,21 +54,40 @@ public class Bounded {
 	 * @return An instance of BoundedResult describing the result. This function never returns null.
 	 */
 	static public BoundedResult checkBounded(PetriNet pn) {
+		// The minimal coverability set is sufficient for answering this question and usually much smaller
+		// than the coverability graph. Every reachable marking is covered by one of its nodes and every node
+		// was created before any node with more OMEGAs that descends from it.
+		return checkBounded(pn, MinimalCoverabilitySet.get(pn).getNodes());
+	}
+
+	/**
+	 * Check if the Petri net is (k-)bounded with bounded memory usage. The coverability graph that is needed for
+	 * this check is not cached and its markings are moved to memory-mapped files once they need more than the given
+	 * number of bytes on the heap.
+	 * @param pn The Petri net to check.
+	 * @param heapBudget Number of bytes that the markings of the coverability graph may use on the heap.
+	 * @return An instance of BoundedResult describing the result. This function never returns null.
+	 * @see CoverabilityGraph#get(PetriNet, long)
+	 */
+	static public BoundedResult checkBounded(PetriNet pn, long heapBudget) {
+		return checkBounded(pn, CoverabilityGraph.get(pn, heapBudget).getNodes());
+	}
+
+	static private BoundedResult checkBounded(PetriNet pn, Iterable<? extends CoverabilityNode> nodes) {
 		Collection<Place> places = pn.getPlaces();
-		CoverabilityGraph cover = CoverabilityGraph.get(pn);
 		List<Transition> sequence = new FiringSequence();
 		Place witness = null;
 		long k = 0;
 
 		// Now check all markings and places and remember the largest token count that is seen.
-		for (CoverabilityGraphNode n : cover.getNodes()) {
+		for (CoverabilityNode n : nodes) {
 			Marking mark = n.getMarking();
 			for (Place p : places) {
 				Token val = mark.getToken(p);
 
 				if (val.isOmega()) {
 					// The net is unbounded, it can't get worse than this
-					CoverabilityGraphNode covered = n.getCoveredNode();
+					CoverabilityNode covered = n.getCoveredNode();
 					return new BoundedResult(pn, p, null, covered.getFiringSequence(),
 							n.getFiringSequenceFromCoveredNode());
 				}
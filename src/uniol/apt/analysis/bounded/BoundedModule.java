@@ -58,6 +58,9 @@ public class BoundedModule extends AbstractModule {
 	public void require(ModuleInputSpec inputSpec) {
 		inputSpec.addParameter("pn", PetriNet.class, "The Petri net that should be examined");
 		inputSpec.addOptionalParameter("k", Integer.class, null, "If given, k-boundedness is checked");
+		inputSpec.addOptionalParameter("heap_budget", Integer.class, null,
+				"If given, markings that need more than this many MiB are moved to memory-mapped"
+				+ " files");
 	}
 
 	@Override
@@ -72,7 +75,13 @@ public class BoundedModule extends AbstractModule {
 	public void run(ModuleInput input, ModuleOutput output) throws ModuleException {
 		PetriNet pn = input.getParameter("pn", PetriNet.class);
 		Integer k = input.getParameter("k", Integer.class);
-		BoundedResult result = Bounded.checkBounded(pn);
+		Integer heapBudget = input.getParameter("heap_budget", Integer.class);
+		BoundedResult result;
+		if (heapBudget == null) {
+			result = Bounded.checkBounded(pn);
+		} else {
+			result = Bounded.checkBounded(pn, heapBudget * 1024L * 1024L);
+		}
 		boolean boundedResult;
 		if (k == null) {
 			boundedResult = result.isBounded();
@@ -30,6 +30,7 @@ import uniol.apt.module.exception.ModuleException;
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.pn.Place;
 import uniol.apt.analysis.language.FiringSequence;
+import uniol.apt.analysis.symbolic.SymbolicReachability;
 
 /**
  * Provide the safeness test as a module.
@@ -56,6 +57,8 @@ public class SafeModule extends AbstractModule {
 	@Override
 	public void require(ModuleInputSpec inputSpec) {
 		inputSpec.addParameter("pn", PetriNet.class, "The Petri net that should be examined");
+		inputSpec.addOptionalParameter("symbolic", String.class, null,
+			"If given, the reachable markings are represented symbolically by BDDs");
 	}
 
 	@Override
@@ -68,6 +71,17 @@ public class SafeModule extends AbstractModule {
 	@Override
 	public void run(ModuleInput input, ModuleOutput output) throws ModuleException {
 		PetriNet pn = input.getParameter("pn", PetriNet.class);
+		if (input.getParameter("symbolic", String.class) != null) {
+			SymbolicReachability reachability = SymbolicReachability.get(pn);
+			output.setReturnValue("safe", Boolean.class, reachability.isSafe());
+			if (!reachability.isSafe()) {
+				output.setReturnValue("witness_place", Place.class, reachability.getUnsafePlace());
+				output.setReturnValue("witness_firing_sequence", FiringSequence.class,
+						new FiringSequence(reachability.getUnsafeFiringSequence()));
+			}
+			return;
+		}
+
 		// An unsafe place is one which isn't 1-bounded
 		BoundedResult result = Bounded.checkBounded(pn);
 		output.setReturnValue("safe", Boolean.class, result.isSafe());
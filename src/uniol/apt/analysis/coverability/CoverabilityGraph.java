@@ -17,28 +17,31 @@
  * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
  */
 
+
 package uniol.apt.analysis.coverability;
 
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import uniol.apt.adt.StructuralExtensionRemover;
+import uniol.apt.adt.pn.CompiledPetriNet;
 import uniol.apt.adt.pn.Flow;
 import uniol.apt.adt.pn.Marking;
 import uniol.apt.adt.pn.Node;
 import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Token;
 import uniol.apt.adt.pn.Transition;
 import uniol.apt.adt.ts.Arc;
 import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
-import uniol.apt.util.Pair;
 
 import uniol.apt.adt.exception.ArcExistsException;
 import uniol.apt.adt.exception.StructureException;
@@ -51,20 +54,31 @@ import uniol.apt.analysis.exception.UnboundedException;
  *
  * The coverability graph is based on the reachability graph. However, the markings used may contain OMEGAs which means
  * that a place can have infinitely many tokens. This extension makes the coverability graph always bounded.
+ *
+ * The markings of the graph are kept in a {@link StateStore}. Nodes are numbered in the order in which they are
+ * discovered by the breadth-first search. Graphs created with a heap budget do not keep the node and edge objects
+ * around, but recreate them on demand, and move markings into memory-mapped files once the budget is exceeded.
  * @author Uli Schlachter, vsp
  */
 public class CoverabilityGraph {
 
 	// The Petri net that we are handling
 	private final PetriNet pn;
-	// Map from visited markings to the corresponding nodes
-	private final Map<Marking, CoverabilityGraphNode> states = new HashMap<>();
-	// List of nodes which were generated but whose enabled transitions weren't handled yet.
-	private final Deque<CoverabilityGraphNode> unvisited = new LinkedList<>();
-	// List of nodes that were already visited, this is a list to implement iterators.
-	private final List<CoverabilityGraphNode> nodes = new ArrayList<>();
+	// The compiled form of the Petri net which is used for firing transitions
+	private final CompiledPetriNet compiled;
+	// The visited markings together with their parents. This is read concurrently by calculateNodes(pool).
+	private final StateStore store;
+	// The node objects for all states of the store, or null if nodes are created on demand.
+	private final List<CoverabilityGraphNode> nodes;
+	// Index of the first state whose enabled transitions weren't handled yet. Since we do a breadth-first search,
+	// all states with a larger index are unvisited, too.
+	private int nextUnvisited = 0;
 	// Are we generating a coverability or a reachability graph?
 	private final boolean reachabilityGraph;
+	// Stubborn sets for partial order reduction, or null
+	private final StubbornSets stubbornSets;
+	// Symmetries whose orbits are represented by a single marking, or null
+	private final Symmetries symmetries;
 
 	/**
 	 * Construct the coverability graph for a given Petri net. If a coverability graph for this Petri net is already
@@ -87,6 +101,78 @@ public class CoverabilityGraph {
 		return get(pn, true);
 	}
 
+	/**
+	 * Construct the coverability graph for a given Petri net with bounded memory usage. Nodes and edges are not
+	 * kept in memory and markings are moved to memory-mapped files once they need more than the given number of
+	 * bytes on the heap. The result is not cached.
+	 * @param pn The Petri net whose coverability graph is wanted.
+	 * @param heapBudget Number of bytes that the markings may use on the heap.
+	 * @return A coverability graph.
+	 */
+	static public CoverabilityGraph get(PetriNet pn, long heapBudget) {
+		return new CoverabilityGraph(pn, false, heapBudget, null, null);
+	}
+
+	/**
+	 * Construct the reachability graph for a given Petri net with bounded memory usage. Nodes and edges are not
+	 * kept in memory and markings are moved to memory-mapped files once they need more than the given number of
+	 * bytes on the heap. The result is not cached. Keep in mind that the reachability graph of a Petri net can be
+	 * infinite!
+	 * @param pn The Petri net whose reachability graph is wanted.
+	 * @param heapBudget Number of bytes that the markings may use on the heap.
+	 * @return A coverability graph.
+	 */
+	static public CoverabilityGraph getReachabilityGraph(PetriNet pn, long heapBudget) {
+		return new CoverabilityGraph(pn, true, heapBudget, null, null);
+	}
+
+	/**
+	 * Construct the symmetry-reduced reachability graph for a given Petri net. Every reached marking is replaced by
+	 * the representative of its orbit under the given symmetries, so that only one marking of each orbit is
+	 * explored. Thus, the markings of the nodes and the transitions of the edges are those of the representatives.
+	 * The firing sequences of the nodes however are real firing sequences of the Petri net which reach a marking
+	 * in the orbit of the node's marking. The result is not cached. Keep in mind that the reachability graph of a
+	 * Petri net can be infinite!
+	 * @param pn The Petri net whose reachability graph is wanted.
+	 * @param symmetries The symmetries of the Petri net.
+	 * @return A coverability graph.
+	 */
+	static public CoverabilityGraph getReachabilityGraph(PetriNet pn, Symmetries symmetries) {
+		return new CoverabilityGraph(pn, true, -1, null, symmetries);
+	}
+
+	/**
+	 * Construct the symmetry-reduced reachability graph for a given Petri net with bounded memory usage.
+	 * @param pn The Petri net whose reachability graph is wanted.
+	 * @param heapBudget Number of bytes that the markings may use on the heap.
+	 * @param symmetries The symmetries of the Petri net.
+	 * @return A coverability graph.
+	 * @see #getReachabilityGraph(PetriNet, long)
+	 * @see #getReachabilityGraph(PetriNet, Symmetries)
+	 */
+	static public CoverabilityGraph getReachabilityGraph(PetriNet pn, long heapBudget, Symmetries symmetries) {
+		return new CoverabilityGraph(pn, true, heapBudget, null, symmetries);
+	}
+
+	/**
+	 * Construct a coverability graph for a given Petri net with partial order reduction. In every marking, only the
+	 * enabled transitions of a stubborn set are fired. The resulting graph contains all deadlocks of the full
+	 * coverability graph and for each of the given visible transitions, it contains a marking in which this
+	 * transition is enabled if the full graph contains such a marking. Each OMEGA still proves that the Petri net
+	 * is unbounded, but the reduced graph may lack OMEGAs on places that are unbounded. The result is not cached.
+	 * @param pn The Petri net whose reduced coverability graph is wanted.
+	 * @param visible Transitions whose enabledness should be preserved.
+	 * @return A coverability graph.
+	 */
+	static public CoverabilityGraph getReducedGraph(PetriNet pn, Collection<Transition> visible) {
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		int[] indices = new int[visible.size()];
+		int i = 0;
+		for (Transition transition : visible)
+			indices[i++] = compiled.getTransitionIndex(transition);
+		return new CoverabilityGraph(pn, false, -1, new StubbornSets(compiled, indices), null);
+	}
+
 	/**
 	 * Construct the coverability graph for a given Petri net. If a coverability graph for this Petri net is already
 	 * known, that instance is re-used instead of creating a new one.
@@ -110,7 +196,7 @@ public class CoverabilityGraph {
 		if (extension != null && extension instanceof CoverabilityGraph)
 			return (CoverabilityGraph) extension;
 
-		CoverabilityGraph result = new CoverabilityGraph(pn, reachabilityGraph);
+		CoverabilityGraph result = new CoverabilityGraph(pn, reachabilityGraph, -1, null, null);
 		// Save this coverability graph as an extension, but make sure that it is removed if the structure of
 		// the Petri net is changed in any way.
 		pn.putExtension(key, result);
@@ -124,11 +210,31 @@ public class CoverabilityGraph {
 	 * {@link #calculateNodes() calculateNodes} method.
 	 * @param pn The Petri net whose coverability graph is wanted.
 	 * @param reachabilityGraph Should just reachability be checked and coverability be ignored?
+	 * @param heapBudget Number of bytes that the markings may use on the heap or a negative number if node objects
+	 * should be cached and everything is kept on the heap.
+	 * @param stubbornSets The stubborn sets for partial order reduction or null if all transitions should be fired.
+	 * @param symmetries The symmetries for reducing markings to their orbit's representative or null. Only
+	 * allowed for reachability graphs, since the acceleration of coverability graphs is not compatible with it.
 	 */
-	private CoverabilityGraph(PetriNet pn, boolean reachabilityGraph) {
+	private CoverabilityGraph(PetriNet pn, boolean reachabilityGraph, long heapBudget,
+			StubbornSets stubbornSets, Symmetries symmetries) {
+		assert symmetries == null || reachabilityGraph;
 		this.pn = pn;
+		this.compiled = CompiledPetriNet.get(pn);
 		this.reachabilityGraph = reachabilityGraph;
-		addNode(null, pn.getInitialMarking(), null, null);
+		this.stubbornSets = stubbornSets;
+		this.symmetries = symmetries;
+		if (heapBudget < 0) {
+			this.store = new StateStore(compiled.getPlaceCount());
+			this.nodes = new ArrayList<>();
+		} else {
+			this.store = new StateStore(compiled.getPlaceCount(), heapBudget, null);
+			this.nodes = null;
+		}
+		long[] initial = compiled.getTokens(pn.getInitialMarking());
+		if (symmetries != null)
+			initial = symmetries.canonicalize(initial);
+		addState(initial, -1, -1, -1);
 	}
 
 	/**
@@ -138,106 +244,262 @@ public class CoverabilityGraph {
 	public int calculateNodes() {
 		while (true) {
 			if (!visitNode())
-				return nodes.size();
+				return store.size();
 		}
 	}
 
 	private boolean visitNode() {
 		// Pick a random, unvisited node
 		// (Here: breadth-first search so that we have short paths to the initial node in checkCover())
-		CoverabilityGraphNode node = unvisited.pollFirst();
-		if (node == null)
+		if (nextUnvisited >= store.size())
 			return false;
+		int index = nextUnvisited++;
 
 		// Make the node generate its postset
-		node.getPostsetEdges();
+		if (nodes != null)
+			nodes.get(index).getPostsetEdges();
+		else
+			addSuccessors(index, calculateSuccessors(index));
 		return true;
 	}
 
+	/**
+	 * Calculate all nodes of the coverability graph and use the given pool for expanding nodes in parallel. The
+	 * graph is still explored in breadth-first order: All unvisited nodes are expanded concurrently and the
+	 * resulting successors are afterwards added to the graph in the same order as {@link #calculateNodes()} would
+	 * add them. Thus, the resulting graph is the same as the one computed by the sequential version and firing
+	 * sequences are still as short as possible.
+	 * @param pool The pool that should be used for expanding nodes.
+	 * @return Number of nodes in the graph.
+	 */
+	public int calculateNodes(ForkJoinPool pool) {
+		while (nextUnvisited < store.size()) {
+			// Collect all nodes of the current breadth-first level(s) which still have to be expanded
+			final List<Integer> batch = new ArrayList<>(store.size() - nextUnvisited);
+			for (int index = nextUnvisited; index < store.size(); index++) {
+				if (nodes == null || !nodes.get(index).hasPostsetEdges())
+					batch.add(index);
+			}
+			nextUnvisited = store.size();
+
+			// Fire all enabled transitions of all nodes in parallel...
+			final List<List<Successor>> successors = new ArrayList<>(batch.size());
+			for (int i = 0; i < batch.size(); i++)
+				successors.add(null);
+			pool.invoke(new ExpandTask(batch, successors, 0, batch.size()));
+
+			// ...and add the new nodes in a deterministic order
+			for (int i = 0; i < batch.size(); i++) {
+				int index = batch.get(i);
+				int[] targets = addSuccessors(index, successors.get(i));
+				if (nodes != null) {
+					CoverabilityGraphNode node = nodes.get(index);
+					node.setPostsetEdges(toEdges(node, successors.get(i), targets));
+				}
+			}
+		}
+		return store.size();
+	}
+
 	/**
 	 * Generate the postset of a given node. This may only be called by CoverabilityGraphNode.
 	 * @param node Node whose postset should get generated.
 	 * @return The node's postset
 	 */
 	Set<CoverabilityGraphEdge> getPostsetEdges(CoverabilityGraphNode node) {
+		List<Successor> successors = calculateSuccessors(node.getIndex());
+		return toEdges(node, successors, addSuccessors(node.getIndex(), successors));
+	}
+
+	/**
+	 * Check if node objects and their postsets are kept in memory. This may only be called by
+	 * CoverabilityGraphNode.
+	 * @return true if nodes are cached.
+	 */
+	boolean cachesNodes() {
+		return nodes != null;
+	}
+
+	/**
+	 * Get the node for the state with the given index.
+	 * @param index The index of the state.
+	 * @return The node.
+	 */
+	CoverabilityGraphNode getNode(int index) {
+		if (nodes != null)
+			return nodes.get(index);
+		if (index < 0 || index >= store.size())
+			throw new IndexOutOfBoundsException("Index " + index + " is not in [0, " + store.size() + ")");
+		return new CoverabilityGraphNode(this, index);
+	}
+
+	/**
+	 * Get the marking of the state with the given index. This may only be called by CoverabilityGraphNode.
+	 * @param index The index of the state.
+	 * @return A new marking instance.
+	 */
+	Marking getMarking(int index) {
+		return compiled.toMarking(store.getMarking(index));
+	}
+
+	/**
+	 * Get the node that is covered by the state with the given index. This may only be called by
+	 * CoverabilityGraphNode.
+	 * @param index The index of the state.
+	 * @return The covered node or null.
+	 */
+	CoverabilityGraphNode getCoveredNode(int index) {
+		int covered = store.getCovered(index);
+		if (covered < 0)
+			return null;
+		return getNode(covered);
+	}
+
+	/**
+	 * Get the firing sequence which reaches the state with the given index. This may only be called by
+	 * CoverabilityGraphNode.
+	 * @param index The index of the state.
+	 * @return The firing sequence.
+	 */
+	List<Transition> getFiringSequence(int index) {
+		int[] sequence = store.getTransitionSequence(index);
+		if (symmetries != null)
+			sequence = symmetries.unfold(compiled.getTokens(pn.getInitialMarking()), sequence);
+		List<Transition> result = new ArrayList<>(sequence.length);
+		for (int transition : sequence)
+			result.add(compiled.getTransition(transition));
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Get the length of the firing sequence which reaches the state with the given index. This may only be called
+	 * by CoverabilityGraphNode.
+	 * @param index The index of the state.
+	 * @return The length of the firing sequence.
+	 */
+	int getDepth(int index) {
+		return store.getDepth(index);
+	}
+
+	/**
+	 * Calculate the successors of the given state without changing the graph. Besides the given state and its
+	 * ancestors, this only reads the hash index of the state store and thus may be called concurrently for
+	 * different states.
+	 * @param index Index of the state whose successors should get calculated.
+	 * @return The successors of the state in the order of the transitions of the compiled Petri net.
+	 */
+	private List<Successor> calculateSuccessors(int index) {
 		// Now follow all activated transitions of that node
-		final Marking marking = node.getMarking();
-		final Set<CoverabilityGraphEdge> result = new HashSet<>();
-		for (Transition t : pn.getTransitions()) {
-			if (!t.isFireable(marking)) {
+		final long[] tokens = store.peekMarking(index);
+		final List<Successor> result = new ArrayList<>();
+		final boolean[] stubborn = stubbornSets == null ? null : stubbornSets.getStubbornSet(tokens);
+		for (int t = 0; t < compiled.getTransitionCount(); t++) {
+			if (stubborn != null && !stubborn[t]) {
+				continue;
+			}
+			if (!compiled.isFireable(t, tokens)) {
 				continue;
 			}
 
-			Marking newMarking = t.fire(marking);
-			// checkCover() will also change the marking of the Petri net if some OMEGAs are created!
-			Pair<CoverabilityGraphNode, Marking> covered = checkCover(newMarking, node);
-			if (covered == null)
-				result.add(addArc(t, newMarking, node, null));
-			else
-				result.add(addArc(t, covered.getSecond(), node, covered.getFirst()));
+			long[] newTokens = compiled.fire(t, tokens);
+			if (symmetries != null)
+				newTokens = symmetries.canonicalize(newTokens);
+			int covered = -1;
+			if (!reachabilityGraph) {
+				// Check if the new marking covers any markings on the current path.
+				// If the marking covers some other marking, suitable omegas are inserted.
+				for (int ancestor = index; ancestor >= 0; ancestor = store.getParent(ancestor)) {
+					long[] covering = cover(newTokens, store.peekMarking(ancestor));
+					if (covering != null) {
+						newTokens = covering;
+						covered = ancestor;
+						break;
+					}
+				}
+			}
+			result.add(new Successor(t, newTokens, covered, store.find(newTokens)));
 		}
 
 		return result;
 	}
 
 	/**
-	 * Check if the given marking covers any markings on the current path.
-	 * If the marking covers some other marking, suitable omegas are inserted.
-	 * @param cur The marking to check.
-	 * @param parent The immediate parent node.
-	 * @return null if no covering occurred, else the node that is covered and the covering marking.
+	 * Check if the first marking covers the second one. If this is the case, the first marking with suitable
+	 * omegas added is returned.
+	 * @param cur The marking that might cover the other one.
+	 * @param other The marking that should be covered.
+	 * @return The covering marking or null if the first marking does not cover the second one.
+	 * @see Marking#cover
 	 */
-	private Pair<CoverabilityGraphNode, Marking> checkCover(Marking cur, CoverabilityGraphNode parent) {
-		if (reachabilityGraph)
-			return null;
-		assert parent != null;
-		while (parent != null) {
-			Marking m = cur.cover(parent.getMarking());
-			if (m != null)
-				return new Pair<>(parent, m);
-			parent = parent.getParent();
+	static private long[] cover(long[] cur, long[] other) {
+		final long omega = Token.OMEGA.getValue();
+		long[] result = null;
+		for (int i = 0; i < cur.length; i++) {
+			if (cur[i] == other[i] || cur[i] == omega)
+				continue;
+			if (other[i] == omega || cur[i] < other[i])
+				return null;
+			if (result == null)
+				result = cur.clone();
+			result[i] = omega;
 		}
-		return null;
+		// If nothing was changed, both markings are equal and thus we don't cover anything
+		return result;
 	}
 
 	/**
-	 * Add a new arc to the LTS.
-	 * The arc starts in the marking given at the top of the current path.
-	 * @param transition The transition for the arc.
-	 * @param cur The marking to which the arc goes to.
-	 * @param from The marking from which the arc originates.
-	 * @param covered node whose marking is covered by the given marking (or null if none)
+	 * Add the given successors of a state to the graph.
+	 * @param index Index of the state whose successors are given.
+	 * @param successors The successors calculated by {@link #calculateSuccessors}.
+	 * @return The indices of the states reached by the successors.
 	 */
-	private CoverabilityGraphEdge addArc(Transition transition, Marking cur, CoverabilityGraphNode from,
-			CoverabilityGraphNode covered) {
-		CoverabilityGraphNode state = states.get(cur);
-		if (state == null) {
-			state = addNode(transition, cur, from, covered);
+	private int[] addSuccessors(int index, List<Successor> successors) {
+		int[] result = new int[successors.size()];
+		for (int i = 0; i < result.length; i++) {
+			Successor successor = successors.get(i);
+			int target = successor.target;
+			if (target < 0)
+				target = store.find(successor.tokens);
+			if (target < 0)
+				target = addState(successor.tokens, index, successor.transition, successor.covered);
+			result[i] = target;
 		}
-
-		return new CoverabilityGraphEdge(transition, from, state);
+		return result;
 	}
 
 	/**
-	 * Add a node for the given marking to the LTS.
-	 * Precondition: There is no node for that marking yet.
-	 * @param mark The marking for which a node should be created.
-	 * @param parent The parent of this marking. Used for tracing the path to the root.
-	 * @param covered node whose marking is covered by the given marking (or null if none)
-	 * @return the new node.
+	 * Create the edges for the given successors of a node.
+	 * @param node The node whose successors are given.
+	 * @param successors The successors calculated by {@link #calculateSuccessors}.
+	 * @param targets The indices of the states reached by the successors.
+	 * @return The node's postset
 	 */
-	private CoverabilityGraphNode addNode(Transition transition, Marking mark, CoverabilityGraphNode parent,
-			CoverabilityGraphNode covered) {
-		assert states.get(mark) == null;
+	private Set<CoverabilityGraphEdge> toEdges(CoverabilityGraphNode node, List<Successor> successors,
+			int[] targets) {
+		final Set<CoverabilityGraphEdge> result = new HashSet<>();
+		for (int i = 0; i < targets.length; i++) {
+			Transition transition = compiled.getTransition(successors.get(i).transition);
+			result.add(new CoverabilityGraphEdge(transition, node, getNode(targets[i])));
+		}
+		return result;
+	}
 
-		// Copy the marking to make sure no one else messes with it.
-		mark = new Marking(mark);
-		CoverabilityGraphNode node = new CoverabilityGraphNode(this, transition, mark, parent, covered);
-		states.put(mark, node);
-		nodes.add(node);
-		// Append it to the tail of the unvisited nodes so that we do a breadth-first search
-		unvisited.addLast(node);
-		return node;
+	/**
+	 * Add a state for the given marking to the graph.
+	 * Precondition: There is no state for that marking yet.
+	 * @param tokens The marking for which a state should be created.
+	 * @param parent The index of the parent of this marking. Used for tracing the path to the root.
+	 * @param transition The index of the transition which is fired in the parent to reach the new marking.
+	 * @param covered index of the state whose marking is covered by the given marking (or -1 if none)
+	 * @return the index of the new state.
+	 */
+	private int addState(long[] tokens, int parent, int transition, int covered) {
+		// The new state is appended to the store, so that the unvisited states are visited in breadth-first
+		// order
+		int index = store.add(tokens, parent, transition, covered);
+		if (nodes != null)
+			nodes.add(new CoverabilityGraphNode(this, index));
+		return index;
 	}
 
 	/**
@@ -245,7 +507,7 @@ public class CoverabilityGraph {
 	 * @return the inital node.
 	 */
 	public CoverabilityGraphNode getInitialNode() {
-		return nodes.get(0);
+		return getNode(0);
 	}
 
 	/**
@@ -265,7 +527,7 @@ public class CoverabilityGraph {
 					public boolean hasNext() {
 						do {
 							// Are we at the end yet?
-							if (position < nodes.size()) {
+							if (position < store.size()) {
 								return true;
 							}
 
@@ -278,8 +540,9 @@ public class CoverabilityGraph {
 					@Override
 					public CoverabilityGraphNode next() {
 						// Make sure the next state is generated
-						hasNext();
-						return nodes.get(position++);
+						if (!hasNext())
+							throw new NoSuchElementException();
+						return getNode(position++);
 					}
 
 					@Override
@@ -340,16 +603,16 @@ public class CoverabilityGraph {
 	 */
 	private TransitionSystem toLTS(boolean onlyReachability) throws UnboundedException {
 		String name = (onlyReachability ? "Reachability" : "Coverability") + " graph of " + this.pn.getName();
-		Map<Marking, State> ltsStates = new HashMap<>();
+		List<State> ltsStates = new ArrayList<>();
 		TransitionSystem lts = new TransitionSystem(name);
 		lts.putExtension(PetriNet.class.getName(), this.pn);
 
 		for (CoverabilityGraphNode node : this.getNodes()) {
 			Marking mark = node.getMarking();
-			assert ltsStates.get(mark) == null;
+			assert ltsStates.size() == node.getIndex();
 
 			State n = lts.createState();
-			ltsStates.put(mark, n);
+			ltsStates.add(n);
 			n.putExtension(Marking.class.getName(), mark);
 			n.putExtension(CoverabilityGraphNode.class.getName(), node);
 
@@ -359,9 +622,9 @@ public class CoverabilityGraph {
 		}
 
 		for (CoverabilityGraphNode sourceNode : this.getNodes()) {
-			State source = ltsStates.get(sourceNode.getMarking());
+			State source = ltsStates.get(sourceNode.getIndex());
 			for (CoverabilityGraphEdge edge : sourceNode.getPostsetEdges()) {
-				State target = ltsStates.get(edge.getTarget().getMarking());
+				State target = ltsStates.get(edge.getTarget().getIndex());
 				Transition transition = edge.getTransition();
 				try {
 					Arc e = lts.createArc(source.getId(), target.getId(), transition.getLabel());
@@ -385,13 +648,76 @@ public class CoverabilityGraph {
 		}
 
 		// Set up the LTS' initial state
-		Marking initialMarking = pn.getInitialMarking();
-		State initialNode = ltsStates.get(initialMarking);
+		State initialNode = ltsStates.get(0);
 		lts.setInitialState(initialNode);
 		assert initialNode != null;
 
 		return lts;
 	}
+
+	/**
+	 * A successor of a state that was calculated, but not yet added to the graph.
+	 */
+	static private class Successor {
+		// The index of the transition that was fired
+		private final int transition;
+		// The reached marking, possibly with OMEGAs added
+		private final long[] tokens;
+		// The index of the state whose marking is covered by the reached marking (or -1 if none)
+		private final int covered;
+		// The index of the state for the reached marking if that was already known when this successor was
+		// calculated, else -1
+		private final int target;
+
+		private Successor(int transition, long[] tokens, int covered, int target) {
+			this.transition = transition;
+			this.tokens = tokens;
+			this.covered = covered;
+			this.target = target;
+		}
+	}
+
+	/**
+	 * Task for calculating the successors of a range of states in parallel.
+	 */
+	private class ExpandTask extends RecursiveAction {
+		public static final long serialVersionUID = 0x1l;
+
+		// Number of states below which a task is no longer split up
+		private static final int THRESHOLD = 16;
+
+		private final List<Integer> batch;
+		private final List<List<Successor>> successors;
+		private final int from;
+		private final int to;
+
+		/**
+		 * Constructor
+		 * @param batch The indices of the states that should be expanded.
+		 * @param successors List into which the successors of the states are written at the state's index
+		 * in the batch.
+		 * @param from First index in the batch that this task is responsible for.
+		 * @param to Index after the last index in the batch that this task is responsible for.
+		 */
+		private ExpandTask(List<Integer> batch, List<List<Successor>> successors, int from, int to) {
+			this.batch = batch;
+			this.successors = successors;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= THRESHOLD) {
+				for (int i = from; i < to; i++)
+					successors.set(i, calculateSuccessors(batch.get(i)));
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new ExpandTask(batch, successors, from, middle),
+						new ExpandTask(batch, successors, middle, to));
+			}
+		}
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -20,11 +20,9 @@
 package uniol.apt.analysis.coverability;
 
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
-import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSet;
 
 import uniol.apt.adt.pn.Marking;
@@ -34,46 +32,34 @@ import uniol.apt.adt.pn.Transition;
  * This class represents a node in a coverability graph. A node is labeled with a marking which identifies it uniquely
  * and has a firing sequence with which it can be reached from the initial marking of the underlying Petri net.
  * Additionally, the postset of the node is available.
+ *
+ * The actual data of a node is kept by its coverability graph. Two instances are equal if they represent the same
+ * node of the same graph.
  * @author Uli Schlachter
  */
-public class CoverabilityGraphNode {
+public class CoverabilityGraphNode implements CoverabilityNode {
 	private final CoverabilityGraph graph;
-	private final Marking marking;
-	private final List<Transition> firingSequence;
-	private final CoverabilityGraphNode parent;
-	private final CoverabilityGraphNode covered;
+	private final int index;
+	private List<Transition> firingSequence;
 	private Set<CoverabilityGraphEdge> postsetEdges;
 
 	/**
 	 * Construct a new coverability graph node.
 	 * @param graph The graph that this node belongs to.
-	 * @param transition The transition that is fired from this node's parent to reach this new node.
-	 * @param marking The marking that identifies this node.
-	 * @param parent The parent node of this node.
-	 * @param covered The node which is covered by this node.
+	 * @param index The index of the state of the graph that this node represents.
 	 */
-	CoverabilityGraphNode(CoverabilityGraph graph, Transition transition, Marking marking,
-			CoverabilityGraphNode parent, CoverabilityGraphNode covered) {
+	CoverabilityGraphNode(CoverabilityGraph graph, int index) {
 		this.graph = graph;
-		this.marking = marking;
-		this.parent = parent;
-		this.covered = covered;
-		List<Transition> sequence = new LinkedList<>();
-		if (parent != null) {
-			sequence.addAll(parent.firingSequence);
-			sequence.add(transition);
-		} else {
-			assert transition == null;
-		}
-		this.firingSequence = unmodifiableList(sequence);
+		this.index = index;
 	}
 
 	/**
-	 * Get the parent of this node on the path back to the root of the depth first search tree.
-	 * @return the parent or null
+	 * Get the index of this node in its graph. Nodes are numbered in the order in which they are discovered. This
+	 * may only be called by CoverabilityGraph.
+	 * @return the index
 	 */
-	CoverabilityGraphNode getParent() {
-		return this.parent;
+	int getIndex() {
+		return this.index;
 	}
 
 	/**
@@ -81,16 +67,18 @@ public class CoverabilityGraphNode {
 	 * @return the covered node or null
 	 * @see getFiringSequenceFromCoveredNode
 	 */
+	@Override
 	public CoverabilityGraphNode getCoveredNode() {
-		return this.covered;
+		return graph.getCoveredNode(index);
 	}
 
 	/**
 	 * Get the marking that this node represents.
 	 * @return The marking.
 	 */
+	@Override
 	public Marking getMarking() {
-		return new Marking(this.marking);
+		return graph.getMarking(index);
 	}
 
 	/**
@@ -99,8 +87,11 @@ public class CoverabilityGraphNode {
 	 * @return The firing sequence.
 	 * @see getFiringSequenceFromCoveredNode
 	 */
+	@Override
 	public List<Transition> getFiringSequence() {
-		return this.firingSequence;
+		if (firingSequence == null)
+			firingSequence = graph.getFiringSequence(index);
+		return firingSequence;
 	}
 
 	/**
@@ -112,11 +103,13 @@ public class CoverabilityGraphNode {
 	 * @see getCoveredNode
 	 * @see getFiringSequence
 	 */
+	@Override
 	public List<Transition> getFiringSequenceFromCoveredNode() {
-		if (this.covered == null)
+		CoverabilityGraphNode covered = getCoveredNode();
+		if (covered == null)
 			return null;
-		int coveredSequenceLength = this.covered.getFiringSequence().size();
-		return this.firingSequence.subList(coveredSequenceLength, this.firingSequence.size());
+		List<Transition> sequence = getFiringSequence();
+		return sequence.subList(graph.getDepth(covered.index), sequence.size());
 	}
 
 	/**
@@ -136,9 +129,45 @@ public class CoverabilityGraphNode {
 	 * @return all edges.
 	 */
 	public Set<CoverabilityGraphEdge> getPostsetEdges() {
-		if (postsetEdges == null)
-			postsetEdges = unmodifiableSet(graph.getPostsetEdges(this));
-		return postsetEdges;
+		if (postsetEdges != null)
+			return postsetEdges;
+		Set<CoverabilityGraphEdge> edges = unmodifiableSet(graph.getPostsetEdges(this));
+		// Graphs with bounded memory usage don't keep their edges around
+		if (graph.cachesNodes())
+			postsetEdges = edges;
+		return edges;
+	}
+
+	/**
+	 * Check if the postset of this node was already generated.
+	 * @return true if the postset is known.
+	 */
+	boolean hasPostsetEdges() {
+		return postsetEdges != null;
+	}
+
+	/**
+	 * Set the postset of this node. This may only be called by CoverabilityGraph and only once.
+	 * @param edges The edges that begin in this node.
+	 */
+	void setPostsetEdges(Set<CoverabilityGraphEdge> edges) {
+		assert postsetEdges == null;
+		postsetEdges = unmodifiableSet(edges);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (!(o instanceof CoverabilityGraphNode))
+			return false;
+		CoverabilityGraphNode other = (CoverabilityGraphNode) o;
+		return graph == other.graph && index == other.index;
+	}
+
+	@Override
+	public int hashCode() {
+		return index;
 	}
 }
 
@@ -0,0 +1,283 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package uniol.apt.analysis.coverability;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.collections4.Predicate;
+
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.Place;
+import uniol.apt.adt.pn.Token;
+import uniol.apt.adt.pn.Transition;
+
+/**
+ * Queries which work directly on a {@link CoverabilityGraph} instead of a transition system created from it. Queries
+ * about the existence of a node explore the graph lazily in breadth-first order and stop as soon as a suitable node is
+ * found, so that large parts of the graph might never be calculated.
+ */
+public class CoverabilityGraphQueries {
+	private CoverabilityGraphQueries() {
+	}
+
+	/**
+	 * Find a node satisfying the given predicate. Only as much of the graph is calculated as is needed for finding
+	 * the node. Since the graph is explored in breadth-first order, the firing sequence of the result is as short
+	 * as possible.
+	 * @param graph The graph that should be searched.
+	 * @param predicate The predicate that the node has to satisfy.
+	 * @return The first node satisfying the predicate or null if there is no such node.
+	 */
+	static public CoverabilityGraphNode findNode(CoverabilityGraph graph,
+			Predicate<? super CoverabilityGraphNode> predicate) {
+		for (CoverabilityGraphNode node : graph.getNodes())
+			if (predicate.evaluate(node))
+				return node;
+		return null;
+	}
+
+	/**
+	 * Find a node from which no node satisfying the given predicate can be reached. This calculates the complete
+	 * graph.
+	 * @param graph The graph that should be searched.
+	 * @param predicate The predicate.
+	 * @return The first node from which no node satisfying the predicate can be reached, or null.
+	 */
+	static public CoverabilityGraphNode findNodeNotReaching(CoverabilityGraph graph,
+			Predicate<? super CoverabilityGraphNode> predicate) {
+		int[][] predecessors = getPredecessors(graph);
+		boolean[] reaching = new boolean[predecessors.length];
+		int[] queue = new int[predecessors.length];
+		int queueEnd = 0;
+
+		// Start a backward search from all nodes satisfying the predicate
+		for (int index = 0; index < predecessors.length; index++) {
+			if (predicate.evaluate(graph.getNode(index))) {
+				reaching[index] = true;
+				queue[queueEnd++] = index;
+			}
+		}
+		for (int queueStart = 0; queueStart < queueEnd; queueStart++) {
+			for (int predecessor : predecessors[queue[queueStart]]) {
+				if (!reaching[predecessor]) {
+					reaching[predecessor] = true;
+					queue[queueEnd++] = predecessor;
+				}
+			}
+		}
+
+		for (int index = 0; index < reaching.length; index++)
+			if (!reaching[index])
+				return graph.getNode(index);
+		return null;
+	}
+
+	/**
+	 * Check if an edge for the given transition is part of a cycle. This calculates the complete graph and its
+	 * strongly connected components.
+	 * @param graph The graph that should be searched.
+	 * @param transition The transition.
+	 * @return true if there is an edge for the transition whose source and target are in the same strongly
+	 * connected component.
+	 */
+	static public boolean isFiredOnCycle(CoverabilityGraph graph, Transition transition) {
+		int[][] successors = getSuccessors(graph);
+		int[] components = getStronglyConnectedComponents(successors);
+		for (int index = 0; index < successors.length; index++) {
+			for (CoverabilityGraphEdge edge : graph.getNode(index).getPostsetEdges()) {
+				if (edge.getTransition().equals(transition)
+						&& components[index] == components[edge.getTarget().getIndex()])
+					return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get a predicate which is satisfied by nodes in which the given transition is enabled.
+	 * @param transition The transition.
+	 * @return The predicate.
+	 */
+	static public Predicate<CoverabilityGraphNode> fires(final Transition transition) {
+		return new Predicate<CoverabilityGraphNode>() {
+			@Override
+			public boolean evaluate(CoverabilityGraphNode node) {
+				for (CoverabilityGraphEdge edge : node.getPostsetEdges())
+					if (edge.getTransition().equals(transition))
+						return true;
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Get a predicate which is satisfied by nodes whose marking covers the given marking. This means that the
+	 * node's marking is greater or equal on every place.
+	 * @param marking The marking that should be covered. It may contain OMEGAs.
+	 * @return The predicate.
+	 */
+	static public Predicate<CoverabilityGraphNode> covers(final Marking marking) {
+		return new Predicate<CoverabilityGraphNode>() {
+			@Override
+			public boolean evaluate(CoverabilityGraphNode node) {
+				Marking nodeMarking = node.getMarking();
+				for (Place place : marking.getNet().getPlaces()) {
+					Token have = nodeMarking.getToken(place);
+					Token want = marking.getToken(place);
+					if (have.isOmega())
+						continue;
+					if (want.isOmega() || have.getValue() < want.getValue())
+						return false;
+				}
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Get a predicate which is satisfied by nodes in which no transition is enabled.
+	 * @return The predicate.
+	 */
+	static public Predicate<CoverabilityGraphNode> isDeadlock() {
+		return new Predicate<CoverabilityGraphNode>() {
+			@Override
+			public boolean evaluate(CoverabilityGraphNode node) {
+				return node.getPostsetEdges().isEmpty();
+			}
+		};
+	}
+
+	/**
+	 * Get a predicate which is satisfied by nodes whose marking contains an OMEGA. If a graph contains such a
+	 * node, the Petri net is unbounded.
+	 * @return The predicate.
+	 */
+	static public Predicate<CoverabilityGraphNode> hasOmega() {
+		return new Predicate<CoverabilityGraphNode>() {
+			@Override
+			public boolean evaluate(CoverabilityGraphNode node) {
+				return node.getMarking().hasOmega();
+			}
+		};
+	}
+
+	// Calculate the complete graph and get the indices of the successors of each node
+	static private int[][] getSuccessors(CoverabilityGraph graph) {
+		int[][] result = new int[graph.calculateNodes()][];
+		for (int index = 0; index < result.length; index++) {
+			List<Integer> successors = new ArrayList<>();
+			for (CoverabilityGraphEdge edge : graph.getNode(index).getPostsetEdges())
+				successors.add(edge.getTarget().getIndex());
+			result[index] = toArray(successors);
+		}
+		return result;
+	}
+
+	// Calculate the complete graph and get the indices of the predecessors of each node
+	static private int[][] getPredecessors(CoverabilityGraph graph) {
+		int[][] successors = getSuccessors(graph);
+		int[] count = new int[successors.length];
+		for (int[] targets : successors)
+			for (int target : targets)
+				count[target]++;
+		int[][] result = new int[successors.length][];
+		for (int index = 0; index < result.length; index++)
+			result[index] = new int[count[index]];
+		Arrays.fill(count, 0);
+		for (int source = 0; source < successors.length; source++)
+			for (int target : successors[source])
+				result[target][count[target]++] = source;
+		return result;
+	}
+
+	static private int[] toArray(List<Integer> list) {
+		int[] result = new int[list.size()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = list.get(i);
+		return result;
+	}
+
+	/**
+	 * Calculate the strongly connected components of a graph with Tarjan's algorithm. This uses an explicit stack
+	 * instead of recursion, so that large graphs don't overflow the call stack.
+	 * @param successors The indices of the successors of each node.
+	 * @return The number of the component of each node.
+	 */
+	static private int[] getStronglyConnectedComponents(int[][] successors) {
+		int nodes = successors.length;
+		int[] number = new int[nodes];
+		int[] lowlink = new int[nodes];
+		int[] component = new int[nodes];
+		int[] nextEdge = new int[nodes];
+		int[] stack = new int[nodes];
+		int[] callStack = new int[nodes];
+		Arrays.fill(number, -1);
+		Arrays.fill(component, -1);
+		int stackSize = 0;
+		int counter = 0;
+		int components = 0;
+
+		for (int root = 0; root < nodes; root++) {
+			if (number[root] != -1)
+				continue;
+
+			int depth = 0;
+			callStack[0] = root;
+			number[root] = lowlink[root] = counter++;
+			stack[stackSize++] = root;
+			while (depth >= 0) {
+				int node = callStack[depth];
+				if (nextEdge[node] < successors[node].length) {
+					int target = successors[node][nextEdge[node]++];
+					if (number[target] == -1) {
+						// Descend into the target
+						number[target] = lowlink[target] = counter++;
+						stack[stackSize++] = target;
+						callStack[++depth] = target;
+					} else if (component[target] == -1) {
+						// The target is still on the stack
+						lowlink[node] = Math.min(lowlink[node], number[target]);
+					}
+				} else {
+					if (lowlink[node] == number[node]) {
+						// node is the root of a component
+						int member;
+						do {
+							member = stack[--stackSize];
+							component[member] = components;
+						} while (member != node);
+						components++;
+					}
+					depth--;
+					if (depth >= 0) {
+						int parent = callStack[depth];
+						lowlink[parent] = Math.min(lowlink[parent], lowlink[node]);
+					}
+				}
+			}
+		}
+		return component;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
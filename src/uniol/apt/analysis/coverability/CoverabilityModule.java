@@ -19,6 +19,8 @@
 
 package uniol.apt.analysis.coverability;
 
+import java.util.concurrent.ForkJoinPool;
+
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
@@ -49,6 +51,11 @@ public class CoverabilityModule extends AbstractModule {
 	@Override
 	public void require(ModuleInputSpec inputSpec) {
 		inputSpec.addParameter("pn", PetriNet.class, "The Petri net that should be examined");
+		inputSpec.addOptionalParameter("threads", Integer.class, 1,
+				"Number of threads that should be used for calculating the graph");
+		inputSpec.addOptionalParameter("heap_budget", Integer.class, null,
+				"If given, markings that need more than this many MiB are moved to memory-mapped"
+				+ " files");
 	}
 
 	@Override
@@ -60,17 +67,32 @@ public class CoverabilityModule extends AbstractModule {
 
 	/**
 	 * Get the graph for a given net
+	 * @param input The input of the module.
 	 * @param pn The Petri net to look at
 	 * @return The coverability graph.
+	 * @throws ModuleException if the module's parameters can't be read.
 	 */
-	protected CoverabilityGraph getGraph(PetriNet pn) {
-		return CoverabilityGraph.get(pn);
+	protected CoverabilityGraph getGraph(ModuleInput input, PetriNet pn) throws ModuleException {
+		Integer heapBudget = input.getParameter("heap_budget", Integer.class);
+		if (heapBudget == null)
+			return CoverabilityGraph.get(pn);
+		return CoverabilityGraph.get(pn, heapBudget * 1024L * 1024L);
 	}
 
 	@Override
 	public void run(ModuleInput input, ModuleOutput output) throws ModuleException {
 		PetriNet pn = input.getParameter("pn", PetriNet.class);
-		TransitionSystem result = getGraph(pn).toCoverabilityLTS();
+		int threads = input.getParameter("threads", Integer.class);
+		CoverabilityGraph graph = getGraph(input, pn);
+		if (threads > 1) {
+			ForkJoinPool pool = new ForkJoinPool(threads);
+			try {
+				graph.calculateNodes(pool);
+			} finally {
+				pool.shutdown();
+			}
+		}
+		TransitionSystem result = graph.toCoverabilityLTS();
 		boolean isReachability = true;
 		for (State node : result.getNodes()) {
 			CoverabilityGraphNode coverNode =
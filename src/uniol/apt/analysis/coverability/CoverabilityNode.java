@@ -0,0 +1,61 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.coverability;
+
+import java.util.List;
+
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.Transition;
+
+/**
+ * A node of a coverability graph or of a minimal coverability set. Each node has a marking and a firing sequence that
+ * reaches it. A node with OMEGAs covers an earlier node, which shows how the tokens on these places can be increased.
+ */
+public interface CoverabilityNode {
+	/**
+	 * Get the marking that this node represents.
+	 * @return The marking.
+	 */
+	public Marking getMarking();
+
+	/**
+	 * Get the node that is covered by this node, if such a node exists.
+	 * @return the covered node or null
+	 * @see getFiringSequenceFromCoveredNode
+	 */
+	public CoverabilityNode getCoveredNode();
+
+	/**
+	 * Get the firing sequence which reaches the marking represented by this node from the initial marking of the
+	 * Petri net.
+	 * @return The firing sequence.
+	 */
+	public List<Transition> getFiringSequence();
+
+	/**
+	 * Get the firing sequence which reaches this node from the covered node, or null. The sequence can be fired in
+	 * an infinite loop after the firing sequence of the covered node.
+	 * @return The firing sequence.
+	 * @see getCoveredNode
+	 */
+	public List<Transition> getFiringSequenceFromCoveredNode();
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
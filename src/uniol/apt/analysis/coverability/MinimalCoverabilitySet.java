@@ -0,0 +1,426 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package uniol.apt.analysis.coverability;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import uniol.apt.adt.StructuralExtensionRemover;
+import uniol.apt.adt.exception.StructureException;
+import uniol.apt.adt.pn.CompiledPetriNet;
+import uniol.apt.adt.pn.Flow;
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.Node;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Token;
+import uniol.apt.adt.pn.Transition;
+
+/**
+ * This class calculates the minimal coverability set of a Petri net. This is the set of maximal markings (possibly
+ * containing OMEGAs) of the coverability graph. Every reachable marking is covered by one of these markings and for
+ * every marking in this set, there are reachable markings which agree with it on all places without OMEGA and
+ * contain arbitrarily many tokens on the remaining places.
+ *
+ * The calculation builds a Karp-Miller tree in breadth-first order. Markings are accelerated against their ancestors
+ * as in {@link CoverabilityGraph}, but a new node is only added if its marking is not covered by the current antichain
+ * of maximal markings. Nodes which are not expanded yet and whose marking is strictly covered by a new node are not
+ * expanded at all. Thus, the tree is usually much smaller than the coverability graph. Answers to boundedness and
+ * coverability questions can be derived from this tree, but it contains no information about the language of the
+ * Petri net.
+ */
+public class MinimalCoverabilitySet {
+	// The Petri net that we are handling
+	private final PetriNet pn;
+	// The compiled form of the Petri net which is used for firing transitions
+	private final CompiledPetriNet compiled;
+	// The nodes of the tree in the order in which they were created
+	private final List<Element> nodes = new ArrayList<>();
+	// The antichain of maximal markings
+	private final CoveringIndex maximal;
+
+	/**
+	 * Get the minimal coverability set of a given Petri net. If the minimal coverability set for this Petri net is
+	 * already known, that instance is re-used instead of creating a new one.
+	 * @param pn The Petri net whose minimal coverability set is wanted.
+	 * @return The minimal coverability set.
+	 */
+	static public MinimalCoverabilitySet get(PetriNet pn) {
+		String key = MinimalCoverabilitySet.class.getName();
+
+		Object extension = null;
+		try {
+			extension = pn.getExtension(key);
+		}
+		catch (StructureException e) {
+			// No such extension.
+		}
+
+		if (extension instanceof MinimalCoverabilitySet && ((MinimalCoverabilitySet) extension).pn == pn)
+			return (MinimalCoverabilitySet) extension;
+
+		MinimalCoverabilitySet result = new MinimalCoverabilitySet(pn);
+		// Save the result as an extension which is not copied together with the Petri net, but make sure that
+		// it is removed if the structure of the Petri net is changed in any way.
+		pn.putExtension(key, result, false);
+		pn.addListener(new StructuralExtensionRemover<PetriNet, Flow, Node>(key));
+		return result;
+	}
+
+	/**
+	 * Calculate the minimal coverability set of a given Petri net.
+	 * @param pn The Petri net whose minimal coverability set is wanted.
+	 */
+	public MinimalCoverabilitySet(PetriNet pn) {
+		this.pn = pn;
+		this.compiled = CompiledPetriNet.get(pn);
+		this.maximal = new CoveringIndex(compiled.getPlaceCount());
+		calculate();
+	}
+
+	private void calculate() {
+		addNode(compiled.getTokens(pn.getInitialMarking()), null, -1, null);
+
+		// Breadth-first search, so that firing sequences are short
+		for (int next = 0; next < nodes.size(); next++) {
+			Element node = nodes.get(next);
+			if (node.skipped)
+				continue;
+			node.expanded = true;
+
+			for (int t = 0; t < compiled.getTransitionCount(); t++) {
+				if (!compiled.isFireable(t, node.tokens))
+					continue;
+
+				long[] tokens = compiled.fire(t, node.tokens);
+				Element covered = null;
+				// Check if the new marking covers any markings on the current path. If the marking
+				// covers some other marking, suitable omegas are inserted.
+				for (Element ancestor = node; ancestor != null; ancestor = ancestor.parent) {
+					long[] covering = accelerate(tokens, ancestor.tokens);
+					if (covering != null) {
+						tokens = covering;
+						covered = ancestor;
+						break;
+					}
+				}
+
+				// Nothing new can be reached from markings that are covered by the antichain
+				if (maximal.isCovered(tokens))
+					continue;
+
+				addNode(tokens, node, t, covered);
+			}
+		}
+	}
+
+	private void addNode(long[] tokens, Element parent, int transition, Element covered) {
+		Element node = new Element(tokens, parent, transition, covered);
+		nodes.add(node);
+		// Markings which are covered by the new node are no longer maximal. Their successors are covered by the
+		// successors of the new node, so there is no need to expand them, too.
+		for (Element removed : maximal.removeCoveredBy(tokens)) {
+			if (!removed.expanded)
+				removed.skipped = true;
+		}
+		maximal.add(node);
+	}
+
+	/**
+	 * Check if the first marking covers the second one. If this is the case, the first marking with suitable
+	 * omegas added is returned.
+	 * @param cur The marking that might cover the other one.
+	 * @param other The marking that should be covered.
+	 * @return The covering marking or null if the first marking does not cover the second one.
+	 */
+	static private long[] accelerate(long[] cur, long[] other) {
+		final long omega = Token.OMEGA.getValue();
+		long[] result = null;
+		for (int i = 0; i < cur.length; i++) {
+			if (cur[i] == other[i] || cur[i] == omega)
+				continue;
+			if (other[i] == omega || cur[i] < other[i])
+				return null;
+			if (result == null)
+				result = cur.clone();
+			result[i] = omega;
+		}
+		// If nothing was changed, both markings are equal and thus we don't cover anything
+		return result;
+	}
+
+	/**
+	 * Check if the first marking is greater or equal to the second one on every place.
+	 * @param cur The marking that might cover the other one.
+	 * @param other The marking that should be covered.
+	 * @return true if the first marking covers the second one.
+	 */
+	static private boolean covers(long[] cur, long[] other) {
+		final long omega = Token.OMEGA.getValue();
+		for (int i = 0; i < cur.length; i++) {
+			if (cur[i] == omega)
+				continue;
+			if (other[i] == omega || cur[i] < other[i])
+				return false;
+		}
+		return true;
+	}
+
+	static private int countOmegas(long[] tokens) {
+		int result = 0;
+		for (long value : tokens)
+			if (value == Token.OMEGA.getValue())
+				result++;
+		return result;
+	}
+
+	static private long sumTokens(long[] tokens) {
+		long result = 0;
+		for (long value : tokens)
+			if (value != Token.OMEGA.getValue())
+				result += value;
+		return result;
+	}
+
+	/**
+	 * Get the Petri net whose minimal coverability set is represented by this instance.
+	 * @return The Petri net.
+	 */
+	public PetriNet getNet() {
+		return pn;
+	}
+
+	/**
+	 * Get all nodes of the pruned Karp-Miller tree in the order in which they were created. Every node's parent
+	 * and covered node appear before the node itself in this list.
+	 * @return The nodes.
+	 */
+	public List<Element> getNodes() {
+		return Collections.unmodifiableList(nodes);
+	}
+
+	/**
+	 * Get the nodes whose markings form the minimal coverability set.
+	 * @return The nodes in the order in which they were created.
+	 */
+	public List<Element> getMaximalNodes() {
+		List<Element> result = new ArrayList<>();
+		for (Element node : nodes)
+			if (node.maximal)
+				result.add(node);
+		return result;
+	}
+
+	/**
+	 * Get the markings of the minimal coverability set.
+	 * @return The markings. No marking covers another one.
+	 */
+	public List<Marking> getMarkings() {
+		List<Marking> result = new ArrayList<>();
+		for (Element node : getMaximalNodes())
+			result.add(node.getMarking());
+		return result;
+	}
+
+	/**
+	 * Check if the given marking is coverable, which means that a marking which is greater or equal on every
+	 * place is reachable.
+	 * @param marking The marking to check. It may contain OMEGAs.
+	 * @return true if the marking is coverable.
+	 */
+	public boolean covers(Marking marking) {
+		return maximal.isCovered(compiled.getTokens(marking));
+	}
+
+	/**
+	 * Check if the Petri net is bounded.
+	 * @return true if no marking of the minimal coverability set contains an OMEGA.
+	 */
+	public boolean isBounded() {
+		for (Element node : getMaximalNodes())
+			if (node.omegas > 0)
+				return false;
+		return true;
+	}
+
+	/**
+	 * A node of the pruned Karp-Miller tree.
+	 */
+	public class Element implements CoverabilityNode {
+		private final long[] tokens;
+		private final Element parent;
+		private final int transition;
+		private final Element covered;
+		private final int depth;
+		private final int omegas;
+		private final long sum;
+		// Was the postset of this node calculated?
+		private boolean expanded = false;
+		// Was this node pruned before it could be expanded?
+		private boolean skipped = false;
+		// Is this node part of the antichain of maximal markings?
+		private boolean maximal = false;
+
+		private Element(long[] tokens, Element parent, int transition, Element covered) {
+			this.tokens = tokens;
+			this.parent = parent;
+			this.transition = transition;
+			this.covered = covered;
+			this.depth = parent == null ? 0 : parent.depth + 1;
+			this.omegas = countOmegas(tokens);
+			this.sum = sumTokens(tokens);
+		}
+
+		/**
+		 * Get the marking that this node represents.
+		 * @return The marking.
+		 */
+		@Override
+		public Marking getMarking() {
+			return compiled.toMarking(tokens.clone());
+		}
+
+		/**
+		 * Get the node on the path to this node that is covered by this node, if such a node exists. The
+		 * OMEGAs of this node that are not present in its parent were introduced because of the covered node.
+		 * @return the covered node or null
+		 */
+		@Override
+		public Element getCoveredNode() {
+			return covered;
+		}
+
+		/**
+		 * Get the firing sequence which reaches the marking represented by this instance from the initial
+		 * marking of the Petri net. Just as for the coverability graph, this sequence is only guaranteed to be
+		 * firable if neither this node nor its ancestors contain OMEGAs.
+		 * @return The firing sequence.
+		 */
+		@Override
+		public List<Transition> getFiringSequence() {
+			Transition[] result = new Transition[depth];
+			Element node = this;
+			for (int i = depth - 1; i >= 0; i--) {
+				result[i] = compiled.getTransition(node.transition);
+				node = node.parent;
+			}
+			return Collections.unmodifiableList(Arrays.asList(result));
+		}
+
+		/**
+		 * Get the firing sequence which reaches this node from the covered node, or null. The sequence can be
+		 * fired in an infinite loop after the firing sequence of the covered node and increases the number of
+		 * tokens on the places where this node has an OMEGA that its parent does not have.
+		 * @return The firing sequence.
+		 * @see getCoveredNode
+		 */
+		@Override
+		public List<Transition> getFiringSequenceFromCoveredNode() {
+			if (covered == null)
+				return null;
+			List<Transition> sequence = getFiringSequence();
+			return sequence.subList(covered.depth, sequence.size());
+		}
+
+		/**
+		 * Check if this node's marking is part of the minimal coverability set.
+		 * @return true if the marking is maximal.
+		 */
+		public boolean isMaximal() {
+			return maximal;
+		}
+	}
+
+	/**
+	 * An index over an antichain of markings which allows to quickly find markings covering or covered by a given
+	 * marking. Markings are grouped by their number of OMEGAs, since a marking can only cover markings with at
+	 * most as many OMEGAs. Inside a group, a marking can only cover markings with a smaller or equal token sum.
+	 */
+	static private class CoveringIndex {
+		// The entries of the index, grouped by the number of OMEGAs in their marking
+		private final List<List<Element>> groups = new ArrayList<>();
+
+		private CoveringIndex(int placeCount) {
+			for (int i = 0; i <= placeCount; i++)
+				groups.add(new ArrayList<Element>());
+		}
+
+		/**
+		 * Add a node to the index. The node's marking must not be covered by any marking in the index.
+		 * @param node The node to add.
+		 */
+		private void add(Element node) {
+			groups.get(node.omegas).add(node);
+			node.maximal = true;
+		}
+
+		/**
+		 * Check if a marking in the index covers the given marking.
+		 * @param tokens The marking to check.
+		 * @return true if the marking is covered.
+		 */
+		private boolean isCovered(long[] tokens) {
+			int omegas = countOmegas(tokens);
+			long sum = sumTokens(tokens);
+			for (int i = omegas; i < groups.size(); i++) {
+				for (Element node : groups.get(i)) {
+					if (i == omegas && node.sum < sum)
+						continue;
+					if (MinimalCoverabilitySet.covers(node.tokens, tokens))
+						return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Remove all markings from the index which are covered by the given marking.
+		 * @param tokens The covering marking.
+		 * @return The nodes whose markings were removed.
+		 */
+		private List<Element> removeCoveredBy(long[] tokens) {
+			int omegas = countOmegas(tokens);
+			long sum = sumTokens(tokens);
+			List<Element> result = new ArrayList<>();
+			for (int i = 0; i <= omegas; i++) {
+				List<Element> group = groups.get(i);
+				int j = 0;
+				while (j < group.size()) {
+					Element node = group.get(j);
+					if ((i < omegas || node.sum <= sum)
+							&& MinimalCoverabilitySet.covers(tokens, node.tokens)) {
+						// Remove the node by replacing it with the last one
+						group.set(j, group.get(group.size() - 1));
+						group.remove(group.size() - 1);
+						node.maximal = false;
+						result.add(node);
+					} else {
+						j++;
+					}
+				}
+			}
+			return result;
+		}
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,84 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package uniol.apt.analysis.coverability;
+
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.module.AbstractModule;
+import uniol.apt.module.Category;
+import uniol.apt.module.ModuleInput;
+import uniol.apt.module.ModuleInputSpec;
+import uniol.apt.module.ModuleOutput;
+import uniol.apt.module.ModuleOutputSpec;
+import uniol.apt.module.exception.ModuleException;
+
+/**
+ * Provide the minimal coverability set as a module.
+ */
+public class MinimalCoverabilitySetModule extends AbstractModule {
+
+	@Override
+	public String getShortDescription() {
+		return "Compute a Petri net's minimal coverability set";
+	}
+
+	@Override
+	public String getLongDescription() {
+		return getShortDescription()
+			+ ". This is the set of maximal markings of the coverability graph. Every reachable marking is "
+			+ "covered by one of these markings. It is usually much cheaper to compute than the "
+			+ "coverability graph.";
+	}
+
+	@Override
+	public String getName() {
+		return "minimal_coverability_set";
+	}
+
+	@Override
+	public void require(ModuleInputSpec inputSpec) {
+		inputSpec.addParameter("pn", PetriNet.class, "The Petri net that should be examined");
+	}
+
+	@Override
+	public void provide(ModuleOutputSpec outputSpec) {
+		outputSpec.addReturnValue("markings", String.class, ModuleOutputSpec.PROPERTY_RAW);
+		outputSpec.addReturnValue("bounded", Boolean.class);
+	}
+
+	@Override
+	public void run(ModuleInput input, ModuleOutput output) throws ModuleException {
+		PetriNet pn = input.getParameter("pn", PetriNet.class);
+		MinimalCoverabilitySet set = MinimalCoverabilitySet.get(pn);
+		StringBuilder markings = new StringBuilder();
+		for (Marking marking : set.getMarkings())
+			markings.append(marking).append("\n");
+		output.setReturnValue("markings", String.class, markings.toString());
+		output.setReturnValue("bounded", Boolean.class, set.isBounded());
+	}
+
+	@Override
+	public Category[] getCategories() {
+		return new Category[]{Category.PN};
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -20,6 +20,9 @@
 package uniol.apt.analysis.coverability;
 
 import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.module.ModuleInput;
+import uniol.apt.module.ModuleInputSpec;
+import uniol.apt.module.exception.ModuleException;
 
 /**
  * Provide the coverability graph as a module.
@@ -38,8 +41,24 @@ public class ReachabilityModule extends CoverabilityModule {
 	}
 
 	@Override
-	protected CoverabilityGraph getGraph(PetriNet pn) {
-		return CoverabilityGraph.getReachabilityGraph(pn);
+	public void require(ModuleInputSpec inputSpec) {
+		super.require(inputSpec);
+		inputSpec.addOptionalParameter("symmetry", String.class, null,
+				"If given, only one marking of every orbit under the net's symmetries is explored");
+	}
+
+	@Override
+	protected CoverabilityGraph getGraph(ModuleInput input, PetriNet pn) throws ModuleException {
+		Integer heapBudget = input.getParameter("heap_budget", Integer.class);
+		if (input.getParameter("symmetry", String.class) != null) {
+			Symmetries symmetries = new Symmetries(pn);
+			if (heapBudget == null)
+				return CoverabilityGraph.getReachabilityGraph(pn, symmetries);
+			return CoverabilityGraph.getReachabilityGraph(pn, heapBudget * 1024L * 1024L, symmetries);
+		}
+		if (heapBudget == null)
+			return CoverabilityGraph.getReachabilityGraph(pn);
+		return CoverabilityGraph.getReachabilityGraph(pn, heapBudget * 1024L * 1024L);
 	}
 }
 
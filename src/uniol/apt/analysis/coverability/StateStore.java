@@ -0,0 +1,461 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package uniol.apt.analysis.coverability;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact store for the states of a coverability or reachability graph. Every state consists of a marking in packed
+ * representation (see {@link uniol.apt.adt.pn.CompiledPetriNet}), the index of its parent state, the index of the
+ * transition that leads from the parent to the state and optionally the index of a state that is covered by it.
+ * States are numbered consecutively in the order in which they are added.
+ * <p/>
+ * Without a heap budget, markings are simply kept as arrays on the heap. With a heap budget, markings are serialised
+ * with a variable length encoding into pages. As long as the budget is not exceeded, pages are kept on the heap.
+ * Afterwards, new pages are memory-mapped from temporary files, so that the operating system can page them out. A
+ * hash index over the markings allows to find duplicates and the parent and transition indices are stored in plain
+ * int arrays, so that firing sequences can be reconstructed.
+ * <p/>
+ * Lookups via {@link #find(long[])} and reads of existing states may happen concurrently, as long as no states are
+ * added at the same time.
+ */
+public class StateStore {
+	// Default size of a page, in bytes
+	static private final int DEFAULT_PAGE_SIZE = 1 << 22;
+	// Initial size of a page on the heap, in bytes. Heap pages grow until they reach the page size.
+	static private final int INITIAL_HEAP_PAGE_SIZE = 1 << 12;
+
+	private final int placeCount;
+	private final long heapBudget;
+	private final File directory;
+	private final int pageSize;
+
+	// Pages containing the serialised markings
+	private final List<ByteBuffer> pages = new ArrayList<>();
+	// Number of bytes in pages that are stored on the heap
+	private long heapBytes = 0;
+	// Number of bytes in pages that are memory-mapped
+	private long mappedBytes = 0;
+	// Position of the next free byte in the last page
+	private int pagePosition;
+
+	private int size = 0;
+	// The markings of all states if there is no heap budget, otherwise null
+	private long[][] markings;
+	// Start of the serialised marking of each state, as page index * page size + position in page. Only used
+	// with a heap budget.
+	private long[] offsets = new long[16];
+	private int[] hashes = new int[16];
+	private int[] parents = new int[16];
+	private int[] transitions = new int[16];
+	// The few states which cover another state
+	private final Map<Integer, Integer> covered = new HashMap<>();
+
+	// Open addressing hash table containing state index + 1 for each state, or 0 for empty slots
+	private int[] table = new int[32];
+
+	/**
+	 * Create a new state store which keeps everything on the heap.
+	 * @param placeCount The number of places and thus the length of the markings that are stored.
+	 */
+	public StateStore(int placeCount) {
+		this(placeCount, Long.MAX_VALUE, null);
+	}
+
+	/**
+	 * Create a new state store which moves markings to memory-mapped files once the given heap budget is exceeded.
+	 * @param placeCount The number of places and thus the length of the markings that are stored.
+	 * @param heapBudget The number of bytes that serialised markings may use on the heap. Long.MAX_VALUE means
+	 * that there is no budget and markings are not serialised at all.
+	 * @param directory The directory for the temporary files or null for the default temporary directory.
+	 */
+	public StateStore(int placeCount, long heapBudget, File directory) {
+		if (placeCount < 0)
+			throw new IllegalArgumentException("placeCount < 0");
+		if (heapBudget < 0)
+			throw new IllegalArgumentException("heapBudget < 0");
+		this.placeCount = placeCount;
+		this.heapBudget = heapBudget;
+		this.directory = directory;
+		// Every record must fit into a single page. A value needs at most 10 bytes.
+		this.pageSize = Math.max(DEFAULT_PAGE_SIZE, 10 * placeCount);
+		this.pagePosition = pageSize;
+		if (heapBudget == Long.MAX_VALUE)
+			this.markings = new long[16][];
+	}
+
+	/**
+	 * Get the number of states in this store.
+	 * @return The number of states.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Get the number of bytes of serialised markings that are stored in memory-mapped files.
+	 * @return The number of bytes that were moved off the heap.
+	 */
+	public long getMappedBytes() {
+		return mappedBytes;
+	}
+
+	/**
+	 * Find the state with the given marking.
+	 * @param marking The marking to look for.
+	 * @return The index of the state or -1 if no such state exists.
+	 */
+	public int find(long[] marking) {
+		checkLength(marking);
+		int hash = hash(marking);
+		int mask = table.length - 1;
+		for (int slot = hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+			int index = table[slot] - 1;
+			if (hashes[index] == hash && equalsMarking(index, marking))
+				return index;
+		}
+		return -1;
+	}
+
+	/**
+	 * Add a new state to this store. There must not be any state with the same marking already.
+	 * @param marking The marking of the new state. The array is not referenced by the store.
+	 * @param parent The index of the parent state or -1 if there is no parent.
+	 * @param transition The index of the transition which leads from the parent to the new state, or -1.
+	 * @param coveredState The index of a state that is covered by the new state, or -1.
+	 * @return The index of the new state.
+	 */
+	public int add(long[] marking, int parent, int transition, int coveredState) {
+		checkLength(marking);
+		assert find(marking) < 0;
+		// The hash table cannot grow beyond 2^30 entries and must never be full
+		if (size >= (1 << 29))
+			throw new IllegalStateException("Too many states");
+
+		if (size == hashes.length) {
+			int newLength = 2 * size;
+			if (markings != null)
+				markings = Arrays.copyOf(markings, newLength);
+			else
+				offsets = Arrays.copyOf(offsets, newLength);
+			hashes = Arrays.copyOf(hashes, newLength);
+			parents = Arrays.copyOf(parents, newLength);
+			transitions = Arrays.copyOf(transitions, newLength);
+		}
+
+		int index = size++;
+		if (markings != null)
+			markings[index] = marking.clone();
+		else
+			offsets[index] = write(marking);
+		hashes[index] = hash(marking);
+		parents[index] = parent;
+		transitions[index] = transition;
+		if (coveredState >= 0)
+			covered.put(index, coveredState);
+
+		if (2 * size > table.length)
+			rehash(2 * table.length);
+		insert(index);
+		return index;
+	}
+
+	/**
+	 * Get the marking of the given state.
+	 * @param index The index of the state.
+	 * @return A new array containing the marking.
+	 */
+	public long[] getMarking(int index) {
+		checkIndex(index);
+		if (markings != null)
+			return markings[index].clone();
+		return decode(index);
+	}
+
+	/**
+	 * Get the marking of the given state without copying it if possible. The result must not be modified.
+	 * @param index The index of the state.
+	 * @return An array containing the marking.
+	 */
+	long[] peekMarking(int index) {
+		checkIndex(index);
+		if (markings != null)
+			return markings[index];
+		return decode(index);
+	}
+
+	/**
+	 * Deserialise the marking of the given state.
+	 * @param index The index of the state.
+	 * @return A new array containing the marking.
+	 */
+	private long[] decode(int index) {
+		long offset = offsets[index];
+		ByteBuffer page = pages.get((int) (offset / pageSize));
+		int position = (int) (offset % pageSize);
+		long[] result = new long[placeCount];
+		for (int i = 0; i < placeCount; i++) {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = page.get(position++);
+				value |= (long) (b & 0x7f) << shift;
+				shift += 7;
+			} while (b < 0);
+			result[i] = value - 1;
+		}
+		return result;
+	}
+
+	/**
+	 * Get the parent of the given state.
+	 * @param index The index of the state.
+	 * @return The index of the parent state or -1.
+	 */
+	public int getParent(int index) {
+		checkIndex(index);
+		return parents[index];
+	}
+
+	/**
+	 * Get the transition leading from the parent of the given state to the state.
+	 * @param index The index of the state.
+	 * @return The index of the transition or -1.
+	 */
+	public int getTransition(int index) {
+		checkIndex(index);
+		return transitions[index];
+	}
+
+	/**
+	 * Get the state which is covered by the given state.
+	 * @param index The index of the state.
+	 * @return The index of the covered state or -1.
+	 */
+	public int getCovered(int index) {
+		checkIndex(index);
+		Integer result = covered.get(index);
+		return result == null ? -1 : result;
+	}
+
+	/**
+	 * Get the length of the path from the first state to the given state via the parent relation.
+	 * @param index The index of the state.
+	 * @return The number of states on the path, not counting the first state.
+	 */
+	public int getDepth(int index) {
+		checkIndex(index);
+		int depth = 0;
+		while (parents[index] >= 0) {
+			index = parents[index];
+			depth++;
+		}
+		return depth;
+	}
+
+	/**
+	 * Get the sequence of transitions on the path from the first state to the given state via the parent relation.
+	 * @param index The index of the state.
+	 * @return The transition indices in firing order.
+	 */
+	public int[] getTransitionSequence(int index) {
+		int[] result = new int[getDepth(index)];
+		for (int i = result.length - 1; i >= 0; i--) {
+			result[i] = transitions[index];
+			index = parents[index];
+		}
+		return result;
+	}
+
+	/**
+	 * Compare the stored marking of a state to the given marking.
+	 * @param index The index of the state.
+	 * @param marking The marking to compare to.
+	 * @return true if both markings are equal.
+	 */
+	private boolean equalsMarking(int index, long[] marking) {
+		if (markings != null)
+			return Arrays.equals(markings[index], marking);
+		long offset = offsets[index];
+		ByteBuffer page = pages.get((int) (offset / pageSize));
+		int position = (int) (offset % pageSize);
+		for (int i = 0; i < placeCount; i++) {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = page.get(position++);
+				value |= (long) (b & 0x7f) << shift;
+				shift += 7;
+			} while (b < 0);
+			if (value - 1 != marking[i])
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Serialise the given marking into the current page.
+	 * @param marking The marking to write.
+	 * @return The offset of the serialised marking.
+	 */
+	private long write(long[] marking) {
+		ensureSpace(10 * placeCount);
+		int pageIndex = pages.size() - 1;
+		ByteBuffer page = pages.get(pageIndex);
+		long offset = (long) pageIndex * pageSize + pagePosition;
+		for (long value : marking) {
+			// Token counts are at least -1 (OMEGA), so value + 1 is non-negative
+			long v = value + 1;
+			while ((v & ~0x7fL) != 0) {
+				page.put(pagePosition++, (byte) ((v & 0x7f) | 0x80));
+				v >>>= 7;
+			}
+			page.put(pagePosition++, (byte) v);
+		}
+		return offset;
+	}
+
+	/**
+	 * Make sure that the current page has space for the given number of bytes.
+	 * @param bytes The number of bytes that are needed.
+	 */
+	private void ensureSpace(int bytes) {
+		int needed = pagePosition + bytes;
+		if (pages.isEmpty() || needed > pageSize) {
+			newPage(bytes);
+			return;
+		}
+
+		int pageIndex = pages.size() - 1;
+		ByteBuffer page = pages.get(pageIndex);
+		if (needed <= page.capacity())
+			return;
+
+		// Only pages on the heap can be smaller than the page size, so grow this page
+		int newCapacity = (int) Math.min(pageSize, Math.max(needed, 2L * page.capacity()));
+		if (heapBytes - page.capacity() + newCapacity > heapBudget) {
+			newPage(bytes);
+			return;
+		}
+		ByteBuffer grown = ByteBuffer.allocate(newCapacity);
+		System.arraycopy(page.array(), 0, grown.array(), 0, pagePosition);
+		heapBytes += newCapacity - page.capacity();
+		pages.set(pageIndex, grown);
+	}
+
+	/**
+	 * Start a new page, either on the heap or in a memory-mapped file.
+	 * @param bytes The number of bytes that are needed in the new page.
+	 */
+	private void newPage(int bytes) {
+		ByteBuffer page;
+		int capacity = Math.min(pageSize, Math.max(INITIAL_HEAP_PAGE_SIZE, bytes));
+		if (heapBytes + capacity <= heapBudget) {
+			page = ByteBuffer.allocate(capacity);
+			heapBytes += capacity;
+		} else {
+			page = mapPage();
+			mappedBytes += pageSize;
+		}
+		pages.add(page);
+		pagePosition = 0;
+	}
+
+	/**
+	 * Create a temporary file and map it into memory. The mapping stays valid after the file is closed and
+	 * deleted.
+	 * @return The mapped page.
+	 */
+	private ByteBuffer mapPage() {
+		try {
+			File file = File.createTempFile("apt-states", ".bin", directory);
+			try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+				FileChannel channel = raf.getChannel();
+				return channel.map(FileChannel.MapMode.READ_WRITE, 0, pageSize);
+			} finally {
+				if (!file.delete())
+					file.deleteOnExit();
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("Could not create a memory-mapped file for storing states", e);
+		}
+	}
+
+	/**
+	 * Insert the given state into the hash table.
+	 * @param index The index of the state.
+	 */
+	private void insert(int index) {
+		int mask = table.length - 1;
+		int slot = hashes[index] & mask;
+		while (table[slot] != 0)
+			slot = (slot + 1) & mask;
+		table[slot] = index + 1;
+	}
+
+	/**
+	 * Recreate the hash table with the given size.
+	 * @param newSize The new size which must be a power of two.
+	 */
+	private void rehash(int newSize) {
+		table = new int[newSize];
+		for (int i = 0; i < size; i++)
+			insert(i);
+	}
+
+	/**
+	 * Calculate the hash code of a marking.
+	 * @param marking The marking.
+	 * @return The hash code.
+	 */
+	static private int hash(long[] marking) {
+		int hash = Arrays.hashCode(marking);
+		// Spread the bits, because the hash table only uses the low-order bits
+		hash ^= (hash >>> 16);
+		hash *= 0x85ebca6b;
+		hash ^= (hash >>> 13);
+		return hash;
+	}
+
+	private void checkLength(long[] marking) {
+		if (marking.length != placeCount)
+			throw new IllegalArgumentException("Marking has " + marking.length + " entries, but "
+					+ placeCount + " were expected");
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("Index " + index + " is not in [0, " + size + ")");
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
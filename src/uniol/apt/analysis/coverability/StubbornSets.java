@@ -0,0 +1,174 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package uniol.apt.analysis.coverability;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import uniol.apt.adt.pn.CompiledPetriNet;
+import uniol.apt.adt.pn.Token;
+
+/**
+ * Calculation of stubborn sets for partial order reduction. Only the enabled transitions of a stubborn set are fired
+ * in a marking. The resulting reduced graph still contains all deadlocks of the full graph. Additionally, a set of
+ * visible transitions is always part of the stubborn sets, so that the reduced graph contains a marking enabling a
+ * visible transition if the full graph contains such a marking.
+ * <p/>
+ * A stubborn set is closed under the following rules: For an enabled transition, all transitions which consume tokens
+ * from one of its input places belong to the set. For a disabled transition, a place which does not contain enough
+ * tokens for it is chosen and all transitions which increase the number of tokens on that place belong to the set.
+ * Transitions outside of the set thus can neither disable an enabled transition in the set nor enable a disabled one.
+ */
+class StubbornSets {
+	private final CompiledPetriNet compiled;
+	// Transitions which are part of every stubborn set
+	private final int[] visible;
+	// For every place the transitions which have it in their preset
+	private final int[][] consumers;
+	// For every place the transitions which increase its number of tokens
+	private final int[][] producers;
+
+	/**
+	 * Prepare the calculation of stubborn sets for a Petri net.
+	 * @param compiled The compiled Petri net.
+	 * @param visible Indices of transitions which must be part of every stubborn set.
+	 */
+	StubbornSets(CompiledPetriNet compiled, int[] visible) {
+		this.compiled = compiled;
+		this.visible = visible.clone();
+
+		List<List<Integer>> consumerLists = new ArrayList<>();
+		List<List<Integer>> producerLists = new ArrayList<>();
+		for (int p = 0; p < compiled.getPlaceCount(); p++) {
+			consumerLists.add(new ArrayList<Integer>());
+			producerLists.add(new ArrayList<Integer>());
+		}
+		for (int t = 0; t < compiled.getTransitionCount(); t++) {
+			for (int p : compiled.getPresetIndices(t))
+				consumerLists.get(p).add(t);
+			int[] places = compiled.getEffectIndices(t);
+			int[] weights = compiled.getEffectWeights(t);
+			for (int i = 0; i < places.length; i++)
+				if (weights[i] > 0)
+					producerLists.get(places[i]).add(t);
+		}
+		this.consumers = toArrays(consumerLists);
+		this.producers = toArrays(producerLists);
+	}
+
+	static private int[][] toArrays(List<List<Integer>> lists) {
+		int[][] result = new int[lists.size()][];
+		for (int i = 0; i < result.length; i++) {
+			List<Integer> list = lists.get(i);
+			result[i] = new int[list.size()];
+			for (int j = 0; j < result[i].length; j++)
+				result[i][j] = list.get(j);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculate a stubborn set for the given marking. This method may be called concurrently.
+	 * @param tokens The marking in packed representation.
+	 * @return For every transition, whether it is part of the stubborn set.
+	 */
+	boolean[] getStubbornSet(long[] tokens) {
+		int transitionCount = compiled.getTransitionCount();
+		boolean[] result = new boolean[transitionCount];
+		int[] queue = new int[transitionCount];
+		int queueEnd = 0;
+
+		queueEnd = addAll(visible, result, queue, queueEnd);
+		queueEnd = close(tokens, result, queue, 0, queueEnd);
+
+		// The set must contain an enabled transition if there is one, else deadlocks would be introduced
+		for (int t = 0; t < queueEnd; t++)
+			if (compiled.isFireable(queue[t], tokens))
+				return result;
+		for (int t = 0; t < transitionCount; t++) {
+			if (compiled.isFireable(t, tokens)) {
+				result[t] = true;
+				queue[queueEnd] = t;
+				close(tokens, result, queue, queueEnd, queueEnd + 1);
+				break;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Add transitions to the set until it satisfies the closure rules.
+	 * @param tokens The marking.
+	 * @param set The current set.
+	 * @param queue The transitions of the set in the order in which they were added.
+	 * @param queueStart Index of the first transition in the queue that still has to be handled.
+	 * @param queueEnd Number of transitions in the queue.
+	 * @return The new number of transitions in the queue.
+	 */
+	private int close(long[] tokens, boolean[] set, int[] queue, int queueStart, int queueEnd) {
+		for (; queueStart < queueEnd; queueStart++) {
+			int t = queue[queueStart];
+			if (compiled.isFireable(t, tokens)) {
+				// Everything that could disable t
+				for (int place : compiled.getPresetIndices(t))
+					queueEnd = addAll(consumers[place], set, queue, queueEnd);
+			} else {
+				// Everything that could enable t
+				queueEnd = addAll(producers[getScapegoat(t, tokens)], set, queue, queueEnd);
+			}
+		}
+		return queueEnd;
+	}
+
+	static private int addAll(int[] transitions, boolean[] set, int[] queue, int queueEnd) {
+		for (int t : transitions) {
+			if (!set[t]) {
+				set[t] = true;
+				queue[queueEnd++] = t;
+			}
+		}
+		return queueEnd;
+	}
+
+	/**
+	 * Find a place which prevents a transition from firing. If there are multiple such places, the one with the
+	 * fewest producers is chosen.
+	 * @param transition The disabled transition.
+	 * @param tokens The marking.
+	 * @return The index of the place.
+	 */
+	private int getScapegoat(int transition, long[] tokens) {
+		int[] places = compiled.getPresetIndices(transition);
+		int[] weights = compiled.getPresetWeights(transition);
+		int result = -1;
+		for (int i = 0; i < places.length; i++) {
+			long value = tokens[places[i]];
+			if (value == Token.OMEGA.getValue() || value >= weights[i])
+				continue;
+			if (result == -1 || producers[places[i]].length < producers[result].length)
+				result = places[i];
+		}
+		assert result != -1;
+		return result;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,538 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.coverability;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import uniol.apt.adt.pn.CompiledPetriNet;
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.PetriNet;
+
+/**
+ * The symmetries of a Petri net. A symmetry (automorphism) is a permutation of the places and of the transitions which
+ * preserves the flow relation including the arc weights. Replicated nets like the ones created by the generators
+ * typically have many symmetries. Markings which are mapped onto each other by a symmetry have isomorphic
+ * behaviour, so only one representative of every orbit has to be explored.
+ * <p/>
+ * The symmetries are detected by colour refinement of the bipartite graph of the net followed by an individualisation
+ * and refinement search. For every vertex in the first non-singleton cell of the current partition, a symmetry mapping
+ * the first vertex of the cell to it is searched. Afterwards the first vertex is individualised and the next level is
+ * handled. The symmetries found this way generate the symmetry group of the net, unless some search exceeds its
+ * budget. In that case, a subgroup is used, which is still correct, but reduces less. Initial markings and transition
+ * labels are ignored.
+ * <p/>
+ * If the group is small enough, all its elements are enumerated and the lexicographically smallest marking of an orbit
+ * is its representative. Otherwise, the generators are applied greedily as long as they make the marking smaller,
+ * which may result in several representatives for the same orbit.
+ * <p/>
+ * Permutations are represented as arrays of vertex indices, where the places come first and are followed by the
+ * transitions, so that the transition with index t is the vertex with index t + number of places.
+ */
+public class Symmetries {
+	// Maximum number of group elements that are enumerated
+	static private final int MAX_ELEMENTS = 1024;
+	// Maximum number of search tree nodes that are visited while looking for a single symmetry
+	static private final int SEARCH_BUDGET = 10000;
+
+	// Kinds of neighbours in the bipartite graph
+	static private final int PLACE_PRESET = 0;
+	static private final int PLACE_POSTSET = 1;
+	static private final int TRANSITION_PRESET = 2;
+	static private final int TRANSITION_POSTSET = 3;
+
+	private final CompiledPetriNet compiled;
+	private final int places;
+	private final int vertices;
+	// For every vertex the triples (kind, weight, neighbour) of its arcs
+	private final int[][] arcs;
+	// The generators of the symmetry group
+	private final List<int[]> generators = new ArrayList<>();
+	// The inverses of all group elements or null if the group is too large. The identity comes first.
+	private final List<int[]> inverseElements;
+	// Remaining number of search tree nodes for the current search
+	private int budget;
+
+	/**
+	 * Detect the symmetries of the given Petri net.
+	 * @param pn The Petri net whose symmetries are wanted.
+	 */
+	public Symmetries(PetriNet pn) {
+		this.compiled = CompiledPetriNet.get(pn);
+		this.places = compiled.getPlaceCount();
+		this.vertices = places + compiled.getTransitionCount();
+		this.arcs = calculateArcs();
+		findGenerators();
+		this.inverseElements = enumerateGroup();
+	}
+
+	private int[][] calculateArcs() {
+		List<List<Integer>> lists = new ArrayList<>();
+		for (int v = 0; v < vertices; v++)
+			lists.add(new ArrayList<Integer>());
+		for (int t = 0; t < compiled.getTransitionCount(); t++) {
+			addArcs(lists, t, compiled.getPresetIndices(t), compiled.getPresetWeights(t),
+					PLACE_PRESET, TRANSITION_PRESET);
+			addArcs(lists, t, compiled.getPostsetIndices(t), compiled.getPostsetWeights(t),
+					PLACE_POSTSET, TRANSITION_POSTSET);
+		}
+
+		int[][] result = new int[vertices][];
+		for (int v = 0; v < vertices; v++) {
+			List<Integer> list = lists.get(v);
+			result[v] = new int[list.size()];
+			for (int i = 0; i < result[v].length; i++)
+				result[v][i] = list.get(i);
+		}
+		return result;
+	}
+
+	private void addArcs(List<List<Integer>> lists, int transition, int[] indices, int[] weights, int placeKind,
+			int transitionKind) {
+		for (int i = 0; i < indices.length; i++) {
+			Collections.addAll(lists.get(indices[i]), placeKind, weights[i], places + transition);
+			Collections.addAll(lists.get(places + transition), transitionKind, weights[i], indices[i]);
+		}
+	}
+
+	/**
+	 * Get the number of generators of the symmetry group that were found.
+	 * @return The number of generators.
+	 */
+	public int getGeneratorCount() {
+		return generators.size();
+	}
+
+	/**
+	 * Get the number of elements of the symmetry group.
+	 * @return The number of elements or -1 if the group was too large to be enumerated.
+	 */
+	public int getGroupSize() {
+		return inverseElements == null ? -1 : inverseElements.size();
+	}
+
+	/**
+	 * Get the representative of the orbit of the given marking.
+	 * @param marking A marking of the Petri net.
+	 * @return The representative of the marking's orbit.
+	 */
+	public Marking canonicalize(Marking marking) {
+		return compiled.toMarking(canonicalize(compiled.getTokens(marking)));
+	}
+
+	/**
+	 * Get the representative of the orbit of the given marking.
+	 * @param tokens A marking in the packed representation of {@link CompiledPetriNet}.
+	 * @return The representative of the marking's orbit.
+	 */
+	long[] canonicalize(long[] tokens) {
+		return apply(canonicalPermutation(tokens), tokens);
+	}
+
+	/**
+	 * Find a symmetry which maps the given marking to the representative of its orbit. The result only depends on
+	 * the given marking.
+	 * @param tokens A marking in the packed representation of {@link CompiledPetriNet}.
+	 * @return The symmetry.
+	 */
+	int[] canonicalPermutation(long[] tokens) {
+		if (inverseElements != null) {
+			int[] best = inverseElements.get(0);
+			for (int[] inverse : inverseElements)
+				if (compareImages(inverse, best, tokens) < 0)
+					best = inverse;
+			return invert(best);
+		}
+
+		// The group is too large, greedily apply generators while the marking gets smaller
+		int[] result = identity();
+		long[] current = tokens;
+		boolean improved = true;
+		while (improved) {
+			improved = false;
+			for (int[] generator : generators) {
+				long[] next = apply(generator, current);
+				if (compare(next, current) < 0) {
+					current = next;
+					result = compose(generator, result);
+					improved = true;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Translate a firing sequence of a graph whose markings were replaced by their representatives into a firing
+	 * sequence of the Petri net. Each transition of the given sequence is fireable in the representative reached by
+	 * the sequence so far.
+	 * @param initial The initial marking of the Petri net.
+	 * @param sequence The indices of the transitions in the coordinates of the representatives.
+	 * @return The indices of the transitions which are really fired starting in the initial marking.
+	 */
+	int[] unfold(long[] initial, int[] sequence) {
+		int[] toInitial = canonicalPermutation(initial);
+		long[] current = apply(toInitial, initial);
+		// Maps the coordinates of the current representative to the coordinates of the reached marking
+		int[] toReal = invert(toInitial);
+		int[] result = new int[sequence.length];
+		for (int i = 0; i < sequence.length; i++) {
+			result[i] = toReal[places + sequence[i]] - places;
+			long[] next = compiled.fire(sequence[i], current);
+			int[] permutation = canonicalPermutation(next);
+			current = apply(permutation, next);
+			toReal = compose(toReal, invert(permutation));
+		}
+		return result;
+	}
+
+	/**
+	 * Apply a permutation to a marking.
+	 * @param permutation The permutation.
+	 * @param tokens The marking.
+	 * @return The marking which has the tokens of place p on the image of p.
+	 */
+	long[] apply(int[] permutation, long[] tokens) {
+		long[] result = new long[places];
+		for (int p = 0; p < places; p++)
+			result[permutation[p]] = tokens[p];
+		return result;
+	}
+
+	/**
+	 * Lexicographically compare the images of a marking under two permutations which are given by their inverses.
+	 */
+	private int compareImages(int[] inverse1, int[] inverse2, long[] tokens) {
+		for (int p = 0; p < places; p++) {
+			int cmp = Long.compare(tokens[inverse1[p]], tokens[inverse2[p]]);
+			if (cmp != 0)
+				return cmp;
+		}
+		return 0;
+	}
+
+	static private int compare(long[] tokens1, long[] tokens2) {
+		for (int p = 0; p < tokens1.length; p++) {
+			int cmp = Long.compare(tokens1[p], tokens2[p]);
+			if (cmp != 0)
+				return cmp;
+		}
+		return 0;
+	}
+
+	private int[] identity() {
+		int[] result = new int[vertices];
+		for (int v = 0; v < vertices; v++)
+			result[v] = v;
+		return result;
+	}
+
+	static private int[] invert(int[] permutation) {
+		int[] result = new int[permutation.length];
+		for (int v = 0; v < permutation.length; v++)
+			result[permutation[v]] = v;
+		return result;
+	}
+
+	// Calculate the permutation which first applies second and then first
+	static private int[] compose(int[] first, int[] second) {
+		int[] result = new int[second.length];
+		for (int v = 0; v < second.length; v++)
+			result[v] = first[second[v]];
+		return result;
+	}
+
+	/**
+	 * Enumerate the inverses of all elements of the group generated by the generators.
+	 * @return The inverses of the elements or null if the group has more than MAX_ELEMENTS elements.
+	 */
+	private List<int[]> enumerateGroup() {
+		List<int[]> elements = new ArrayList<>();
+		Set<List<Integer>> known = new HashSet<>();
+		elements.add(identity());
+		known.add(toList(elements.get(0)));
+		for (int i = 0; i < elements.size(); i++) {
+			for (int[] generator : generators) {
+				int[] element = compose(generator, elements.get(i));
+				if (known.add(toList(element))) {
+					if (elements.size() >= MAX_ELEMENTS)
+						return null;
+					elements.add(element);
+				}
+			}
+		}
+
+		List<int[]> result = new ArrayList<>(elements.size());
+		for (int[] element : elements)
+			result.add(invert(element));
+		return result;
+	}
+
+	static private List<Integer> toList(int[] array) {
+		List<Integer> result = new ArrayList<>(array.length);
+		for (int value : array)
+			result.add(value);
+		return result;
+	}
+
+	/**
+	 * Find generators of the symmetry group along a chain of stabilisers.
+	 */
+	private void findGenerators() {
+		int[] colours = new int[vertices];
+		for (int v = places; v < vertices; v++)
+			colours[v] = 1;
+		colours = refine(colours);
+
+		while (true) {
+			int cell = firstNonSingletonCell(colours);
+			if (cell < 0)
+				return;
+
+			int first = -1;
+			for (int v = 0; v < vertices && first < 0; v++)
+				if (colours[v] == cell)
+					first = v;
+
+			// All symmetries found on this level fix the vertices individualised so far
+			List<int[]> level = new ArrayList<>();
+			boolean[] orbit = new boolean[vertices];
+			orbit[first] = true;
+			for (int v = first + 1; v < vertices; v++) {
+				if (colours[v] != cell || orbit[v])
+					continue;
+				int[] symmetry = findSymmetry(colours, first, v);
+				if (symmetry != null) {
+					generators.add(symmetry);
+					level.add(symmetry);
+					closeOrbit(orbit, level);
+				}
+			}
+
+			colours = individualise(colours, first);
+		}
+	}
+
+	static private void closeOrbit(boolean[] orbit, List<int[]> symmetries) {
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (int[] symmetry : symmetries)
+				for (int v = 0; v < orbit.length; v++)
+					if (orbit[v] && !orbit[symmetry[v]]) {
+						orbit[symmetry[v]] = true;
+						changed = true;
+					}
+		}
+	}
+
+	/**
+	 * Search a symmetry which respects the given partition and maps one vertex to another.
+	 * @param colours The partition, which must be equitable.
+	 * @param from The vertex that should be mapped.
+	 * @param to The vertex which should be the image.
+	 * @return The symmetry or null if none was found.
+	 */
+	private int[] findSymmetry(int[] colours, int from, int to) {
+		budget = SEARCH_BUDGET;
+		int[] base = individualise(colours, from);
+		int[] image = individualise(colours, to);
+		if (!sameCellSizes(base, image))
+			return null;
+		return search(base, image);
+	}
+
+	private int[] search(int[] base, int[] image) {
+		if (--budget < 0)
+			return null;
+
+		int cell = firstNonSingletonCell(base);
+		if (cell < 0) {
+			// Both partitions are discrete and thus define a permutation
+			int[] vertexOfColour = new int[vertices];
+			for (int v = 0; v < vertices; v++)
+				vertexOfColour[image[v]] = v;
+			int[] result = new int[vertices];
+			for (int v = 0; v < vertices; v++)
+				result[v] = vertexOfColour[base[v]];
+			return isSymmetry(result) ? result : null;
+		}
+
+		int first = -1;
+		for (int v = 0; v < vertices && first < 0; v++)
+			if (base[v] == cell)
+				first = v;
+		int[] nextBase = individualise(base, first);
+		for (int v = 0; v < vertices && budget >= 0; v++) {
+			if (image[v] != cell)
+				continue;
+			int[] nextImage = individualise(image, v);
+			if (!sameCellSizes(nextBase, nextImage))
+				continue;
+			int[] result = search(nextBase, nextImage);
+			if (result != null)
+				return result;
+		}
+		return null;
+	}
+
+	private boolean isSymmetry(int[] permutation) {
+		for (int p = 0; p < places; p++)
+			if (permutation[p] >= places)
+				return false;
+		for (int t = 0; t < compiled.getTransitionCount(); t++) {
+			int image = permutation[places + t] - places;
+			if (image < 0)
+				return false;
+			if (!sameArcs(permutation, compiled.getPresetIndices(t), compiled.getPresetWeights(t),
+						compiled.getPresetIndices(image), compiled.getPresetWeights(image)))
+				return false;
+			if (!sameArcs(permutation, compiled.getPostsetIndices(t), compiled.getPostsetWeights(t),
+						compiled.getPostsetIndices(image), compiled.getPostsetWeights(image)))
+				return false;
+		}
+		return true;
+	}
+
+	private boolean sameArcs(int[] permutation, int[] indices, int[] weights, int[] imageIndices,
+			int[] imageWeights) {
+		if (indices.length != imageIndices.length)
+			return false;
+		for (int i = 0; i < indices.length; i++) {
+			int j = 0;
+			while (j < imageIndices.length && imageIndices[j] != permutation[indices[i]])
+				j++;
+			if (j == imageIndices.length || imageWeights[j] != weights[i])
+				return false;
+		}
+		return true;
+	}
+
+	static private int firstNonSingletonCell(int[] colours) {
+		int[] sizes = cellSizes(colours);
+		for (int c = 0; c < sizes.length; c++)
+			if (sizes[c] > 1)
+				return c;
+		return -1;
+	}
+
+	static private int[] cellSizes(int[] colours) {
+		int[] sizes = new int[colours.length];
+		for (int colour : colours)
+			sizes[colour]++;
+		return sizes;
+	}
+
+	static private boolean sameCellSizes(int[] colours1, int[] colours2) {
+		return Arrays.equals(cellSizes(colours1), cellSizes(colours2));
+	}
+
+	private int[] individualise(int[] colours, int vertex) {
+		int[] result = colours.clone();
+		result[vertex] = vertices;
+		return refine(result);
+	}
+
+	/**
+	 * Refine a partition until it is equitable. The colours of the result only depend on the colours and the arcs
+	 * of the vertices, but not on the numbering of the vertices. Thus, refining partitions which are mapped onto
+	 * each other by a symmetry results in partitions which are mapped onto each other by it, too.
+	 * @param colours The colour of every vertex.
+	 * @return The colours of the refined partition. These are numbered consecutively starting from zero.
+	 */
+	private int[] refine(int[] colours) {
+		int count = -1;
+		while (true) {
+			final int[][] signatures = new int[vertices][];
+			Integer[] order = new Integer[vertices];
+			for (int v = 0; v < vertices; v++) {
+				signatures[v] = signature(colours, v);
+				order[v] = v;
+			}
+			Arrays.sort(order, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer v1, Integer v2) {
+					return compareSignatures(signatures[v1], signatures[v2]);
+				}
+			});
+
+			int[] result = new int[vertices];
+			int colour = -1;
+			int[] previous = null;
+			for (int v : order) {
+				if (previous == null || compareSignatures(previous, signatures[v]) != 0)
+					colour++;
+				previous = signatures[v];
+				result[v] = colour;
+			}
+			if (colour + 1 == count)
+				return result;
+			count = colour + 1;
+			colours = result;
+		}
+	}
+
+	/**
+	 * Calculate the signature of a vertex. This is its colour followed by the sorted triples of the kinds, the
+	 * weights and the neighbour's colours of its arcs.
+	 */
+	private int[] signature(final int[] colours, int vertex) {
+		final int[] vertexArcs = arcs[vertex];
+		Integer[] order = new Integer[vertexArcs.length / 3];
+		for (int i = 0; i < order.length; i++)
+			order[i] = 3 * i;
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i1, Integer i2) {
+				int cmp = Integer.compare(vertexArcs[i1], vertexArcs[i2]);
+				if (cmp == 0)
+					cmp = Integer.compare(vertexArcs[i1 + 1], vertexArcs[i2 + 1]);
+				if (cmp == 0)
+					cmp = Integer.compare(colours[vertexArcs[i1 + 2]], colours[vertexArcs[i2 + 2]]);
+				return cmp;
+			}
+		});
+
+		int[] result = new int[1 + vertexArcs.length];
+		result[0] = colours[vertex];
+		for (int i = 0; i < order.length; i++) {
+			result[1 + 3 * i] = vertexArcs[order[i]];
+			result[2 + 3 * i] = vertexArcs[order[i] + 1];
+			result[3 + 3 * i] = colours[vertexArcs[order[i] + 2]];
+		}
+		return result;
+	}
+
+	static private int compareSignatures(int[] signature1, int[] signature2) {
+		for (int i = 0; i < signature1.length && i < signature2.length; i++) {
+			int cmp = Integer.compare(signature1[i], signature2[i]);
+			if (cmp != 0)
+				return cmp;
+		}
+		return Integer.compare(signature1.length, signature2.length);
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -54,8 +54,9 @@ public class ComputeMinSemiPosInvariantsModule extends AbstractModule {
 		inputSpec.addParameter("pn", PetriNet.class, "The Petri net that should be examined");
 		inputSpec.addParameter("inv", Character.class, "Parameter 's' for s-invariants "
 			+ "and 't' for t-invariants.");
-		inputSpec.addOptionalParameter("algo", Character.class, 'p', "Parameter 'f' for farkas algorithmen and"
-			+ " 'p' for the adapted farkas algorithmen of pipe.");
+		inputSpec.addOptionalParameter("algo", Character.class, 'm', "Parameter 'f' for farkas algorithm, "
+			+ "'p' for the adapted farkas algorithm of pipe and 'm' for the algorithm of Martinez and "
+			+ "Silva.");
 	}
 
 	@Override
@@ -71,8 +72,16 @@ public class ComputeMinSemiPosInvariantsModule extends AbstractModule {
 		Character algo = input.getParameter("algo", Character.class);
 		Set<List<Integer>> invariants = null;
 		Set<? extends Node> nodes;
-		InvariantCalculator.InvariantAlgorithm alg = (algo == 'f')
-			? InvariantCalculator.InvariantAlgorithm.FARKAS : InvariantCalculator.InvariantAlgorithm.PIPE;
+		InvariantCalculator.InvariantAlgorithm alg;
+		if (algo == 'f') {
+			alg = InvariantCalculator.InvariantAlgorithm.FARKAS;
+		} else if (algo == 'p') {
+			alg = InvariantCalculator.InvariantAlgorithm.PIPE;
+		} else if (algo == 'm') {
+			alg = InvariantCalculator.InvariantAlgorithm.MARTINEZ_SILVA;
+		} else {
+			throw new ModuleException("Parameter 'algo' for " + getName() + " has to be [f/p/m]");
+		}
 		if (para == 's') {
 			invariants = InvariantCalculator.calcSInvariants(pn, alg);
 			nodes = pn.getPlaces();
@@ -52,8 +52,9 @@ public class CoveredByInvariantModule extends AbstractModule {
 		inputSpec.addParameter("net", PetriNet.class, "The Petri net that should be examined");
 		inputSpec.addParameter("inv", Character.class, "Parameter 's' for s-invariants "
 			+ "and 't' for t-invariants.");
-		inputSpec.addOptionalParameter("algo", Character.class, 'p', "Parameter 'f' for farkas algorithm and"
-			+ " 'p' for the adapted farkas algorithm of pipe.");
+		inputSpec.addOptionalParameter("algo", Character.class, 'm', "Parameter 'f' for farkas algorithm, "
+			+ "'p' for the adapted farkas algorithm of pipe and 'm' for the algorithm of Martinez and "
+			+ "Silva.");
 	}
 
 	@Override
@@ -68,8 +69,16 @@ public class CoveredByInvariantModule extends AbstractModule {
 		PetriNet pn = input.getParameter("net", PetriNet.class);
 		Character para = input.getParameter("inv", Character.class);
 		Character algo = input.getParameter("algo", Character.class);
-		InvariantCalculator.InvariantAlgorithm alg = (algo == 'f')
-			? InvariantCalculator.InvariantAlgorithm.FARKAS : InvariantCalculator.InvariantAlgorithm.PIPE;
+		InvariantCalculator.InvariantAlgorithm alg;
+		if (algo == 'f') {
+			alg = InvariantCalculator.InvariantAlgorithm.FARKAS;
+		} else if (algo == 'p') {
+			alg = InvariantCalculator.InvariantAlgorithm.PIPE;
+		} else if (algo == 'm') {
+			alg = InvariantCalculator.InvariantAlgorithm.MARTINEZ_SILVA;
+		} else {
+			throw new ModuleException("Parameter 'algo' for " + getName() + " has to be [f/p/m]");
+		}
 		Vector invariant;
 		Set<? extends Node> nodes;
 		if (para == 's') {
@@ -0,0 +1,328 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.invariants;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import uniol.apt.util.MathTools;
+
+import static uniol.apt.util.DebugUtil.debug;
+
+/**
+ * Calculate the minimal semi-positive invariants of a matrix with the Fourier-Motzkin method as described by
+ * Martinez and Silva in "A simple and fast algorithm to obtain all invariants of a generalised Petri net". The
+ * columns of the matrix are eliminated one after another. Two rows are only combined if they are adjacent, which
+ * means that no other row has a support that is contained in the union of their supports. This keeps only rows with
+ * minimal support during the whole computation instead of removing redundant rows at the end.
+ *
+ * Rows are saved as arrays of longs. Combinations are calculated with checked arithmetic and only rows whose entries
+ * do not fit into a long are saved as BigIntegers.
+ */
+public final class FourierMotzkin {
+	// Only use threads if at least this many pairs of rows have to be examined for a column
+	static private final int PARALLEL_THRESHOLD = 4096;
+
+	private final int numColumns;
+	private final int numVariables;
+	private final int numThreads;
+	private ExecutorService executor;
+
+	/**
+	 * A row of the extended matrix (C | E). The first numColumns entries are the remaining constraints and the
+	 * following numVariables entries are the coefficients of the invariant.
+	 */
+	static private final class Row {
+		// The entries of this row or null if one of them does not fit into a long
+		private final long[] values;
+		// The entries of this row as BigIntegers or null if all of them fit into a long
+		private final BigInteger[] bigValues;
+		// The support of the invariant part of this row as a bitset
+		private final long[] support;
+
+		private Row(long[] values, BigInteger[] bigValues, long[] support) {
+			this.values = values;
+			this.bigValues = bigValues;
+			this.support = support;
+		}
+
+		private int signum(int index) {
+			if (values != null)
+				return Long.signum(values[index]);
+			return bigValues[index].signum();
+		}
+
+		private BigInteger getBig(int index) {
+			if (values != null)
+				return BigInteger.valueOf(values[index]);
+			return bigValues[index];
+		}
+	}
+
+	private FourierMotzkin(int numColumns, int numVariables, int numThreads) {
+		this.numColumns = numColumns;
+		this.numVariables = numVariables;
+		this.numThreads = numThreads;
+	}
+
+	/**
+	 * Calculate all minimal semi-positive invariants of the given matrix. These are the vectors y &gt;= 0 with
+	 * y * mat = 0 whose support is minimal, divided by the gcd of their entries.
+	 * @param mat The matrix to calculate invariants for. All rows must have the same length.
+	 * @param numThreads The number of threads that may be used for combining rows.
+	 * @return The minimal semi-positive invariants. Each list has one entry per row of the matrix.
+	 */
+	static public Set<List<BigInteger>> calculate(int[][] mat, int numThreads) {
+		if (numThreads < 1)
+			throw new IllegalArgumentException("Number of threads must be positive, but is " + numThreads);
+		int numColumns = mat.length == 0 ? 0 : mat[0].length;
+		return new FourierMotzkin(numColumns, mat.length, numThreads).run(mat);
+	}
+
+	/**
+	 * Calculate all minimal semi-positive invariants of the given matrix without using additional threads.
+	 * @param mat The matrix to calculate invariants for. All rows must have the same length.
+	 * @return The minimal semi-positive invariants. Each list has one entry per row of the matrix.
+	 * @see #calculate(int[][], int)
+	 */
+	static public Set<List<BigInteger>> calculate(int[][] mat) {
+		return calculate(mat, 1);
+	}
+
+	private Set<List<BigInteger>> run(int[][] mat) {
+		List<Row> rows = new ArrayList<>(numVariables);
+		for (int i = 0; i < numVariables; i++) {
+			assert mat[i].length == numColumns;
+			long[] values = new long[numColumns + numVariables];
+			for (int j = 0; j < numColumns; j++)
+				values[j] = mat[i][j];
+			values[numColumns + i] = 1;
+			long[] support = new long[(numVariables + 63) / 64];
+			support[i / 64] |= 1L << (i % 64);
+			rows.add(new Row(values, null, support));
+		}
+
+		boolean[] eliminated = new boolean[numColumns];
+		try {
+			for (int step = 0; step < numColumns; step++) {
+				int column = chooseColumn(rows, eliminated);
+				eliminated[column] = true;
+				rows = eliminateColumn(rows, column);
+				debug("Eliminated column ", column, ", ", rows.size(), " rows remain");
+			}
+		} finally {
+			if (executor != null)
+				executor.shutdownNow();
+		}
+
+		Set<List<BigInteger>> result = new HashSet<>();
+		for (Row row : rows) {
+			BigInteger[] invariant = new BigInteger[numVariables];
+			for (int i = 0; i < numVariables; i++)
+				invariant[i] = row.getBig(numColumns + i);
+			result.add(Collections.unmodifiableList(Arrays.asList(invariant)));
+		}
+		return result;
+	}
+
+	/**
+	 * Choose the column whose elimination creates the least number of new rows.
+	 */
+	private int chooseColumn(List<Row> rows, boolean[] eliminated) {
+		int best = -1;
+		long bestCost = Long.MAX_VALUE;
+		for (int column = 0; column < numColumns; column++) {
+			if (eliminated[column])
+				continue;
+			long positive = 0;
+			long negative = 0;
+			for (Row row : rows) {
+				int signum = row.signum(column);
+				if (signum > 0)
+					positive++;
+				else if (signum < 0)
+					negative++;
+			}
+			long cost = positive * negative - positive - negative;
+			if (cost < bestCost) {
+				best = column;
+				bestCost = cost;
+			}
+		}
+		return best;
+	}
+
+	private List<Row> eliminateColumn(final List<Row> rows, final int column) {
+		List<Row> result = new ArrayList<>();
+		final List<Row> positive = new ArrayList<>();
+		final List<Row> negative = new ArrayList<>();
+		for (Row row : rows) {
+			int signum = row.signum(column);
+			if (signum > 0)
+				positive.add(row);
+			else if (signum < 0)
+				negative.add(row);
+			else
+				result.add(row);
+		}
+
+		long pairs = (long) positive.size() * negative.size();
+		if (numThreads == 1 || pairs < PARALLEL_THRESHOLD) {
+			result.addAll(combinePairs(rows, column, positive, negative, 0, positive.size()));
+			return result;
+		}
+
+		if (executor == null)
+			executor = Executors.newFixedThreadPool(numThreads);
+		List<Callable<List<Row>>> tasks = new ArrayList<>();
+		int chunk = (positive.size() + numThreads - 1) / numThreads;
+		for (int start = 0; start < positive.size(); start += chunk) {
+			final int from = start;
+			final int to = Math.min(start + chunk, positive.size());
+			tasks.add(new Callable<List<Row>>() {
+				@Override
+				public List<Row> call() {
+					return combinePairs(rows, column, positive, negative, from, to);
+				}
+			});
+		}
+		try {
+			for (Future<List<Row>> future : executor.invokeAll(tasks))
+				result.addAll(future.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while calculating invariants", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new RuntimeException(cause);
+		}
+		return result;
+	}
+
+	/**
+	 * Combine all adjacent pairs of rows with a positive and a negative entry in the given column.
+	 * @param rows All current rows.
+	 * @param column The column to eliminate.
+	 * @param positive The rows with a positive entry in the column.
+	 * @param negative The rows with a negative entry in the column.
+	 * @param from The first index into positive that should be handled.
+	 * @param to The first index into positive that should no longer be handled.
+	 * @return The new rows.
+	 */
+	private List<Row> combinePairs(List<Row> rows, int column, List<Row> positive, List<Row> negative,
+			int from, int to) {
+		List<Row> result = new ArrayList<>();
+		long[] union = new long[(numVariables + 63) / 64];
+		for (int p = from; p < to; p++) {
+			Row first = positive.get(p);
+			for (Row second : negative) {
+				for (int i = 0; i < union.length; i++)
+					union[i] = first.support[i] | second.support[i];
+				if (isAdjacent(rows, first, second, union))
+					result.add(combine(first, second, column, union.clone()));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Check if no other row has a support that is contained in the given union of the supports of two rows.
+	 */
+	static private boolean isAdjacent(List<Row> rows, Row first, Row second, long[] union) {
+		for (Row row : rows) {
+			if (row == first || row == second)
+				continue;
+			boolean contained = true;
+			for (int i = 0; i < union.length; i++)
+				if ((row.support[i] & ~union[i]) != 0) {
+					contained = false;
+					break;
+				}
+			if (contained)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Combine two rows so that the given column becomes zero. The result is divided by the gcd of its entries.
+	 */
+	private Row combine(Row first, Row second, int column, long[] support) {
+		if (first.values != null && second.values != null) {
+			try {
+				long a = MathTools.checkNotMinValue(-second.values[column]);
+				long b = first.values[column];
+				long[] values = new long[first.values.length];
+				long gcd = 0;
+				for (int i = 0; i < values.length; i++) {
+					long value = MathTools.addExact(MathTools.multiplyExact(a, first.values[i]),
+							MathTools.multiplyExact(b, second.values[i]));
+					values[i] = MathTools.checkNotMinValue(value);
+					gcd = MathTools.gcd(gcd, values[i]);
+				}
+				if (gcd > 1)
+					for (int i = 0; i < values.length; i++)
+						values[i] /= gcd;
+				return new Row(values, null, support);
+			} catch (ArithmeticException e) {
+				// Fall back to BigInteger arithmetic below
+			}
+		}
+
+		BigInteger a = second.getBig(column).negate();
+		BigInteger b = first.getBig(column);
+		int length = first.values != null ? first.values.length : first.bigValues.length;
+		BigInteger[] values = new BigInteger[length];
+		BigInteger gcd = BigInteger.ZERO;
+		for (int i = 0; i < length; i++) {
+			values[i] = a.multiply(first.getBig(i)).add(b.multiply(second.getBig(i)));
+			gcd = gcd.gcd(values[i]);
+		}
+		boolean small = true;
+		for (int i = 0; i < length; i++) {
+			if (gcd.compareTo(BigInteger.ONE) > 0)
+				values[i] = values[i].divide(gcd);
+			if (values[i].bitLength() >= 63)
+				small = false;
+		}
+		if (!small)
+			return new Row(null, values, support);
+		long[] longValues = new long[length];
+		for (int i = 0; i < length; i++)
+			longValues[i] = values[i].longValue();
+		return new Row(longValues, null, support);
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -18,6 +18,7 @@
  */
 package uniol.apt.analysis.invariants;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,6 +41,8 @@ import uniol.apt.util.Pair;
  * based on the paper of D'Anna and Trigila "Concurrent system analysis using
  * Petri nets – an optimised algorithm for finding net invariants", Mario D'Anna
  * and Sebastiano Trigila, Computer Communications vol 11, no. 4 august 1988.
+ * Additionally, the Fourier-Motzkin method of Martinez and Silva which only
+ * keeps invariants with minimal support is provided by {@link FourierMotzkin}.
  * <p/>
  * @author Dennis-Michael Borde, Manuel Gieseking
  */
@@ -57,7 +60,11 @@ public class InvariantCalculator {
 	public enum InvariantAlgorithm {
 
 		FARKAS,
-		PIPE;
+		PIPE,
+		/**
+		 * The Fourier-Motzkin method with minimality pruning during elimination, see {@link FourierMotzkin}.
+		 */
+		MARTINEZ_SILVA;
 	}
 
 	/**
@@ -404,6 +411,35 @@ public class InvariantCalculator {
 		return result;
 	}
 
+	/**
+	 * Calculates the minimal semi-positive invariants with the algorithm of Martinez and Silva.
+	 * <p/>
+	 * @param mat - the matrix to calculate the invariants from.
+	 * <p/>
+	 * @return the invariants with minimal support.
+	 * <p/>
+	 * @throws ArithmeticException if an invariant does not fit into integers.
+	 */
+	private static Set<List<Integer>> calcInvariantsMartinezSilva(int[][] mat) {
+		// Handle empty matrices like the other algorithms
+		if (mat.length == 0 || mat[0].length == 0) {
+			return new HashSet<>();
+		}
+		Set<List<Integer>> result = new HashSet<>();
+		for (List<BigInteger> invariant : FourierMotzkin.calculate(mat,
+					Runtime.getRuntime().availableProcessors())) {
+			List<Integer> list = new ArrayList<>(invariant.size());
+			for (BigInteger value : invariant) {
+				if (value.bitLength() >= 32)
+					throw new ArithmeticException("Invariant " + invariant
+							+ " does not fit into integers");
+				list.add(value.intValue());
+			}
+			result.add(list);
+		}
+		return result;
+	}
+
 	/**
 	 * Transposes the given matrix.
 	 * <p/>
@@ -427,15 +463,15 @@ public class InvariantCalculator {
 	}
 
 	/**
-	 * Calculates the s-invariants of the the given petri net with the pipe
-	 * algorithm.
+	 * Calculates the s-invariants of the the given petri net with the
+	 * algorithm of Martinez and Silva.
 	 * <p/>
 	 * @param pn - the petri net to calculate the s-invariants from.
 	 * <p/>
 	 * @return a generator set of the invariants.
 	 */
 	public static Set<List<Integer>> calcSInvariants(PetriNet pn) {
-		return InvariantCalculator.calcSInvariants(pn, InvariantAlgorithm.PIPE);
+		return InvariantCalculator.calcSInvariants(pn, InvariantAlgorithm.MARTINEZ_SILVA);
 	}
 
 	/**
@@ -454,21 +490,23 @@ public class InvariantCalculator {
 				return InvariantCalculator.calcInvariantsFarkas(pn.getIncidenceMatrix());
 			case PIPE:
 				return InvariantCalculator.calcInvariantsPIPE(transposeMatrix(pn.getIncidenceMatrix()));
+			case MARTINEZ_SILVA:
+				return InvariantCalculator.calcInvariantsMartinezSilva(pn.getIncidenceMatrix());
 			default:
 				return InvariantCalculator.calcInvariantsFarkas(pn.getIncidenceMatrix());
 		}
 	}
 
 	/**
-	 * Calculates the t-invariants of the the given petri net with the pipe
-	 * algorithm.
+	 * Calculates the t-invariants of the the given petri net with the
+	 * algorithm of Martinez and Silva.
 	 * <p/>
 	 * @param pn - the petri net to calculate the t-invariants from.
 	 * <p/>
 	 * @return a generator set of the invariants.
 	 */
 	public static Set<List<Integer>> calcTInvariants(PetriNet pn) {
-		return InvariantCalculator.calcTInvariants(pn, InvariantAlgorithm.PIPE);
+		return InvariantCalculator.calcTInvariants(pn, InvariantAlgorithm.MARTINEZ_SILVA);
 	}
 
 	/**
@@ -488,6 +526,9 @@ public class InvariantCalculator {
 						transposeMatrix(pn.getIncidenceMatrix()));
 			case PIPE:
 				return InvariantCalculator.calcInvariantsPIPE(pn.getIncidenceMatrix());
+			case MARTINEZ_SILVA:
+				return InvariantCalculator.calcInvariantsMartinezSilva(
+						transposeMatrix(pn.getIncidenceMatrix()));
 			default:
 				return InvariantCalculator.calcInvariantsFarkas(
 						transposeMatrix(pn.getIncidenceMatrix()));
@@ -496,7 +537,7 @@ public class InvariantCalculator {
 
 	/**
 	 * Checks whether the the given petri net is covered by s-invariants with
-	 * the pipe algorithm. Returns the invariant which covers or null if not
+	 * the algorithm of Martinez and Silva. Returns the invariant which covers or null if not
 	 * existent.
 	 * <p/>
 	 * @param pn - the petri net to check covered.
@@ -504,7 +545,7 @@ public class InvariantCalculator {
 	 * @return the invariant which covers or null if it is not covered.
 	 */
 	public static Vector coveredBySInvariants(PetriNet pn) {
-		return coveredBySInvariants(pn, InvariantAlgorithm.PIPE);
+		return coveredBySInvariants(pn, InvariantAlgorithm.MARTINEZ_SILVA);
 	}
 
 	/**
@@ -551,7 +592,7 @@ public class InvariantCalculator {
 
 	/**
 	 * Checks whether the the given petri net is covered by t-invariants with
-	 * the pipe algorithm. Returns the invariant which covers or null if not
+	 * the algorithm of Martinez and Silva. Returns the invariant which covers or null if not
 	 * existent.
 	 * <p/>
 	 * @param pn - the petri net to check covered.
@@ -559,7 +600,7 @@ public class InvariantCalculator {
 	 * @return the invariant which covers or null if it is not covered.
 	 */
 	public static Vector coveredByTInvariants(PetriNet pn) {
-		return coveredByTInvariants(pn, InvariantAlgorithm.PIPE);
+		return coveredByTInvariants(pn, InvariantAlgorithm.MARTINEZ_SILVA);
 	}
 
 	/**
@@ -0,0 +1,194 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.isomorphism;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+
+/**
+ * Colour refinement (also known as the one-dimensional Weisfeiler-Leman algorithm) on a transition system. Initially,
+ * only the initial state has a different colour than the other states. In each round, the new colour of a state is
+ * computed from its old colour and the multisets of the colours of its predecessors and successors together with the
+ * labels of the arcs. This is repeated until the number of colours no longer increases.
+ *
+ * Colours are hash values that only depend on the structure of the transition system and not on the order or the
+ * names of its states. Thus, an isomorphism can only map states to states with the same colour and isomorphic
+ * transition systems have the same {@link #getHash() hash}. Different hashes prove that two transition systems are
+ * not isomorphic.
+ */
+public class ColorRefinement {
+	private final Map<State, Integer> stateIndices = new HashMap<>();
+	private final long[] colors;
+	private final int numColors;
+	private final long hash;
+
+	/**
+	 * Calculate the stable colouring of the given transition system.
+	 * @param ts The transition system to examine.
+	 * @param checkLabels If true, the labels of arcs are taken into account. Otherwise only the existence of arcs
+	 * between states matters, as for {@link IsomorphismLogic} when labels are not checked.
+	 */
+	public ColorRefinement(TransitionSystem ts, boolean checkLabels) {
+		int numStates = ts.getNodes().size();
+		State[] states = new State[numStates];
+		for (State state : ts.getNodes()) {
+			states[stateIndices.size()] = state;
+			stateIndices.put(state, stateIndices.size());
+		}
+
+		// Each neighbour of a state is saved as a pair of its index and a hash of the arc label. Without
+		// labels, a neighbour is only recorded once, no matter how many arcs lead to it.
+		int[][] successors = new int[numStates][];
+		int[][] predecessors = new int[numStates][];
+		long[][] successorLabels = new long[numStates][];
+		long[][] predecessorLabels = new long[numStates][];
+		for (int i = 0; i < numStates; i++) {
+			successors[i] = getNeighbours(states[i].getPostsetEdges(), true, checkLabels);
+			successorLabels[i] = getLabels(states[i].getPostsetEdges(), checkLabels);
+			predecessors[i] = getNeighbours(states[i].getPresetEdges(), false, checkLabels);
+			predecessorLabels[i] = getLabels(states[i].getPresetEdges(), checkLabels);
+		}
+
+		long[] colors = new long[numStates];
+		colors[stateIndices.get(ts.getInitialState())] = 1;
+		int numColors = countColors(colors);
+		int rounds = 0;
+		while (true) {
+			long[] newColors = new long[numStates];
+			for (int i = 0; i < numStates; i++) {
+				long out = combine(colors, successors[i], successorLabels[i]);
+				long in = combine(colors, predecessors[i], predecessorLabels[i]);
+				newColors[i] = mix(mix(colors[i] + 1) + 31 * out + 17 * in);
+			}
+			rounds++;
+
+			// The old colour is part of the new one, so the colouring can only become finer
+			int newNumColors = countColors(newColors);
+			colors = newColors;
+			if (newNumColors == numColors)
+				break;
+			numColors = newNumColors;
+		}
+
+		this.colors = colors;
+		this.numColors = numColors;
+
+		long[] sorted = Arrays.copyOf(colors, numStates);
+		Arrays.sort(sorted);
+		long hash = mix(numStates + 31L * rounds);
+		for (long color : sorted)
+			hash = mix(hash + color);
+		this.hash = hash;
+	}
+
+	private int[] getNeighbours(Set<Arc> arcs, boolean successors, boolean checkLabels) {
+		int[] result = new int[arcs.size()];
+		int size = 0;
+		for (Arc arc : arcs)
+			result[size++] = stateIndices.get(successors ? arc.getTarget() : arc.getSource());
+		if (!checkLabels) {
+			// Only the existence of arcs matters, so remove duplicates
+			Arrays.sort(result);
+			size = 0;
+			for (int i = 0; i < result.length; i++)
+				if (size == 0 || result[size - 1] != result[i])
+					result[size++] = result[i];
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	static private long[] getLabels(Set<Arc> arcs, boolean checkLabels) {
+		if (!checkLabels)
+			return null;
+		long[] result = new long[arcs.size()];
+		int size = 0;
+		for (Arc arc : arcs)
+			result[size++] = mix(arc.getLabel().hashCode());
+		return result;
+	}
+
+	// Combine the colours of some neighbours and the labels of the arcs to them into an order independent hash
+	static private long combine(long[] colors, int[] neighbours, long[] labels) {
+		long[] values = new long[neighbours.length];
+		for (int i = 0; i < neighbours.length; i++) {
+			values[i] = colors[neighbours[i]];
+			if (labels != null)
+				values[i] = mix(values[i] + 31 * labels[i]);
+		}
+		Arrays.sort(values);
+		long result = neighbours.length;
+		for (long value : values)
+			result = mix(result + value);
+		return result;
+	}
+
+	static private int countColors(long[] colors) {
+		long[] sorted = Arrays.copyOf(colors, colors.length);
+		Arrays.sort(sorted);
+		int result = 0;
+		for (int i = 0; i < sorted.length; i++)
+			if (i == 0 || sorted[i] != sorted[i - 1])
+				result++;
+		return result;
+	}
+
+	// The finalizer of the SplitMix64 generator, which spreads the bits of its argument
+	static private long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+		return value ^ (value >>> 31);
+	}
+
+	/**
+	 * Get the colour of a state. States with different colours cannot be mapped to each other by an isomorphism.
+	 * @param state A state of the transition system.
+	 * @return The colour of the state.
+	 */
+	public long getColor(State state) {
+		Integer index = stateIndices.get(state);
+		if (index == null)
+			throw new IllegalArgumentException("State " + state + " is not known");
+		return colors[index];
+	}
+
+	/**
+	 * Get the number of different colours.
+	 * @return The number of colours.
+	 */
+	public int getNumberOfColors() {
+		return numColors;
+	}
+
+	/**
+	 * Get a hash of the transition system. Isomorphic transition systems have the same hash.
+	 * @return The hash value.
+	 */
+	public long getHash() {
+		return hash;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -62,6 +62,8 @@ public class IsomorphismLogic {
 	private final Map<State, Integer> out2 = new HashMap<>();
 	private final boolean result;
 	private final boolean checkLabels;
+	private final ColorRefinement colors1;
+	private final ColorRefinement colors2;
 
 
 	/**
@@ -80,6 +82,17 @@ public class IsomorphismLogic {
 
 		// Check trivial case
 		if (lts1.getNodes().size() != lts2.getNodes().size()) {
+			colors1 = null;
+			colors2 = null;
+			result = false;
+			return;
+		}
+
+		// Colour refinement rejects most non-isomorphic LTS. Otherwise, only states with the same colour can be
+		// paired by an isomorphism, which is checked in isFeasible().
+		colors1 = new ColorRefinement(lts1, checkLabels);
+		colors2 = new ColorRefinement(lts2, checkLabels);
+		if (colors1.getHash() != colors2.getHash()) {
 			result = false;
 			return;
 		}
@@ -270,6 +283,10 @@ public class IsomorphismLogic {
 			return false;
 		}
 
+		if (colors1.getColor(nodeN) != colors2.getColor(nodeM)) {
+			return false;
+		}
+
 		for (Arc inN : nodeN.getPresetEdges()) {
 			if (core1.containsKey(inN.getSource())) {
 				if (!checkMatchingArc(core1.get(inN.getSource()), nodeM, inN.getLabel())) {
@@ -42,18 +42,27 @@ abstract public class AbstractLiveModule extends AbstractModule {
 		inputSpec.addParameter("pn", PetriNet.class, "The Petri net that should be examined");
 		inputSpec.addOptionalParameter("transition", String.class, null,
 			"A transition that should be checked for liveness");
+		requireOptions(inputSpec);
 	}
 
-	abstract protected void findNonLiveTransition(ModuleOutput output, PetriNet pn) throws ModuleException;
-	abstract protected void checkTransitionLiveness(ModuleOutput output, PetriNet pn, Transition transition)
+	/**
+	 * Add further optional parameters of the module. By default, there are none.
+	 * @param inputSpec The input specification.
+	 */
+	protected void requireOptions(ModuleInputSpec inputSpec) {
+	}
+
+	abstract protected void findNonLiveTransition(ModuleInput input, ModuleOutput output, PetriNet pn)
 		throws ModuleException;
+	abstract protected void checkTransitionLiveness(ModuleInput input, ModuleOutput output, PetriNet pn,
+			Transition transition) throws ModuleException;
 
 	@Override
 	final public void run(ModuleInput input, ModuleOutput output) throws ModuleException {
 		PetriNet pn = input.getParameter("pn", PetriNet.class);
 		String id = input.getParameter("transition", String.class);
 		if (id == null) {
-			findNonLiveTransition(output, pn);
+			findNonLiveTransition(input, output, pn);
 		} else {
 			Transition transition;
 			try {
@@ -62,7 +71,7 @@ abstract public class AbstractLiveModule extends AbstractModule {
 				throw new NoSuchTransitionException(pn, e);
 			}
 
-			checkTransitionLiveness(output, pn, transition);
+			checkTransitionLiveness(input, output, pn, transition);
 		}
 	}
 
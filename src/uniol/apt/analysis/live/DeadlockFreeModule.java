@@ -0,0 +1,101 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.live;
+
+import java.util.List;
+
+import uniol.apt.module.AbstractModule;
+import uniol.apt.module.Category;
+import uniol.apt.module.ModuleInput;
+import uniol.apt.module.ModuleInputSpec;
+import uniol.apt.module.ModuleOutput;
+import uniol.apt.module.ModuleOutputSpec;
+import uniol.apt.module.exception.ModuleException;
+
+import uniol.apt.analysis.language.FiringSequence;
+import uniol.apt.analysis.symbolic.SymbolicReachability;
+
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Transition;
+
+/**
+ * Provide the deadlock test as a module.
+ */
+public class DeadlockFreeModule extends AbstractModule {
+
+	@Override
+	public String getShortDescription() {
+		return "Check if a Petri net is deadlock-free";
+	}
+
+	@Override
+	public String getLongDescription() {
+		return getShortDescription()
+			+ ". A Petri net is deadlock-free if there is no reachable marking in which no transition is "
+			+ "enabled. If the Petri net is not deadlock-free, this module finds a firing sequence which "
+			+ "reaches a deadlock.";
+	}
+
+	@Override
+	public String getName() {
+		return "deadlock_free";
+	}
+
+	@Override
+	public void require(ModuleInputSpec inputSpec) {
+		inputSpec.addParameter("pn", PetriNet.class, "The Petri net that should be examined");
+		inputSpec.addOptionalParameter("reduce", String.class, null,
+			"If given, partial order reduction is used for exploring the reachability graph");
+		inputSpec.addOptionalParameter("symbolic", String.class, null,
+			"If given, the reachable markings of the safe Petri net are represented symbolically by BDDs."
+			+ " This cannot be combined with reduce.");
+	}
+
+	@Override
+	public void provide(ModuleOutputSpec outputSpec) {
+		outputSpec.addReturnValue("deadlock_free", Boolean.class, ModuleOutputSpec.PROPERTY_SUCCESS);
+		outputSpec.addReturnValue("witness_firing_sequence", FiringSequence.class);
+	}
+
+	@Override
+	public void run(ModuleInput input, ModuleOutput output) throws ModuleException {
+		PetriNet pn = input.getParameter("pn", PetriNet.class);
+		boolean reduce = input.getParameter("reduce", String.class) != null;
+		boolean symbolic = input.getParameter("symbolic", String.class) != null;
+		if (symbolic && reduce)
+			throw new ModuleException("Parameters 'symbolic' and 'reduce' cannot be combined");
+		List<Transition> deadlock;
+		if (symbolic)
+			deadlock = SymbolicReachability.get(pn).findDeadlock();
+		else
+			deadlock = Live.findDeadlock(pn, reduce);
+		output.setReturnValue("deadlock_free", Boolean.class, deadlock == null);
+		if (deadlock != null)
+			output.setReturnValue("witness_firing_sequence", FiringSequence.class,
+					new FiringSequence(deadlock));
+	}
+
+	@Override
+	public Category[] getCategories() {
+		return new Category[]{Category.PN};
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -21,21 +21,19 @@ package uniol.apt.analysis.live;
 
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.pn.Transition;
-import uniol.apt.adt.ts.Arc;
-import uniol.apt.adt.ts.State;
-import uniol.apt.adt.ts.TransitionSystem;
 import uniol.apt.analysis.exception.UnboundedException;
-import uniol.apt.analysis.connectivity.Component;
-import uniol.apt.analysis.connectivity.Components;
-import uniol.apt.analysis.connectivity.Connectivity;
 import uniol.apt.analysis.coverability.CoverabilityGraph;
 import uniol.apt.analysis.coverability.CoverabilityGraphNode;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 
+import static org.apache.commons.collections4.PredicateUtils.andPredicate;
+import static org.apache.commons.collections4.PredicateUtils.notPredicate;
+import static org.apache.commons.collections4.PredicateUtils.orPredicate;
+import static uniol.apt.analysis.coverability.CoverabilityGraphQueries.*;
+
 /**
  * This class implements various liveness tests for Petri nets.
  * @author Uli Schlachter, vsp
@@ -52,8 +50,20 @@ public class Live {
 	 * @throws UnboundedException If the reachability graph is unbounded.
 	 */
 	static public Transition findDeadTransition(PetriNet pn) throws UnboundedException {
+		return findDeadTransition(pn, false);
+	}
+
+	/**
+	 * Find a dead transition in the Petri net.
+	 * @param pn The Petri net that should be examined.
+	 * @param reduce Whether partial order reduction should be used for exploring the reachability graph.
+	 * @return A transition which is dead live, else null.
+	 * @see #checkSimplyLive(PetriNet, Transition, boolean)
+	 * @throws UnboundedException If the reachability graph is unbounded.
+	 */
+	static public Transition findDeadTransition(PetriNet pn, boolean reduce) throws UnboundedException {
 		for (Transition t : pn.getTransitions())
-			if (checkSimplyLive(pn, t) == null)
+			if (checkSimplyLive(pn, t, reduce) == null)
 				return t;
 		return null;
 	}
@@ -64,22 +74,67 @@ public class Live {
 	 * @param pn The Petri net that should be examined.
 	 * @param transition The transition that is checked.
 	 * @return A firable firing sequence that ends with the given transition, or null.
-	 * @throws UnboundedException If the reachability graph is unbounded.
+	 * @throws UnboundedException If the reachability graph is unbounded and the transition cannot fire in the
+	 * part of the graph that was explored before this was noticed.
 	 */
 	static public List<Transition> checkSimplyLive(PetriNet pn, Transition transition) throws UnboundedException {
-		TransitionSystem lts = CoverabilityGraph.get(pn).toReachabilityLTS();
-		for (Arc arc : lts.getEdges()) {
-			Transition trans = (Transition) arc.getExtension(Transition.class.getName());
-			if (trans.equals(transition)) {
-				// We found an edge which actually fires this transition!
-				CoverabilityGraphNode source = (CoverabilityGraphNode)
-					arc.getSource().getExtension(CoverabilityGraphNode.class.getName());
-				List<Transition> result = new ArrayList<>(source.getFiringSequence());
-				result.add(transition);
-				return result;
-			}
-		}
-		// We checked the coverability graph and the wanted transition didn't show up. Thus it must be dead.
+		return checkSimplyLive(pn, transition, false);
+	}
+
+	/**
+	 * Check if the given transition is simply live. This means that the transition can fire in at least one
+	 * reachable state and thus is not dead. With partial order reduction, only a part of the reachability graph
+	 * which still contains a marking enabling the transition (if there is one) is explored.
+	 * @param pn The Petri net that should be examined.
+	 * @param transition The transition that is checked.
+	 * @param reduce Whether partial order reduction should be used for exploring the reachability graph.
+	 * @return A firable firing sequence that ends with the given transition, or null.
+	 * @throws UnboundedException If the reachability graph is unbounded and the transition cannot fire in the
+	 * part of the graph that was explored before this was noticed.
+	 */
+	static public List<Transition> checkSimplyLive(PetriNet pn, Transition transition, boolean reduce)
+			throws UnboundedException {
+		CoverabilityGraph graph;
+		if (reduce)
+			graph = CoverabilityGraph.getReducedGraph(pn, Collections.singleton(transition));
+		else
+			graph = CoverabilityGraph.get(pn);
+
+		// Only explore the reachability graph until we find an edge which actually fires this transition
+		CoverabilityGraphNode node = findNode(graph, orPredicate(fires(transition), hasOmega()));
+		if (node == null)
+			// We checked the coverability graph and the wanted transition didn't show up. Thus it must be
+			// dead.
+			return null;
+		if (node.getMarking().hasOmega())
+			throw new UnboundedException(pn);
+		List<Transition> result = new ArrayList<>(node.getFiringSequence());
+		result.add(transition);
+		return result;
+	}
+
+	/**
+	 * Find a deadlock in the Petri net. A deadlock is a reachable marking in which no transition is enabled. With
+	 * partial order reduction, only a part of the reachability graph which still contains all deadlocks is
+	 * explored.
+	 * @param pn The Petri net that should be examined.
+	 * @param reduce Whether partial order reduction should be used for exploring the reachability graph.
+	 * @return A firing sequence reaching a deadlock, or null if there is no deadlock.
+	 * @throws UnboundedException If no deadlock was found and the reachability graph is unbounded.
+	 */
+	static public List<Transition> findDeadlock(PetriNet pn, boolean reduce) throws UnboundedException {
+		CoverabilityGraph graph;
+		if (reduce)
+			graph = CoverabilityGraph.getReducedGraph(pn, Collections.<Transition>emptySet());
+		else
+			graph = CoverabilityGraph.get(pn);
+
+		// A node with an OMEGA in which no transition is enabled does not represent a real deadlock
+		CoverabilityGraphNode node = findNode(graph, andPredicate(isDeadlock(), notPredicate(hasOmega())));
+		if (node != null)
+			return node.getFiringSequence();
+		if (findNode(graph, hasOmega()) != null)
+			throw new UnboundedException(pn);
 		return null;
 	}
 
@@ -116,32 +171,7 @@ public class Live {
 		 * component, there obviously can't be an infinite fire sequence which contains the transition
 		 * infinitely often.
 		 */
-		TransitionSystem lts = CoverabilityGraph.get(pn).toReachabilityLTS();
-		Components components = Connectivity.getStronglyConnectedComponents(lts);
-		for (Arc edge : lts.getEdges()) {
-			// Look for edges labeled with our transition...
-			Transition trans = (Transition) edge.getExtension(Transition.class.getName());
-			if (!trans.equals(transition))
-				continue;
-
-			// ...where both endpoints are in the same component
-			State source = edge.getSource();
-			State target = edge.getTarget();
-			for (Component component : components) {
-				if (component.contains(source)) {
-					if (component.contains(target))
-						// Both nodes in the same component
-						return true;
-
-					// We now know for sure that they can't be in the same component, because source
-					// can only be in a single component
-					break;
-				}
-			}
-		}
-
-		// We didn't find a suitable component
-		return false;
+		return isFiredOnCycle(getBoundedGraph(pn), transition);
 	}
 
 	/**
@@ -180,35 +210,33 @@ public class Live {
 	 */
 	static public List<Transition> findKillingFireSequence(PetriNet pn, Transition transition)
 			throws UnboundedException {
-		// We are looking for a node from which no edge for our transition is reachable
-		TransitionSystem lts = CoverabilityGraph.get(pn).toReachabilityLTS();
-		Collection<State> nodes = new HashSet<>(lts.getNodes());
-
-		// Look for edges labeled with our transition...
-		for (Arc edge : lts.getEdges()) {
-			Transition trans = (Transition) edge.getExtension(Transition.class.getName());
-			if (!trans.equals(transition))
-				continue;
-			// All of the nodes in this edge's preset can reach a state where the transition is activated
-			handleStronglyLiveNode(nodes, edge.getSource());
+		// A deadlock kills every transition, so there might be no need to calculate the whole graph
+		CoverabilityGraph graph = CoverabilityGraph.get(pn);
+		CoverabilityGraphNode node = findNode(graph, orPredicate(isDeadlock(), hasOmega()));
+		if (node != null) {
+			if (node.getMarking().hasOmega())
+				throw new UnboundedException(pn);
+			return node.getFiringSequence();
 		}
 
-		// everything which can eventually enable transition was removed, so the transition is strongly live if
-		// this collection is empty.
-		if (nodes.isEmpty())
+		// We are looking for a node from which no edge for our transition is reachable
+		node = findNodeNotReaching(getBoundedGraph(pn), fires(transition));
+		if (node == null)
 			return null;
-		State node = nodes.iterator().next();
-		return ((CoverabilityGraphNode) node.getExtension(CoverabilityGraphNode.class.getName()))
-			.getFiringSequence();
+		return node.getFiringSequence();
 	}
 
-	// Recursively remove the preset from the set of nodes
-	static private void handleStronglyLiveNode(Collection<State> nodes, State node) {
-		if (!nodes.remove(node))
-			// node was already handled
-			return;
-		for (State n : node.getPresetNodes())
-			handleStronglyLiveNode(nodes, n);
+	/**
+	 * Get the coverability graph of a Petri net and make sure that it is a reachability graph.
+	 * @param pn The Petri net.
+	 * @return The coverability graph.
+	 * @throws UnboundedException If the Petri net is unbounded.
+	 */
+	static private CoverabilityGraph getBoundedGraph(PetriNet pn) throws UnboundedException {
+		CoverabilityGraph graph = CoverabilityGraph.get(pn);
+		if (findNode(graph, hasOmega()) != null)
+			throw new UnboundedException(pn);
+		return graph;
 	}
 }
 
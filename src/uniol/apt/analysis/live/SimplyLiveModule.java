@@ -21,11 +21,14 @@ package uniol.apt.analysis.live;
 
 import java.util.List;
 
+import uniol.apt.module.ModuleInput;
+import uniol.apt.module.ModuleInputSpec;
 import uniol.apt.module.ModuleOutput;
 import uniol.apt.module.ModuleOutputSpec;
 import uniol.apt.module.exception.ModuleException;
 
 import uniol.apt.analysis.language.FiringSequence;
+import uniol.apt.analysis.symbolic.SymbolicReachability;
 
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.pn.Transition;
@@ -62,15 +65,42 @@ public class SimplyLiveModule extends AbstractLiveModule {
 	}
 
 	@Override
-	protected void findNonLiveTransition(ModuleOutput output, PetriNet pn) throws ModuleException {
-		Transition dead = Live.findDeadTransition(pn);
+	protected void requireOptions(ModuleInputSpec inputSpec) {
+		inputSpec.addOptionalParameter("reduce", String.class, null,
+			"If given, partial order reduction is used for exploring the reachability graph");
+		inputSpec.addOptionalParameter("symbolic", String.class, null,
+			"If given, the reachable markings of the safe Petri net are represented symbolically by BDDs."
+			+ " This cannot be combined with reduce.");
+	}
+
+	// Check if the symbolic analysis should be used. It does not support partial order reduction.
+	static private boolean useSymbolic(ModuleInput input) throws ModuleException {
+		boolean symbolic = input.getParameter("symbolic", String.class) != null;
+		if (symbolic && input.getParameter("reduce", String.class) != null)
+			throw new ModuleException("Parameters 'symbolic' and 'reduce' cannot be combined");
+		return symbolic;
+	}
+
+	@Override
+	protected void findNonLiveTransition(ModuleInput input, ModuleOutput output, PetriNet pn)
+			throws ModuleException {
+		Transition dead;
+		if (useSymbolic(input))
+			dead = SymbolicReachability.get(pn).findDeadTransition();
+		else
+			dead = Live.findDeadTransition(pn, input.getParameter("reduce", String.class) != null);
 		output.setReturnValue("simply_live", Boolean.class, dead == null);
 		output.setReturnValue("sample_dead_transition", Transition.class, dead);
 	}
 
 	@Override
-	protected void checkTransitionLiveness(ModuleOutput output, PetriNet pn, Transition transition) throws ModuleException {
-		List<Transition> live = Live.checkSimplyLive(pn, transition);
+	protected void checkTransitionLiveness(ModuleInput input, ModuleOutput output, PetriNet pn,
+			Transition transition) throws ModuleException {
+		List<Transition> live;
+		if (useSymbolic(input))
+			live = SymbolicReachability.get(pn).checkSimplyLive(transition);
+		else
+			live = Live.checkSimplyLive(pn, transition, input.getParameter("reduce", String.class) != null);
 		output.setReturnValue("simply_live", Boolean.class, live != null);
 		if (live != null)
 			output.setReturnValue("sample_witness_firing_sequence",
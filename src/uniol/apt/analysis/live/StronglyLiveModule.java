@@ -19,6 +19,8 @@
 
 package uniol.apt.analysis.live;
 
+import uniol.apt.module.ModuleInput;
+import uniol.apt.module.ModuleInputSpec;
 import uniol.apt.module.ModuleOutput;
 import uniol.apt.module.ModuleOutputSpec;
 import uniol.apt.module.exception.ModuleException;
@@ -26,6 +28,7 @@ import uniol.apt.module.exception.ModuleException;
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.pn.Transition;
 import uniol.apt.analysis.language.FiringSequence;
+import uniol.apt.analysis.symbolic.SymbolicReachability;
 
 import java.util.List;
 
@@ -62,23 +65,42 @@ public class StronglyLiveModule extends AbstractLiveModule {
 	}
 
 	@Override
-	protected void findNonLiveTransition(ModuleOutput output, PetriNet pn) throws ModuleException {
-		Transition trans = Live.findNonStronglyLiveTransition(pn);
+	protected void requireOptions(ModuleInputSpec inputSpec) {
+		inputSpec.addOptionalParameter("symbolic", String.class, null,
+			"If given, the reachable markings of the safe Petri net are represented symbolically by BDDs");
+	}
+
+	@Override
+	protected void findNonLiveTransition(ModuleInput input, ModuleOutput output, PetriNet pn)
+			throws ModuleException {
+		Transition trans;
+		if (input.getParameter("symbolic", String.class) != null)
+			trans = SymbolicReachability.get(pn).findNonStronglyLiveTransition();
+		else
+			trans = Live.findNonStronglyLiveTransition(pn);
 		output.setReturnValue("strongly_live", Boolean.class, trans == null);
 		output.setReturnValue("sample_witness_transition", Transition.class, trans);
 		if (trans != null)
 			output.setReturnValue("sample_witness_firing_sequence", FiringSequence.class,
-					new FiringSequence(Live.findKillingFireSequence(pn, trans)));
+					new FiringSequence(findKillingFireSequence(input, pn, trans)));
 	}
 
 	@Override
-	protected void checkTransitionLiveness(ModuleOutput output, PetriNet pn, Transition transition) throws ModuleException {
-		List<Transition> killingSequence = Live.findKillingFireSequence(pn, transition);
+	protected void checkTransitionLiveness(ModuleInput input, ModuleOutput output, PetriNet pn,
+			Transition transition) throws ModuleException {
+		List<Transition> killingSequence = findKillingFireSequence(input, pn, transition);
 		output.setReturnValue("strongly_live", Boolean.class, killingSequence == null);
 		if (killingSequence != null)
 			output.setReturnValue("sample_witness_firing_sequence",
 					FiringSequence.class, new FiringSequence(killingSequence));
 	}
+
+	private List<Transition> findKillingFireSequence(ModuleInput input, PetriNet pn, Transition transition)
+			throws ModuleException {
+		if (input.getParameter("symbolic", String.class) != null)
+			return SymbolicReachability.get(pn).findKillingFireSequence(transition);
+		return Live.findKillingFireSequence(pn, transition);
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
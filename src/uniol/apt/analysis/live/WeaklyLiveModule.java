@@ -19,6 +19,7 @@
 
 package uniol.apt.analysis.live;
 
+import uniol.apt.module.ModuleInput;
 import uniol.apt.module.ModuleOutput;
 import uniol.apt.module.ModuleOutputSpec;
 import uniol.apt.module.exception.ModuleException;
@@ -56,14 +57,16 @@ public class WeaklyLiveModule extends AbstractLiveModule {
 	}
 
 	@Override
-	protected void findNonLiveTransition(ModuleOutput output, PetriNet pn) throws ModuleException {
+	protected void findNonLiveTransition(ModuleInput input, ModuleOutput output, PetriNet pn)
+			throws ModuleException {
 		Transition trans = Live.findNonWeaklyLiveTransition(pn);
 		output.setReturnValue("weakly_live", Boolean.class, trans == null);
 		output.setReturnValue("sample_witness_transition", Transition.class, trans);
 	}
 
 	@Override
-	protected void checkTransitionLiveness(ModuleOutput output, PetriNet pn, Transition transition) throws ModuleException {
+	protected void checkTransitionLiveness(ModuleInput input, ModuleOutput output, PetriNet pn,
+			Transition transition) throws ModuleException {
 		boolean live = Live.checkWeaklyLive(pn, transition);
 		output.setReturnValue("weakly_live", Boolean.class, live);
 	}
@@ -24,6 +24,7 @@ import uniol.apt.adt.pn.Marking;
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.symbolic.SymbolicReachability;
 import uniol.apt.module.AbstractModule;
 import uniol.apt.module.Category;
 import uniol.apt.module.ModuleInput;
@@ -47,6 +48,8 @@ public class ReversibleModule extends AbstractModule {
 	public void require(ModuleInputSpec inputSpec) {
 		inputSpec.addParameter("pn_or_ts", PetriNetOrTransitionSystem.class,
 			"The Petri net or LTS that should be examined");
+		inputSpec.addOptionalParameter("symbolic", String.class, null,
+			"If given, the reachable markings of the safe Petri net are represented symbolically by BDDs");
 	}
 
 	@Override
@@ -66,7 +69,12 @@ public class ReversibleModule extends AbstractModule {
 		output.setReturnValue("marking", Marking.class, null);
 		output.setReturnValue("state", State.class, null);
 
-		if (pn != null) {
+		if (pn != null && input.getParameter("symbolic", String.class) != null) {
+			Marking marking = SymbolicReachability.get(pn).findNonReversibleMarking();
+
+			output.setReturnValue("reversible", Boolean.class, marking == null);
+			output.setReturnValue("marking", Marking.class, marking);
+		} else if (pn != null) {
 			ReversibleNet reversible = new ReversibleNet(pn);
 			reversible.check();
 
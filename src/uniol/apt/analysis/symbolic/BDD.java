@@ -0,0 +1,416 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.symbolic;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A small package for reduced ordered binary decision diagrams (BDDs). All BDDs of an instance share a node table and
+ * are identified by the index of their root node. Since the BDDs are reduced and share their nodes, two functions are
+ * equal iff they are represented by the same index. Variables are ordered by their index, so that the variable with
+ * index zero is at the top of all BDDs.
+ * <p/>
+ * Nodes are never freed. This keeps the implementation simple and allows results of operations to be cached forever,
+ * but means that the memory needed grows with the number of different intermediate results.
+ */
+public class BDD {
+	/** The BDD of the constant function false. */
+	static public final int FALSE = 0;
+	/** The BDD of the constant function true. */
+	static public final int TRUE = 1;
+
+	// Operation codes for the cache
+	static private final int OP_ITE = 0;
+	static private final int OP_EXISTS = 1;
+
+	// Initial number of nodes and number of entries of the operation cache
+	static private final int INITIAL_SIZE = 1 << 10;
+	static private final int CACHE_SIZE = 1 << 16;
+
+	private final int numVariables;
+
+	// The nodes: variable, low successor (variable is false) and high successor (variable is true)
+	private int[] variables;
+	private int[] lows;
+	private int[] highs;
+	private int size;
+
+	// Hash table from (variable, low, high) to nodes. Empty entries contain FALSE, which is never in the table.
+	private int[] unique;
+
+	// Direct-mapped cache of operation results
+	private final int[] cacheOp = new int[CACHE_SIZE];
+	private final int[] cacheF = new int[CACHE_SIZE];
+	private final int[] cacheG = new int[CACHE_SIZE];
+	private final int[] cacheH = new int[CACHE_SIZE];
+	private final int[] cacheResult = new int[CACHE_SIZE];
+
+	/**
+	 * Create a new BDD package.
+	 * @param numVariables The number of variables.
+	 */
+	public BDD(int numVariables) {
+		if (numVariables < 0)
+			throw new IllegalArgumentException("The number of variables must not be negative");
+		this.numVariables = numVariables;
+		this.variables = new int[INITIAL_SIZE];
+		this.lows = new int[INITIAL_SIZE];
+		this.highs = new int[INITIAL_SIZE];
+		this.unique = new int[2 * INITIAL_SIZE];
+		Arrays.fill(cacheOp, -1);
+
+		// The terminal nodes are below all variables
+		variables[FALSE] = numVariables;
+		variables[TRUE] = numVariables;
+		lows[TRUE] = highs[TRUE] = TRUE;
+		size = 2;
+	}
+
+	/**
+	 * Get the number of variables.
+	 * @return The number of variables.
+	 */
+	public int getNumberOfVariables() {
+		return numVariables;
+	}
+
+	/**
+	 * Get the number of nodes that were created so far, including the two terminal nodes.
+	 * @return The number of nodes.
+	 */
+	public int getNumberOfNodes() {
+		return size;
+	}
+
+	/**
+	 * Get the number of nodes of a BDD, including the terminal nodes.
+	 * @param f The BDD.
+	 * @return The number of nodes reachable from the given node.
+	 */
+	public int getNumberOfNodes(int f) {
+		boolean[] visited = new boolean[size];
+		Deque<Integer> stack = new ArrayDeque<>();
+		stack.push(f);
+		int result = 0;
+		while (!stack.isEmpty()) {
+			int node = stack.pop();
+			if (visited[node])
+				continue;
+			visited[node] = true;
+			result++;
+			if (node != FALSE && node != TRUE) {
+				stack.push(lows[node]);
+				stack.push(highs[node]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get the BDD of a single variable.
+	 * @param variable The index of the variable.
+	 * @return The BDD which is true iff the variable is true.
+	 */
+	public int variable(int variable) {
+		if (variable < 0 || variable >= numVariables)
+			throw new IndexOutOfBoundsException("Variable " + variable + " is not in [0, "
+					+ numVariables + ")");
+		return node(variable, FALSE, TRUE);
+	}
+
+	/**
+	 * Get the BDD of the negation of a single variable.
+	 * @param variable The index of the variable.
+	 * @return The BDD which is true iff the variable is false.
+	 */
+	public int notVariable(int variable) {
+		if (variable < 0 || variable >= numVariables)
+			throw new IndexOutOfBoundsException("Variable " + variable + " is not in [0, "
+					+ numVariables + ")");
+		return node(variable, TRUE, FALSE);
+	}
+
+	/**
+	 * Calculate the negation of a function.
+	 * @param f The function.
+	 * @return The BDD of not f.
+	 */
+	public int not(int f) {
+		return ite(f, FALSE, TRUE);
+	}
+
+	/**
+	 * Calculate the conjunction of two functions.
+	 * @param f The first function.
+	 * @param g The second function.
+	 * @return The BDD of f and g.
+	 */
+	public int and(int f, int g) {
+		return ite(f, g, FALSE);
+	}
+
+	/**
+	 * Calculate the disjunction of two functions.
+	 * @param f The first function.
+	 * @param g The second function.
+	 * @return The BDD of f or g.
+	 */
+	public int or(int f, int g) {
+		return ite(f, TRUE, g);
+	}
+
+	/**
+	 * Calculate the function "if f then g else h".
+	 * @param f The condition.
+	 * @param g The function used where f is true.
+	 * @param h The function used where f is false.
+	 * @return The resulting BDD.
+	 */
+	public int ite(int f, int g, int h) {
+		if (f == TRUE)
+			return g;
+		if (f == FALSE)
+			return h;
+		if (g == h)
+			return g;
+		if (g == TRUE && h == FALSE)
+			return f;
+
+		int slot = cacheSlot(OP_ITE, f, g, h);
+		if (cacheOp[slot] == OP_ITE && cacheF[slot] == f && cacheG[slot] == g && cacheH[slot] == h)
+			return cacheResult[slot];
+
+		int variable = Math.min(variables[f], Math.min(variables[g], variables[h]));
+		int low = ite(cofactor(f, variable, false), cofactor(g, variable, false), cofactor(h, variable, false));
+		int high = ite(cofactor(f, variable, true), cofactor(g, variable, true), cofactor(h, variable, true));
+		int result = node(variable, low, high);
+		store(slot, OP_ITE, f, g, h, result);
+		return result;
+	}
+
+	/**
+	 * Existentially quantify some variables of a function.
+	 * @param f The function.
+	 * @param cube The conjunction of the (positive) variables that should be quantified.
+	 * @return The BDD of the function where the variables may have any value.
+	 */
+	public int exists(int f, int cube) {
+		while (variables[cube] < variables[f])
+			cube = highs[cube];
+		if (f == FALSE || f == TRUE || cube == TRUE)
+			return f;
+
+		int slot = cacheSlot(OP_EXISTS, f, cube, 0);
+		if (cacheOp[slot] == OP_EXISTS && cacheF[slot] == f && cacheG[slot] == cube)
+			return cacheResult[slot];
+
+		int variable = variables[f];
+		int result;
+		if (variables[cube] == variable) {
+			int low = exists(lows[f], highs[cube]);
+			if (low == TRUE)
+				result = TRUE;
+			else
+				result = or(low, exists(highs[f], highs[cube]));
+		} else {
+			result = node(variable, exists(lows[f], cube), exists(highs[f], cube));
+		}
+		store(slot, OP_EXISTS, f, cube, 0, result);
+		return result;
+	}
+
+	/**
+	 * Evaluate a function.
+	 * @param f The function.
+	 * @param assignment The values of all variables.
+	 * @return The value of the function.
+	 */
+	public boolean evaluate(int f, boolean[] assignment) {
+		while (f != FALSE && f != TRUE)
+			f = assignment[variables[f]] ? highs[f] : lows[f];
+		return f == TRUE;
+	}
+
+	/**
+	 * Count the satisfying assignments of a function.
+	 * @param f The function.
+	 * @return The number of assignments of all variables for which the function is true.
+	 */
+	public BigInteger satCount(int f) {
+		return satCount(f, new HashMap<Integer, BigInteger>()).shiftLeft(variables[f]);
+	}
+
+	// Count the assignments of the variables starting with the one of the given node
+	private BigInteger satCount(int f, Map<Integer, BigInteger> counts) {
+		if (f == FALSE)
+			return BigInteger.ZERO;
+		if (f == TRUE)
+			return BigInteger.ONE;
+		BigInteger result = counts.get(f);
+		if (result == null) {
+			int low = lows[f];
+			int high = highs[f];
+			result = satCount(low, counts).shiftLeft(variables[low] - variables[f] - 1)
+				.add(satCount(high, counts).shiftLeft(variables[high] - variables[f] - 1));
+			counts.put(f, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Get the lexicographically smallest satisfying assignment of a function, where false is smaller than true.
+	 * @param f The function.
+	 * @return The assignment or null if the function is unsatisfiable.
+	 */
+	public boolean[] firstSat(int f) {
+		if (f == FALSE)
+			return null;
+		boolean[] result = new boolean[numVariables];
+		complete(f, result, 0);
+		return result;
+	}
+
+	/**
+	 * Get the satisfying assignment of a function which follows the given assignment in lexicographic order.
+	 * @param f The function.
+	 * @param assignment A satisfying assignment of the function.
+	 * @return The next satisfying assignment or null if the given one is the last one.
+	 * @see #firstSat(int)
+	 */
+	public boolean[] nextSat(int f, boolean[] assignment) {
+		// Calculate the nodes reached by following the assignment
+		int[] path = new int[numVariables + 1];
+		path[0] = f;
+		for (int i = 0; i < numVariables; i++) {
+			int node = path[i];
+			if (variables[node] == i)
+				node = assignment[i] ? highs[node] : lows[node];
+			path[i + 1] = node;
+		}
+
+		// Find the last variable which can be changed from false to true
+		for (int i = numVariables - 1; i >= 0; i--) {
+			if (assignment[i])
+				continue;
+			int node = path[i];
+			if (variables[node] == i)
+				node = highs[node];
+			if (node == FALSE)
+				continue;
+
+			boolean[] result = Arrays.copyOf(assignment, numVariables);
+			result[i] = true;
+			complete(node, result, i + 1);
+			return result;
+		}
+		return null;
+	}
+
+	// Assign the smallest values to the variables starting with the given one which satisfy the given function
+	private void complete(int f, boolean[] assignment, int start) {
+		for (int i = start; i < numVariables; i++) {
+			if (variables[f] != i) {
+				assignment[i] = false;
+			} else if (lows[f] != FALSE) {
+				assignment[i] = false;
+				f = lows[f];
+			} else {
+				assignment[i] = true;
+				f = highs[f];
+			}
+		}
+		assert f == TRUE;
+	}
+
+	private int cofactor(int f, int variable, boolean value) {
+		if (variables[f] != variable)
+			return f;
+		return value ? highs[f] : lows[f];
+	}
+
+	/**
+	 * Get the node for the given variable and successors, creating it if necessary.
+	 */
+	private int node(int variable, int low, int high) {
+		if (low == high)
+			return low;
+
+		int mask = unique.length - 1;
+		int slot = hash(variable, low, high) & mask;
+		while (unique[slot] != FALSE) {
+			int node = unique[slot];
+			if (variables[node] == variable && lows[node] == low && highs[node] == high)
+				return node;
+			slot = (slot + 1) & mask;
+		}
+
+		if (size == variables.length) {
+			int capacity = 2 * size;
+			variables = Arrays.copyOf(variables, capacity);
+			lows = Arrays.copyOf(lows, capacity);
+			highs = Arrays.copyOf(highs, capacity);
+		}
+		int result = size++;
+		variables[result] = variable;
+		lows[result] = low;
+		highs[result] = high;
+		unique[slot] = result;
+
+		if (2 * size > unique.length)
+			rehash();
+		return result;
+	}
+
+	private void rehash() {
+		unique = new int[2 * unique.length];
+		int mask = unique.length - 1;
+		for (int node = 2; node < size; node++) {
+			int slot = hash(variables[node], lows[node], highs[node]) & mask;
+			while (unique[slot] != FALSE)
+				slot = (slot + 1) & mask;
+			unique[slot] = node;
+		}
+	}
+
+	static private int hash(int a, int b, int c) {
+		int hash = a * 0x9E3779B1 + b;
+		hash = hash * 0x9E3779B1 + c;
+		return hash ^ (hash >>> 16);
+	}
+
+	static private int cacheSlot(int op, int f, int g, int h) {
+		return (hash(f, g, h) + op) & (CACHE_SIZE - 1);
+	}
+
+	private void store(int slot, int op, int f, int g, int h, int result) {
+		cacheOp[slot] = op;
+		cacheF[slot] = f;
+		cacheG[slot] = g;
+		cacheH[slot] = h;
+		cacheResult[slot] = result;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,652 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.symbolic;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import uniol.apt.adt.StructuralExtensionRemover;
+import uniol.apt.adt.exception.StructureException;
+import uniol.apt.adt.pn.CompiledPetriNet;
+import uniol.apt.adt.pn.Flow;
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.Node;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Place;
+import uniol.apt.adt.pn.Transition;
+import uniol.apt.analysis.exception.PreconditionFailedException;
+
+/**
+ * Symbolic reachability analysis of safe Petri nets. Every place is a variable of a {@link BDD} and the set of
+ * reachable markings is represented by a single BDD. This set is calculated by chaining: The transitions are fired
+ * one after another on the whole set of markings reached so far until no new markings are found. Since a BDD can be
+ * exponentially smaller than the set that it represents, this handles state spaces which are far too large for an
+ * explicit {@link uniol.apt.analysis.coverability.CoverabilityGraph}.
+ * <p/>
+ * The exploration stops as soon as a marking is found in which firing a transition would put a second token on some
+ * place. In this case the Petri net is not safe and only {@link #isSafe()} and the methods describing the witness for
+ * this may be used.
+ * <p/>
+ * All sets that were reached during the exploration are remembered. Thus, a firing sequence reaching a given marking
+ * can be found by going backwards through these sets.
+ */
+public class SymbolicReachability {
+	// The Petri net that we are handling
+	private final PetriNet pn;
+	// The compiled form of the Petri net which assigns indices to places and transitions
+	private final CompiledPetriNet compiled;
+	// The BDD package
+	private final BDD bdd;
+	// For every place the index of its variable
+	private final int[] variableOf;
+	// The transitions in the order in which they are fired during chaining
+	private final int[] chainingOrder;
+
+	// For every transition: The markings in which it is enabled
+	private final int[] enabled;
+	// For every transition: The markings in which it is enabled and firing does not exceed a bound of one
+	private final int[] safelyEnabled;
+	// For every transition: The markings in which firing it exceeds a bound of one
+	private final int[] unsafe;
+	// For every transition: The values of the places in its preset and postset after firing it
+	private final int[] effect;
+	// For every transition: The conjunction of the places in its preset and postset
+	private final int[] support;
+
+	// The initial marking
+	private final int initial;
+	// The growing sets of markings calculated during the exploration and the transitions whose firing added the
+	// new markings to each set
+	private final List<Integer> steps = new ArrayList<>();
+	private final List<Integer> stepTransitions = new ArrayList<>();
+	// The set of reachable markings
+	private int reachable;
+
+	// If the net is not safe: A reachable marking, a transition enabled in it and a place which gets more than one
+	// token if the transition fires
+	private long[] unsafeMarking;
+	private int unsafeTransition = -1;
+	private int unsafePlace = -1;
+
+	/**
+	 * Get the symbolic reachability analysis for a given Petri net. If it was already calculated for this Petri
+	 * net, that instance is re-used instead of creating a new one.
+	 * @param pn The Petri net which should be analysed.
+	 * @return The symbolic reachability analysis.
+	 */
+	static public SymbolicReachability get(PetriNet pn) {
+		String key = SymbolicReachability.class.getName();
+
+		Object extension = null;
+		try {
+			extension = pn.getExtension(key);
+		}
+		catch (StructureException e) {
+			// No such extension.
+		}
+
+		if (extension instanceof SymbolicReachability && ((SymbolicReachability) extension).pn == pn)
+			return (SymbolicReachability) extension;
+
+		SymbolicReachability result = new SymbolicReachability(pn);
+		// Save the result as an extension which is not copied together with the Petri net, but make sure that
+		// it is removed if the structure of the Petri net is changed in any way.
+		pn.putExtension(key, result, false);
+		pn.addListener(new StructuralExtensionRemover<PetriNet, Flow, Node>(key));
+		return result;
+	}
+
+	/**
+	 * Calculate the reachable markings of a given Petri net.
+	 * @param pn The Petri net which should be analysed.
+	 */
+	public SymbolicReachability(PetriNet pn) {
+		this.pn = pn;
+		this.compiled = CompiledPetriNet.get(pn);
+		this.bdd = new BDD(compiled.getPlaceCount());
+		this.variableOf = calculateVariableOrder();
+
+		int transitions = compiled.getTransitionCount();
+		this.enabled = new int[transitions];
+		this.safelyEnabled = new int[transitions];
+		this.unsafe = new int[transitions];
+		this.effect = new int[transitions];
+		this.support = new int[transitions];
+		for (int t = 0; t < transitions; t++)
+			compileTransition(t);
+		this.chainingOrder = calculateChainingOrder();
+
+		long[] tokens = compiled.getTokens(pn.getInitialMarking());
+		int marking = BDD.TRUE;
+		for (int p = tokens.length - 1; p >= 0; p--) {
+			if (tokens[p] < 0 || tokens[p] > 1) {
+				// The initial marking itself is not safe
+				unsafeMarking = tokens;
+				unsafePlace = p;
+				break;
+			}
+			marking = bdd.and(literal(p, tokens[p] == 1), marking);
+		}
+		this.initial = marking;
+		this.reachable = marking;
+		steps.add(marking);
+		stepTransitions.add(-1);
+		if (unsafeMarking == null)
+			explore();
+	}
+
+	/**
+	 * Calculate a variable order where places that are connected via a transition are close to each other. The
+	 * net is searched depth-first and when a transition is visited, all places in its preset and postset which do
+	 * not have a variable yet get the next variables.
+	 */
+	private int[] calculateVariableOrder() {
+		int places = compiled.getPlaceCount();
+		List<List<Integer>> connected = new ArrayList<>();
+		for (int p = 0; p < places; p++)
+			connected.add(new ArrayList<Integer>());
+		for (int t = 0; t < compiled.getTransitionCount(); t++) {
+			for (int p : compiled.getPresetIndices(t))
+				connected.get(p).add(t);
+			for (int p : compiled.getPostsetIndices(t))
+				connected.get(p).add(t);
+		}
+
+		int[] result = new int[places];
+		Arrays.fill(result, -1);
+		boolean[] visitedTransitions = new boolean[compiled.getTransitionCount()];
+		int next = 0;
+		Deque<Integer> stack = new ArrayDeque<>();
+		for (int start = 0; start < places; start++) {
+			if (result[start] >= 0)
+				continue;
+			result[start] = next++;
+			stack.push(start);
+			while (!stack.isEmpty()) {
+				int p = stack.pop();
+				for (int t : connected.get(p)) {
+					if (visitedTransitions[t])
+						continue;
+					visitedTransitions[t] = true;
+					for (int[] touched : new int[][] { compiled.getPresetIndices(t),
+							compiled.getPostsetIndices(t) }) {
+						for (int q : touched) {
+							if (result[q] < 0) {
+								result[q] = next++;
+								stack.push(q);
+							}
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Order the transitions by the topmost variable that they touch, so that chaining fires transitions near the
+	 * top of the BDD first.
+	 */
+	private int[] calculateChainingOrder() {
+		Integer[] order = new Integer[compiled.getTransitionCount()];
+		final int[] top = new int[order.length];
+		for (int t = 0; t < order.length; t++) {
+			order[t] = t;
+			top[t] = Integer.MAX_VALUE;
+			for (int p : compiled.getPresetIndices(t))
+				top[t] = Math.min(top[t], variableOf[p]);
+			for (int p : compiled.getPostsetIndices(t))
+				top[t] = Math.min(top[t], variableOf[p]);
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer t1, Integer t2) {
+				return Integer.compare(top[t1], top[t2]);
+			}
+		});
+
+		int[] result = new int[order.length];
+		for (int i = 0; i < order.length; i++)
+			result[i] = order[i];
+		return result;
+	}
+
+	private void compileTransition(int t) {
+		int[] preIndices = compiled.getPresetIndices(t);
+		int[] preWeights = compiled.getPresetWeights(t);
+		int[] postIndices = compiled.getPostsetIndices(t);
+		int[] postWeights = compiled.getPostsetWeights(t);
+		boolean[] inPreset = new boolean[compiled.getPlaceCount()];
+		boolean[] inPostset = new boolean[compiled.getPlaceCount()];
+
+		int enable = BDD.TRUE;
+		int eff = BDD.TRUE;
+		int supp = BDD.TRUE;
+		for (int i = 0; i < preIndices.length; i++) {
+			int p = preIndices[i];
+			inPreset[p] = true;
+			// In a safe net, no place has more than one token
+			enable = bdd.and(enable, preWeights[i] == 1 ? literal(p, true) : BDD.FALSE);
+		}
+		boolean multipleTokens = false;
+		int producing = BDD.FALSE;
+		int notProducing = BDD.TRUE;
+		for (int i = 0; i < postIndices.length; i++) {
+			int p = postIndices[i];
+			inPostset[p] = true;
+			eff = bdd.and(eff, literal(p, true));
+			if (postWeights[i] > 1)
+				multipleTokens = true;
+			if (!inPreset[p]) {
+				producing = bdd.or(producing, literal(p, true));
+				notProducing = bdd.and(notProducing, literal(p, false));
+			}
+		}
+		for (int p = 0; p < compiled.getPlaceCount(); p++) {
+			if (inPreset[p] && !inPostset[p])
+				eff = bdd.and(eff, literal(p, false));
+			if (inPreset[p] || inPostset[p])
+				supp = bdd.and(supp, literal(p, true));
+		}
+
+		enabled[t] = enable;
+		unsafe[t] = multipleTokens ? enable : bdd.and(enable, producing);
+		safelyEnabled[t] = multipleTokens ? BDD.FALSE : bdd.and(enable, notProducing);
+		effect[t] = eff;
+		support[t] = supp;
+	}
+
+	/**
+	 * Get the BDD of the markings where the given place is (not) marked.
+	 */
+	private int literal(int place, boolean marked) {
+		int variable = variableOf[place];
+		return marked ? bdd.variable(variable) : bdd.notVariable(variable);
+	}
+
+	/**
+	 * Calculate the set of markings reached by firing a transition in some marking of the given set.
+	 */
+	private int image(int t, int markings) {
+		return bdd.and(bdd.exists(bdd.and(markings, safelyEnabled[t]), support[t]), effect[t]);
+	}
+
+	/**
+	 * Calculate the set of markings in which firing a transition reaches some marking of the given set.
+	 */
+	private int preImage(int t, int markings) {
+		return bdd.and(bdd.exists(bdd.and(markings, effect[t]), support[t]), safelyEnabled[t]);
+	}
+
+	private void explore() {
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (int t : chainingOrder) {
+				int violation = bdd.and(reachable, unsafe[t]);
+				if (violation != BDD.FALSE) {
+					unsafeMarking = toTokens(bdd.firstSat(violation));
+					unsafeTransition = t;
+					unsafePlace = findUnsafePlace(t, unsafeMarking);
+					return;
+				}
+
+				int next = bdd.or(reachable, image(t, reachable));
+				if (next != reachable) {
+					reachable = next;
+					steps.add(next);
+					stepTransitions.add(t);
+					changed = true;
+				}
+			}
+		}
+	}
+
+	private int findUnsafePlace(int t, long[] tokens) {
+		long[] next = compiled.fire(t, tokens);
+		for (int p = 0; p < next.length; p++)
+			if (next[p] > 1)
+				return p;
+		throw new AssertionError("Firing transition " + t + " is not unsafe");
+	}
+
+	/**
+	 * Calculate the markings of the given set from which some marking of the target set is reachable.
+	 * @param markings The set of markings which should be searched.
+	 * @param target The target markings, which must be a subset of the other set.
+	 * @return The markings that can reach a target marking.
+	 */
+	private int backwardReachable(int markings, int target) {
+		int result = target;
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (int t : chainingOrder) {
+				int next = bdd.or(result, bdd.and(markings, preImage(t, result)));
+				if (next != result) {
+					result = next;
+					changed = true;
+				}
+			}
+		}
+		return result;
+	}
+
+	private long[] toTokens(boolean[] assignment) {
+		long[] result = new long[assignment.length];
+		for (int p = 0; p < assignment.length; p++)
+			result[p] = assignment[variableOf[p]] ? 1 : 0;
+		return result;
+	}
+
+	private boolean[] toAssignment(Marking marking) {
+		long[] tokens = compiled.getTokens(marking);
+		boolean[] result = new boolean[tokens.length];
+		for (int p = 0; p < tokens.length; p++) {
+			if (tokens[p] < 0 || tokens[p] > 1)
+				return null;
+			result[variableOf[p]] = tokens[p] == 1;
+		}
+		return result;
+	}
+
+	private Marking toMarking(boolean[] assignment) {
+		return compiled.toMarking(toTokens(assignment));
+	}
+
+	private void requireSafe() throws PreconditionFailedException {
+		if (!isSafe())
+			throw new PreconditionFailedException("The Petri net '" + pn.getName() + "' is not safe");
+	}
+
+	/**
+	 * Get the Petri net which was analysed.
+	 * @return The Petri net.
+	 */
+	public PetriNet getNet() {
+		return pn;
+	}
+
+	/**
+	 * Get the BDD package which contains the sets of markings.
+	 * @return The BDD package.
+	 */
+	public BDD getBDD() {
+		return bdd;
+	}
+
+	/**
+	 * Check if the Petri net is safe, which means that no reachable marking has more than one token on a place.
+	 * @return true if the Petri net is safe.
+	 */
+	public boolean isSafe() {
+		return unsafeMarking == null;
+	}
+
+	/**
+	 * Get a place which may get more than one token.
+	 * @return The place or null if the Petri net is safe.
+	 */
+	public Place getUnsafePlace() {
+		return isSafe() ? null : compiled.getPlace(unsafePlace);
+	}
+
+	/**
+	 * Get a firing sequence which puts more than one token on the place returned by {@link #getUnsafePlace()}.
+	 * @return The firing sequence or null if the Petri net is safe.
+	 */
+	public List<Transition> getUnsafeFiringSequence() {
+		if (isSafe())
+			return null;
+		if (unsafeTransition < 0)
+			return Collections.emptyList();
+		List<Transition> result = new ArrayList<>(findFiringSequence(unsafeMarking));
+		result.add(compiled.getTransition(unsafeTransition));
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Get the variable of {@link #getBDD()} which describes the given place. Variables are not numbered like the
+	 * places of the {@link CompiledPetriNet}, but in an order where connected places are close to each other.
+	 * @param place A place of the Petri net.
+	 * @return The index of the variable of the place.
+	 */
+	public int getVariable(Place place) {
+		return variableOf[compiled.getPlaceIndex(place)];
+	}
+
+	/**
+	 * Get the set of reachable markings as a BDD of {@link #getBDD()}. The variable describing a place is given by
+	 * {@link #getVariable(Place)}.
+	 * @return The set of reachable markings.
+	 * @throws PreconditionFailedException if the Petri net is not safe.
+	 */
+	public int getReachableMarkings() throws PreconditionFailedException {
+		requireSafe();
+		return reachable;
+	}
+
+	/**
+	 * Count the reachable markings.
+	 * @return The number of reachable markings.
+	 * @throws PreconditionFailedException if the Petri net is not safe.
+	 */
+	public BigInteger getNumberOfMarkings() throws PreconditionFailedException {
+		requireSafe();
+		return bdd.satCount(reachable);
+	}
+
+	/**
+	 * Enumerate the reachable markings. The markings are created lazily while iterating.
+	 * @return An iterable over all reachable markings.
+	 * @throws PreconditionFailedException if the Petri net is not safe.
+	 */
+	public Iterable<Marking> getMarkings() throws PreconditionFailedException {
+		requireSafe();
+		return new Iterable<Marking>() {
+			@Override
+			public Iterator<Marking> iterator() {
+				return new Iterator<Marking>() {
+					private boolean[] next = bdd.firstSat(reachable);
+
+					@Override
+					public boolean hasNext() {
+						return next != null;
+					}
+
+					@Override
+					public Marking next() {
+						if (next == null)
+							throw new NoSuchElementException();
+						Marking result = toMarking(next);
+						next = bdd.nextSat(reachable, next);
+						return result;
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		};
+	}
+
+	/**
+	 * Check if a marking is reachable.
+	 * @param marking The marking to check.
+	 * @return true if the marking is reachable.
+	 * @throws PreconditionFailedException if the Petri net is not safe.
+	 */
+	public boolean isReachable(Marking marking) throws PreconditionFailedException {
+		requireSafe();
+		boolean[] assignment = toAssignment(marking);
+		return assignment != null && bdd.evaluate(reachable, assignment);
+	}
+
+	/**
+	 * Find a firing sequence which reaches the given marking.
+	 * @param marking The marking which should be reached.
+	 * @return The firing sequence or null if the marking is not reachable.
+	 * @throws PreconditionFailedException if the Petri net is not safe.
+	 */
+	public List<Transition> getFiringSequence(Marking marking) throws PreconditionFailedException {
+		if (!isReachable(marking))
+			return null;
+		return findFiringSequence(compiled.getTokens(marking));
+	}
+
+	/**
+	 * Find a firing sequence which reaches the given marking. The marking must be in the last set calculated by the
+	 * exploration.
+	 */
+	private List<Transition> findFiringSequence(long[] tokens) {
+		boolean[] assignment = new boolean[tokens.length];
+		for (int p = 0; p < tokens.length; p++)
+			assignment[variableOf[p]] = tokens[p] == 1;
+
+		// Find the first set containing the marking, go to a predecessor in the previous set and repeat
+		List<Transition> result = new ArrayList<>();
+		int step = steps.size() - 1;
+		while (true) {
+			int low = 0;
+			int high = step;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (bdd.evaluate(steps.get(middle), assignment))
+					high = middle;
+				else
+					low = middle + 1;
+			}
+			step = low;
+			if (step == 0)
+				break;
+
+			int t = stepTransitions.get(step);
+			int marking = BDD.TRUE;
+			for (int v = assignment.length - 1; v >= 0; v--)
+				marking = bdd.and(assignment[v] ? bdd.variable(v) : bdd.notVariable(v), marking);
+			assignment = bdd.firstSat(bdd.and(steps.get(step - 1), preImage(t, marking)));
+			assert assignment != null;
+			result.add(compiled.getTransition(t));
+			step--;
+		}
+		Collections.reverse(result);
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Find a reachable marking in which no transition is enabled.
+	 * @return A firing sequence reaching a deadlock or null if there is no deadlock.
+	 * @throws PreconditionFailedException if the Petri net is not safe.
+	 */
+	public List<Transition> findDeadlock() throws PreconditionFailedException {
+		requireSafe();
+		int deadlocks = reachable;
+		for (int t = 0; t < compiled.getTransitionCount(); t++)
+			deadlocks = bdd.and(deadlocks, bdd.not(enabled[t]));
+		if (deadlocks == BDD.FALSE)
+			return null;
+		return findFiringSequence(toTokens(bdd.firstSat(deadlocks)));
+	}
+
+	/**
+	 * Find a transition which is not enabled in any reachable marking.
+	 * @return A dead transition or null if all transitions are simply live.
+	 * @throws PreconditionFailedException if the Petri net is not safe.
+	 */
+	public Transition findDeadTransition() throws PreconditionFailedException {
+		requireSafe();
+		for (int t = 0; t < compiled.getTransitionCount(); t++)
+			if (bdd.and(reachable, enabled[t]) == BDD.FALSE)
+				return compiled.getTransition(t);
+		return null;
+	}
+
+	/**
+	 * Find a firing sequence which fires the given transition.
+	 * @param transition The transition which should be fired.
+	 * @return A firing sequence ending with the transition or null if the transition is dead.
+	 * @throws PreconditionFailedException if the Petri net is not safe.
+	 */
+	public List<Transition> checkSimplyLive(Transition transition) throws PreconditionFailedException {
+		requireSafe();
+		int t = compiled.getTransitionIndex(transition);
+		int markings = bdd.and(reachable, enabled[t]);
+		if (markings == BDD.FALSE)
+			return null;
+		List<Transition> result = new ArrayList<>(findFiringSequence(toTokens(bdd.firstSat(markings))));
+		result.add(transition);
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Find a transition which is not strongly live. A transition is strongly live if it can be enabled again from
+	 * every reachable marking.
+	 * @return A transition that is not strongly live or null if all transitions are strongly live.
+	 * @throws PreconditionFailedException if the Petri net is not safe.
+	 */
+	public Transition findNonStronglyLiveTransition() throws PreconditionFailedException {
+		for (int t = 0; t < compiled.getTransitionCount(); t++)
+			if (findKillingFireSequence(compiled.getTransition(t)) != null)
+				return compiled.getTransition(t);
+		return null;
+	}
+
+	/**
+	 * Find a firing sequence after which the given transition can never be enabled again.
+	 * @param transition The transition to check.
+	 * @return A firing sequence or null if the transition is strongly live.
+	 * @throws PreconditionFailedException if the Petri net is not safe.
+	 */
+	public List<Transition> findKillingFireSequence(Transition transition) throws PreconditionFailedException {
+		requireSafe();
+		int t = compiled.getTransitionIndex(transition);
+		int live = backwardReachable(reachable, bdd.and(reachable, enabled[t]));
+		int killing = bdd.and(reachable, bdd.not(live));
+		if (killing == BDD.FALSE)
+			return null;
+		return findFiringSequence(toTokens(bdd.firstSat(killing)));
+	}
+
+	/**
+	 * Find a reachable marking from which the initial marking is not reachable.
+	 * @return Such a marking or null if the Petri net is reversible.
+	 * @throws PreconditionFailedException if the Petri net is not safe.
+	 */
+	public Marking findNonReversibleMarking() throws PreconditionFailedException {
+		requireSafe();
+		int reversible = backwardReachable(reachable, initial);
+		int nonReversible = bdd.and(reachable, bdd.not(reversible));
+		if (nonReversible == BDD.FALSE)
+			return null;
+		return toMarking(bdd.firstSat(nonReversible));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
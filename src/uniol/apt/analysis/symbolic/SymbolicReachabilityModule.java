@@ -0,0 +1,102 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.symbolic;
+
+import java.math.BigInteger;
+
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Place;
+import uniol.apt.analysis.language.FiringSequence;
+import uniol.apt.module.AbstractModule;
+import uniol.apt.module.Category;
+import uniol.apt.module.ModuleInput;
+import uniol.apt.module.ModuleInputSpec;
+import uniol.apt.module.ModuleOutput;
+import uniol.apt.module.ModuleOutputSpec;
+import uniol.apt.module.exception.ModuleException;
+
+/**
+ * Provide the symbolic reachability analysis as a module.
+ */
+public class SymbolicReachabilityModule extends AbstractModule {
+
+	@Override
+	public String getShortDescription() {
+		return "Count the reachable markings of a safe Petri net symbolically";
+	}
+
+	@Override
+	public String getLongDescription() {
+		return getShortDescription()
+			+ ". The set of reachable markings is represented by a binary decision diagram, which can "
+			+ "be exponentially smaller than the reachability graph. If the Petri net is not safe, this "
+			+ "module finds a firing sequence which puts more than one token on some place.";
+	}
+
+	@Override
+	public String getName() {
+		return "symbolic_reachability";
+	}
+
+	@Override
+	public void require(ModuleInputSpec inputSpec) {
+		inputSpec.addParameter("pn", PetriNet.class, "The Petri net that should be examined");
+		inputSpec.addOptionalParameter("list", String.class, null,
+				"If given, all reachable markings are listed");
+	}
+
+	@Override
+	public void provide(ModuleOutputSpec outputSpec) {
+		outputSpec.addReturnValue("safe", Boolean.class, ModuleOutputSpec.PROPERTY_SUCCESS);
+		outputSpec.addReturnValue("number_of_markings", BigInteger.class);
+		outputSpec.addReturnValue("markings", String.class, ModuleOutputSpec.PROPERTY_RAW);
+		outputSpec.addReturnValue("witness_place", Place.class);
+		outputSpec.addReturnValue("witness_firing_sequence", FiringSequence.class);
+	}
+
+	@Override
+	public void run(ModuleInput input, ModuleOutput output) throws ModuleException {
+		PetriNet pn = input.getParameter("pn", PetriNet.class);
+		SymbolicReachability reachability = SymbolicReachability.get(pn);
+		output.setReturnValue("safe", Boolean.class, reachability.isSafe());
+		if (!reachability.isSafe()) {
+			output.setReturnValue("witness_place", Place.class, reachability.getUnsafePlace());
+			output.setReturnValue("witness_firing_sequence", FiringSequence.class,
+					new FiringSequence(reachability.getUnsafeFiringSequence()));
+			return;
+		}
+
+		output.setReturnValue("number_of_markings", BigInteger.class, reachability.getNumberOfMarkings());
+		if (input.getParameter("list", String.class) != null) {
+			StringBuilder markings = new StringBuilder();
+			for (Marking marking : reachability.getMarkings())
+				markings.append(marking).append("\n");
+			output.setReturnValue("markings", String.class, markings.toString());
+		}
+	}
+
+	@Override
+	public Category[] getCategories() {
+		return new Category[]{Category.PN};
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
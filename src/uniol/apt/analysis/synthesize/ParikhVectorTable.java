@@ -0,0 +1,156 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.util.SpanningTree;
+import uniol.apt.util.equations.EquationSystem;
+
+/**
+ * The Parikh vectors that reach the states of a transition system along a spanning tree. The tree is traversed
+ * iteratively in breadth first order so that each state's vector is computed from its already known predecessor.
+ * All vectors are stored as rows of a single array. The chords of the tree are recorded during the traversal.
+ */
+final class ParikhVectorTable {
+	private final int numEvents;
+	private final Map<State, Integer> rows = new HashMap<>();
+	private final long[] vectors;
+	// Each chord is saved as three consecutive entries: Row of the source, row of the target and index of the event
+	private final int[] chords;
+	private final int numChords;
+
+	/**
+	 * Calculate the Parikh vectors for the given spanning tree.
+	 * @param tree The spanning tree that is followed.
+	 * @param eventIndices A mapping from events to their indices in a vector.
+	 */
+	public ParikhVectorTable(SpanningTree<TransitionSystem, Arc, State> tree, Map<String, Integer> eventIndices) {
+		TransitionSystem ts = tree.getGraph();
+		this.numEvents = eventIndices.size();
+
+		int numStates = ts.getNodes().size() - tree.getUnreachableNodes().size();
+		State[] states = new State[numStates];
+		long[] vectors = new long[numStates * numEvents];
+		int[] chords = new int[3 * 16];
+		int numChords = 0;
+		// The targets of chords may be visited later, so chords are first collected with their target state
+		State[] chordTargets = new State[16];
+
+		int numVisited = 0;
+		if (tree.getStartNode() != null) {
+			states[numVisited] = tree.getStartNode();
+			rows.put(tree.getStartNode(), numVisited);
+			numVisited++;
+		}
+		for (int row = 0; row < numVisited; row++) {
+			for (Arc arc : states[row].getPostsetEdges()) {
+				State target = arc.getTarget();
+				int event = eventIndices.get(arc.getLabel());
+				if (arc.equals(tree.getPredecessorEdge(target))) {
+					// The target is reached via this arc: Its vector is ours plus one occurrence of
+					// the event
+					int targetRow = numVisited++;
+					states[targetRow] = target;
+					rows.put(target, targetRow);
+					System.arraycopy(vectors, row * numEvents, vectors, targetRow * numEvents,
+							numEvents);
+					vectors[targetRow * numEvents + event]++;
+				} else {
+					if (numChords == chordTargets.length) {
+						chordTargets = Arrays.copyOf(chordTargets, 2 * numChords);
+						chords = Arrays.copyOf(chords, 3 * 2 * numChords);
+					}
+					chords[3 * numChords] = row;
+					chords[3 * numChords + 2] = event;
+					chordTargets[numChords++] = target;
+				}
+			}
+		}
+		assert numVisited == numStates;
+		for (int i = 0; i < numChords; i++)
+			chords[3 * i + 1] = rows.get(chordTargets[i]);
+
+		this.vectors = vectors;
+		this.chords = chords;
+		this.numChords = numChords;
+	}
+
+	/**
+	 * Get the row in which the Parikh vector of a state is saved.
+	 * @param state The state to look up.
+	 * @return The index of the row or -1 if the state is unreachable.
+	 */
+	public int getRow(State state) {
+		Integer row = rows.get(state);
+		if (row == null)
+			return -1;
+		return row;
+	}
+
+	/**
+	 * Get one entry of a Parikh vector.
+	 * @param row The row of the Parikh vector, as returned by {@link #getRow}.
+	 * @param event The index of the event.
+	 * @return The number of occurrences of the event.
+	 */
+	public long get(int row, int event) {
+		return vectors[row * numEvents + event];
+	}
+
+	/**
+	 * Add an equation for each chord of the spanning tree to the given equation system. For a chord
+	 * t = s--[a_i]->s', this is the vector Psi_s + e_i - Psi_{s'}. Only the non-zero entries are passed to the
+	 * equation system.
+	 * @param system The equation system to add equations to.
+	 */
+	public void addChordEquations(EquationSystem system) {
+		int[] variables = new int[numEvents];
+		int[] coefficients = new int[numEvents];
+		for (int i = 0; i < numChords; i++) {
+			int source = chords[3 * i] * numEvents;
+			int target = chords[3 * i + 1] * numEvents;
+			int event = chords[3 * i + 2];
+			int size = 0;
+			for (int j = 0; j < numEvents; j++) {
+				long value = vectors[source + j] - vectors[target + j];
+				if (j == event)
+					value++;
+				if (value != 0) {
+					variables[size] = j;
+					// Each entry is at most the number of states, so the difference fits
+					// into an int
+					coefficients[size] = (int) value;
+					size++;
+				}
+			}
+			if (size > 0)
+				system.addSparseEquation(Arrays.copyOf(variables, size),
+						Arrays.copyOf(coefficients, size));
+		}
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
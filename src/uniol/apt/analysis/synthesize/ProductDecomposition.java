@@ -0,0 +1,306 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.util.Pair;
+
+import static uniol.apt.util.DebugUtil.debug;
+
+/**
+ * Decompose a transition system into a product of transition systems with disjoint alphabets. Such a product arises
+ * for example as the reachability graph of a Petri net which consists of independent parts. Each state of the
+ * product is uniquely described by the states of the factors and each factor can be synthesized on its own.
+ *
+ * Candidates for the alphabets of the factors are found by checking which events are independent, which means that
+ * they form diamonds and do not enable or disable each other. Afterwards, each candidate is verified by checking if
+ * the transition system is isomorphic to the product of its projections.
+ */
+final class ProductDecomposition {
+	private final TransitionSystem ts;
+	private final List<TransitionSystem> factors = new ArrayList<>();
+	private final List<Map<State, State>> projections = new ArrayList<>();
+
+	/**
+	 * Decompose the given transition system. If no decomposition is possible, the only factor is the transition
+	 * system itself.
+	 * @param ts The transition system to decompose.
+	 */
+	public ProductDecomposition(TransitionSystem ts) {
+		this.ts = ts;
+
+		// Only handle deterministic transition systems without unreachable states
+		if (SynthesisCache.getCanonicalStateOrder(ts) == null) {
+			addIdentityFactor();
+			return;
+		}
+
+		List<Set<String>> groups = calculateIndependentGroups(ts);
+		debug("Groups of independent events: ", groups);
+
+		// Try to split off one group after another. Groups that cannot be split off on their own are merged
+		// with the following group.
+		TransitionSystem remainder = ts;
+		Map<State, State> remainderProjection = null;
+		Set<String> candidate = new HashSet<>();
+		for (int i = 0; i < groups.size() - 1; i++) {
+			candidate.addAll(groups.get(i));
+
+			Map<State, State> factorProjection = new HashMap<>();
+			Map<State, State> restProjection = new HashMap<>();
+			Pair<TransitionSystem, TransitionSystem> split = split(remainder, candidate, factorProjection,
+					restProjection);
+			if (split == null)
+				continue;
+
+			debug("Split off factor with events ", candidate);
+			factors.add(split.getFirst());
+			projections.add(compose(remainderProjection, factorProjection));
+			remainder = split.getSecond();
+			remainderProjection = compose(remainderProjection, restProjection);
+			candidate = new HashSet<>();
+		}
+
+		if (factors.isEmpty()) {
+			addIdentityFactor();
+			return;
+		}
+		factors.add(remainder);
+		projections.add(remainderProjection);
+	}
+
+	private void addIdentityFactor() {
+		Map<State, State> identity = new HashMap<>();
+		for (State state : ts.getNodes())
+			identity.put(state, state);
+		factors.add(ts);
+		projections.add(identity);
+	}
+
+	/**
+	 * Concatenate the projection from the input to some intermediate transition system with a projection from the
+	 * intermediate transition system.
+	 * @param first The first projection or null for the identity.
+	 * @param second The second projection.
+	 * @return A projection from the states of the input.
+	 */
+	private Map<State, State> compose(Map<State, State> first, Map<State, State> second) {
+		if (first == null)
+			return second;
+		Map<State, State> result = new HashMap<>();
+		for (State state : ts.getNodes())
+			result.put(state, second.get(first.get(state)));
+		return result;
+	}
+
+	/**
+	 * Get the factors of the decomposition.
+	 * @return The factors in the order in which they were found.
+	 */
+	public List<TransitionSystem> getFactors() {
+		return Collections.unmodifiableList(factors);
+	}
+
+	/**
+	 * Get the state of a factor which corresponds to a state of the input.
+	 * @param factor The index of the factor.
+	 * @param state A state of the input transition system.
+	 * @return The state of the factor.
+	 */
+	public State project(int factor, State state) {
+		return projections.get(factor).get(state);
+	}
+
+	/**
+	 * Calculate groups of events so that events from different groups are independent. Two events are dependent
+	 * if they are enabled in some state without forming a diamond there or if one of them changes the enabledness
+	 * of the other.
+	 * @param ts The transition system to examine. It must be deterministic.
+	 * @return The groups of events.
+	 */
+	static private List<Set<String>> calculateIndependentGroups(TransitionSystem ts) {
+		List<String> events = new ArrayList<>(ts.getAlphabet());
+		Collections.sort(events);
+		Map<String, Integer> eventIndices = new HashMap<>();
+		for (String event : events)
+			eventIndices.put(event, eventIndices.size());
+		int[] parent = new int[events.size()];
+		for (int i = 0; i < parent.length; i++)
+			parent[i] = i;
+
+		for (State state : ts.getNodes()) {
+			SortedMap<String, State> successors = getSuccessors(state);
+			for (Map.Entry<String, State> entry1 : successors.entrySet()) {
+				String event1 = entry1.getKey();
+				SortedMap<String, State> successors1 = getSuccessors(entry1.getValue());
+				for (String event2 : events) {
+					if (event1.equals(event2))
+						continue;
+					// Does event1 change the enabledness of event2?
+					boolean enabled = successors.containsKey(event2);
+					boolean dependent = enabled != successors1.containsKey(event2);
+					if (!dependent && enabled) {
+						// Do both events form a diamond?
+						State target1 = successors1.get(event2);
+						State target2 = getSuccessors(successors.get(event2)).get(event1);
+						dependent = target1 == null || !target1.equals(target2);
+					}
+					if (dependent)
+						union(parent, eventIndices.get(event1), eventIndices.get(event2));
+				}
+			}
+		}
+
+		Map<Integer, Set<String>> groups = new TreeMap<>();
+		for (String event : events) {
+			int root = find(parent, eventIndices.get(event));
+			if (!groups.containsKey(root))
+				groups.put(root, new HashSet<String>());
+			groups.get(root).add(event);
+		}
+		return new ArrayList<>(groups.values());
+	}
+
+	static private SortedMap<String, State> getSuccessors(State state) {
+		SortedMap<String, State> result = new TreeMap<>();
+		for (Arc arc : state.getPostsetEdges())
+			result.put(arc.getLabel(), arc.getTarget());
+		return result;
+	}
+
+	static private int find(int[] parent, int element) {
+		while (parent[element] != element) {
+			parent[element] = parent[parent[element]];
+			element = parent[element];
+		}
+		return element;
+	}
+
+	static private void union(int[] parent, int element1, int element2) {
+		int root1 = find(parent, element1);
+		int root2 = find(parent, element2);
+		// Make the smaller index the root so that the result does not depend on the order of the arcs
+		if (root1 < root2)
+			parent[root2] = root1;
+		else
+			parent[root1] = root2;
+	}
+
+	/**
+	 * Try to split a transition system into a product of two transition systems.
+	 * @param ts The transition system to split.
+	 * @param events The alphabet of the first factor. All other events belong to the second factor.
+	 * @param firstProjection Will be filled with the projection onto the first factor.
+	 * @param secondProjection Will be filled with the projection onto the second factor.
+	 * @return The two factors or null if the transition system is not the product of the two factors.
+	 */
+	static private Pair<TransitionSystem, TransitionSystem> split(TransitionSystem ts, Set<String> events,
+			Map<State, State> firstProjection, Map<State, State> secondProjection) {
+		Set<String> otherEvents = new HashSet<>(ts.getAlphabet());
+		otherEvents.removeAll(events);
+
+		TransitionSystem first = project(ts, events, firstProjection);
+		TransitionSystem second = project(ts, otherEvents, secondProjection);
+		if (first == null || second == null)
+			return null;
+
+		// Every state of the product must appear exactly once
+		int numFirst = first.getNodes().size();
+		int numSecond = second.getNodes().size();
+		if ((long) numFirst * numSecond != ts.getNodes().size())
+			return null;
+		Set<Pair<State, State>> pairs = new HashSet<>();
+		for (State state : ts.getNodes())
+			if (!pairs.add(new Pair<>(firstProjection.get(state), secondProjection.get(state))))
+				return null;
+
+		// Since all transition systems are deterministic, every arc of ts is mapped to a different arc of the
+		// product. Thus, there is a bijection if the number of arcs agrees.
+		long numArcs = 0;
+		for (State state : ts.getNodes())
+			numArcs += state.getPostsetEdges().size();
+		if (numArcs != (long) first.getEdges().size() * numSecond + (long) second.getEdges().size() * numFirst)
+			return null;
+
+		return new Pair<>(first, second);
+	}
+
+	/**
+	 * Project a transition system onto some of its events. All states which are connected via other events are
+	 * merged into a single state.
+	 * @param ts The transition system to project.
+	 * @param events The events that should be kept.
+	 * @param projection Will be filled with a mapping from states of ts to states of the result.
+	 * @return The projection or null if it is not deterministic.
+	 */
+	static private TransitionSystem project(TransitionSystem ts, Set<String> events, Map<State, State> projection) {
+		List<State> states = new ArrayList<>(ts.getNodes());
+		Map<State, Integer> stateIndices = new HashMap<>();
+		for (State state : states)
+			stateIndices.put(state, stateIndices.size());
+		int[] parent = new int[states.size()];
+		for (int i = 0; i < parent.length; i++)
+			parent[i] = i;
+		for (Arc arc : ts.getEdges())
+			if (!events.contains(arc.getLabel()))
+				union(parent, stateIndices.get(arc.getSource()), stateIndices.get(arc.getTarget()));
+
+		TransitionSystem result = new TransitionSystem();
+		State[] classes = new State[states.size()];
+		for (int i = 0; i < states.size(); i++) {
+			int root = find(parent, i);
+			if (classes[root] == null)
+				classes[root] = result.createState();
+			projection.put(states.get(i), classes[root]);
+		}
+		result.setInitialState(projection.get(ts.getInitialState()));
+
+		for (Arc arc : ts.getEdges()) {
+			if (!events.contains(arc.getLabel()))
+				continue;
+			State source = projection.get(arc.getSource());
+			State target = projection.get(arc.getTarget());
+			SortedMap<String, State> successors = getSuccessors(source);
+			if (successors.containsKey(arc.getLabel())) {
+				if (!successors.get(arc.getLabel()).equals(target))
+					return null;
+				continue;
+			}
+			Arc newArc = result.createArc(source, target, arc.getLabel());
+			if (arc.hasExtension("location"))
+				newArc.putExtension("location", arc.getExtension("location"));
+		}
+		return result;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
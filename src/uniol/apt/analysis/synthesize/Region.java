@@ -22,12 +22,13 @@ package uniol.apt.analysis.synthesize;
 import java.util.ArrayList;
 import java.math.BigInteger;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import uniol.apt.adt.ts.State;
 import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.util.MathTools;
 
 /**
  * An abstract region of a LTS. This assigns to each event a backward and forward number.
@@ -38,7 +39,11 @@ public class Region {
 	private final List<BigInteger> backwardWeights;
 	private final List<BigInteger> forwardWeights;
 	private final BigInteger initialMarking;
-	private final Map<State, BigInteger> stateMarkingCache = new HashMap<>();
+	// The effective weights as longs for quickly evaluating Parikh vectors, or null if the weights or the initial
+	// marking do not fit into a long
+	private final long[] longWeights;
+	// Regions are shared between the threads of a parallel synthesis, so this cache must be thread-safe
+	private final Map<State, BigInteger> stateMarkingCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Create a new region.
@@ -67,6 +72,34 @@ public class Region {
 				throw new IllegalArgumentException("Forward weight i=" + i + " must not be negative");
 		if (initialMarking.compareTo(BigInteger.ZERO) < 0)
 			throw new IllegalArgumentException("Initial marking " + initialMarking + " must not be negative");
+
+		this.longWeights = calculateLongWeights(this.backwardWeights, this.forwardWeights, initialMarking);
+	}
+
+	static private boolean fitsLong(BigInteger value) {
+		return value.bitLength() < Long.SIZE;
+	}
+
+	/**
+	 * Calculate the effective weights of a region as longs.
+	 * @param backwardWeights The backward weights of the region.
+	 * @param forwardWeights The forward weights of the region.
+	 * @param initialMarking The initial marking of the region.
+	 * @return The effective weights or null if one of them or the initial marking does not fit into a long.
+	 */
+	static private long[] calculateLongWeights(List<BigInteger> backwardWeights, List<BigInteger> forwardWeights,
+			BigInteger initialMarking) {
+		if (!fitsLong(initialMarking))
+			return null;
+
+		long[] result = new long[backwardWeights.size()];
+		for (int i = 0; i < result.length; i++) {
+			BigInteger weight = forwardWeights.get(i).subtract(backwardWeights.get(i));
+			if (!fitsLong(weight))
+				return null;
+			result[i] = weight.longValue();
+		}
+		return result;
 	}
 
 	/**
@@ -171,12 +204,49 @@ public class Region {
 	public BigInteger getMarkingForState(State state) throws UnreachableException {
 		BigInteger i = stateMarkingCache.get(state);
 		if (i == null) {
-			i = getInitialMarking().add(evaluateParikhVector(utility.getReachingParikhVector(state)));
+			ParikhVectorTable table = utility.getParikhVectorTable();
+			int row = table.getRow(state);
+			if (row < 0)
+				throw new UnreachableException(utility.getTransitionSystem(), state);
+			i = evaluateReachingParikhVector(table, row);
 			stateMarkingCache.put(state, i);
 		}
 		return i;
 	}
 
+	/**
+	 * Calculate the marking that is reached from the initial marking by the given Parikh vector. This uses long
+	 * arithmetic and only falls back to BigIntegers if the result does not fit into a long.
+	 * @param table The table containing the Parikh vector.
+	 * @param row The row of the Parikh vector to evaluate.
+	 * @return The resulting marking.
+	 */
+	private BigInteger evaluateReachingParikhVector(ParikhVectorTable table, int row) {
+		int numEvents = utility.getNumberOfEvents();
+		if (longWeights != null) {
+			try {
+				long result = initialMarking.longValue();
+				for (int i = 0; i < numEvents; i++) {
+					long value = table.get(row, i);
+					if (value != 0)
+						result = MathTools.addExact(result,
+								MathTools.multiplyExact(value, longWeights[i]));
+				}
+				return BigInteger.valueOf(result);
+			} catch (ArithmeticException e) {
+				// Fall back to BigInteger arithmetic below
+			}
+		}
+
+		BigInteger result = initialMarking;
+		for (int i = 0; i < numEvents; i++) {
+			long value = table.get(row, i);
+			if (value != 0)
+				result = result.add(BigInteger.valueOf(value).multiply(getWeight(i)));
+		}
+		return result;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder result = new StringBuilder();
@@ -348,15 +418,12 @@ public class Region {
 		 * @return a new region corresponding to the weights that are currently in this builder.
 		 */
 		public Region withNormalRegionInitialMarking() {
-			int numEvents = utility.getNumberOfEvents();
+			// Use a region with initial marking zero to find the smallest marking that is reached
+			Region region = withInitialMarking(BigInteger.ZERO);
 			BigInteger initial = BigInteger.ZERO;
 			for (State state : utility.getTransitionSystem().getNodes()) {
 				try {
-					BigInteger value = BigInteger.ZERO;
-					List<BigInteger> pv = utility.getReachingParikhVector(state);
-					for (int i = 0; i < numEvents; i++)
-						value = value.add(pv.get(i).multiply(forwardList.get(i).subtract(backwardList.get(i))));
-					initial = initial.max(value.negate());
+					initial = initial.max(region.getMarkingForState(state).negate());
 				} catch (UnreachableException e) {
 					continue;
 				}
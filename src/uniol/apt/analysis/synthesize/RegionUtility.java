@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import uniol.apt.adt.ts.Arc;
 import uniol.apt.adt.ts.State;
@@ -42,7 +43,10 @@ public class RegionUtility {
 	private final TransitionSystem ts;
 	private final SpanningTree<TransitionSystem, Arc, State> tree;
 	private final List<String> eventList;
-	private final Map<State, List<BigInteger>> parikhVectorMap = new HashMap<>();
+	private final Map<String, Integer> eventIndices = new HashMap<>();
+	// Thread-safe since separation problems may be solved concurrently
+	private final Map<State, List<BigInteger>> parikhVectorMap = new ConcurrentHashMap<>();
+	private volatile ParikhVectorTable parikhVectorTable;
 	private List<Region> regionBasis;
 
 	/**
@@ -54,6 +58,8 @@ public class RegionUtility {
 		this.tree = tree;
 		this.eventList = Collections.unmodifiableList(new ArrayList<>(ts.getAlphabet()));
 		this.regionBasis = null;
+		for (int i = 0; i < eventList.size(); i++)
+			eventIndices.put(eventList.get(i), i);
 	}
 
 	/**
@@ -70,7 +76,10 @@ public class RegionUtility {
 	 * @return The event's index or -1.
 	 */
 	public int getEventIndex(String event) {
-		return eventList.indexOf(event);
+		Integer index = eventIndices.get(event);
+		if (index == null)
+			return -1;
+		return index;
 	}
 
 	/**
@@ -106,6 +115,25 @@ public class RegionUtility {
 		return tree.getGraph();
 	}
 
+	/**
+	 * Get the table containing the Parikh vectors that reach the states of the transition system. The table is
+	 * calculated on first use.
+	 * @return The table of Parikh vectors.
+	 */
+	ParikhVectorTable getParikhVectorTable() {
+		ParikhVectorTable result = parikhVectorTable;
+		if (result == null) {
+			synchronized (this) {
+				result = parikhVectorTable;
+				if (result == null) {
+					result = new ParikhVectorTable(tree, eventIndices);
+					parikhVectorTable = result;
+				}
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * @param node The node whose Parikh vector should be returned.
 	 * @return The Parikh vector that reaches the node from the initial state.
@@ -114,23 +142,14 @@ public class RegionUtility {
 	public List<BigInteger> getReachingParikhVector(State node) throws UnreachableException {
 		List<BigInteger> result = parikhVectorMap.get(node);
 		if (result == null) {
-			if (node.equals(tree.getStartNode())) {
-				BigInteger[] array = new BigInteger[eventList.size()];
-				Arrays.fill(array, BigInteger.ZERO);
-				result = Arrays.asList(array);
-			} else {
-				Arc predecessor = tree.getPredecessorEdge(node);
-				if (predecessor == null)
-					throw new UnreachableException(ts, node);
-
-				List<BigInteger> predVector = getReachingParikhVector(predecessor.getSource());
-				result = new ArrayList<>();
-				result.addAll(predVector);
-
-				int idx = getEventIndex(predecessor.getLabel());
-				result.set(idx, result.get(idx).add(BigInteger.ONE));
-			}
-			result = Collections.unmodifiableList(result);
+			ParikhVectorTable table = getParikhVectorTable();
+			int row = table.getRow(node);
+			if (row < 0)
+				throw new UnreachableException(ts, node);
+			BigInteger[] vector = new BigInteger[eventList.size()];
+			for (int i = 0; i < vector.length; i++)
+				vector[i] = BigInteger.valueOf(table.get(row, i));
+			result = Collections.unmodifiableList(Arrays.asList(vector));
 			parikhVectorMap.put(node, result);
 		}
 		return result;
@@ -177,14 +196,7 @@ public class RegionUtility {
 
 			// The events on each fundamental circle must form a T-Invariant of a Petri Net which generates
 			// this transition system. Thus, each region must have zero effect on such a circle.
-			for (Arc chord : tree.getChords()) {
-				try {
-					system.addEquation(this.getParikhVectorForEdge(chord));
-				} catch (UnreachableException e) {
-					throw new AssertionError("A chord by definition belongs to reachable nodes, "
-							+ "yet one of them was unreachable?", e);
-				}
-			}
+			getParikhVectorTable().addChordEquations(system);
 
 			List<Region> result = new ArrayList<>();
 			for (List<BigInteger> vector : system.findBasis())
@@ -0,0 +1,311 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import uniol.apt.adt.ts.State;
+import uniol.apt.analysis.synthesize.separation.SeparationUtility;
+
+import static uniol.apt.util.DebugUtil.debug;
+
+/**
+ * Index-based view on the separation problems that a list of regions solves. All reachable states are numbered and
+ * for each region, the marking of a state is replaced by its rank among all the markings that the region assigns to
+ * states. Separation problems can then be answered by comparing ints.
+ */
+final class SeparationIndex {
+	private final RegionUtility utility;
+	private final List<Region> regions;
+	private final List<State> states = new ArrayList<>();
+	private final Map<State, Integer> stateIndices = new HashMap<>();
+	// For each region, the different markings that it assigns to states in increasing order
+	private final BigInteger[][] markings;
+	// For each region and state, the index of the state's marking in the above array
+	private final int[][] columns;
+
+	/**
+	 * Create a new index for the given regions.
+	 * @param utility The region utility that all regions belong to.
+	 * @param regions The regions to index.
+	 */
+	public SeparationIndex(RegionUtility utility, Collection<Region> regions) {
+		this.utility = utility;
+		this.regions = new ArrayList<>(regions);
+
+		for (State state : utility.getTransitionSystem().getNodes()) {
+			if (!utility.getSpanningTree().isReachable(state))
+				continue;
+			stateIndices.put(state, states.size());
+			states.add(state);
+		}
+
+		this.markings = new BigInteger[this.regions.size()][];
+		this.columns = new int[this.regions.size()][];
+		for (int r = 0; r < this.regions.size(); r++) {
+			Region region = this.regions.get(r);
+			assert region.getRegionUtility() == utility;
+
+			BigInteger[] values = new BigInteger[states.size()];
+			for (int s = 0; s < values.length; s++) {
+				try {
+					values[s] = region.getMarkingForState(states.get(s));
+				} catch (UnreachableException e) {
+					throw new AssertionError("Made sure state is reachable, but still it isn't?!",
+							e);
+				}
+			}
+
+			BigInteger[] sorted = values.clone();
+			Arrays.sort(sorted);
+			int distinct = 0;
+			for (int i = 0; i < sorted.length; i++)
+				if (distinct == 0 || !sorted[distinct - 1].equals(sorted[i]))
+					sorted[distinct++] = sorted[i];
+			markings[r] = Arrays.copyOf(sorted, distinct);
+
+			columns[r] = new int[values.length];
+			for (int s = 0; s < values.length; s++)
+				columns[r][s] = Arrays.binarySearch(markings[r], values[s]);
+		}
+	}
+
+	/**
+	 * Get the indexed regions.
+	 * @return The regions in the order used by this index.
+	 */
+	public List<Region> getRegions() {
+		return regions;
+	}
+
+	/**
+	 * Check if the given region solves the given event/state separation problem.
+	 * @param region The index of the region.
+	 * @param state The index of the state.
+	 * @param backwardWeightRank The number of markings of the region which are smaller than the event's backward
+	 * weight, as calculated by {@link #getBackwardWeightRank}.
+	 * @return true if the state's marking is smaller than the backward weight.
+	 */
+	private boolean solvesEventSeparation(int region, int state, int backwardWeightRank) {
+		return columns[region][state] < backwardWeightRank;
+	}
+
+	/**
+	 * Get the number of different markings of a region that are smaller than the backward weight of an event.
+	 * @param region The index of the region.
+	 * @param event The index of the event.
+	 * @return The number of markings.
+	 */
+	private int getBackwardWeightRank(int region, int event) {
+		int index = Arrays.binarySearch(markings[region], regions.get(region).getBackwardWeight(event));
+		if (index < 0)
+			return -index - 1;
+		return index;
+	}
+
+	/**
+	 * Refine a partition of states with the markings of a region. States with different markings are put into
+	 * different blocks. Blocks containing a single state are dropped.
+	 * @param blocks The blocks of the partition, each one an array of state indices.
+	 * @param region The index of the region that is used for refining.
+	 * @return The blocks of the refined partition.
+	 */
+	private List<int[]> refine(List<int[]> blocks, int region) {
+		int[] column = columns[region];
+		List<int[]> result = new ArrayList<>();
+		for (int[] block : blocks) {
+			// Sort the states by their marking
+			long[] keys = new long[block.length];
+			for (int i = 0; i < block.length; i++)
+				keys[i] = ((long) column[block[i]] << Integer.SIZE) | block[i];
+			Arrays.sort(keys);
+
+			int start = 0;
+			for (int i = 1; i <= keys.length; i++) {
+				if (i < keys.length && (keys[i] >>> Integer.SIZE) == (keys[start] >>> Integer.SIZE))
+					continue;
+				if (i - start > 1) {
+					int[] newBlock = new int[i - start];
+					for (int j = start; j < i; j++)
+						newBlock[j - start] = (int) keys[j];
+					result.add(newBlock);
+				}
+				start = i;
+			}
+		}
+		return result;
+	}
+
+	static private long countPairs(List<int[]> blocks) {
+		long result = 0;
+		for (int[] block : blocks)
+			result += (long) block.length * (block.length - 1) / 2;
+		return result;
+	}
+
+	/**
+	 * Calculate the set of states which aren't separated by the indexed regions.
+	 * @param statesToSeparate The states to separate.
+	 * @return All states which have for at least one other state the same marking in all regions. Unreachable
+	 * states are always included.
+	 */
+	public Set<State> calculateUnseparatedStates(Set<State> statesToSeparate) {
+		Set<State> result = new HashSet<>();
+		int[] block = new int[statesToSeparate.size()];
+		int size = 0;
+		for (State state : statesToSeparate) {
+			Integer index = stateIndices.get(state);
+			if (index == null)
+				// Unreachable states cannot be separated
+				result.add(state);
+			else
+				block[size++] = index;
+		}
+
+		List<int[]> partition = new ArrayList<>();
+		partition.add(Arrays.copyOf(block, size));
+		for (int r = 0; r < regions.size() && !partition.isEmpty(); r++)
+			partition = refine(partition, r);
+		debug("Still have ", partition.size(), " families of unseparated states");
+
+		for (int[] family : partition)
+			for (int state : family)
+				result.add(states.get(state));
+		return result;
+	}
+
+	/**
+	 * Pick a subset of the indexed regions that solves every separation problem that is solved by any of the
+	 * indexed regions. First, all regions are picked which are the only region solving some event/state separation
+	 * problem. The remaining event/state separation problems are handled by greedily picking the region that
+	 * solves the most of them. Afterwards, state separation is handled by greedily picking the region that
+	 * separates the most pairs of not yet separated states.
+	 * @param onlyEventSeparation Should state separation be ignored?
+	 * @return The picked regions.
+	 */
+	public Set<Region> minimize(boolean onlyEventSeparation) {
+		final int numRegions = regions.size();
+		final int numEvents = utility.getNumberOfEvents();
+		BitSet chosen = new BitSet(numRegions);
+
+		// For each region, calculate the set of event/state separation problems that it solves. Problem
+		// number state * numEvents + event is "event is not enabled in state".
+		BitSet[] solved = new BitSet[numRegions];
+		for (int r = 0; r < numRegions; r++) {
+			solved[r] = new BitSet();
+			for (int event = 0; event < numEvents; event++) {
+				String label = utility.getEventList().get(event);
+				int rank = getBackwardWeightRank(r, event);
+				for (int state = 0; state < states.size(); state++) {
+					if (solvesEventSeparation(r, state, rank)
+							&& !SeparationUtility.isEventEnabled(states.get(state), label))
+						solved[r].set(state * numEvents + event);
+				}
+			}
+		}
+
+		// Problems solved by exactly one region make that region required
+		BitSet solvedOnce = new BitSet();
+		BitSet solvedTwice = new BitSet();
+		for (int r = 0; r < numRegions; r++) {
+			BitSet tmp = (BitSet) solvedOnce.clone();
+			tmp.and(solved[r]);
+			solvedTwice.or(tmp);
+			solvedOnce.or(solved[r]);
+		}
+		BitSet uniquelySolved = (BitSet) solvedOnce.clone();
+		uniquelySolved.andNot(solvedTwice);
+
+		BitSet unsolved = (BitSet) solvedOnce.clone();
+		for (int r = 0; r < numRegions; r++) {
+			if (solved[r].intersects(uniquelySolved)) {
+				chosen.set(r);
+				unsolved.andNot(solved[r]);
+			}
+		}
+		debug("Required regions after first pass: ", chosen.cardinality());
+
+		// Greedy set cover for the remaining event/state separation problems
+		while (!unsolved.isEmpty()) {
+			int best = -1;
+			int bestCount = 0;
+			for (int r = chosen.nextClearBit(0); r < numRegions; r = chosen.nextClearBit(r + 1)) {
+				BitSet tmp = (BitSet) solved[r].clone();
+				tmp.and(unsolved);
+				int count = tmp.cardinality();
+				if (count > bestCount) {
+					best = r;
+					bestCount = count;
+				}
+			}
+			assert best >= 0;
+			chosen.set(best);
+			unsolved.andNot(solved[best]);
+		}
+
+		if (!onlyEventSeparation) {
+			// Greedy choice for state separation: Pick the region that separates most pairs of states
+			int[] allStates = new int[states.size()];
+			for (int i = 0; i < allStates.length; i++)
+				allStates[i] = i;
+			List<int[]> partition = new ArrayList<>();
+			partition.add(allStates);
+			for (int r = chosen.nextSetBit(0); r >= 0 && !partition.isEmpty(); r = chosen.nextSetBit(r + 1))
+				partition = refine(partition, r);
+
+			while (!partition.isEmpty()) {
+				long pairs = countPairs(partition);
+				int best = -1;
+				long bestCount = 0;
+				List<int[]> bestPartition = null;
+				for (int r = chosen.nextClearBit(0); r < numRegions; r = chosen.nextClearBit(r + 1)) {
+					List<int[]> refined = refine(partition, r);
+					long count = pairs - countPairs(refined);
+					if (count > bestCount) {
+						best = r;
+						bestCount = count;
+						bestPartition = refined;
+					}
+				}
+				if (best < 0)
+					// The remaining states cannot be separated by any region
+					break;
+				chosen.set(best);
+				partition = bestPartition;
+			}
+		}
+
+		Set<Region> result = new HashSet<>();
+		for (int r = chosen.nextSetBit(0); r >= 0; r = chosen.nextSetBit(r + 1))
+			result.add(regions.get(r));
+		return result;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
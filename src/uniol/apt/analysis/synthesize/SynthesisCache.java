@@ -0,0 +1,431 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+
+import static uniol.apt.util.DebugUtil.debug;
+
+/**
+ * An on-disk cache for the results of {@link SynthesizePN}. Results are identified by a hash of a canonical
+ * description of the transition system and the requested properties, so that a result is reused for all isomorphic
+ * transition systems. The cache only handles deterministic transition systems in which all states are reachable.
+ * When the total size of the cache directory exceeds a limit, the least recently used entries are removed.
+ */
+public class SynthesisCache {
+	static private final String HEADER = "apt-synthesis-cache 1";
+	static private final String SUFFIX = ".cache";
+
+	/**
+	 * The system property that can be used for setting the directory of the default cache.
+	 */
+	static public final String DIRECTORY_PROPERTY = "apt.synthesis.cache.dir";
+
+	/**
+	 * The system property that can be used for setting the maximum size in bytes of the default cache.
+	 */
+	static public final String SIZE_PROPERTY = "apt.synthesis.cache.size";
+
+	/**
+	 * The maximum size of the default cache in bytes if the size property is not set.
+	 */
+	static public final long DEFAULT_MAXIMUM_SIZE = 64 * 1024 * 1024;
+
+	private final File directory;
+	private final long maximumSize;
+
+	/**
+	 * Create a new cache.
+	 * @param directory The directory in which results are saved. It is created if it does not exist yet.
+	 * @param maximumSize The maximum number of bytes that the entries in the directory may use.
+	 */
+	public SynthesisCache(File directory, long maximumSize) {
+		if (maximumSize < 0)
+			throw new IllegalArgumentException("Maximum size must not be negative, but is " + maximumSize);
+		this.directory = directory;
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Create a cache from the system properties {@link #DIRECTORY_PROPERTY} and {@link #SIZE_PROPERTY}. By default,
+	 * the directory .cache/apt/synthesis in the user's home directory is used.
+	 * @return The default cache.
+	 */
+	static public SynthesisCache getDefaultCache() {
+		File defaultDirectory = new File(new File(new File(System.getProperty("user.home"), ".cache"), "apt"),
+				"synthesis");
+		String dir = System.getProperty(DIRECTORY_PROPERTY);
+		String size = System.getProperty(SIZE_PROPERTY);
+		return new SynthesisCache(dir == null ? defaultDirectory : new File(dir),
+				size == null ? DEFAULT_MAXIMUM_SIZE : Long.parseLong(size));
+	}
+
+	/**
+	 * Get the directory in which results are saved.
+	 * @return The directory.
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Get the maximum number of bytes that the cache may use.
+	 * @return The maximum size.
+	 */
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Calculate a canonical labelling of the given transition system. States are numbered in the order in which a
+	 * breadth first search from the initial state discovers them when the arcs of a state are visited ordered by
+	 * their label. Since the transition system is deterministic, this order only depends on the structure of the
+	 * transition system and thus isomorphic transition systems get the same labelling.
+	 * @param ts The transition system to label.
+	 * @return The states in canonical order or null if the transition system is not deterministic or has
+	 * unreachable states.
+	 */
+	static List<State> getCanonicalStateOrder(TransitionSystem ts) {
+		List<State> order = new ArrayList<>(ts.getNodes().size());
+		Set<State> seen = new HashSet<>();
+		Queue<State> queue = new ArrayDeque<>();
+		seen.add(ts.getInitialState());
+		queue.add(ts.getInitialState());
+		while (!queue.isEmpty()) {
+			State state = queue.remove();
+			order.add(state);
+			SortedMap<String, Arc> arcs = getSortedPostsetEdges(state);
+			if (arcs == null)
+				return null;
+			for (Arc arc : arcs.values()) {
+				if (seen.add(arc.getTarget()))
+					queue.add(arc.getTarget());
+			}
+		}
+		if (order.size() != ts.getNodes().size())
+			return null;
+		return order;
+	}
+
+	/**
+	 * Get the arcs leaving the given state ordered by their label.
+	 * @param state The state to examine.
+	 * @return A map from labels to arcs or null if the state has two arcs with the same label.
+	 */
+	static private SortedMap<String, Arc> getSortedPostsetEdges(State state) {
+		SortedMap<String, Arc> result = new TreeMap<>();
+		for (Arc arc : state.getPostsetEdges())
+			if (result.put(arc.getLabel(), arc) != null)
+				return null;
+		return result;
+	}
+
+	static private void appendString(StringBuilder builder, String str) {
+		builder.append(str.length()).append(':').append(str);
+	}
+
+	/**
+	 * Calculate the key under which results for the given input are saved.
+	 * @param order The states of the transition system in canonical order.
+	 * @param events The events of the transition system in sorted order.
+	 * @param properties The properties that the synthesized Petri net should satisfy.
+	 * @param onlyEventSeparation Should state separation be ignored?
+	 * @param quickFail Is quick fail mode used?
+	 * @return The key.
+	 */
+	static private String calculateKey(List<State> order, List<String> events,
+			PNProperties properties, boolean onlyEventSeparation, boolean quickFail) {
+		Map<State, Integer> stateIndices = new HashMap<>();
+		for (State state : order)
+			stateIndices.put(state, stateIndices.size());
+		Map<String, Integer> eventIndices = new HashMap<>();
+		for (String event : events)
+			eventIndices.put(event, eventIndices.size());
+
+		StringBuilder description = new StringBuilder(HEADER);
+		description.append('\n').append(properties).append(' ').append(onlyEventSeparation)
+			.append(' ').append(quickFail).append('\n');
+		for (String event : events)
+			appendString(description, event);
+		description.append('\n').append(order.size()).append('\n');
+		for (State state : order) {
+			for (Arc arc : getSortedPostsetEdges(state).values()) {
+				description.append(eventIndices.get(arc.getLabel())).append('>')
+					.append(stateIndices.get(arc.getTarget()));
+				if (arc.hasExtension("location")) {
+					description.append('@');
+					appendString(description, arc.getExtension("location").toString());
+				}
+				description.append(' ');
+			}
+			description.append('\n');
+		}
+
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new AssertionError("Every Java implementation must support SHA-256", e);
+		}
+		byte[] hash = digest.digest(description.toString().getBytes(StandardCharsets.UTF_8));
+		StringBuilder result = new StringBuilder();
+		for (byte b : hash)
+			result.append(String.format("%02x", b & 0xff));
+		return result.toString();
+	}
+
+	static private List<String> getSortedEvents(RegionUtility utility) {
+		List<String> events = new ArrayList<>(utility.getEventList());
+		Collections.sort(events);
+		return events;
+	}
+
+	private File getFile(String key) {
+		return new File(directory, key + SUFFIX);
+	}
+
+	/**
+	 * Look up the result of synthesizing the given transition system.
+	 * @param ts The transition system that should be synthesized.
+	 * @param utility The region utility that synthesis uses. For synthesis up to language equivalence, this
+	 * belongs to the unfolding of the transition system.
+	 * @param properties The properties that the synthesized Petri net should satisfy.
+	 * @param onlyEventSeparation Should state separation be ignored?
+	 * @param quickFail Is quick fail mode used?
+	 * @return A SynthesizePN instance describing the cached result or null if nothing is cached.
+	 */
+	public SynthesizePN lookup(TransitionSystem ts, RegionUtility utility, PNProperties properties,
+			boolean onlyEventSeparation, boolean quickFail) {
+		List<State> order = getCanonicalStateOrder(ts);
+		if (order == null)
+			return null;
+		List<String> events = getSortedEvents(utility);
+		File file = getFile(calculateKey(order, events, properties, onlyEventSeparation, quickFail));
+		if (!file.isFile())
+			return null;
+
+		SynthesizePN result;
+		try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+			result = read(new BufferedReader(reader), order, events, utility, properties,
+					onlyEventSeparation);
+		} catch (IOException | RuntimeException e) {
+			debug("Ignoring broken cache entry ", file, ": ", e);
+			return null;
+		}
+		debug("Found synthesis result in cache entry ", file);
+		if (!file.setLastModified(System.currentTimeMillis()))
+			debug("Could not update modification time of ", file);
+		return result;
+	}
+
+	/**
+	 * Save the result of a synthesis in the cache.
+	 * @param ts The transition system that was synthesized.
+	 * @param synthesize The result of synthesis.
+	 * @param quickFail Was quick fail mode used?
+	 */
+	public void store(TransitionSystem ts, SynthesizePN synthesize, boolean quickFail) {
+		List<State> order = getCanonicalStateOrder(ts);
+		if (order == null)
+			return;
+		List<String> events = getSortedEvents(synthesize.getUtility());
+		File file = getFile(calculateKey(order, events, synthesize.getProperties(),
+					synthesize.onlyEventSeparation(), quickFail));
+
+		File tmp = null;
+		try {
+			if (!directory.isDirectory() && !directory.mkdirs())
+				throw new IOException("Could not create directory " + directory);
+			tmp = File.createTempFile("entry", ".tmp", directory);
+			try (Writer writer = new OutputStreamWriter(new FileOutputStream(tmp),
+						StandardCharsets.UTF_8)) {
+				write(new BufferedWriter(writer), order, events, synthesize);
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			debug("Saved synthesis result in cache entry ", file);
+		} catch (IOException e) {
+			debug("Could not save synthesis result in cache: ", e);
+			if (tmp != null && !tmp.delete())
+				debug("Could not delete ", tmp);
+			return;
+		}
+
+		evict();
+	}
+
+	/**
+	 * Remove the least recently used entries until the cache is small enough.
+	 */
+	private void evict() {
+		File[] files = directory.listFiles();
+		if (files == null)
+			return;
+
+		final Map<File, Long> lastModified = new HashMap<>();
+		List<File> entries = new ArrayList<>();
+		for (File file : files) {
+			if (file.isFile() && file.getName().endsWith(SUFFIX)) {
+				entries.add(file);
+				lastModified.put(file, file.lastModified());
+			}
+		}
+		// Sort the entries so that the most recently used come first
+		Collections.sort(entries, new Comparator<File>() {
+			@Override
+			public int compare(File f1, File f2) {
+				return lastModified.get(f2).compareTo(lastModified.get(f1));
+			}
+		});
+
+		long size = 0;
+		for (File file : entries) {
+			size += file.length();
+			if (size > maximumSize) {
+				debug("Evicting cache entry ", file);
+				if (!file.delete())
+					debug("Could not delete ", file);
+			}
+		}
+	}
+
+	static private void write(BufferedWriter writer, List<State> order, List<String> events,
+			SynthesizePN synthesize) throws IOException {
+		Map<State, Integer> stateIndices = new HashMap<>();
+		for (State state : order)
+			stateIndices.put(state, stateIndices.size());
+
+		writer.write(HEADER);
+		writer.newLine();
+		writer.write(order.size() + " " + events.size());
+		writer.newLine();
+		for (Region region : synthesize.getSeparatingRegions()) {
+			writer.write("region " + region.getInitialMarking());
+			for (String event : events)
+				writer.write(" " + region.getBackwardWeight(event) + " "
+						+ region.getForwardWeight(event));
+			writer.newLine();
+		}
+		for (Set<State> group : synthesize.getFailedStateSeparationProblems()) {
+			writer.write("ssp");
+			for (State state : group)
+				writer.write(" " + stateIndices.get(state));
+			writer.newLine();
+		}
+		for (Map.Entry<String, Set<State>> entry :
+				synthesize.getFailedEventStateSeparationProblems().entrySet()) {
+			writer.write("essp " + Collections.binarySearch(events, entry.getKey()));
+			for (State state : entry.getValue())
+				writer.write(" " + stateIndices.get(state));
+			writer.newLine();
+		}
+		writer.flush();
+	}
+
+	static private SynthesizePN read(BufferedReader reader, List<State> order, List<String> events,
+			RegionUtility utility, PNProperties properties, boolean onlyEventSeparation)
+			throws IOException {
+		if (!HEADER.equals(reader.readLine()))
+			throw new IOException("Unknown file format");
+		if (!(order.size() + " " + events.size()).equals(reader.readLine()))
+			throw new IOException("Entry does not match the transition system");
+
+		Collection<Region> regions = new ArrayList<>();
+		Collection<Set<State>> failedSSP = new ArrayList<>();
+		Map<String, Set<State>> failedESSP = new HashMap<>();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			List<String> words = Arrays.asList(line.split(" "));
+			List<String> args = words.subList(1, words.size());
+			switch (words.get(0)) {
+				case "region":
+					regions.add(readRegion(args, events, utility));
+					break;
+				case "ssp":
+					failedSSP.add(readStates(args, order));
+					break;
+				case "essp":
+					failedESSP.put(events.get(Integer.parseInt(args.get(0))),
+							readStates(args.subList(1, args.size()), order));
+					break;
+				default:
+					throw new IOException("Unknown line '" + line + "'");
+			}
+		}
+		return new SynthesizePN(utility, properties, onlyEventSeparation, regions, failedSSP, failedESSP);
+	}
+
+	static private Region readRegion(List<String> args, List<String> events, RegionUtility utility)
+			throws IOException {
+		if (args.size() != 1 + 2 * events.size())
+			throw new IOException("Wrong number of weights for a region");
+		// The file lists the weights in sorted order, the region utility might use a different order
+		List<BigInteger> backward = new ArrayList<>(Collections.nCopies(events.size(), BigInteger.ZERO));
+		List<BigInteger> forward = new ArrayList<>(Collections.nCopies(events.size(), BigInteger.ZERO));
+		for (int i = 0; i < events.size(); i++) {
+			int event = utility.getEventIndex(events.get(i));
+			backward.set(event, new BigInteger(args.get(1 + 2 * i)));
+			forward.set(event, new BigInteger(args.get(2 + 2 * i)));
+		}
+		return new Region.Builder(utility, backward, forward).withInitialMarking(new BigInteger(args.get(0)));
+	}
+
+	static private Set<State> readStates(List<String> args, List<State> order) {
+		Set<State> result = new HashSet<>();
+		for (String arg : args)
+			result.add(order.get(Integer.parseInt(arg)));
+		return result;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
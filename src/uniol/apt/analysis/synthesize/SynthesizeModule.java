@@ -77,7 +77,13 @@ public class SynthesizeModule extends AbstractModule {
 				+ " output-nonbranching (on), conflict-free (cf),"
 				+ " upto-language-equivalence (language, le), minimize" + extra1 + "."
 				+ " Special options are verbose (print detail information about the regions),"
-				+ " quick-fail (fail quickly when the result 'success: No' is known)" + extra2 + " and"
+				+ " quick-fail (fail quickly when the result 'success: No' is known),"
+				+ " parallel (solve separation problems with one thread per processor),"
+				+ " simplex (use an integer simplex solver instead of SMTInterpol),"
+				+ " cache (reuse results of earlier calls, saved in the directory given by the system"
+				+ " property " + SynthesisCache.DIRECTORY_PROPERTY + "),"
+				+ " decompose (synthesize independent parts of a product on their own)" + extra2
+				+ " and"
 				+ " minimize (minimize the number of places in the solution).");
 	}
 
@@ -127,10 +133,12 @@ public class SynthesizeModule extends AbstractModule {
 
 	static public SynthesizePN runSynthesis(TransitionSystemForOptions tsForOpts, ModuleInput input, ModuleOutput output)
 			throws ModuleException {
-		String quickFailStr = "quick-fail", verboseStr = "verbose";
+		String quickFailStr = "quick-fail", verboseStr = "verbose", parallelStr = "parallel";
+		String simplexStr = "simplex", cacheStr = "cache", decomposeStr = "decompose";
 		Collection<String> languageEquivalenceStr = Arrays.asList("upto-language-equivalence", "language", "le");
 		Collection<String> minimizeStr = Arrays.asList("minimize", "minimise", "minimal");
-		Set<String> supportedExtraOptions = new HashSet<>(Arrays.asList(quickFailStr, verboseStr));
+		Set<String> supportedExtraOptions = new HashSet<>(Arrays.asList(quickFailStr, verboseStr, parallelStr,
+					simplexStr, cacheStr, decomposeStr));
 		supportedExtraOptions.addAll(languageEquivalenceStr);
 		supportedExtraOptions.addAll(minimizeStr);
 		supportedExtraOptions.addAll(tsForOpts.supportedExtraOptions());
@@ -138,13 +146,23 @@ public class SynthesizeModule extends AbstractModule {
 		Options options = Options.parseProperties(input.getParameter("options", String.class), supportedExtraOptions);
 		boolean quickFail = options.extraOptions.contains(quickFailStr);
 		boolean verbose = options.extraOptions.contains(verboseStr);
+		boolean parallel = options.extraOptions.contains(parallelStr);
+		boolean simplex = options.extraOptions.contains(simplexStr);
+		boolean cache = options.extraOptions.contains(cacheStr);
+		boolean decompose = options.extraOptions.contains(decomposeStr);
 		boolean languageEquivalence = !Collections.disjoint(options.extraOptions, languageEquivalenceStr);
 		boolean minimize = !Collections.disjoint(options.extraOptions, minimizeStr);
 
 		SynthesizePN synthesize;
 		SynthesizePN.Builder builder = new SynthesizePN.Builder(tsForOpts.getTS(options.extraOptions))
 			.setProperties(options.properties)
-			.setQuickFail(quickFail);
+			.setQuickFail(quickFail)
+			.setUseSimplexSolver(simplex)
+			.setDecompose(decompose);
+		if (cache)
+			builder.setCache(SynthesisCache.getDefaultCache());
+		if (parallel)
+			builder.setNumberOfThreads(Runtime.getRuntime().availableProcessors());
 		if (languageEquivalence)
 			synthesize = builder.buildForLanguageEquivalence();
 		else
@@ -20,14 +20,21 @@
 package uniol.apt.analysis.synthesize;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.collections4.FactoryUtils;
 import org.apache.commons.collections4.iterators.PeekingIterator;
@@ -73,7 +80,7 @@ public class SynthesizePN {
 	private final EquivalenceRelation<State> failedStateSeparationRelation = new EquivalenceRelation<>();
 	private final Map<String, Set<State>> failedEventStateSeparationProblems = new HashMap<>();
 	private final PNProperties properties;
-	private final Separation separation;
+	private final Separation[] separations;
 	private final String stateMappingExtension;
 	private final boolean quickFail;
 
@@ -86,6 +93,10 @@ public class SynthesizePN {
 		private TransitionSystem ts;
 		private PNProperties properties = new PNProperties();
 		private boolean quickFail = false;
+		private int numberOfThreads = 1;
+		private boolean useSimplexSolver = false;
+		private SynthesisCache cache = null;
+		private boolean decompose = false;
 
 		/**
 		 * Create a builder that targets the given RegionUtility.
@@ -137,6 +148,87 @@ public class SynthesizePN {
 			return this;
 		}
 
+		/**
+		 * Set the number of threads that are used for solving separation problems. Each thread uses its own
+		 * {@link Separation} instance. The result of synthesis only depends on the number of threads and not on
+		 * the scheduling of the threads.
+		 * The number of threads defaults to 1, which means that all separation problems are solved one after
+		 * another in the calling thread.
+		 * @param numberOfThreads the number of threads to use.
+		 */
+		public Builder setNumberOfThreads(int numberOfThreads) {
+			if (numberOfThreads < 1)
+				throw new IllegalArgumentException("Number of threads must be positive, but is "
+						+ numberOfThreads);
+			this.numberOfThreads = numberOfThreads;
+			return this;
+		}
+
+		/**
+		 * Select the solver that is used for calculating regions. If true, an integer simplex solver is used,
+		 * else SMTInterpol. Both solvers find regions for the same separation problems, but may calculate
+		 * different regions.
+		 * The default is to use SMTInterpol.
+		 * @param useSimplexSolver true if the simplex solver should be used.
+		 * @return this
+		 */
+		public Builder setUseSimplexSolver(boolean useSimplexSolver) {
+			this.useSimplexSolver = useSimplexSolver;
+			return this;
+		}
+
+		/**
+		 * Set the cache that is used for synthesis results. Before synthesis is started, the cache is
+		 * searched for the result of an earlier synthesis of an isomorphic transition system with the same
+		 * properties. New results are added to the cache.
+		 * The default is to not use any cache.
+		 * @param cache the cache to use or null.
+		 * @return this
+		 */
+		public Builder setCache(SynthesisCache cache) {
+			this.cache = cache;
+			return this;
+		}
+
+		/**
+		 * Enable the decomposition of the transition system into a product of transition systems with
+		 * disjoint alphabets. Each factor is synthesized on its own and the resulting regions are combined.
+		 * The factors are synthesized concurrently if more than one thread is allowed. Decomposition only
+		 * applies to synthesis up to isomorphism and is not used when a marked graph is requested, because the
+		 * factors of a marked graph are not necessarily marked graphs.
+		 * The default is to not decompose.
+		 * @param decompose true if the transition system should be decomposed.
+		 * @return this
+		 */
+		public Builder setDecompose(boolean decompose) {
+			this.decompose = decompose;
+			return this;
+		}
+
+		/**
+		 * Create a SynthesizePN instance, consulting the cache if there is one.
+		 * @param utility The region utility to use.
+		 * @param onlyEventSeparation Should state separation be ignored?
+		 * @param stateMappingExtension The extension key used for mapping states or null.
+		 * @return A SynthesizePN instance.
+		 * @throws MissingLocationException if the transition system for the utility has locations for only some
+		 * events
+		 */
+		private SynthesizePN build(RegionUtility utility, boolean onlyEventSeparation,
+				String stateMappingExtension) throws MissingLocationException {
+			SynthesizePN result;
+			if (cache != null) {
+				result = cache.lookup(ts, utility, properties, onlyEventSeparation, quickFail);
+				if (result != null)
+					return result;
+			}
+			result = new SynthesizePN(utility, this.properties, onlyEventSeparation, stateMappingExtension,
+					quickFail, numberOfThreads, useSimplexSolver);
+			if (cache != null)
+				cache.store(ts, result, quickFail);
+			return result;
+		}
+
 		/**
 		 * Create a SynthesizePN instance that synthesizes the given state up to language equivalence.
 		 * @return A synthesizePN instance that synthesizes the input up to language equivalence.
@@ -146,8 +238,7 @@ public class SynthesizePN {
 		 */
 		public SynthesizePN buildForLanguageEquivalence()
 			throws MissingLocationException, NonDeterministicException {
-			return new SynthesizePN(new RegionUtility(calculateLimitedUnfolding(ts)),
-					this.properties, true, ORIGINAL_STATE_KEY, quickFail);
+			return build(new RegionUtility(calculateLimitedUnfolding(ts)), true, ORIGINAL_STATE_KEY);
 		}
 
 		/**
@@ -158,7 +249,55 @@ public class SynthesizePN {
 		public SynthesizePN buildForIsomorphicBehavior() throws MissingLocationException {
 			if (this.utility == null)
 				this.utility = new RegionUtility(this.ts);
-			return new SynthesizePN(this.utility, this.properties, false, null, quickFail);
+			if (decompose && !properties.isMarkedGraph()) {
+				ProductDecomposition decomposition = new ProductDecomposition(ts);
+				if (decomposition.getFactors().size() > 1)
+					return buildFromFactors(decomposition);
+			}
+			return build(this.utility, false, null);
+		}
+
+		/**
+		 * Create a SynthesizePN instance by synthesizing each factor of a product on its own.
+		 * @param decomposition The decomposition of the transition system.
+		 * @return A SynthesizePN instance that synthesizes the input up to isomorphism.
+		 * @throws MissingLocationException if the transition system for the utility has locations for only some
+		 * events
+		 */
+		private SynthesizePN buildFromFactors(ProductDecomposition decomposition)
+				throws MissingLocationException {
+			// Fail in the same way as synthesis without decomposition
+			SeparationUtility.getLocationMap(utility, properties);
+
+			List<TransitionSystem> factors = decomposition.getFactors();
+			debug("Synthesizing ", factors.size(), " factors independently");
+			List<Builder> builders = new ArrayList<>();
+			for (TransitionSystem factor : factors)
+				builders.add(new Builder(factor).setProperties(properties).setQuickFail(quickFail)
+						.setUseSimplexSolver(useSimplexSolver).setCache(cache));
+
+			List<SynthesizePN> results = new ArrayList<>();
+			if (numberOfThreads == 1) {
+				for (Builder builder : builders)
+					results.add(builder.buildForIsomorphicBehavior());
+			} else {
+				List<Callable<SynthesizePN>> tasks = new ArrayList<>();
+				for (final Builder builder : builders)
+					tasks.add(new Callable<SynthesizePN>() {
+						@Override
+						public SynthesizePN call() throws MissingLocationException {
+							return builder.buildForIsomorphicBehavior();
+						}
+					});
+				ExecutorService executor = Executors.newFixedThreadPool(
+						Math.min(numberOfThreads, factors.size()));
+				try {
+					results.addAll(invokeAll(executor, tasks));
+				} finally {
+					executor.shutdownNow();
+				}
+			}
+			return combineFactors(utility, properties, decomposition, results);
 		}
 	}
 
@@ -174,28 +313,59 @@ public class SynthesizePN {
 	 */
 	SynthesizePN(RegionUtility utility, PNProperties properties, boolean onlyEventSeparation,
 			String stateMappingExtension, boolean quickFail) throws MissingLocationException {
+		this(utility, properties, onlyEventSeparation, stateMappingExtension, quickFail, 1, false);
+	}
+
+	/**
+	 * Synthesize a Petri Net which generates the given transition system.
+	 * @param utility An instance of RegionUtility for the requested transition system.
+	 * @param properties Properties that the synthesized Petri net should satisfy.
+	 * @param onlyEventSeparation Should state separation be ignored? This means that two different states might get
+	 * the same marking.
+	 * @param stateMappingExtension An extension key that will be used to map States. All states in the input
+	 * transition system must have this extension and it must refer to a State object.
+	 * @param numberOfThreads The number of threads that should be used for solving separation problems.
+	 * @param useSimplexSolver Should regions be calculated with an integer simplex solver instead of SMTInterpol?
+	 * @throws MissingLocationException if the transition system for the utility has locations for only some events
+	 */
+	SynthesizePN(RegionUtility utility, PNProperties properties, boolean onlyEventSeparation,
+			String stateMappingExtension, boolean quickFail, int numberOfThreads,
+			boolean useSimplexSolver) throws MissingLocationException {
+		assert numberOfThreads >= 1;
 		this.ts = utility.getTransitionSystem();
 		this.utility = utility;
 		this.onlyEventSeparation = onlyEventSeparation;
 		this.properties = properties;
-		this.separation = SeparationUtility.createSeparationInstance(utility, properties);
+		this.separations = new Separation[numberOfThreads];
+		for (int i = 0; i < numberOfThreads; i++)
+			this.separations[i] = SeparationUtility.createSeparationInstance(utility, properties,
+					useSimplexSolver);
 		this.stateMappingExtension = stateMappingExtension;
 		this.quickFail = quickFail;
 
 		debug("Region basis: ", utility.getRegionBasis());
 
-		// ESSP calculates new regions while SSP only choses regions from the basis. Solve ESSP first since the
-		// calculated regions may also solve SSP and thus we get less places in the resulting net.
-		debug();
-		debug("Solving event-state separation");
-		solveEventStateSeparation();
-
-		if (quickFail && !wasSuccessfullySeparated())
-			return;
-
-		debug();
-		debug("Solving state separation");
-		solveStateSeparation();
+		ExecutorService executor = null;
+		if (numberOfThreads > 1)
+			executor = Executors.newFixedThreadPool(numberOfThreads);
+		try {
+			// ESSP calculates new regions while SSP only choses regions from the basis. Solve ESSP first
+			// since the calculated regions may also solve SSP and thus we get less places in the resulting
+			// net.
+			debug();
+			debug("Solving event-state separation");
+			solveEventStateSeparation(executor);
+
+			if (quickFail && !wasSuccessfullySeparated())
+				return;
+
+			debug();
+			debug("Solving state separation");
+			solveStateSeparation(executor);
+		} finally {
+			if (executor != null)
+				executor.shutdownNow();
+		}
 
 		if (quickFail && !wasSuccessfullySeparated())
 			return;
@@ -207,6 +377,96 @@ public class SynthesizePN {
 		debug();
 	}
 
+	/**
+	 * Restore the result of an earlier synthesis.
+	 * @param utility An instance of RegionUtility for the requested transition system.
+	 * @param properties Properties that the synthesized Petri net should satisfy.
+	 * @param onlyEventSeparation Was state separation ignored?
+	 * @param regions The separating regions that were calculated.
+	 * @param failedStateSeparationProblems The state separation problems which could not be solved.
+	 * @param failedEventStateSeparationProblems The event/state separation problems which could not be solved.
+	 */
+	SynthesizePN(RegionUtility utility, PNProperties properties, boolean onlyEventSeparation,
+			Collection<Region> regions, Collection<Set<State>> failedStateSeparationProblems,
+			Map<String, Set<State>> failedEventStateSeparationProblems) {
+		this.ts = utility.getTransitionSystem();
+		this.utility = utility;
+		this.onlyEventSeparation = onlyEventSeparation;
+		this.properties = properties;
+		this.separations = new Separation[0];
+		this.stateMappingExtension = null;
+		this.quickFail = false;
+		this.regions.addAll(regions);
+		for (Set<State> group : failedStateSeparationProblems) {
+			State first = group.iterator().next();
+			for (State state : group)
+				this.failedStateSeparationRelation.joinClasses(first, state);
+		}
+		for (Map.Entry<String, Set<State>> entry : failedEventStateSeparationProblems.entrySet())
+			this.failedEventStateSeparationProblems.put(entry.getKey(), new HashSet<>(entry.getValue()));
+	}
+
+	/**
+	 * Combine the results of synthesizing the factors of a product into a result for the product. The regions of
+	 * a factor are also regions of the product which do not touch the events of the other factors.
+	 * @param utility The region utility of the product.
+	 * @param properties Properties that the synthesized Petri net should satisfy.
+	 * @param decomposition The decomposition of the product.
+	 * @param results The results for the factors.
+	 * @return The result for the product.
+	 */
+	static private SynthesizePN combineFactors(RegionUtility utility, PNProperties properties,
+			ProductDecomposition decomposition, List<SynthesizePN> results) {
+		Set<State> states = utility.getTransitionSystem().getNodes();
+		Set<Region> regions = new HashSet<>();
+		Collection<Set<State>> failedSSP = new ArrayList<>();
+		Map<String, Set<State>> failedESSP = LazyMap.lazyMap(new HashMap<String, Set<State>>(),
+				FactoryUtils.prototypeFactory(new HashSet<State>()));
+
+		for (int i = 0; i < results.size(); i++) {
+			SynthesizePN result = results.get(i);
+			for (Region region : result.getSeparatingRegions()) {
+				List<BigInteger> backward = new ArrayList<>(
+						Collections.nCopies(utility.getNumberOfEvents(), BigInteger.ZERO));
+				List<BigInteger> forward = new ArrayList<>(backward);
+				for (String event : region.getRegionUtility().getEventList()) {
+					int index = utility.getEventIndex(event);
+					backward.set(index, region.getBackwardWeight(event));
+					forward.set(index, region.getForwardWeight(event));
+				}
+				regions.add(new Region.Builder(utility, backward, forward)
+						.withInitialMarking(region.getInitialMarking()));
+			}
+
+			// Two states of the product are not separated if they agree on all other factors and are not
+			// separated in this factor.
+			for (Set<State> failed : result.getFailedStateSeparationProblems()) {
+				Map<List<State>, Set<State>> groups = LazyMap.lazyMap(
+						new HashMap<List<State>, Set<State>>(),
+						FactoryUtils.prototypeFactory(new HashSet<State>()));
+				for (State state : states) {
+					if (!failed.contains(decomposition.project(i, state)))
+						continue;
+					List<State> otherFactors = new ArrayList<>();
+					for (int j = 0; j < results.size(); j++)
+						if (j != i)
+							otherFactors.add(decomposition.project(j, state));
+					groups.get(otherFactors).add(state);
+				}
+				failedSSP.addAll(groups.values());
+			}
+
+			for (Map.Entry<String, Set<State>> entry :
+					result.getFailedEventStateSeparationProblems().entrySet()) {
+				for (State state : states)
+					if (entry.getValue().contains(decomposition.project(i, state)))
+						failedESSP.get(entry.getKey()).add(state);
+			}
+		}
+
+		return new SynthesizePN(utility, properties, false, regions, failedSSP, failedESSP);
+	}
+
 	private State mapState(State state) {
 		if (stateMappingExtension == null)
 			return state;
@@ -220,200 +480,211 @@ public class SynthesizePN {
 	 * @return All states which have for at least one other state the same marking in all regions.
 	 */
 	static public Set<State> calculateUnseparatedStates(Set<State> states, Set<Region> regions) {
-		Set<State> result = new HashSet<>();
-		Set<Set<State>> partition = new HashSet<>();
-		partition.add(new HashSet<>(states));
+		if (regions.isEmpty())
+			return new HashSet<>(states);
 
 		debug("Calculating unseparated states");
-		for (Region region : regions) {
-			int discarded = 0;
-			Set<Set<State>> newPartition = new HashSet<>();
-			for (Set<State> family : partition) {
-				// Separate this family by the given region: States to which this region assigns
-				// different markings are separated.
-				Map<Integer, Set<State>> markings = LazyMap.lazyMap(new HashMap<Integer, Set<State>>(),
-						FactoryUtils.prototypeFactory(new HashSet<State>()));
-				for (State state : family) {
-					try {
-						markings.get(region.getMarkingForState(state)).add(state);
-					} catch (UnreachableException e) {
-						// Unreachable states cannot be separated, so add this to result
-						result.add(state);
-						continue;
-					}
-				}
-
-				// Now collect families of not-yet-separated states
-				for (Map.Entry<Integer, Set<State>> entry : markings.entrySet()) {
-					if (entry.getValue().size() > 1)
-						newPartition.add(entry.getValue());
-					else
-						discarded++;
-				}
-			}
-
-			partition = newPartition;
-			debug("After region ", region, ", still have ", partition.size(), " families (",
-					discarded, " resulting singular families discarded)");
-			if (partition.isEmpty())
-				break;
-		}
-
-		// All remaining states are not yet separated. Throw away the family information and return them all.
-		for (Set<State> family : partition)
-			result.addAll(family);
-
-		return result;
+		RegionUtility utility = regions.iterator().next().getRegionUtility();
+		return new SeparationIndex(utility, regions).calculateUnseparatedStates(states);
 	}
 
 	/**
 	 * Solve all instances of the state separation problem (SSP).
+	 * @param executor The executor to use for solving separation problems or null.
 	 */
-	private void solveStateSeparation() {
+	private void solveStateSeparation(ExecutorService executor) {
 		if (onlyEventSeparation)
 			return;
 
-		for (Pair<State, State> problem : new DifferentPairsIterable<State>(
-					calculateUnseparatedStates(ts.getNodes(), regions))) {
-			State state = problem.getFirst();
-			State otherState = problem.getSecond();
-			debug("Trying to separate ", state,  " from ", otherState);
-			Region r = null;
-			for (Region region : regions)
-				if (SeparationUtility.isSeparatingRegion(region, state, otherState)) {
-					r = region;
-					break;
-				}
-			if (r != null) {
-				debug("Found region ", r);
-				continue;
-			}
+		solveSeparationProblems(executor, new DifferentPairsIterable<State>(
+					calculateUnseparatedStates(ts.getNodes(), regions)),
+				new SeparationProblemKind<Pair<State, State>>() {
+					@Override
+					public boolean isSeparatingRegion(Region region, Pair<State, State> problem) {
+						return SeparationUtility.isSeparatingRegion(region, problem.getFirst(),
+								problem.getSecond());
+					}
 
-			r = separation.calculateSeparatingRegion(state, otherState);
-			if (r == null) {
-				failedStateSeparationRelation.joinClasses(mapState(state),
-						mapState(otherState));
-				debug("Failure!");
-				if (quickFail)
-					return;
-			} else {
-				debug("Calculated region ", r);
-				regions.add(r);
-			}
-		}
+					@Override
+					public Region calculateSeparatingRegion(Separation separation,
+							Pair<State, State> problem) {
+						debug("Trying to separate ", problem.getFirst(), " from ",
+								problem.getSecond());
+						return separation.calculateSeparatingRegion(problem.getFirst(),
+								problem.getSecond());
+					}
+
+					@Override
+					public void failed(Pair<State, State> problem) {
+						failedStateSeparationRelation.joinClasses(mapState(problem.getFirst()),
+								mapState(problem.getSecond()));
+					}
+				});
 	}
 
 	/**
 	 * Solve all instances of the event/state separation problem (ESSP).
+	 * @param executor The executor to use for solving separation problems or null.
 	 */
-	private void solveEventStateSeparation() {
-		Map<String, Set<State>> failedProblems = LazyMap.lazyMap(failedEventStateSeparationProblems,
+	private void solveEventStateSeparation(ExecutorService executor) {
+		final Map<String, Set<State>> failedProblems = LazyMap.lazyMap(failedEventStateSeparationProblems,
 				FactoryUtils.prototypeFactory(new HashSet<State>()));
-		for (Pair<State, String> problem : new EventStateSeparationProblems(ts)) {
-			State state = problem.getFirst();
-			String event = problem.getSecond();
-			debug("Trying to separate ", state, " from event '", event, "'");
-			Region r = null;
-			for (Region region : regions)
-				if (SeparationUtility.isSeparatingRegion(region, state, event)) {
-					r = region;
-					break;
-				}
-			if (r != null) {
-				debug("Found region ", r);
-				continue;
-			}
+		solveSeparationProblems(executor, new EventStateSeparationProblems(ts),
+				new SeparationProblemKind<Pair<State, String>>() {
+					@Override
+					public boolean isSeparatingRegion(Region region, Pair<State, String> problem) {
+						return SeparationUtility.isSeparatingRegion(region, problem.getFirst(),
+								problem.getSecond());
+					}
 
-			r = separation.calculateSeparatingRegion(state, event);
-			if (r == null) {
-				failedProblems.get(event).add(mapState(state));
-				debug("Failure!");
-				if (quickFail)
-					return;
-			} else {
-				debug("Calculated region ", r);
-				regions.add(r);
-			}
-		}
+					@Override
+					public Region calculateSeparatingRegion(Separation separation,
+							Pair<State, String> problem) {
+						debug("Trying to separate ", problem.getFirst(), " from event '",
+								problem.getSecond(), "'");
+						return separation.calculateSeparatingRegion(problem.getFirst(),
+								problem.getSecond());
+					}
+
+					@Override
+					public void failed(Pair<State, String> problem) {
+						failedProblems.get(problem.getSecond())
+							.add(mapState(problem.getFirst()));
+					}
+				});
 	}
 
 	/**
-	 * Calculate definitely required regions and for each remaining separation problem all regions which solve this
-	 * problem.
-	 * @param utility The region utility on which this function should work.
-	 * @param separationProblems For each still unsolved separation problem, the set of all regions that solve it is
-	 * calculated and added to this argument.
-	 * @param requiredRegions Regions which are definitely required will be added to this set.
-	 * @param remainingRegions Regions to choose from and if they are definitely required to move to
-	 * requiredRegions.
-	 * @param onlyEventSeparation Should state separation be ignored?
+	 * The operations that are needed for solving one kind of separation problem.
+	 * @param <P> The type describing a separation problem.
 	 */
-	static private void calculateRequiredRegionsAndProblems(RegionUtility utility,
-			Set<Set<Region>> separationProblems, Set<Region> requiredRegions, Set<Region> remainingRegions,
-			boolean onlyEventSeparation) {
-		TransitionSystem ts = utility.getTransitionSystem();
-		// Event separation
-		problemLoop:
-		for (Pair<State, String> problem : new EventStateSeparationProblems(ts)) {
-			State state = problem.getFirst();
-			String event = problem.getSecond();
-			// Does one of our required regions already solve ESSP? If so, skip
-			for (Region r : requiredRegions) {
-				if (SeparationUtility.isSeparatingRegion(r, state, event))
-					continue problemLoop;
-			}
-			// Calculate which of the remaining regions solves this ESSP instance
-			Set<Region> sep = new HashSet<>();
-			for (Region r : remainingRegions) {
-				if (SeparationUtility.isSeparatingRegion(r, state, event))
-					sep.add(r);
+	static private interface SeparationProblemKind<P> {
+		/**
+		 * Check if the given region solves the given separation problem.
+		 * @param region The region to examine.
+		 * @param problem The separation problem.
+		 * @return True if the region solves the problem.
+		 */
+		public boolean isSeparatingRegion(Region region, P problem);
+
+		/**
+		 * Calculate a region solving the given separation problem.
+		 * @param separation The separation instance to use.
+		 * @param problem The separation problem.
+		 * @return A region solving the problem or null.
+		 */
+		public Region calculateSeparatingRegion(Separation separation, P problem);
+
+		/**
+		 * Record that the given separation problem is unsolvable.
+		 * @param problem The separation problem.
+		 */
+		public void failed(P problem);
+	}
+
+	/**
+	 * Check if one of the given regions solves a separation problem.
+	 * @param kind The kind of the separation problem.
+	 * @param regions The regions to examine.
+	 * @param problem The separation problem.
+	 * @return True if one of the regions solves the problem.
+	 */
+	static private <P> boolean isSolved(SeparationProblemKind<P> kind, Collection<Region> regions, P problem) {
+		for (Region region : regions)
+			if (kind.isSeparatingRegion(region, problem)) {
+				debug("Found region ", region);
+				return true;
 			}
-			if (sep.size() == 1) {
-				// If only one region solves this problem, that region is required
-				Region r = sep.iterator().next();
-				requiredRegions.add(r);
-				remainingRegions.remove(r);
-			} else if (!sep.isEmpty())
-				separationProblems.add(sep);
-		}
+		return false;
+	}
 
-		if (onlyEventSeparation)
-			return;
+	/**
+	 * Solve the given separation problems. The problems are handled in rounds. In each round, every Separation
+	 * instance is given one of the problems that are not yet solved by any of the regions found so far. Without
+	 * an executor, there is only a single Separation instance and thus this solves one problem after another.
+	 * With an executor, the problems of a round are solved concurrently. Afterwards, the results are added in the
+	 * order of the problems and regions that became redundant due to earlier results of the same round are
+	 * discarded. Since each Separation instance sees a sequence of problems that does not depend on the
+	 * scheduling of the threads, the result is deterministic.
+	 * @param executor The executor to use for solving separation problems or null.
+	 * @param problems The separation problems to solve.
+	 * @param kind The kind of the separation problems.
+	 */
+	private <P> void solveSeparationProblems(ExecutorService executor, Iterable<P> problems,
+			final SeparationProblemKind<P> kind) {
+		Iterator<P> iterator = problems.iterator();
+		List<P> round = new ArrayList<>(separations.length);
+		List<Callable<Region>> tasks = new ArrayList<>(separations.length);
+		while (true) {
+			round.clear();
+			while (round.size() < separations.length && iterator.hasNext()) {
+				P problem = iterator.next();
+				if (!isSolved(kind, regions, problem))
+					round.add(problem);
+			}
+			if (round.isEmpty())
+				return;
 
-		// State separation
-		// All regions which are already separated by our requiredRegions can be skipped, so use
-		// calculateUnseparatedStates() to look at the rest.
-		Set<State> remainingStates = new HashSet<>(calculateUnseparatedStates(
-					utility.getTransitionSystem().getNodes(), requiredRegions));
-		Iterator<State> iterator = remainingStates.iterator();
-		while (iterator.hasNext()) {
-			State state = iterator.next();
-			iterator.remove();
-
-			innerStatesLoop:
-			for (State otherState : remainingStates) {
-				// Does one of our required regions already solve SSP? If so, skip
-				for (Region r : requiredRegions) {
-					if (SeparationUtility.isSeparatingRegion(r, state, otherState))
-						continue innerStatesLoop;
+			List<Region> results = new ArrayList<>(round.size());
+			if (executor == null) {
+				for (P problem : round)
+					results.add(kind.calculateSeparatingRegion(separations[0], problem));
+			} else {
+				tasks.clear();
+				for (int i = 0; i < round.size(); i++) {
+					final Separation separation = separations[i];
+					final P problem = round.get(i);
+					tasks.add(new Callable<Region>() {
+						@Override
+						public Region call() {
+							return kind.calculateSeparatingRegion(separation, problem);
+						}
+					});
 				}
-				// Calculate which of the remaining regions solves SSP for this instance
-				Set<Region> sep = new HashSet<>();
-				for (Region r : remainingRegions) {
-					if (SeparationUtility.isSeparatingRegion(r, state, otherState))
-						sep.add(r);
+				results.addAll(invokeAll(executor, tasks));
+			}
+
+			for (int i = 0; i < round.size(); i++) {
+				P problem = round.get(i);
+				Region r = results.get(i);
+				if (r == null) {
+					kind.failed(problem);
+					debug("Failure!");
+					if (quickFail)
+						return;
+				} else if (!isSolved(kind, regions, problem)) {
+					debug("Calculated region ", r);
+					regions.add(r);
 				}
-				if (sep.size() == 1) {
-					// If only one region solves this problem, that region is required
-					Region r = sep.iterator().next();
-					requiredRegions.add(r);
-					remainingRegions.remove(r);
-				} else if (!sep.isEmpty())
-					separationProblems.add(sep);
 			}
 		}
 	}
 
+	/**
+	 * Run all the given tasks on the executor and collect their results.
+	 * @param executor The executor to use.
+	 * @param tasks The tasks to run.
+	 * @return The results of the tasks in the same order as the tasks.
+	 */
+	static private <T> List<T> invokeAll(ExecutorService executor, List<Callable<T>> tasks) {
+		List<T> result = new ArrayList<>(tasks.size());
+		try {
+			for (Future<T> future : executor.invokeAll(tasks))
+				result.add(future.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while solving separation problems", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new RuntimeException(cause);
+		}
+		return result;
+	}
+
 	/**
 	 * Try to eliminate redundant regions.
 	 * @param utility The region utility on which this function should work.
@@ -422,32 +693,14 @@ public class SynthesizePN {
 	 */
 	static public void minimizeRegions(RegionUtility utility, Set<Region> requiredRegions,
 			boolean onlyEventSeparation) {
-		Set<Region> allRegions = Collections.unmodifiableSet(new HashSet<>(requiredRegions));
-		Set<Region> remainingRegions = new HashSet<>(requiredRegions);
-		requiredRegions.clear();
-
-		// Build a list where each entry is generated from a separation problem and contains all regions that
-		// solve this problem.
-		Set<Set<Region>> separationProblems = new HashSet<>();
-		calculateRequiredRegionsAndProblems(utility, separationProblems, requiredRegions, remainingRegions,
-				onlyEventSeparation);
-
-		debug("Required regions after first pass:");
-		debug(requiredRegions);
-		debug("List of regions that solve each remaining separation problem:");
-		debug(separationProblems);
-
-		// Now go through all remaining problems again
-		for (Set<Region> problem : separationProblems) {
-			// If none of our required regions solve this problem, we pick one arbitrarily that does
-			if (Collections.disjoint(requiredRegions, problem))
-				requiredRegions.add(problem.iterator().next());
-		}
+		int numInputRegions = requiredRegions.size();
+		Set<Region> chosen = new SeparationIndex(utility, requiredRegions).minimize(onlyEventSeparation);
+		requiredRegions.retainAll(chosen);
 
 		debug("List of required regions:");
 		debug(requiredRegions);
 		debug("Picked ", requiredRegions.size(), " required regions out of ",
-				allRegions.size(), " input regions");
+				numInputRegions, " input regions");
 	}
 
 	/**
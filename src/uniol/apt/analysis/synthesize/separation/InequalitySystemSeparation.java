@@ -21,7 +21,9 @@ package uniol.apt.analysis.synthesize.separation;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 import de.uni_freiburg.informatik.ultimate.logic.ConstantTerm;
@@ -53,6 +55,7 @@ class InequalitySystemSeparation implements Separation {
 	private final Term[] regionWeights;
 	private final Term[] regionBackwardWeights;
 	private final Term[] regionForwardWeights;
+	private final Map<State, Term> markings = new HashMap<>();
 
 	/**
 	 * Construct a new instance for solving separation problems.
@@ -137,6 +140,22 @@ class InequalitySystemSeparation implements Separation {
 		return r;
 	}
 
+	/**
+	 * Get a term describing the marking of the given state in the region that is calculated. The term is only
+	 * built once per state and then reused for all following separation problems.
+	 * @param state The state whose marking should be described.
+	 * @return A term describing the marking of the state.
+	 * @throws UnreachableException if the given state is unreachable.
+	 */
+	private Term getMarking(State state) throws UnreachableException {
+		Term result = markings.get(state);
+		if (result == null) {
+			result = helper.evaluateReachingParikhVector(regionInitialMarking, regionWeights, state);
+			markings.put(state, result);
+		}
+		return result;
+	}
+
 	/**
 	 * Get a region solving some separation problem.
 	 * @param state The first state of the separation problem
@@ -149,17 +168,21 @@ class InequalitySystemSeparation implements Separation {
 		if (!utility.getSpanningTree().isReachable(state) || !utility.getSpanningTree().isReachable(otherState))
 			return null;
 
+		Term term1, term2;
+		try {
+			term1 = getMarking(state);
+			term2 = getMarking(otherState);
+		} catch (UnreachableException e) {
+			throw new AssertionError("Made sure state is reachable, but still it isn't?!", e);
+		}
+
 		script.push(1);
 		try {
 			// We want r_S(s) != r_S(s'). Since for each region there exists a complementary region (we are
 			// only looking at the bounded case!), we can require r_S(s) < r_S(s')
-			Term term1 = helper.evaluateReachingParikhVector(regionInitialMarking, regionWeights, state);
-			Term term2 = helper.evaluateReachingParikhVector(regionInitialMarking, regionWeights, otherState);
 			script.assertTerm(script.term("<", term1, term2));
 
 			return regionFromSolution();
-		} catch (UnreachableException e) {
-			throw new AssertionError("Made sure state is reachable, but still it isn't?!", e);
 		} finally {
 			script.pop(1);
 		}
@@ -177,14 +200,19 @@ class InequalitySystemSeparation implements Separation {
 		if (!utility.getSpanningTree().isReachable(state))
 			return null;
 
+		Term marking;
+		try {
+			marking = getMarking(state);
+		} catch (UnreachableException e) {
+			throw new AssertionError("Made sure state is reachable, but still it isn't?!", e);
+		}
+
 		script.push(1);
 		try {
 			final int eventIndex = utility.getEventIndex(event);
 
 			// Each state must be reachable in the resulting region, but event 'event' should be disabled
 			// in state. We want -1 >= r_S(s) - r_B(event)
-			Term marking = helper.evaluateReachingParikhVector(regionInitialMarking, regionWeights, state);
-
 			Term term;
 			if (properties.isPure()) {
 				// In the pure case, in the above -r_B(event) is replaced with +r_E(event). Since all
@@ -197,8 +225,6 @@ class InequalitySystemSeparation implements Separation {
 
 			script.assertTerm(script.term(">", script.numeral(BigInteger.ZERO), term));
 			return regionFromSolution();
-		} catch (UnreachableException e) {
-			throw new AssertionError("Made sure state is reachable, but still it isn't?!", e);
 		} finally {
 			script.pop(1);
 		}
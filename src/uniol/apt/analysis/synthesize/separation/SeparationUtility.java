@@ -158,6 +158,20 @@ public final class SeparationUtility {
 	 */
 	static public Separation createSeparationInstance(RegionUtility utility, PNProperties properties)
 			throws MissingLocationException {
+		return createSeparationInstance(utility, properties, false);
+	}
+
+	/**
+	 * Construct a new Separation instance.
+	 * @param utility The region utility to use.
+	 * @param properties Properties that the calculated region should satisfy.
+	 * @param useSimplexSolver If true, separation problems are solved with an integer simplex solver instead of
+	 * SMTInterpol.
+	 * @return A suitable Separation instance
+	 * @throws MissingLocationException if the transition system for the utility has locations for only some events
+	 */
+	static public Separation createSeparationInstance(RegionUtility utility, PNProperties properties,
+			boolean useSimplexSolver) throws MissingLocationException {
 		String[] locationMap = getLocationMap(utility, properties);
 		Separation result = null;
 
@@ -170,6 +184,8 @@ public final class SeparationUtility {
 		} catch (UnsupportedPNPropertiesException e) {
 			// Ignore, try the other implementations
 		}
+		if (useSimplexSolver && result == null)
+			result = new SimplexSeparation(utility, properties, locationMap);
 		try {
 			if (result == null)
 				result = new BasicPureSeparation(utility, properties, locationMap);
@@ -0,0 +1,490 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize.separation;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.analysis.synthesize.PNProperties;
+import uniol.apt.analysis.synthesize.Region;
+import uniol.apt.analysis.synthesize.RegionUtility;
+import uniol.apt.analysis.synthesize.UnreachableException;
+import uniol.apt.util.equations.InequalitySystem;
+import uniol.apt.util.equations.SimplexInequalitySystemSolver;
+
+import static uniol.apt.util.DebugUtil.debug;
+
+/**
+ * Helper class for solving separation problems. This class describes regions via the same inequalities as {@link
+ * InequalitySystemSeparation}, but solves them with {@link SimplexInequalitySystemSolver} instead of SMTInterpol.
+ *
+ * The variables of the inequality system are the initial marking of the region followed by the backward and the
+ * forward weights of all events. For pure regions, the effective weights of all events are used instead. This avoids
+ * having to describe the backward and forward weights of a pure region as piecewise functions of the effective weight.
+ */
+class SimplexSeparation implements Separation {
+	private final RegionUtility utility;
+	private final PNProperties properties;
+	private final String[] locationMap;
+	private final int numberEvents;
+	private final int numberVariables;
+	private final SimplexInequalitySystemSolver solver = new SimplexInequalitySystemSolver();
+
+	/**
+	 * Construct a new instance for solving separation problems.
+	 * @param utility The region utility to use.
+	 * @param properties Properties that the calculated region should satisfy.
+	 * @param locationMap Mapping that describes the location of each event.
+	 */
+	public SimplexSeparation(RegionUtility utility, PNProperties properties, String[] locationMap) {
+		this.utility = utility;
+		this.properties = properties;
+		this.locationMap = locationMap;
+		this.numberEvents = utility.getNumberOfEvents();
+		this.numberVariables = 1 + (properties.isPure() ? 1 : 2) * numberEvents;
+
+		// ON is handled in SeparationUtility by messing with the locationMap
+		assert !properties.isOutputNonbranching();
+
+		solver.assertDisjunction(requireRegion());
+		requireDistributableNet();
+		if (properties.isConflictFree())
+			requireConflictFree();
+		if (properties.isTNet() || properties.isMarkedGraph()) {
+			requireTNetOrMarkedGraph(true);
+			requireTNetOrMarkedGraph(false);
+		}
+	}
+
+	private BigInteger[] zero() {
+		BigInteger[] result = new BigInteger[numberVariables];
+		Arrays.fill(result, BigInteger.ZERO);
+		return result;
+	}
+
+	private int backwardWeightVariable(int event) {
+		assert !properties.isPure();
+		return 1 + event;
+	}
+
+	private int forwardWeightVariable(int event) {
+		assert !properties.isPure();
+		return 1 + numberEvents + event;
+	}
+
+	private int weightVariable(int event) {
+		assert properties.isPure();
+		return 1 + event;
+	}
+
+	/**
+	 * Add a multiple of the effective weight of an event to the given linear form.
+	 * @param form The linear form to modify.
+	 * @param event The index of the event.
+	 * @param factor The factor for the weight.
+	 */
+	private void addWeight(BigInteger[] form, int event, BigInteger factor) {
+		if (properties.isPure()) {
+			int var = weightVariable(event);
+			form[var] = form[var].add(factor);
+		} else {
+			int backward = backwardWeightVariable(event);
+			int forward = forwardWeightVariable(event);
+			form[backward] = form[backward].subtract(factor);
+			form[forward] = form[forward].add(factor);
+		}
+	}
+
+	/**
+	 * Get the linear form describing the effect of the given Parikh vector.
+	 * @param pv The Parikh vector to evaluate.
+	 * @return The linear form.
+	 */
+	private BigInteger[] evaluateParikhVector(List<BigInteger> pv) {
+		assert pv.size() == numberEvents;
+		BigInteger[] result = zero();
+		for (int event = 0; event < numberEvents; event++)
+			addWeight(result, event, pv.get(event));
+		return result;
+	}
+
+	/**
+	 * Get the linear form describing the marking of the given state.
+	 * @param state The state whose marking should be calculated.
+	 * @return The linear form.
+	 * @throws UnreachableException if the given state is unreachable.
+	 */
+	private BigInteger[] evaluateReachingParikhVector(State state) throws UnreachableException {
+		BigInteger[] result = evaluateParikhVector(utility.getReachingParikhVector(state));
+		result[0] = BigInteger.ONE;
+		return result;
+	}
+
+	/**
+	 * Get an inequality system describing regions.
+	 * @return The inequality system.
+	 */
+	private InequalitySystem requireRegion() {
+		InequalitySystem system = new InequalitySystem();
+
+		// Cycles must reach the same marking again
+		Set<List<BigInteger>> parikhVectorsOfCycles = new HashSet<>();
+		for (Arc chord : utility.getSpanningTree().getChords()) {
+			try {
+				parikhVectorsOfCycles.add(utility.getParikhVectorForEdge(chord));
+			} catch (UnreachableException e) {
+				throw new RuntimeException("Chords of a spanning tree cannot belong to "
+						+ "unreachable states?!", e);
+			}
+		}
+		for (List<BigInteger> pv : parikhVectorsOfCycles)
+			system.addInequality(0, "=", Arrays.asList(evaluateParikhVector(pv)),
+					"Cycle with Parikh vector " + pv);
+
+		// Each arc must be enabled
+		for (Arc arc : utility.getTransitionSystem().getEdges()) {
+			int event = utility.getEventIndex(arc.getLabel());
+			BigInteger[] marking;
+			try {
+				marking = evaluateReachingParikhVector(arc.getSource());
+			} catch (UnreachableException e) {
+				// Just ignore unreachable arcs
+				continue;
+			}
+			if (properties.isPure()) {
+				// The backward weight is max(0, -w), so both the marking before and after the arc must
+				// not be negative
+				system.addInequality(0, "<=", Arrays.asList(marking), "Enabled before " + arc);
+				addWeight(marking, event, BigInteger.ONE);
+				system.addInequality(0, "<=", Arrays.asList(marking), "Enabled after " + arc);
+			} else {
+				int var = backwardWeightVariable(event);
+				marking[var] = marking[var].subtract(BigInteger.ONE);
+				system.addInequality(0, "<=", Arrays.asList(marking), "Enabled " + arc);
+			}
+		}
+
+		// Some variables must not be negative
+		for (int var = 0; var < (properties.isPure() ? 1 : numberVariables); var++) {
+			BigInteger[] form = zero();
+			form[var] = BigInteger.ONE;
+			system.addInequality(0, "<=", Arrays.asList(form), "Variable " + var + " is not negative");
+		}
+
+		if (properties.isKBounded()) {
+			int k = properties.getKForKBounded();
+			for (State state : utility.getTransitionSystem().getNodes()) {
+				BigInteger[] marking;
+				try {
+					marking = evaluateReachingParikhVector(state);
+				} catch (UnreachableException e) {
+					continue;
+				}
+				system.addInequality(k, ">=", Arrays.asList(marking), k + "-bounded in " + state);
+			}
+		}
+
+		// Our definition of conflict-free requires plainness
+		if (properties.isPlain() || properties.isConflictFree()) {
+			for (int event = 0; event < numberEvents; event++) {
+				if (properties.isPure()) {
+					BigInteger[] form = zero();
+					form[weightVariable(event)] = BigInteger.ONE;
+					system.addInequality(1, ">=", Arrays.asList(form), "Plain for event " + event);
+					system.addInequality(-1, "<=", Arrays.asList(form), "Plain for event " + event);
+				} else {
+					BigInteger[] form = zero();
+					form[backwardWeightVariable(event)] = BigInteger.ONE;
+					system.addInequality(1, ">=", Arrays.asList(form), "Plain for event " + event);
+					form = zero();
+					form[forwardWeightVariable(event)] = BigInteger.ONE;
+					system.addInequality(1, ">=", Arrays.asList(form), "Plain for event " + event);
+				}
+			}
+		}
+
+		return system;
+	}
+
+	/**
+	 * Add inequalities to the given system which guarantee that the given events do not consume token.
+	 * @param system The system to modify.
+	 * @param events The events that should not consume token.
+	 * @return false if there are no such events and thus nothing was added.
+	 */
+	private boolean requireNoConsumers(InequalitySystem system, List<Integer> events) {
+		if (events.isEmpty())
+			return false;
+		if (properties.isPure()) {
+			// The backward weight is zero if the effective weight is not negative
+			for (int event : events) {
+				BigInteger[] form = zero();
+				form[weightVariable(event)] = BigInteger.ONE;
+				system.addInequality(0, "<=", Arrays.asList(form), "No consumer: " + event);
+			}
+		} else {
+			// Backward weights are not negative, so their sum is zero iff each of them is zero
+			BigInteger[] form = zero();
+			for (int event : events)
+				form[backwardWeightVariable(event)] = BigInteger.ONE;
+			system.addInequality(0, "=", Arrays.asList(form), "Events " + events + " are no consumers");
+		}
+		return true;
+	}
+
+	/**
+	 * Add the needed inequalities to guarantee that a distributable Petri Net region is calculated.
+	 */
+	private void requireDistributableNet() {
+		Set<String> locations = new HashSet<>(Arrays.asList(locationMap));
+		locations.remove(null);
+		if (locations.isEmpty())
+			// No locations specified
+			return;
+
+		List<InequalitySystem> disjunction = new ArrayList<>();
+		for (String location : locations) {
+			// Only events having location "location" may consume token.
+			List<Integer> otherEvents = new ArrayList<>();
+			for (int event = 0; event < numberEvents; event++)
+				if (locationMap[event] != null && !locationMap[event].equals(location))
+					otherEvents.add(event);
+
+			InequalitySystem system = new InequalitySystem();
+			if (!requireNoConsumers(system, otherEvents))
+				// This alternative is always satisfied
+				return;
+			disjunction.add(system);
+		}
+		solver.assertDisjunction(disjunction.toArray(new InequalitySystem[disjunction.size()]));
+	}
+
+	/**
+	 * Add the necessary inequalities for a conflict free solution.
+	 */
+	private void requireConflictFree() {
+		if (numberEvents == 0)
+			return;
+
+		// Conflict free: Either there is just a single transition consuming token...
+		// (And thus this automatically satisfies any distribution)
+		List<InequalitySystem> disjunction = new ArrayList<>();
+		for (int event = 0; event < numberEvents; event++) {
+			List<Integer> otherEvents = new ArrayList<>();
+			for (int other = 0; other < numberEvents; other++)
+				if (other != event)
+					otherEvents.add(other);
+
+			InequalitySystem system = new InequalitySystem();
+			if (!requireNoConsumers(system, otherEvents))
+				// This alternative is always satisfied
+				return;
+			disjunction.add(system);
+		}
+
+		// ...or the preset is contained in the postset
+		// (Note that this only works because we require plainness)
+		InequalitySystem system = new InequalitySystem();
+		for (int event = 0; event < numberEvents; event++) {
+			BigInteger[] form = zero();
+			addWeight(form, event, BigInteger.ONE);
+			system.addInequality(0, "<=", Arrays.asList(form), "Event " + event + " does not consume");
+		}
+		disjunction.add(system);
+
+		solver.assertDisjunction(disjunction.toArray(new InequalitySystem[disjunction.size()]));
+	}
+
+	/**
+	 * Add the needed inequalities so that the system may only produce T-Net/marked graph regions. This must be
+	 * called for both the presets and postsets.
+	 * @param preset If this is true, the presets are restricted, else the postsets.
+	 */
+	private void requireTNetOrMarkedGraph(boolean preset) {
+		if (numberEvents == 0)
+			return;
+
+		String verb = preset ? "consume" : "produce";
+		List<InequalitySystem> disjunction = new ArrayList<>();
+		for (int event = 0; event < numberEvents; event++) {
+			InequalitySystem system = new InequalitySystem();
+			if (properties.isPure()) {
+				// Weights of the other events may only have the sign of the allowed direction
+				for (int other = 0; other < numberEvents; other++) {
+					if (other == event)
+						continue;
+					BigInteger[] form = zero();
+					form[weightVariable(other)] = BigInteger.ONE;
+					system.addInequality(0, preset ? "<=" : ">=", Arrays.asList(form),
+							"Event " + other + " does not " + verb);
+				}
+				if (properties.isMarkedGraph()) {
+					BigInteger[] form = zero();
+					form[weightVariable(event)] = BigInteger.ONE;
+					system.addInequality(0, preset ? ">" : "<", Arrays.asList(form),
+							"Event " + event + " must " + verb);
+				}
+			} else {
+				BigInteger[] form = zero();
+				for (int other = 0; other < numberEvents; other++) {
+					int var = preset ? backwardWeightVariable(other) : forwardWeightVariable(other);
+					if (other != event)
+						form[var] = BigInteger.ONE;
+				}
+				if (numberEvents > 1)
+					system.addInequality(0, "=", Arrays.asList(form),
+							"Only event " + event + " may " + verb);
+				if (properties.isMarkedGraph()) {
+					form = zero();
+					form[preset ? backwardWeightVariable(event) : forwardWeightVariable(event)]
+						= BigInteger.ONE;
+					system.addInequality(0, "<", Arrays.asList(form),
+							"Event " + event + " must " + verb);
+				}
+			}
+
+			if (system.isEmpty())
+				// This alternative is always satisfied
+				return;
+			disjunction.add(system);
+		}
+		solver.assertDisjunction(disjunction.toArray(new InequalitySystem[disjunction.size()]));
+	}
+
+	static private BigInteger getValue(List<BigInteger> solution, int var) {
+		// The solver omits trailing variables which do not appear in the system
+		if (var < solution.size())
+			return solution.get(var);
+		return BigInteger.ZERO;
+	}
+
+	/**
+	 * Try to get a region from the solver.
+	 * @return A region or null.
+	 */
+	private Region regionFromSolution() {
+		List<BigInteger> solution = solver.findSolution();
+		if (solution.isEmpty())
+			return null;
+
+		Region.Builder builder;
+		if (properties.isPure()) {
+			List<BigInteger> weights = new ArrayList<>();
+			for (int event = 0; event < numberEvents; event++)
+				weights.add(getValue(solution, weightVariable(event)));
+			builder = Region.Builder.createPure(utility, weights);
+		} else {
+			List<BigInteger> backwardWeight = new ArrayList<>();
+			List<BigInteger> forwardWeight = new ArrayList<>();
+			for (int event = 0; event < numberEvents; event++) {
+				backwardWeight.add(getValue(solution, backwardWeightVariable(event)));
+				forwardWeight.add(getValue(solution, forwardWeightVariable(event)));
+			}
+			builder = new Region.Builder(utility, backwardWeight, forwardWeight);
+		}
+		Region r = builder.withInitialMarking(getValue(solution, 0));
+		debug("region: ", r);
+
+		return r;
+	}
+
+	/**
+	 * Get a region solving some separation problem.
+	 * @param state The first state of the separation problem
+	 * @param otherState The second state of the separation problem
+	 * @return A region solving the problem or null.
+	 */
+	@Override
+	public Region calculateSeparatingRegion(State state, State otherState) {
+		// Unreachable states cannot be separated
+		if (!utility.getSpanningTree().isReachable(state) || !utility.getSpanningTree().isReachable(otherState))
+			return null;
+
+		solver.push();
+		try {
+			// We want r_S(s) != r_S(s'). Since for each region there exists a complementary region (we are
+			// only looking at the bounded case!), we can require r_S(s) < r_S(s')
+			BigInteger[] marking = evaluateReachingParikhVector(state);
+			BigInteger[] otherMarking = evaluateReachingParikhVector(otherState);
+			BigInteger[] form = zero();
+			for (int var = 0; var < numberVariables; var++)
+				form[var] = otherMarking[var].subtract(marking[var]);
+
+			InequalitySystem system = new InequalitySystem();
+			system.addInequality(0, "<", Arrays.asList(form), "Separate " + state + " and " + otherState);
+			solver.assertDisjunction(system);
+
+			return regionFromSolution();
+		} catch (UnreachableException e) {
+			throw new AssertionError("Made sure state is reachable, but still it isn't?!", e);
+		} finally {
+			solver.pop();
+		}
+	}
+
+	/**
+	 * Get a region solving some separation problem.
+	 * @param state The state of the separation problem
+	 * @param event The event of the separation problem
+	 * @return A region solving the problem or null.
+	 */
+	@Override
+	public Region calculateSeparatingRegion(State state, String event) {
+		// Unreachable states cannot be separated
+		if (!utility.getSpanningTree().isReachable(state))
+			return null;
+
+		solver.push();
+		try {
+			final int eventIndex = utility.getEventIndex(event);
+
+			// Each state must be reachable in the resulting region, but event 'event' should be disabled
+			// in state. We want -1 >= r_S(s) - r_B(event)
+			BigInteger[] form = evaluateReachingParikhVector(state);
+			if (properties.isPure()) {
+				// In the pure case, in the above -r_B(event) is replaced with +r_E(event). Since all
+				// states must be reachable, this makes sure that r_E(event) really is negative and thus
+				// the resulting region solves ESSP.
+				addWeight(form, eventIndex, BigInteger.ONE);
+			} else {
+				int var = backwardWeightVariable(eventIndex);
+				form[var] = form[var].subtract(BigInteger.ONE);
+			}
+
+			InequalitySystem system = new InequalitySystem();
+			system.addInequality(0, ">", Arrays.asList(form), "Separate " + state + " and " + event);
+			solver.assertDisjunction(system);
+
+			return regionFromSolution();
+		} catch (UnreachableException e) {
+			throw new AssertionError("Made sure state is reachable, but still it isn't?!", e);
+		} finally {
+			solver.pop();
+		}
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
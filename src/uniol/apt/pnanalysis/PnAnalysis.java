@@ -33,6 +33,7 @@ import uniol.apt.adt.ts.TransitionSystem;
 import uniol.apt.analysis.coverability.CoverabilityGraph;
 import uniol.apt.analysis.exception.PreconditionFailedException;
 import uniol.apt.analysis.exception.UnboundedException;
+import uniol.apt.analysis.isomorphism.ColorRefinement;
 import uniol.apt.analysis.isomorphism.IsomorphismLogic;
 import uniol.apt.analysis.isomorphism.IsomorphismLogic.ExtendedState;
 import uniol.apt.analysis.persistent.PersistentTS;
@@ -104,11 +105,13 @@ public class PnAnalysis {
 		}
 
 		int maxTokens = (k == null) ? 10 : k;
+		// Candidates whose reachability graph has a different hash cannot be isomorphic
+		long hash = new ColorRefinement(reachabilitylts1, false).getHash();
 		// Step 2a: Check reachability graph of a randomly selected T-System for
 		// isomorphie
 		if (randomly) {
 			PetriNet tSystem = RandomTNetGenerator.createRandomTSystem(g, k);
-			if (isIsomorphic(reachabilitylts1, tSystem)) {
+			if (isIsomorphic(reachabilitylts1, hash, tSystem)) {
 				return tSystem;
 			} else {
 				return null;
@@ -122,7 +125,7 @@ public class PnAnalysis {
 			reachabilitylts1.getInitialState().getPostsetEdges().size());
 		while (iteratorCycleTNets.hasNext()) {
 			PetriNet tSystem = iteratorCycleTNets.next();
-			if (isIsomorphic(reachabilitylts1, tSystem)) {
+			if (isIsomorphic(reachabilitylts1, hash, tSystem)) {
 				return tSystem;
 			}
 		}
@@ -130,7 +133,7 @@ public class PnAnalysis {
 		for (PetriNet tNet : new TNetGenerator(g, false)) {
 			if (!new SNet(tNet).testPlainSNet()) {
 				for (PetriNet tSystem : new MarkingNetGenerator(tNet, maxTokens)) {
-					if (isIsomorphic(reachabilitylts1, tSystem)) {
+					if (isIsomorphic(reachabilitylts1, hash, tSystem)) {
 						return tSystem;
 					}
 				}
@@ -143,13 +146,14 @@ public class PnAnalysis {
 	 * Check if the reachability graph of the given Petri net is isomorph to the reachability graph of a T-system.
 	 * <p/>
 	 * @param t1      the reachability graph of the given Petri net
+	 * @param hash    the hash of t1 as computed by {@link ColorRefinement} without checking labels
 	 * @param tSystem the T-system, for which the reachability graph is checked for isomorphie
 	 * <p/>
 	 * @return true, if the reachability graphs are isomorph, otherwise false
 	 * <p/>
 	 * @throws UnboundedException is thrown, if the T-system is unbounded.
 	 */
-	private boolean isIsomorphic(TransitionSystem t1, PetriNet tSystem) throws UnboundedException {
+	private boolean isIsomorphic(TransitionSystem t1, long hash, PetriNet tSystem) throws UnboundedException {
 		CoverabilityGraph coverTSystem = CoverabilityGraph.get(tSystem);
 		TransitionSystem reachabilitylts2;
 		try {
@@ -157,6 +161,10 @@ public class PnAnalysis {
 		} catch (UnboundedException e) {
 			return false;
 		}
+		if (t1.getNodes().size() != reachabilitylts2.getNodes().size()
+				|| new ColorRefinement(reachabilitylts2, false).getHash() != hash) {
+			return false;
+		}
 		IsomorphismLogic iso = new IsomorphismLogic(t1, reachabilitylts2, false);
 		if (iso.isIsomorphic()) {
 			// Adjust Labels of T-System, to check if strong isomorphic solution
@@ -90,6 +90,25 @@ public class MathTools {
 		}
 	}
 
+	/**
+	 * Calculates the gcd of two longs.
+	 * <p/>
+	 * @param a - first long for calculating the gcd.
+	 * @param b - second long for calculating the gcd.
+	 * <p/>
+	 * @return the non-negative gcd of the two given longs.
+	 */
+	public static long gcd(long a, long b) {
+		a = Math.abs(a);
+		b = Math.abs(b);
+		while (b != 0) {
+			long tmp = a % b;
+			a = b;
+			b = tmp;
+		}
+		return a;
+	}
+
 	/**
 	 * Calculates the mathematical modulo, so that it's given the positive value.
 	 * <p/>
@@ -101,6 +120,60 @@ public class MathTools {
 	public static int mod(int a, int b) {
 		return BigInteger.valueOf(a).mod(BigInteger.valueOf(b)).intValue();
 	}
+
+	/**
+	 * Adds two longs and checks for overflow.
+	 * <p/>
+	 * @param a - first summand.
+	 * @param b - second summand.
+	 * <p/>
+	 * @return the sum of a and b.
+	 * <p/>
+	 * @throws ArithmeticException if the result does not fit into a long.
+	 */
+	public static long addExact(long a, long b) {
+		long result = a + b;
+		// Overflow happened iff both arguments have the same sign and the result has a different sign
+		if (((a ^ result) & (b ^ result)) < 0)
+			throw new ArithmeticException("long overflow");
+		return result;
+	}
+
+	/**
+	 * Multiplies two longs and checks for overflow.
+	 * <p/>
+	 * @param a - first factor.
+	 * @param b - second factor.
+	 * <p/>
+	 * @return the product of a and b.
+	 * <p/>
+	 * @throws ArithmeticException if the result does not fit into a long.
+	 */
+	public static long multiplyExact(long a, long b) {
+		long result = a * b;
+		// Products of numbers that fit into 31 bits cannot overflow
+		if (((Math.abs(a) | Math.abs(b)) >>> 31) != 0) {
+			if ((b != 0 && result / b != a) || (a == Long.MIN_VALUE && b == -1))
+				throw new ArithmeticException("long overflow");
+		}
+		return result;
+	}
+
+	/**
+	 * Checks that a long is not Long.MIN_VALUE. This value cannot be negated, so calculations that need to negate
+	 * their intermediate results treat it as an overflow.
+	 * <p/>
+	 * @param value - the value to check.
+	 * <p/>
+	 * @return the given value.
+	 * <p/>
+	 * @throws ArithmeticException if the value is Long.MIN_VALUE.
+	 */
+	public static long checkNotMinValue(long value) {
+		if (value == Long.MIN_VALUE)
+			throw new ArithmeticException("long overflow");
+		return value;
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -20,16 +20,17 @@
 package uniol.apt.util.equations;
 
 import java.io.StringWriter;
-import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import uniol.apt.util.MathTools;
+
 import static uniol.apt.util.DebugUtil.debug;
 
 /**
@@ -38,200 +39,44 @@ import static uniol.apt.util.DebugUtil.debug;
  */
 public class EquationSystem {
 	private final int numVariables;
-	private final Collection<List<BigInteger>> equations = new HashSet<>();
-
-	private static class EquationSystemSolver {
-		// Algorithm 4 from "Petri Net Synthesis" by Badouel, Bernardinello and Darondeau, page 190
-
-		// The invariant of the algorithm is:
-		// There exists some y so that x = equations1 * y and equations2 * y = 0.
-		// So each equation in the equations has variables y_0 to y_{n-1}
-		private final List<List<BigInteger>> equations1 = new ArrayList<>();
-		private final List<List<BigInteger>> equations2 = new ArrayList<>();
-
-		private final int numVariables;
-
-		EquationSystemSolver(int numVariables, Collection<List<BigInteger>> equations) {
-			this.numVariables = numVariables;
-
-			// Input equations, but x_i is substituted with y_i
-			equations2.addAll(equations);
+	private final Collection<Equation> equations = new HashSet<>();
 
-			for (int i = 0; i < numVariables; i++) {
-				// Set x_i = y_i in equations1
-				List<BigInteger> equation = new ArrayList<>(numVariables);
-				for (int j = 0; j < numVariables; j++) {
-					equation.add(j == i ? BigInteger.ONE : BigInteger.ZERO);
+	/**
+	 * An equation in sparse form. Only the non-zero coefficients are saved, ordered by their variable index.
+	 */
+	static private final class Equation {
+		private final int[] variables;
+		private final BigInteger[] coefficients;
+		// The same coefficients as longs or null if one of them does not fit into a long
+		private final long[] longCoefficients;
+
+		Equation(int[] variables, BigInteger[] coefficients) {
+			this.variables = variables;
+			this.coefficients = coefficients;
+
+			long[] longs = new long[coefficients.length];
+			for (int i = 0; i < coefficients.length; i++) {
+				if (coefficients[i].bitLength() >= 63) {
+					longs = null;
+					break;
 				}
-				equations1.add(equation);
+				longs[i] = coefficients[i].longValue();
 			}
+			this.longCoefficients = longs;
 		}
 
-		public List<List<BigInteger>> solve() {
-			debug("solve called");
-			debug("============");
-
-			while (!equations2.isEmpty()) {
-				debug("New round");
-				debug(equations1);
-				debug(equations2);
-				debug();
-
-				// Get an equation and ensure it only has non-negative coefficients
-				List<BigInteger> equation = equations2.get(0);
-				for (int i = 0; i < numVariables; i++) {
-					if (equation.get(i).compareTo(BigInteger.ZERO) < 0)
-						invertVariableY(i);
-				}
-
-				// "Reduce" the equation to a single, non-zero coefficient
-				// TODO: Baaaaad performance
-				while (true) {
-					boolean restart = false;
-
-					// Find two coefficients with 0 < lambda_i <= lambda_j
-					for (int i = 0; i < numVariables; i++) {
-						BigInteger lambdai = equation.get(i);
-						if (lambdai.equals(BigInteger.ZERO))
-							continue;
-						for (int j = i + 1; j < numVariables; j++) {
-							BigInteger lambdaj = equation.get(j);
-							if (lambdaj.equals(BigInteger.ZERO))
-								continue;
-
-							// Swap the two equations if necessary
-							if (lambdaj.compareTo(lambdai) < 0) {
-								int tmp1 = i;
-								i = j;
-								j = tmp1;
-
-								BigInteger tmp2 = lambdai;
-								lambdai = lambdaj;
-								lambdaj = tmp2;
-							}
-
-							// Substitute y_j -> y_j - floor(lambda_j / lambda_i) * y_i
-							BigDecimal a = new BigDecimal(lambdaj);
-							BigDecimal b = new BigDecimal(lambdai);
-							BigDecimal result = a.divide(b, RoundingMode.FLOOR);
-							substituteVariable(j, result.toBigIntegerExact().negate(), i);
-							restart = true;
-							break;
-						}
-						if (restart)
-							break;
-					}
-
-					// We didn't find two non-zero coefficients, so at most a single one is left
-					if (!restart)
-						break;
-				}
-				debug(equations1);
-				debug(equations2);
-				debug();
-
-				removeRedundancy();
-			}
-
-			debug("Result:");
-			debug(equations1);
-
-			return Collections.unmodifiableList(equations1);
+		@Override
+		public int hashCode() {
+			return 31 * Arrays.hashCode(variables) + Arrays.hashCode(coefficients);
 		}
 
-		/**
-		 * Simplify equations2 by removing simple forms of redundancy.
-		 * This handles equations of the form k*y_i = 0 and 0 = 0.
-		 */
-		private void removeRedundancy() {
-			// For all equations k*y_i = 0 with k!=0 in equations2, remove this equation and remove
-			// variable y_i (since it must be zero)
-			for (int i = 0; i < equations2.size(); i++) {
-				Integer nonZeroIndex = null;
-				List<BigInteger> equation = equations2.get(i);
-
-				for (int j = 0; j < numVariables; j++) {
-					if (equation.get(j).equals(BigInteger.ZERO))
-						continue;
-					if (nonZeroIndex == null) {
-						nonZeroIndex = j;
-					} else {
-						nonZeroIndex = null;
-						break;
-					}
-				}
-
-				if (nonZeroIndex != null) {
-					equations2.remove(i--);
-					removeVariable(nonZeroIndex);
-				}
-			}
-
-			// Eliminate redundant equations or the trivial equation 0=0 from E2
-			for (int i = 0; i < equations2.size(); i++) {
-				List<BigInteger> equation = equations2.get(i);
-				boolean found = false;
-
-				for (int j = 0; j < numVariables; j++)
-					if (!equation.get(j).equals(BigInteger.ZERO)) {
-						found = true;
-						break;
-					}
-
-				if (!found)
-					equations2.remove(i--);
-			}
-		}
-
-		/**
-		 * Invert variable y_j in all equations.
-		 */
-		private void invertVariableY(int j) {
-			debug("Inverting variable y_", j);
-			for (int i = 0; i < equations1.size(); i++) {
-				List<BigInteger> equation = equations1.get(i);
-				equation.set(j, equation.get(j).negate());
-			}
-			for (int i = 0; i < equations2.size(); i++) {
-				List<BigInteger> equation = equations2.get(i);
-				equation.set(j, equation.get(j).negate());
-			}
-		}
-
-		/**
-		 * Remove variable y_j from all equations.
-		 */
-		private void removeVariable(int j) {
-			debug("Removing variable y_", j);
-			for (int i = 0; i < equations1.size(); i++)
-				equations1.get(i).set(j, BigInteger.ZERO);
-			for (int i = 0; i < equations2.size(); i++)
-				equations2.get(i).set(j, BigInteger.ZERO);
-		}
-
-		/**
-		 * Substitute variable y_variableIndex with y_variableIndex + factor * y_addendIndex in all equations.
-		 */
-		private void substituteVariable(int variableIndex, BigInteger factor, int addendIndex) {
-			debug("Substituting variable y_", variableIndex, " with y_", variableIndex, " + ",
-					factor, " * y_", addendIndex);
-			for (int i = 0; i < equations1.size(); i++)
-				substituteVariable(equations1.get(i), variableIndex, factor, addendIndex);
-			for (int i = 0; i < equations2.size(); i++)
-				substituteVariable(equations2.get(i), variableIndex, factor, addendIndex);
-		}
-
-		/**
-		 * Substitute variable y_variableIndex with y_variableIndex + factor * y_addendIndex in the given
-		 * equation.
-		 */
-		private static void substituteVariable(List<BigInteger> equation, int variableIndex, BigInteger factor,
-				int addendIndex) {
-			BigInteger addend = equation.get(addendIndex);
-			BigInteger variableValue = equation.get(variableIndex);
-			// newValue = variableValue + factor * addend
-			BigInteger newValue = variableValue.add(factor.multiply(addend));
-			equation.set(variableIndex, newValue);
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Equation))
+				return false;
+			Equation other = (Equation) obj;
+			return Arrays.equals(variables, other.variables)
+				&& Arrays.equals(coefficients, other.coefficients);
 		}
 	}
 
@@ -252,10 +97,10 @@ public class EquationSystem {
 	 */
 	public void addEquation(int... coefficients) {
 		assert coefficients.length == numVariables;
-		ArrayList<BigInteger> row = new ArrayList<>(numVariables);
+		List<BigInteger> row = new ArrayList<>(numVariables);
 		for (int i = 0; i < coefficients.length; i++)
 			row.add(BigInteger.valueOf(coefficients[i]));
-		equations.add(row);
+		addEquation(row);
 	}
 
 	/**
@@ -265,62 +110,303 @@ public class EquationSystem {
 	 */
 	public void addEquation(Collection<BigInteger> coefficients) {
 		assert coefficients.size() == numVariables;
-		ArrayList<BigInteger> row = new ArrayList<>(coefficients);
-		equations.add(row);
+		int size = 0;
+		int[] variables = new int[numVariables];
+		BigInteger[] values = new BigInteger[numVariables];
+		int variable = 0;
+		for (BigInteger coefficient : coefficients) {
+			if (coefficient.signum() != 0) {
+				variables[size] = variable;
+				values[size] = coefficient;
+				size++;
+			}
+			variable++;
+		}
+		equations.add(new Equation(Arrays.copyOf(variables, size), Arrays.copyOf(values, size)));
 	}
 
 	/**
-	 * Calculate a basis of the equation system.
+	 * Add an equation to the equation system which is given by its non-zero coefficients.
+	 * @param variables The indices of the variables that appear in the equation. Each index may appear at most
+	 * once.
+	 * @param coefficients The coefficients of the variables. This must have the same length as variables.
+	 */
+	public void addSparseEquation(int[] variables, int[] coefficients) {
+		assert variables.length == coefficients.length;
+		BigInteger[] row = new BigInteger[numVariables];
+		for (int i = 0; i < variables.length; i++) {
+			assert row[variables[i]] == null : "Variable " + variables[i] + " appears twice";
+			row[variables[i]] = BigInteger.valueOf(coefficients[i]);
+		}
+		int size = 0;
+		int[] sortedVariables = new int[variables.length];
+		BigInteger[] sortedCoefficients = new BigInteger[variables.length];
+		for (int i = 0; i < numVariables; i++) {
+			if (row[i] != null && row[i].signum() != 0) {
+				sortedVariables[size] = i;
+				sortedCoefficients[size] = row[i];
+				size++;
+			}
+		}
+		equations.add(new Equation(Arrays.copyOf(sortedVariables, size),
+					Arrays.copyOf(sortedCoefficients, size)));
+	}
+
+	/**
+	 * Calculate a basis of the equation system. The result is a basis of the lattice of all integer solutions. It
+	 * is given in Hermite normal form, so it does not depend on the order in which equations were added.
 	 * @return The set of basis vectors
 	 */
 	public Set<List<BigInteger>> findBasis() {
 		Set<List<BigInteger>> result = new HashSet<>();
-		EquationSystemSolver solver = new EquationSystemSolver(numVariables, equations);
+		try {
+			for (long[] vector : findBasisLong()) {
+				BigInteger[] row = new BigInteger[numVariables];
+				for (int i = 0; i < numVariables; i++)
+					row[i] = BigInteger.valueOf(vector[i]);
+				result.add(Collections.unmodifiableList(Arrays.asList(row)));
+			}
+		} catch (ArithmeticException e) {
+			debug("Overflow while calculating a basis, falling back to BigInteger: ", e);
+			result.clear();
+			for (BigInteger[] vector : findBasisBigInteger())
+				result.add(Collections.unmodifiableList(Arrays.asList(vector)));
+		}
 
-		// The *columns* of the matrix provide a basis of the solution
-		List<List<BigInteger>> solution = solver.solve();
-		assert solution.size() == numVariables;
+		debug("Basis found: ", result);
+		debug("");
 
+		return Collections.unmodifiableSet(result);
+	}
+
+	// The algorithm works in two steps. First, the set of solutions is restricted one equation after another. A
+	// basis of the solutions is maintained and initially consists of the unit vectors. For each equation, the
+	// basis vectors are combined via unimodular operations (the Euclidean algorithm on their values in the
+	// equation) until only one of them does not satisfy the equation. This vector is removed. In the end, the
+	// remaining vectors are brought into Hermite normal form.
+	//
+	// Both steps are implemented twice: With longs and checked arithmetic and with BigIntegers as fallback.
+
+	private List<long[]> findBasisLong() {
+		List<long[]> basis = new ArrayList<>();
 		for (int i = 0; i < numVariables; i++) {
-			boolean allZero = true;
-			List<BigInteger> row = new ArrayList<>(numVariables);
-			for (int j = 0; j < numVariables; j++) {
-				BigInteger value = solution.get(j).get(i);
-				if (!value.equals(BigInteger.ZERO))
-					allZero = false;
-				row.add(value);
+			long[] vector = new long[numVariables];
+			vector[i] = 1;
+			basis.add(vector);
+		}
+
+		for (Equation equation : equations) {
+			if (basis.isEmpty())
+				break;
+			if (equation.longCoefficients == null)
+				throw new ArithmeticException("Coefficient does not fit into a long");
+
+			long[] values = new long[basis.size()];
+			for (int k = 0; k < values.length; k++) {
+				long[] vector = basis.get(k);
+				long value = 0;
+				for (int i = 0; i < equation.variables.length; i++) {
+					long product = MathTools.multiplyExact(equation.longCoefficients[i],
+							vector[equation.variables[i]]);
+					value = MathTools.addExact(value, product);
+				}
+				values[k] = MathTools.checkNotMinValue(value);
 			}
 
-			if (!allZero)
-				result.add(Collections.unmodifiableList(row));
+			int pivot = reduceLong(basis, values, 0);
+			if (pivot >= 0)
+				basis.remove(pivot);
 		}
 
-		debug("Basis found: ", result);
-		debug("");
+		int row = 0;
+		for (int column = 0; column < numVariables && row < basis.size(); column++) {
+			long[] values = new long[basis.size()];
+			for (int k = row; k < values.length; k++)
+				values[k] = basis.get(k)[column];
+
+			int pivot = reduceLong(basis, values, row);
+			if (pivot < 0)
+				continue;
+
+			Collections.swap(basis, row, pivot);
+			long[] pivotVector = basis.get(row);
+			if (pivotVector[column] < 0)
+				for (int i = 0; i < numVariables; i++)
+					pivotVector[i] = -pivotVector[i];
+
+			// Reduce the entries above the pivot into the range [0, pivot)
+			for (int k = 0; k < row; k++) {
+				long[] vector = basis.get(k);
+				long factor = floorDiv(vector[column], pivotVector[column]);
+				if (factor != 0)
+					subtractMultipleLong(vector, factor, pivotVector);
+			}
+			row++;
+		}
+		assert row == basis.size();
 
-		return Collections.unmodifiableSet(result);
+		return basis;
+	}
+
+	/**
+	 * Combine the vectors so that at most one of them has a non-zero value.
+	 * @param vectors The vectors to combine.
+	 * @param values The values of the vectors. This array is modified.
+	 * @param start Vectors before this index are ignored.
+	 * @return The index of the only vector with a non-zero value or -1 if all values are zero.
+	 */
+	static private int reduceLong(List<long[]> vectors, long[] values, int start) {
+		while (true) {
+			int pivot = -1;
+			for (int k = start; k < values.length; k++)
+				if (values[k] != 0 && (pivot < 0 || Math.abs(values[k]) < Math.abs(values[pivot])))
+					pivot = k;
+			if (pivot < 0)
+				return -1;
+
+			boolean done = true;
+			long[] pivotVector = vectors.get(pivot);
+			for (int k = start; k < values.length; k++) {
+				if (k == pivot || values[k] == 0)
+					continue;
+				long factor = values[k] / values[pivot];
+				values[k] -= factor * values[pivot];
+				subtractMultipleLong(vectors.get(k), factor, pivotVector);
+				if (values[k] != 0)
+					done = false;
+			}
+			if (done)
+				return pivot;
+		}
+	}
+
+	static private void subtractMultipleLong(long[] vector, long factor, long[] other) {
+		for (int i = 0; i < vector.length; i++)
+			if (other[i] != 0)
+				vector[i] = MathTools.checkNotMinValue(MathTools.addExact(vector[i],
+							MathTools.multiplyExact(-factor, other[i])));
+	}
+
+	static private long floorDiv(long a, long b) {
+		long result = a / b;
+		if (a % b != 0 && (a < 0) != (b < 0))
+			result--;
+		return result;
+	}
+
+	private List<BigInteger[]> findBasisBigInteger() {
+		List<BigInteger[]> basis = new ArrayList<>();
+		for (int i = 0; i < numVariables; i++) {
+			BigInteger[] vector = new BigInteger[numVariables];
+			Arrays.fill(vector, BigInteger.ZERO);
+			vector[i] = BigInteger.ONE;
+			basis.add(vector);
+		}
+
+		for (Equation equation : equations) {
+			if (basis.isEmpty())
+				break;
+
+			BigInteger[] values = new BigInteger[basis.size()];
+			for (int k = 0; k < values.length; k++) {
+				BigInteger[] vector = basis.get(k);
+				BigInteger value = BigInteger.ZERO;
+				for (int i = 0; i < equation.variables.length; i++)
+					value = value.add(equation.coefficients[i].multiply(
+								vector[equation.variables[i]]));
+				values[k] = value;
+			}
+
+			int pivot = reduceBigInteger(basis, values, 0);
+			if (pivot >= 0)
+				basis.remove(pivot);
+		}
+
+		int row = 0;
+		for (int column = 0; column < numVariables && row < basis.size(); column++) {
+			BigInteger[] values = new BigInteger[basis.size()];
+			for (int k = 0; k < values.length; k++)
+				values[k] = k < row ? BigInteger.ZERO : basis.get(k)[column];
+
+			int pivot = reduceBigInteger(basis, values, row);
+			if (pivot < 0)
+				continue;
+
+			Collections.swap(basis, row, pivot);
+			BigInteger[] pivotVector = basis.get(row);
+			if (pivotVector[column].signum() < 0)
+				for (int i = 0; i < numVariables; i++)
+					pivotVector[i] = pivotVector[i].negate();
+
+			// Reduce the entries above the pivot into the range [0, pivot)
+			for (int k = 0; k < row; k++) {
+				BigInteger[] vector = basis.get(k);
+				BigInteger[] qr = vector[column].divideAndRemainder(pivotVector[column]);
+				BigInteger factor = qr[1].signum() < 0 ? qr[0].subtract(BigInteger.ONE) : qr[0];
+				if (factor.signum() != 0)
+					subtractMultipleBigInteger(vector, factor, pivotVector);
+			}
+			row++;
+		}
+		assert row == basis.size();
+
+		return basis;
+	}
+
+	/**
+	 * Combine the vectors so that at most one of them has a non-zero value.
+	 * @param vectors The vectors to combine.
+	 * @param values The values of the vectors. This array is modified.
+	 * @param start Vectors before this index are ignored.
+	 * @return The index of the only vector with a non-zero value or -1 if all values are zero.
+	 */
+	static private int reduceBigInteger(List<BigInteger[]> vectors, BigInteger[] values, int start) {
+		while (true) {
+			int pivot = -1;
+			for (int k = start; k < values.length; k++)
+				if (values[k].signum() != 0 && (pivot < 0
+							|| values[k].abs().compareTo(values[pivot].abs()) < 0))
+					pivot = k;
+			if (pivot < 0)
+				return -1;
+
+			boolean done = true;
+			BigInteger[] pivotVector = vectors.get(pivot);
+			for (int k = start; k < values.length; k++) {
+				if (k == pivot || values[k].signum() == 0)
+					continue;
+				BigInteger[] qr = values[k].divideAndRemainder(values[pivot]);
+				values[k] = qr[1];
+				subtractMultipleBigInteger(vectors.get(k), qr[0], pivotVector);
+				if (values[k].signum() != 0)
+					done = false;
+			}
+			if (done)
+				return pivot;
+		}
+	}
+
+	static private void subtractMultipleBigInteger(BigInteger[] vector, BigInteger factor, BigInteger[] other) {
+		for (int i = 0; i < vector.length; i++)
+			if (other[i].signum() != 0)
+				vector[i] = vector[i].subtract(factor.multiply(other[i]));
 	}
 
 	@Override
 	public String toString() {
 		StringWriter buffer = new StringWriter();
 		buffer.write("[\n");
-		for (List<BigInteger> equation : equations) {
-			boolean first = true;
-			for (int j = 0; j < numVariables; j++) {
-				if (equation.get(j).equals(BigInteger.ZERO))
-					continue;
-
-				if (!first)
+		for (Equation equation : equations) {
+			for (int i = 0; i < equation.variables.length; i++) {
+				if (i != 0)
 					buffer.write(" + ");
 
-				buffer.write("" + equation.get(j));
+				buffer.write("" + equation.coefficients[i]);
 				buffer.write("*x[");
-				buffer.write("" + j);
+				buffer.write("" + equation.variables[i]);
 				buffer.write("]");
-				first = false;
 			}
-			if (first)
+			if (equation.variables.length == 0)
 				buffer.write("0");
 			buffer.write(" = 0\n");
 		}
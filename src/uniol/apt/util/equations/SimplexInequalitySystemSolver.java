@@ -0,0 +1,920 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.util.equations;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import uniol.apt.util.equations.InequalitySystem.Inequality;
+
+import static uniol.apt.util.DebugUtil.debug;
+import static uniol.apt.util.MathTools.addExact;
+import static uniol.apt.util.MathTools.checkNotMinValue;
+import static uniol.apt.util.MathTools.gcd;
+import static uniol.apt.util.MathTools.multiplyExact;
+
+/**
+ * Solve an inequality system over the integers without the help of an SMT solver. This class has the same interface
+ * as {@link InequalitySystemSolver}.
+ *
+ * This is the general simplex algorithm from "A Fast Linear-Arithmetic Solver for DPLL(T)" by Dutertre and de Moura.
+ * Each linear form that appears in an inequality gets a slack variable and inequalities only set bounds on these
+ * variables. The tableau is kept free of fractions: Each row describes its basic variable as an integer linear
+ * combination of the non-basic variables divided by a common denominator. Entries are kept in longs and a row is
+ * switched to BigIntegers if one of its entries overflows. Non-basic variables always have integer values, since all
+ * bounds are integers.
+ *
+ * Integer solutions are found via branch and bound. If all bounds are homogeneous (lower bounds are non-negative and
+ * upper bounds are non-positive), every multiple of a solution is a solution and thus a rational solution can simply
+ * be scaled to an integer one. Disjunctions are handled by trying each of their alternatives.
+ *
+ * The tableau is kept between calls to {@link #findSolution()}, so that adding a constraint to an already solved
+ * system usually only needs a few pivot steps.
+ */
+public class SimplexInequalitySystemSolver {
+	// All asserted disjunctions, only used for debug output and for checking solutions
+	private final List<InequalitySystem[]> systems = new ArrayList<>();
+	// Disjunctions with more than one alternative. These are handled by findSolution().
+	private final List<InequalitySystem[]> disjunctions = new ArrayList<>();
+	private final List<Variable> originalVariables = new ArrayList<>();
+	private final List<Variable> slackVariables = new ArrayList<>();
+	private final Map<List<BigInteger>, Variable> slackForForm = new HashMap<>();
+	private final List<Row> rows = new ArrayList<>();
+	private final List<Variable> columns = new ArrayList<>();
+	private final List<BigInteger> values = new ArrayList<>();
+	private final Deque<BoundChange> trail = new ArrayDeque<>();
+	private final Deque<Level> levels = new ArrayDeque<>();
+	private int numberOfVariables = 0;
+	private int conflicts = 0;
+	private int nextOrder = 0;
+
+	/**
+	 * A variable of the simplex tableau. Variables are either original variables of the inequality system or slack
+	 * variables which stand for a linear combination of the original variables.
+	 */
+	static private final class Variable {
+		// Used as a total order on variables for Bland's rule
+		private final int order;
+		// For slack variables, the linear form that is represented, else null
+		private final List<BigInteger> form;
+		private BigInteger lower = null;
+		private BigInteger upper = null;
+		private int row = -1;
+		private int column = -1;
+
+		private Variable(int order, List<BigInteger> form) {
+			this.order = order;
+			this.form = form;
+		}
+
+		private boolean canIncrease(BigInteger value) {
+			return upper == null || value.compareTo(upper) < 0;
+		}
+
+		private boolean canDecrease(BigInteger value) {
+			return lower == null || value.compareTo(lower) > 0;
+		}
+	}
+
+	/**
+	 * Information needed for undoing a change to the bounds of a variable.
+	 */
+	static private final class BoundChange {
+		private final Variable variable;
+		private final BigInteger lower;
+		private final BigInteger upper;
+
+		private BoundChange(Variable variable) {
+			this.variable = variable;
+			this.lower = variable.lower;
+			this.upper = variable.upper;
+		}
+
+		private void undo() {
+			variable.lower = lower;
+			variable.upper = upper;
+		}
+	}
+
+	/**
+	 * The state that is restored by {@link #pop()}.
+	 */
+	static private final class Level {
+		private final int systems;
+		private final int disjunctions;
+		private final int slackVariables;
+		private final int trail;
+		private final int numberOfVariables;
+		private final int conflicts;
+
+		private Level(SimplexInequalitySystemSolver solver) {
+			this.systems = solver.systems.size();
+			this.disjunctions = solver.disjunctions.size();
+			this.slackVariables = solver.slackVariables.size();
+			this.trail = solver.trail.size();
+			this.numberOfVariables = solver.numberOfVariables;
+			this.conflicts = solver.conflicts;
+		}
+	}
+
+	/**
+	 * A row of the tableau. It describes its basic variable as (sum_i c_i * x_i) / d where the x_i are the
+	 * non-basic variables of the columns. The row also caches the numerator of the current value of the basic
+	 * variable.
+	 */
+	static private final class Row {
+		private Variable basic;
+		// If bigCoefficients is null, the long fields are used, else the BigInteger fields
+		private long[] coefficients;
+		private long denominator;
+		private long numerator;
+		private BigInteger[] bigCoefficients;
+		private BigInteger bigDenominator;
+		private BigInteger bigNumerator;
+
+		private Row(Variable basic, BigInteger[] coefficients, BigInteger denominator) {
+			this.basic = basic;
+			this.bigCoefficients = coefficients;
+			this.bigDenominator = denominator;
+			this.bigNumerator = BigInteger.ZERO;
+			normalize();
+		}
+
+		private boolean isBig() {
+			return bigCoefficients != null;
+		}
+
+		private int signum(int column) {
+			if (isBig())
+				return bigCoefficients[column].signum();
+			return Long.signum(coefficients[column]);
+		}
+
+		private BigInteger getCoefficient(int column) {
+			if (isBig())
+				return bigCoefficients[column];
+			return BigInteger.valueOf(coefficients[column]);
+		}
+
+		private BigInteger getDenominator() {
+			if (isBig())
+				return bigDenominator;
+			return BigInteger.valueOf(denominator);
+		}
+
+		private BigInteger getNumerator() {
+			if (isBig())
+				return bigNumerator;
+			return BigInteger.valueOf(numerator);
+		}
+
+		private void promote() {
+			if (isBig())
+				return;
+			bigCoefficients = new BigInteger[coefficients.length];
+			for (int i = 0; i < coefficients.length; i++)
+				bigCoefficients[i] = BigInteger.valueOf(coefficients[i]);
+			bigDenominator = BigInteger.valueOf(denominator);
+			bigNumerator = BigInteger.valueOf(numerator);
+			coefficients = null;
+		}
+
+		private void addColumn() {
+			if (isBig()) {
+				bigCoefficients = Arrays.copyOf(bigCoefficients, bigCoefficients.length + 1);
+				bigCoefficients[bigCoefficients.length - 1] = BigInteger.ZERO;
+			} else {
+				coefficients = Arrays.copyOf(coefficients, coefficients.length + 1);
+			}
+		}
+
+		/**
+		 * Make the denominator positive and divide everything by the greatest common divisor. If everything
+		 * fits into longs afterwards, switch back to longs.
+		 */
+		private void normalize() {
+			if (!isBig()) {
+				if (denominator < 0) {
+					for (int i = 0; i < coefficients.length; i++)
+						coefficients[i] = -coefficients[i];
+					denominator = -denominator;
+					numerator = -numerator;
+				}
+				long gcd = denominator;
+				for (int i = 0; i < coefficients.length && gcd != 1; i++)
+					gcd = gcd(gcd, coefficients[i]);
+				if (gcd != 1) {
+					for (int i = 0; i < coefficients.length; i++)
+						coefficients[i] /= gcd;
+					denominator /= gcd;
+					numerator /= gcd;
+				}
+				return;
+			}
+
+			if (bigDenominator.signum() < 0) {
+				for (int i = 0; i < bigCoefficients.length; i++)
+					bigCoefficients[i] = bigCoefficients[i].negate();
+				bigDenominator = bigDenominator.negate();
+				bigNumerator = bigNumerator.negate();
+			}
+			BigInteger gcd = bigDenominator;
+			for (int i = 0; i < bigCoefficients.length && !gcd.equals(BigInteger.ONE); i++)
+				gcd = gcd.gcd(bigCoefficients[i]);
+			boolean fits = fitsLong(bigDenominator.divide(gcd)) && fitsLong(bigNumerator.divide(gcd));
+			for (int i = 0; i < bigCoefficients.length; i++) {
+				bigCoefficients[i] = bigCoefficients[i].divide(gcd);
+				fits &= fitsLong(bigCoefficients[i]);
+			}
+			bigDenominator = bigDenominator.divide(gcd);
+			bigNumerator = bigNumerator.divide(gcd);
+
+			if (fits) {
+				coefficients = new long[bigCoefficients.length];
+				for (int i = 0; i < bigCoefficients.length; i++)
+					coefficients[i] = bigCoefficients[i].longValue();
+				denominator = bigDenominator.longValue();
+				numerator = bigNumerator.longValue();
+				bigCoefficients = null;
+				bigDenominator = null;
+				bigNumerator = null;
+			}
+		}
+
+		/**
+		 * Recalculate the numerator of the value of the basic variable.
+		 * @param values The values of the non-basic variables.
+		 */
+		private void updateNumerator(List<BigInteger> values) {
+			if (!isBig()) {
+				try {
+					long result = 0;
+					for (int i = 0; i < coefficients.length; i++)
+						if (coefficients[i] != 0)
+							result = addExact(result, multiplyExact(coefficients[i],
+										toLong(values.get(i))));
+					numerator = checkNotMinValue(result);
+					return;
+				} catch (ArithmeticException e) {
+					promote();
+				}
+			}
+			BigInteger result = BigInteger.ZERO;
+			for (int i = 0; i < bigCoefficients.length; i++)
+				if (bigCoefficients[i].signum() != 0)
+					result = result.add(bigCoefficients[i].multiply(values.get(i)));
+			bigNumerator = result;
+		}
+
+		/**
+		 * Update the numerator of the value of the basic variable for a change of a non-basic variable.
+		 * @param column The column of the non-basic variable.
+		 * @param delta The change of the value.
+		 */
+		private void updateNumerator(int column, BigInteger delta) {
+			if (!isBig()) {
+				try {
+					numerator = checkNotMinValue(addExact(numerator,
+								multiplyExact(coefficients[column], toLong(delta))));
+					return;
+				} catch (ArithmeticException e) {
+					promote();
+				}
+			}
+			bigNumerator = bigNumerator.add(bigCoefficients[column].multiply(delta));
+		}
+
+		/**
+		 * Compare the value of the basic variable with the given number.
+		 * @param bound The number to compare with.
+		 * @return A negative number, zero, or a positive number if the value is less than, equal to, or
+		 * greater than the given number.
+		 */
+		private int compareValueTo(BigInteger bound) {
+			if (!isBig()) {
+				try {
+					return Long.compare(numerator, multiplyExact(toLong(bound), denominator));
+				} catch (ArithmeticException e) {
+					// Fall through to the slow path
+				}
+			}
+			return getNumerator().compareTo(bound.multiply(getDenominator()));
+		}
+
+		private boolean isIntegral() {
+			if (!isBig())
+				return numerator % denominator == 0;
+			return bigNumerator.mod(bigDenominator).signum() == 0;
+		}
+
+		/**
+		 * Get the largest integer which is not larger than the value of the basic variable.
+		 * @return The rounded value.
+		 */
+		private BigInteger floor() {
+			BigInteger[] qr = getNumerator().divideAndRemainder(getDenominator());
+			if (qr[1].signum() < 0)
+				return qr[0].subtract(BigInteger.ONE);
+			return qr[0];
+		}
+
+		/**
+		 * Solve this row for the non-basic variable in the given column. Afterwards, this row describes that
+		 * variable and the given column stands for the old basic variable.
+		 * @param column The column to solve for.
+		 */
+		private void pivot(int column) {
+			assert signum(column) != 0;
+			// d * basic = sum c_i x_i  <=>  c_column * x_column = d * basic - sum_{i != column} c_i x_i
+			if (isBig()) {
+				BigInteger coefficient = bigCoefficients[column];
+				for (int i = 0; i < bigCoefficients.length; i++)
+					bigCoefficients[i] = bigCoefficients[i].negate();
+				bigCoefficients[column] = bigDenominator;
+				bigDenominator = coefficient;
+			} else {
+				long coefficient = coefficients[column];
+				for (int i = 0; i < coefficients.length; i++)
+					coefficients[i] = -coefficients[i];
+				coefficients[column] = denominator;
+				denominator = coefficient;
+			}
+			normalize();
+		}
+
+		/**
+		 * Substitute the non-basic variable in the given column with its description by the given row. The
+		 * given row must already have been pivoted to this column.
+		 * @param pivot The row describing the variable that is substituted.
+		 * @param column The column of the substituted variable.
+		 */
+		private void substitute(Row pivot, int column) {
+			// d * basic = sum_{i != column} c_i x_i + e * x_column and D * x_column = sum p_i y_i, where
+			// y_i is x_i except for y_column. Thus D * d * basic = sum_{i != column} (D c_i + e p_i) x_i
+			// + e p_column y_column.
+			if (signum(column) == 0)
+				return;
+			if (!isBig() && !pivot.isBig()) {
+				try {
+					long e = coefficients[column];
+					long d = pivot.denominator;
+					long[] result = new long[coefficients.length];
+					for (int i = 0; i < result.length; i++) {
+						long value = multiplyExact(e, pivot.coefficients[i]);
+						if (i != column)
+							value = addExact(multiplyExact(d, coefficients[i]), value);
+						result[i] = checkNotMinValue(value);
+					}
+					denominator = checkNotMinValue(multiplyExact(d, denominator));
+					coefficients = result;
+					normalize();
+					return;
+				} catch (ArithmeticException e) {
+					promote();
+				}
+			}
+			promote();
+			BigInteger e = bigCoefficients[column];
+			BigInteger d = pivot.getDenominator();
+			for (int i = 0; i < bigCoefficients.length; i++) {
+				BigInteger value = e.multiply(pivot.getCoefficient(i));
+				if (i != column)
+					value = value.add(d.multiply(bigCoefficients[i]));
+				bigCoefficients[i] = value;
+			}
+			bigDenominator = d.multiply(bigDenominator);
+			normalize();
+		}
+	}
+
+	/**
+	 * Create a new solver without any constraints.
+	 */
+	public SimplexInequalitySystemSolver() {
+	}
+
+	static private boolean fitsLong(BigInteger value) {
+		return value.bitLength() < 63;
+	}
+
+	static private long toLong(BigInteger value) {
+		if (!fitsLong(value))
+			throw new ArithmeticException("long overflow");
+		return value.longValue();
+	}
+
+	static private BigInteger floorDiv(BigInteger a, BigInteger b) {
+		assert b.signum() > 0;
+		BigInteger[] qr = a.divideAndRemainder(b);
+		if (qr[1].signum() < 0)
+			return qr[0].subtract(BigInteger.ONE);
+		return qr[0];
+	}
+
+	static private BigInteger ceilDiv(BigInteger a, BigInteger b) {
+		return floorDiv(a.negate(), b).negate();
+	}
+
+	private Variable getOriginalVariable(int index) {
+		while (originalVariables.size() <= index) {
+			Variable variable = new Variable(nextOrder++, null);
+			variable.column = columns.size();
+			originalVariables.add(variable);
+			columns.add(variable);
+			values.add(BigInteger.ZERO);
+			for (Row row : rows)
+				row.addColumn();
+		}
+		return originalVariables.get(index);
+	}
+
+	/**
+	 * Get the slack variable describing the given linear form of original variables.
+	 * @param form The coefficients of the linear form.
+	 * @return The slack variable.
+	 */
+	private Variable getSlackVariable(List<BigInteger> form) {
+		Variable slack = slackForForm.get(form);
+		if (slack != null)
+			return slack;
+
+		slack = new Variable(nextOrder++, form);
+		BigInteger[] coefficients = new BigInteger[columns.size()];
+		Arrays.fill(coefficients, BigInteger.ZERO);
+		BigInteger denominator = BigInteger.ONE;
+		for (int i = 0; i < form.size(); i++) {
+			BigInteger factor = form.get(i);
+			if (factor.signum() == 0)
+				continue;
+			Variable variable = originalVariables.get(i);
+			if (variable.column >= 0) {
+				coefficients[variable.column] = coefficients[variable.column].add(
+						factor.multiply(denominator));
+				continue;
+			}
+
+			// Add factor * row to the coefficients, using a common denominator
+			Row row = rows.get(variable.row);
+			BigInteger rowDenominator = row.getDenominator();
+			BigInteger gcd = denominator.gcd(rowDenominator);
+			BigInteger ourFactor = rowDenominator.divide(gcd);
+			BigInteger rowFactor = factor.multiply(denominator.divide(gcd));
+			for (int j = 0; j < coefficients.length; j++)
+				coefficients[j] = coefficients[j].multiply(ourFactor).add(
+						rowFactor.multiply(row.getCoefficient(j)));
+			denominator = denominator.multiply(ourFactor);
+		}
+
+		Row row = new Row(slack, coefficients, denominator);
+		row.updateNumerator(values);
+		slack.row = rows.size();
+		rows.add(row);
+		slackVariables.add(slack);
+		slackForForm.put(form, slack);
+		return slack;
+	}
+
+	private void removeSlackVariable(Variable slack) {
+		assert slack.form != null;
+		if (slack.column >= 0) {
+			// Make the variable basic so that its row can be removed
+			int column = slack.column;
+			int rowIndex = 0;
+			while (rows.get(rowIndex).signum(column) == 0)
+				rowIndex++;
+			Row row = rows.get(rowIndex);
+			Variable other = row.basic;
+			BigInteger value = row.floor();
+			if (other.lower != null && value.compareTo(other.lower) < 0)
+				value = other.lower;
+			else if (other.upper != null && value.compareTo(other.upper) > 0)
+				value = other.upper;
+			pivot(rowIndex, column);
+			values.set(column, value);
+			for (Row r : rows)
+				r.updateNumerator(values);
+		}
+
+		int last = rows.size() - 1;
+		Row lastRow = rows.remove(last);
+		if (slack.row != last) {
+			rows.set(slack.row, lastRow);
+			lastRow.basic.row = slack.row;
+		}
+		slack.row = -1;
+		slackForForm.remove(slack.form);
+	}
+
+	/**
+	 * Exchange the basic variable of a row with a non-basic variable.
+	 * @param rowIndex The index of the row.
+	 * @param column The column of the non-basic variable.
+	 */
+	private void pivot(int rowIndex, int column) {
+		Row row = rows.get(rowIndex);
+		Variable leaving = row.basic;
+		Variable entering = columns.get(column);
+
+		row.pivot(column);
+		for (Row other : rows)
+			if (other != row)
+				other.substitute(row, column);
+
+		row.basic = entering;
+		entering.row = rowIndex;
+		entering.column = -1;
+		leaving.row = -1;
+		leaving.column = column;
+		columns.set(column, leaving);
+	}
+
+	/**
+	 * Change the value of a non-basic variable.
+	 * @param column The column of the variable.
+	 * @param value The new value.
+	 */
+	private void setValue(int column, BigInteger value) {
+		BigInteger delta = value.subtract(values.get(column));
+		if (delta.signum() == 0)
+			return;
+		values.set(column, value);
+		for (Row row : rows)
+			row.updateNumerator(column, delta);
+	}
+
+	/**
+	 * Restrict the bounds of a variable.
+	 * @param variable The variable.
+	 * @param lower The new lower bound or null.
+	 * @param upper The new upper bound or null.
+	 */
+	private void tighten(Variable variable, BigInteger lower, BigInteger upper) {
+		if (lower != null && variable.lower != null && lower.compareTo(variable.lower) <= 0)
+			lower = null;
+		if (upper != null && variable.upper != null && upper.compareTo(variable.upper) >= 0)
+			upper = null;
+		if (lower == null && upper == null)
+			return;
+
+		trail.push(new BoundChange(variable));
+		if (lower != null)
+			variable.lower = lower;
+		if (upper != null)
+			variable.upper = upper;
+		if (variable.lower != null && variable.upper != null && variable.lower.compareTo(variable.upper) > 0) {
+			conflicts++;
+			return;
+		}
+
+		if (variable.column >= 0) {
+			BigInteger value = values.get(variable.column);
+			if (variable.lower != null && value.compareTo(variable.lower) < 0)
+				setValue(variable.column, variable.lower);
+			else if (variable.upper != null && value.compareTo(variable.upper) > 0)
+				setValue(variable.column, variable.upper);
+		}
+	}
+
+	private void assertInequality(Inequality inequality) {
+		// lhs [comparator] sum(x[i] * coefficients[i]), so we get bounds for the sum
+		BigInteger lhs = inequality.getLeftHandSide();
+		BigInteger lower = null, upper = null;
+		switch (inequality.getComparator()) {
+			case LESS_THAN_OR_EQUAL:
+				lower = lhs;
+				break;
+			case LESS_THAN:
+				lower = lhs.add(BigInteger.ONE);
+				break;
+			case EQUAL:
+				lower = lhs;
+				upper = lhs;
+				break;
+			case GREATER_THAN:
+				upper = lhs.subtract(BigInteger.ONE);
+				break;
+			case GREATER_THAN_OR_EQUAL:
+				upper = lhs;
+				break;
+			default:
+				throw new AssertionError("Unknown comparator " + inequality.getComparator());
+		}
+
+		// Normalize the linear form so that equivalent forms share a slack variable
+		List<BigInteger> form = new ArrayList<>(inequality.getCoefficients());
+		while (!form.isEmpty() && form.get(form.size() - 1).signum() == 0)
+			form.remove(form.size() - 1);
+		if (form.isEmpty()) {
+			if ((lower != null && lower.signum() > 0) || (upper != null && upper.signum() < 0))
+				conflicts++;
+			return;
+		}
+
+		BigInteger gcd = BigInteger.ZERO;
+		int nonZero = 0, lastNonZero = -1;
+		for (int i = 0; i < form.size(); i++) {
+			if (form.get(i).signum() != 0) {
+				nonZero++;
+				lastNonZero = i;
+			}
+			gcd = gcd.gcd(form.get(i));
+		}
+		// Make the first non-zero coefficient positive
+		for (BigInteger coefficient : form) {
+			if (coefficient.signum() != 0) {
+				if (coefficient.signum() < 0)
+					gcd = gcd.negate();
+				break;
+			}
+		}
+		for (int i = 0; i < form.size(); i++)
+			form.set(i, form.get(i).divide(gcd));
+		if (gcd.signum() < 0) {
+			// Dividing by a negative number exchanges the bounds
+			BigInteger tmp = lower;
+			lower = upper == null ? null : upper.negate();
+			upper = tmp == null ? null : tmp.negate();
+			gcd = gcd.negate();
+		}
+		if (lower != null)
+			lower = ceilDiv(lower, gcd);
+		if (upper != null)
+			upper = floorDiv(upper, gcd);
+
+		for (int i = 0; i < form.size(); i++)
+			getOriginalVariable(i);
+		Variable variable;
+		if (nonZero == 1)
+			variable = originalVariables.get(lastNonZero);
+		else
+			variable = getSlackVariable(Collections.unmodifiableList(form));
+		tighten(variable, lower, upper);
+	}
+
+	private void assertSystem(InequalitySystem system) {
+		// Just like InequalitySystemSolver, an empty system cannot be satisfied
+		if (system.isEmpty())
+			conflicts++;
+		for (Inequality inequality : system)
+			assertInequality(inequality);
+	}
+
+	/**
+	 * Assert a new set of inequality systems.
+	 * When called with a parameter like <pre>{ A, B }</pre> where A and B are inequality systems, this adds the
+	 * requirement that either A or B have to be satisfied to solutions.
+	 * @param disjunction Contains a disjunction of inequality systems.
+	 * @return This solver instance
+	 */
+	public SimplexInequalitySystemSolver assertDisjunction(InequalitySystem... disjunction) {
+		systems.add(disjunction);
+		for (InequalitySystem system : disjunction)
+			numberOfVariables = Math.max(numberOfVariables, system.getNumberOfVariables());
+
+		if (disjunction.length == 1)
+			assertSystem(disjunction[0]);
+		else if (disjunction.length > 1)
+			disjunctions.add(disjunction);
+		return this;
+	}
+
+	/**
+	 * Push the current solver state onto a stack. All following modifications can be undone via {@link pop()}.
+	 * @return This solver instance
+	 */
+	public SimplexInequalitySystemSolver push() {
+		levels.push(new Level(this));
+		return this;
+	}
+
+	/**
+	 * Pop the last disjunction that was added from the solver context.
+	 * This undoes the effects of the last call to {@link push()}.
+	 * @return This solver instance
+	 */
+	public SimplexInequalitySystemSolver pop() {
+		Level level = levels.pop();
+		while (trail.size() > level.trail)
+			trail.pop().undo();
+		while (slackVariables.size() > level.slackVariables)
+			removeSlackVariable(slackVariables.remove(slackVariables.size() - 1));
+		systems.subList(level.systems, systems.size()).clear();
+		disjunctions.subList(level.disjunctions, disjunctions.size()).clear();
+		numberOfVariables = level.numberOfVariables;
+		conflicts = level.conflicts;
+		return this;
+	}
+
+	/**
+	 * Check if there is a rational solution to the current constraints.
+	 * @return true if a solution was found.
+	 */
+	private boolean check() {
+		if (conflicts > 0)
+			return false;
+
+		while (true) {
+			// Bland's rule: Pick the smallest basic variable which violates its bounds...
+			Row row = null;
+			int rowIndex = -1;
+			boolean increase = false;
+			for (int i = 0; i < rows.size(); i++) {
+				Row candidate = rows.get(i);
+				Variable variable = candidate.basic;
+				if (row != null && variable.order > row.basic.order)
+					continue;
+				if (variable.lower != null && candidate.compareValueTo(variable.lower) < 0) {
+					row = candidate;
+					rowIndex = i;
+					increase = true;
+				} else if (variable.upper != null && candidate.compareValueTo(variable.upper) > 0) {
+					row = candidate;
+					rowIndex = i;
+					increase = false;
+				}
+			}
+			if (row == null)
+				return true;
+
+			// ...and the smallest non-basic variable that can fix this
+			int column = -1;
+			for (int i = 0; i < columns.size(); i++) {
+				int sign = row.signum(i);
+				if (sign == 0)
+					continue;
+				Variable variable = columns.get(i);
+				if (column != -1 && variable.order > columns.get(column).order)
+					continue;
+				BigInteger value = values.get(i);
+				if ((sign > 0) == increase ? variable.canIncrease(value) : variable.canDecrease(value))
+					column = i;
+			}
+			if (column == -1)
+				return false;
+
+			Variable variable = row.basic;
+			pivot(rowIndex, column);
+			values.set(column, increase ? variable.lower : variable.upper);
+			for (Row r : rows)
+				r.updateNumerator(values);
+		}
+	}
+
+	/**
+	 * Check if every multiple of a solution is also a solution.
+	 * @return true if all constraints are homogeneous.
+	 */
+	private boolean isHomogeneous() {
+		for (Variable variable : originalVariables)
+			if ((variable.lower != null && variable.lower.signum() < 0)
+					|| (variable.upper != null && variable.upper.signum() > 0))
+				return false;
+		for (Variable variable : slackVariables)
+			if ((variable.lower != null && variable.lower.signum() < 0)
+					|| (variable.upper != null && variable.upper.signum() > 0))
+				return false;
+		return true;
+	}
+
+	/**
+	 * Find an integer solution via branch and bound. The current constraints must have a rational solution.
+	 * @return An integer solution or null.
+	 */
+	private List<BigInteger> branchAndBound() {
+		Variable fractional = null;
+		BigInteger scale = BigInteger.ONE;
+		for (int i = 0; i < numberOfVariables; i++) {
+			Variable variable = originalVariables.get(i);
+			if (variable.row < 0)
+				continue;
+			Row row = rows.get(variable.row);
+			if (row.isIntegral())
+				continue;
+			if (fractional == null || variable.order < fractional.order)
+				fractional = variable;
+			BigInteger denominator = row.getDenominator().divide(
+					row.getDenominator().gcd(row.getNumerator()));
+			scale = scale.multiply(denominator).divide(scale.gcd(denominator));
+		}
+
+		if (fractional == null || isHomogeneous()) {
+			List<BigInteger> solution = new ArrayList<>(numberOfVariables);
+			for (int i = 0; i < numberOfVariables; i++) {
+				Variable variable = originalVariables.get(i);
+				if (variable.column >= 0) {
+					solution.add(values.get(variable.column).multiply(scale));
+				} else {
+					Row row = rows.get(variable.row);
+					solution.add(row.getNumerator().multiply(scale).divide(row.getDenominator()));
+				}
+			}
+			return solution;
+		}
+
+		BigInteger floor = rows.get(fractional.row).floor();
+		List<BigInteger> result = null;
+		push();
+		tighten(fractional, null, floor);
+		if (check())
+			result = branchAndBound();
+		pop();
+		if (result != null)
+			return result;
+
+		push();
+		tighten(fractional, floor.add(BigInteger.ONE), null);
+		if (check())
+			result = branchAndBound();
+		pop();
+		return result;
+	}
+
+	/**
+	 * Find a solution in which one alternative of each of the remaining disjunctions is satisfied.
+	 * @param index The index of the next disjunction to handle.
+	 * @return A solution or null.
+	 */
+	private List<BigInteger> search(int index) {
+		if (!check())
+			return null;
+		if (index == disjunctions.size())
+			return branchAndBound();
+
+		for (InequalitySystem system : disjunctions.get(index)) {
+			push();
+			assertSystem(system);
+			List<BigInteger> result = search(index + 1);
+			pop();
+			if (result != null)
+				return result;
+		}
+		return null;
+	}
+
+	/**
+	 * Calculate a solution to the conjunction of disjunctions that were added to this solver.
+	 * @return A solution to the systems or an empty list if unsolvable
+	 */
+	public List<BigInteger> findSolution() {
+		for (int i = 0; i < numberOfVariables; i++)
+			getOriginalVariable(i);
+
+		List<BigInteger> solution = search(0);
+		if (solution == null) {
+			debug("No solution found for:");
+			for (InequalitySystem[] disjunction : systems) {
+				debug("at least one of:");
+				for (int i = 0; i < disjunction.length; i++)
+					debug(disjunction[i]);
+			}
+			return Collections.emptyList();
+		}
+
+		debug("Solution:");
+		debug(solution);
+		assert isSolution(solution) : solution + " should solve this system but does not";
+		return Collections.unmodifiableList(solution);
+	}
+
+	private boolean isSolution(List<BigInteger> solution) {
+		int index = 0;
+		for (InequalitySystem[] disjunction : systems) {
+			boolean foundSolution = false;
+			for (int i = 0; i < disjunction.length; i++)
+				if (foundSolution = disjunction[i].fulfilledBy(solution))
+					break;
+			if (!foundSolution && disjunction.length > 0) {
+				debug("Not a valid solution for sub-system with index ", index);
+				return false;
+			}
+			index++;
+		}
+		return true;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -19,8 +19,14 @@
 
 package uniol.apt.adt.automaton;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 import uniol.apt.TestTSCollection;
 import uniol.apt.adt.ts.TransitionSystem;
@@ -258,6 +264,40 @@ public class FiniteAutomatonUtilityTest {
 		assertThat(constructDFA(dfa), sameInstance(dfa));
 	}
 
+	@Test
+	public void testConstructDFAExponential() {
+		// (a|b)^*a(a|b)^n needs 2^(n+1) states in a DFA, because the last n+1 symbols have to be remembered.
+		// The power set construction creates one more state, because the initial state differs from the state
+		// reached by b^(n+1).
+		int n = 8;
+		FiniteAutomaton aOrB = union(getAtomicLanguage(new Symbol("a")), getAtomicLanguage(new Symbol("b")));
+		FiniteAutomaton aut = concatenate(kleeneStar(aOrB), getAtomicLanguage(new Symbol("a")));
+		for (int i = 0; i < n; i++)
+			aut = concatenate(aut, aOrB);
+
+		DeterministicFiniteAutomaton dfa = constructDFA(aut);
+		assertThat(countStates(dfa), is((1 << (n + 1)) + 1));
+		assertThat(countStates(minimize(dfa)), is(1 << (n + 1)));
+		wordInLanguage(dfa, true, "a", "a", "b", "a", "b", "a", "b", "a", "b");
+		wordInLanguage(dfa, false, "b", "a", "b", "a", "b", "a", "b", "a", "b");
+	}
+
+	@Test
+	public void testConstructDFATwice() {
+		FiniteAutomaton aut = kleeneStar(concatenate(getAtomicLanguage(new Symbol("a")),
+					optional(getAtomicLanguage(new Symbol("b")))));
+		DeterministicFiniteAutomaton dfa1 = constructDFA(aut);
+		DeterministicFiniteAutomaton dfa2 = constructDFA(aut);
+		assertThat(dfa1, not(sameInstance(dfa2)));
+		assertThat(dfa1.getInitialState(), equalTo(dfa2.getInitialState()));
+		assertThat(dfa1.getInitialState().hashCode(), equalTo(dfa2.getInitialState().hashCode()));
+
+		Symbol a = new Symbol("a");
+		assertThat(dfa1.getInitialState().getFollowingState(a),
+				equalTo(dfa2.getInitialState().getFollowingState(a)));
+		assertThat(dfa1.getInitialState().getFollowingState(a), not(equalTo(dfa2.getInitialState())));
+	}
+
 	@Test
 	public void testConstructMinimalDFA() {
 		DeterministicFiniteAutomaton dfa = minimize(getTestDFA());
@@ -298,6 +338,140 @@ public class FiniteAutomatonUtilityTest {
 		assertThat(minimize(dfa), sameInstance(dfa));
 	}
 
+	static private int countStates(DeterministicFiniteAutomaton dfa) {
+		int result = 0;
+		for (DFAState state : statesIterable(dfa))
+			result++;
+		return result;
+	}
+
+	@Test
+	public void testMinimizeLargeCycle() {
+		// A cycle of 3000 states in which every third state is final describes (aaa)*
+		int n = 3000;
+		TransitionSystem ts = new TransitionSystem();
+		List<uniol.apt.adt.ts.State> finalStates = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			ts.createState("s" + i);
+			if (i % 3 == 0)
+				finalStates.add(ts.getNode("s" + i));
+		}
+		for (int i = 0; i < n; i++)
+			ts.createArc("s" + i, "s" + ((i + 1) % n), "a");
+		ts.setInitialState("s0");
+
+		DeterministicFiniteAutomaton dfa = minimize(fromLTS(ts, finalStates));
+		assertThat(countStates(dfa), is(3));
+		wordInLanguage(dfa, true);
+		wordInLanguage(dfa, false, "a");
+		wordInLanguage(dfa, true, "a", "a", "a");
+	}
+
+	@Test
+	public void testMinimizeLongPath() {
+		// The language {a^n} needs n+1 states plus a sink state for all other words
+		int n = 2000;
+		TransitionSystem ts = new TransitionSystem();
+		ts.createState("s0");
+		ts.setInitialState("s0");
+		for (int i = 0; i < n; i++) {
+			ts.createState("s" + (i + 1));
+			ts.createArc("s" + i, "s" + (i + 1), "a");
+		}
+		FiniteAutomaton aut = fromLTS(ts, Arrays.asList(ts.getNode("s" + n)));
+
+		DeterministicFiniteAutomaton dfa = minimize(aut);
+		assertThat(countStates(dfa), is(n + 2));
+		assertThat(dfa.getInitialState().isFinalState(), is(false));
+		assertThat(languageEquivalent(dfa, aut), is(true));
+		List<String> word = findWordDifference(dfa, fromPrefixLanguageLTS(ts));
+		assertThat(word, hasSize(lessThan(n)));
+		wordInLanguage(dfa, false, word.toArray(new String[0]));
+	}
+
+	@Test
+	public void testMinimizeSplitterSplitsItself() {
+		// Refining with the block of the final states splits this block itself
+		int[] next = { 2, 5, 6, 3, 2, 4, 1, 3 };
+		TransitionSystem ts = new TransitionSystem();
+		for (int i = 0; i < next.length; i++)
+			ts.createState("s" + i);
+		for (int i = 0; i < next.length; i++)
+			ts.createArc("s" + i, "s" + next[i], "a");
+		ts.setInitialState("s0");
+		FiniteAutomaton aut = fromLTS(ts, Arrays.asList(ts.getNode("s2"), ts.getNode("s4"), ts.getNode("s6")));
+
+		DeterministicFiniteAutomaton dfa = minimize(aut);
+		assertThat(findWordDifference(dfa, aut), is(nullValue()));
+		assertThat(countStates(dfa), is(6));
+	}
+
+	// Count the equivalence classes of the states reachable from state 0 with Moore's algorithm
+	static private int countMooreClasses(int[][] next, boolean[] finalStates) {
+		List<Integer> reachable = new ArrayList<>();
+		Set<Integer> seen = new HashSet<>(Arrays.asList(0));
+		reachable.add(0);
+		for (int i = 0; i < reachable.size(); i++)
+			for (int target : next[reachable.get(i)])
+				if (seen.add(target))
+					reachable.add(target);
+
+		int[] classes = new int[next.length];
+		for (int state : reachable)
+			classes[state] = finalStates[state] ? 1 : 0;
+		int numClasses = -1;
+		while (true) {
+			Map<List<Integer>, Integer> signatures = new HashMap<>();
+			int[] newClasses = new int[next.length];
+			for (int state : reachable) {
+				List<Integer> signature = new ArrayList<>();
+				signature.add(classes[state]);
+				for (int target : next[state])
+					signature.add(classes[target]);
+				Integer cls = signatures.get(signature);
+				if (cls == null) {
+					cls = signatures.size();
+					signatures.put(signature, cls);
+				}
+				newClasses[state] = cls;
+			}
+			classes = newClasses;
+			if (signatures.size() == numClasses)
+				return numClasses;
+			numClasses = signatures.size();
+		}
+	}
+
+	@Test
+	public void testMinimizeRandom() {
+		String[] symbols = { "a", "b" };
+		Random random = new Random(42);
+		for (int round = 0; round < 500; round++) {
+			int n = 1 + random.nextInt(12);
+			int[][] next = new int[n][symbols.length];
+			boolean[] finalStates = new boolean[n];
+			TransitionSystem ts = new TransitionSystem();
+			for (int i = 0; i < n; i++)
+				ts.createState("s" + i);
+			ts.setInitialState("s0");
+			List<uniol.apt.adt.ts.State> finals = new ArrayList<>();
+			for (int i = 0; i < n; i++) {
+				finalStates[i] = random.nextBoolean();
+				if (finalStates[i])
+					finals.add(ts.getNode("s" + i));
+				for (int c = 0; c < symbols.length; c++) {
+					next[i][c] = random.nextInt(n);
+					ts.createArc("s" + i, "s" + next[i][c], symbols[c]);
+				}
+			}
+			FiniteAutomaton aut = fromLTS(ts, finals);
+
+			DeterministicFiniteAutomaton dfa = minimize(aut);
+			assertThat(findWordDifference(dfa, aut), is(nullValue()));
+			assertThat(countStates(dfa), is(countMooreClasses(next, finalStates)));
+		}
+	}
+
 	@Test
 	public void testConstructNegation() {
 		DeterministicFiniteAutomaton dfa = negate(getTestDFA());
@@ -464,13 +638,11 @@ public class FiniteAutomatonUtilityTest {
 		newEdge(ts, "init", "foo", "b");
 		DeterministicFiniteAutomaton dfa2 = minimize(fromPrefixLanguageLTS(ts));
 
-		// dfa1 accepts the prefix language of (abc)^*. dfa2 accepts the prefix language of (abc)^*b. Due to the
-		// way the algorithm is implemented (read: iteration order over the set of labels), we can reach the
-		// state that describes the difference either via abcb (if we start in the root with label a) or b (if
-		// we start with label b). So either result is fine.
+		// dfa1 accepts the prefix language of (abc)^*. dfa2 accepts the prefix language of (abc)^*b. The
+		// shortest difference is b.
 
 		List<String> list = findWordDifference(dfa1, dfa2);
-		assertThat(list, anyOf(contains("b"), contains("a", "b", "c", "b")));
+		assertThat(list, contains("b"));
 	}
 
 	@Test
@@ -479,12 +651,43 @@ public class FiniteAutomatonUtilityTest {
 		FiniteAutomaton dfa1 = fromLTS(ts, Arrays.asList(ts.getNode("init")));
 		FiniteAutomaton dfa2 = fromLTS(ts, Arrays.asList(ts.getNode("a")));
 
-		// dfa1 accepts (abc)^*, dfa2 accepts (abc)^*a
+		// dfa1 accepts (abc)^*, dfa2 accepts (abc)^*a. The shortest difference is the empty word.
 
 		assertThat(dfa1.getInitialState(), not(equalTo(dfa2.getInitialState())));
 
 		List<String> list = findWordDifference(dfa1, dfa2);
-		assertThat(list, anyOf(contains("a"), contains("a", "b", "c", "a")));
+		assertThat(list, empty());
+	}
+
+	static private TransitionSystem getPathTS(int length) {
+		TransitionSystem ts = new TransitionSystem();
+		ts.createState("s0");
+		ts.setInitialState("s0");
+		for (int i = 0; i < length; i++) {
+			ts.createState("s" + (i + 1));
+			ts.createArc("s" + i, "s" + (i + 1), i % 2 == 0 ? "a" : "b");
+		}
+		return ts;
+	}
+
+	@Test
+	public void testWordDifferenceShortest() {
+		// Both automatons accept (ab)^*, but the first one also accepts a
+		FiniteAutomaton autA = getAtomicLanguage(new Symbol("a"));
+		FiniteAutomaton autB = getAtomicLanguage(new Symbol("b"));
+		FiniteAutomaton ab = kleeneStar(concatenate(autA, autB));
+		assertThat(findWordDifference(union(ab, concatenate(ab, autA)), ab), contains("a"));
+	}
+
+	@Test
+	public void testWordDifferenceLongPaths() {
+		int n = 5000;
+		FiniteAutomaton aut1 = fromPrefixLanguageLTS(getPathTS(n));
+		FiniteAutomaton aut2 = fromPrefixLanguageLTS(getPathTS(n + 1));
+		List<String> word = findWordDifference(aut1, aut2);
+		assertThat(word, hasSize(n + 1));
+		assertThat(word.get(n), equalTo("a"));
+		assertThat(languageEquivalent(aut1, fromPrefixLanguageLTS(getPathTS(n))), is(true));
 	}
 
 	private void testTS(TransitionSystem ts) {
@@ -0,0 +1,124 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package uniol.apt.adt.pn;
+
+import org.testng.annotations.Test;
+
+import uniol.apt.adt.exception.TransitionFireException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CompiledPetriNetTest {
+
+	private PetriNet getNet() {
+		PetriNet pn = new PetriNet();
+		Place[] p = pn.createPlaces("a", "b", "c");
+		Transition t = pn.createTransition("t");
+		Transition u = pn.createTransition("u");
+		pn.createFlow(p[0], t, 2);
+		pn.createFlow(t, p[1], 1);
+		pn.createFlow(p[1], u, 1);
+		pn.createFlow(u, p[1], 1);
+		pn.createFlow(u, p[2], 3);
+		pn.setInitialMarking(new Marking(pn, 3, 0, 0));
+		return pn;
+	}
+
+	@Test
+	public void testStructure() {
+		PetriNet pn = getNet();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+
+		assertThat(compiled.getPlaceCount(), equalTo(3));
+		assertThat(compiled.getTransitionCount(), equalTo(2));
+		assertThat(compiled.getTransition(1), sameInstance(pn.getTransition("u")));
+		assertThat(compiled.getTransitionIndex(pn.getTransition("t")), equalTo(0));
+		assertThat(compiled.getPlaceIndex(pn.getPlace("c")), equalTo(2));
+
+		// Transition u has a side condition on place b which is not part of its effect
+		assertThat(compiled.getPresetIndices(1), equalTo(new int[] { 1 }));
+		assertThat(compiled.getPostsetIndices(1), equalTo(new int[] { 1, 2 }));
+		assertThat(compiled.getPostsetWeights(1), equalTo(new int[] { 1, 3 }));
+		assertThat(compiled.getEffectIndices(1), equalTo(new int[] { 2 }));
+		assertThat(compiled.getEffectWeights(1), equalTo(new int[] { 3 }));
+		assertThat(compiled.getEffectIndices(0), equalTo(new int[] { 0, 1 }));
+		assertThat(compiled.getEffectWeights(0), equalTo(new int[] { -2, 1 }));
+	}
+
+	@Test
+	public void testFire() {
+		PetriNet pn = getNet();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		Marking initial = pn.getInitialMarking();
+
+		assertThat(compiled.isFireable(0, initial), is(true));
+		assertThat(compiled.isFireable(1, initial), is(false));
+
+		Marking next = compiled.fire(0, initial);
+		assertThat(next, equalTo(new Marking(pn, 1, 1, 0)));
+		assertThat(next, equalTo(pn.getTransition("t").fire(initial)));
+		assertThat(compiled.isFireable(0, next), is(false));
+		assertThat(compiled.fire(1, next), equalTo(new Marking(pn, 1, 1, 3)));
+		assertThat(initial, equalTo(new Marking(pn, 3, 0, 0)));
+	}
+
+	@Test
+	public void testFireOmega() {
+		PetriNet pn = getNet();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		Marking marking = pn.getInitialMarking().setTokenCount("a", Token.OMEGA);
+
+		Marking next = compiled.fire(0, marking);
+		assertThat(next.getToken("a"), equalTo(Token.OMEGA));
+		assertThat(next.getToken("b"), equalTo(new Token(1)));
+	}
+
+	@Test(expectedExceptions = TransitionFireException.class)
+	public void testFireNotFireable() {
+		PetriNet pn = getNet();
+		CompiledPetriNet.get(pn).fire(1, pn.getInitialMarking());
+	}
+
+	@Test
+	public void testCache() {
+		PetriNet pn = getNet();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		assertThat(CompiledPetriNet.get(pn), sameInstance(compiled));
+
+		// A structural change invalidates the compiled net
+		pn.createFlow("c", "t", 1);
+		CompiledPetriNet recompiled = CompiledPetriNet.get(pn);
+		assertThat(recompiled, not(sameInstance(compiled)));
+		assertThat(recompiled.getPresetIndices(0), equalTo(new int[] { 0, 2 }));
+	}
+
+	@Test
+	public void testCopiedNet() {
+		PetriNet pn = getNet();
+		CompiledPetriNet compiled = CompiledPetriNet.get(pn);
+		PetriNet copy = new PetriNet(pn);
+		assertThat(CompiledPetriNet.get(copy), not(sameInstance(compiled)));
+		assertThat(CompiledPetriNet.get(copy).getNet(), sameInstance(copy));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -271,6 +271,25 @@ public class MarkingTest {
 		assertThat(p2.getInitialToken(), equalTo(new Token(0)));
 	}
 
+	@Test
+	public void testPlaceIndicesChange() {
+		PetriNet pn = new PetriNet();
+		Place b = pn.createPlace("b");
+		Place d = pn.createPlace("d");
+		Marking mark = new Marking(pn, 1, 2);
+
+		// Adding and removing places in front of the existing ones changes their indices
+		Place a = pn.createPlace("a");
+		pn.removePlace(b);
+		Place c = pn.createPlace("c");
+
+		assertThat(mark.getToken(a), equalTo(Token.ZERO));
+		assertThat(mark.getToken(c), equalTo(Token.ZERO));
+		assertThat(mark.getToken(d), equalTo(new Token(2)));
+		assertThat(mark, hasToString("[ [a:0] [c:0] [d:2] ]"));
+		assertThat(mark, equalTo(new Marking(pn, 0, 0, 2)));
+	}
+
 	@Test
 	public void testNetCopy() {
 		Place p = pn.createPlace();
@@ -0,0 +1,176 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.bisimulation;
+
+import java.util.Arrays;
+
+import uniol.apt.adt.PetriNetOrTransitionSystem;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static uniol.apt.TestTSForBisimulation.*;
+
+public class BisimulationPartitionTest {
+	// A cycle of length n where the arc leaving state i is labeled with labels[i % labels.length]
+	static private TransitionSystem cycle(int n, String... labels) {
+		TransitionSystem ts = new TransitionSystem();
+		for (int i = 0; i < n; i++)
+			ts.createState("s" + i);
+		for (int i = 0; i < n; i++)
+			ts.createArc("s" + i, "s" + ((i + 1) % n), labels[i % labels.length]);
+		ts.setInitialState("s0");
+		return ts;
+	}
+
+	// a.(b + c)
+	static private TransitionSystem getLateChoice() {
+		TransitionSystem ts = new TransitionSystem();
+		ts.createStates("s0", "s1", "s2", "s3");
+		ts.setInitialState("s0");
+		ts.createArc("s0", "s1", "a");
+		ts.createArc("s1", "s2", "b");
+		ts.createArc("s1", "s3", "c");
+		return ts;
+	}
+
+	// a.b + a.c
+	static private TransitionSystem getEarlyChoice() {
+		TransitionSystem ts = new TransitionSystem();
+		ts.createStates("s0", "s1", "s2", "s3", "s4");
+		ts.setInitialState("s0");
+		ts.createArc("s0", "s1", "a");
+		ts.createArc("s0", "s2", "a");
+		ts.createArc("s1", "s3", "b");
+		ts.createArc("s2", "s4", "c");
+		return ts;
+	}
+
+	@Test
+	public void testBisimilar() {
+		assertThat(BisimulationPartition.isBisimilar(getTestTS1A(), getTestTS1B()), is(true));
+		assertThat(BisimulationPartition.isBisimilar(getTestTS3A(), getTestTS3B()), is(true));
+		assertThat(BisimulationPartition.isBisimilar(getTestTS4A(), getTestTS4B()), is(true));
+		assertThat(BisimulationPartition.isBisimilar(cycle(2, "a"), cycle(3, "a")), is(true));
+	}
+
+	@Test
+	public void testNotBisimilar() {
+		assertThat(BisimulationPartition.isBisimilar(getTestTS2A(), getTestTS2B()), is(false));
+		assertThat(BisimulationPartition.isBisimilar(getTestTS3A(), getTestTS3C()), is(false));
+		assertThat(BisimulationPartition.isBisimilar(getTestTS4A(), getTestTS4C()), is(false));
+		assertThat(BisimulationPartition.isBisimilar(getLateChoice(), getEarlyChoice()), is(false));
+		assertThat(BisimulationPartition.isBisimilar(cycle(2, "a", "b"), cycle(3, "a", "b", "b")), is(false));
+	}
+
+	@Test
+	public void testSameSystemTwice() {
+		TransitionSystem ts = getEarlyChoice();
+		assertThat(BisimulationPartition.isBisimilar(ts, ts), is(true));
+	}
+
+	@Test
+	public void testBlocks() {
+		TransitionSystem ts = getEarlyChoice();
+		BisimulationPartition partition = new BisimulationPartition(ts);
+		// The deadlocks s3 and s4 are bisimilar, everything else is not
+		assertThat(partition.getNumberOfBlocks(), is(4));
+		assertThat(partition.areBisimilar(ts.getNode("s3"), ts.getNode("s4")), is(true));
+		assertThat(partition.areBisimilar(ts.getNode("s1"), ts.getNode("s2")), is(false));
+		assertThat(partition.areBisimilar(ts.getNode("s0"), ts.getNode("s1")), is(false));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testUnknownState() {
+		new BisimulationPartition(getEarlyChoice()).getBlock(getLateChoice().getInitialState());
+	}
+
+	@Test
+	public void testQuotientOfCycle() {
+		TransitionSystem ts = cycle(12, "a", "b", "a", "c");
+		TransitionSystem quotient = new BisimulationPartition(ts).getQuotient(ts);
+		assertThat(quotient.getNodes(), hasSize(4));
+		assertThat(quotient.getEdges(), hasSize(4));
+		assertThat(BisimulationPartition.isBisimilar(ts, quotient), is(true));
+		assertThat(ts.getNodes(), hasSize(12));
+		assertThat(ts.getEdges(), hasSize(12));
+	}
+
+	@Test
+	public void testQuotientMergesArcs() {
+		TransitionSystem ts = getEarlyChoice();
+		ts.createArc("s1", "s4", "b");
+		ts.createArc("s2", "s3", "c");
+		TransitionSystem quotient = new BisimulationPartition(ts).getQuotient(ts);
+		assertThat(quotient.getNodes(), hasSize(4));
+		assertThat(quotient.getEdges(), hasSize(4));
+		assertThat(quotient.getInitialState().getPostsetNodes(), hasSize(2));
+		assertThat(BisimulationPartition.isBisimilar(ts, quotient), is(true));
+	}
+
+	@Test
+	public void testQuotientOfSecondSystem() {
+		TransitionSystem ts1 = cycle(2, "a");
+		TransitionSystem ts2 = getEarlyChoice();
+		BisimulationPartition partition = new BisimulationPartition(ts1, ts2);
+		assertThat(partition.getNumberOfBlocks(), is(5));
+		assertThat(partition.getQuotient(ts1).getNodes(), hasSize(1));
+		assertThat(partition.getQuotient(ts2).getNodes(), hasSize(4));
+	}
+
+	@Test
+	public void testParallel() {
+		TransitionSystem ts1 = cycle(6000, "a", "a", "b");
+		TransitionSystem ts2 = cycle(300, "a", "a", "b");
+		ts2.createArc(ts2.getNode("s7"), ts2.getNode("s8"), "c");
+
+		BisimulationPartition sequential = new BisimulationPartition(Arrays.asList(ts1, ts2), 1);
+		BisimulationPartition parallel = new BisimulationPartition(Arrays.asList(ts1, ts2), 3);
+		assertThat(parallel.getNumberOfBlocks(), equalTo(sequential.getNumberOfBlocks()));
+		for (TransitionSystem ts : Arrays.asList(ts1, ts2))
+			for (State state : ts.getNodes())
+				assertThat(parallel.getBlock(state), equalTo(sequential.getBlock(state)));
+		assertThat(sequential.getQuotient(ts1).getNodes(), hasSize(3));
+		assertThat(sequential.areBisimilar(ts1.getInitialState(), ts2.getInitialState()), is(false));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidNumberOfThreads() {
+		new BisimulationPartition(Arrays.asList(getEarlyChoice()), 0);
+	}
+
+	@Test
+	public void testBisimulationDoesNotModify() throws Exception {
+		TransitionSystem ts1 = getTestTS1A();
+		TransitionSystem ts2 = getTestTS1B();
+		int states1 = ts1.getNodes().size();
+		int states2 = ts2.getNodes().size();
+		Bisimulation bisimulation = new Bisimulation();
+		assertThat(bisimulation.checkBisimulation(new PetriNetOrTransitionSystem(ts1),
+					new PetriNetOrTransitionSystem(ts2)), is(true));
+		assertThat(bisimulation.getErrorPath(), is(nullValue()));
+		assertThat(ts1.getNodes(), hasSize(states1));
+		assertThat(ts2.getNodes(), hasSize(states2));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,96 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package uniol.apt.analysis.coverability;
+
+import java.util.Collections;
+
+import org.testng.annotations.Test;
+
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Transition;
+import uniol.apt.generator.philnet.TristatePhilNetGenerator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static uniol.apt.TestNetCollection.*;
+import static uniol.apt.analysis.coverability.CoverabilityGraphQueries.*;
+
+public class CoverabilityGraphQueriesTest {
+	@Test
+	public void testFindNodeInInfiniteGraph() {
+		// The reachability graph of this net is infinite, but the search must still terminate
+		PetriNet pn = getTokenGeneratorNet();
+		Transition t1 = pn.getTransition("t1");
+		CoverabilityGraphNode node = findNode(CoverabilityGraph.getReachabilityGraph(pn),
+				covers(new Marking(pn, Collections.singletonMap("p1", 3))));
+		assertThat(node, not(nullValue()));
+		assertThat(node.getFiringSequence(), contains(t1, t1, t1));
+	}
+
+	@Test
+	public void testFindNodeNotFound() {
+		PetriNet pn = getDeadlockNet();
+		CoverabilityGraph graph = CoverabilityGraph.get(pn);
+		assertThat(findNode(graph, hasOmega()), nullValue());
+		assertThat(findNode(graph, covers(new Marking(pn, Collections.singletonMap("p1", 2)))), nullValue());
+	}
+
+	@Test
+	public void testDeadlock() {
+		PetriNet pn = getDeadlockNet();
+		CoverabilityGraphNode node = findNode(CoverabilityGraph.get(pn), isDeadlock());
+		assertThat(node, not(nullValue()));
+		assertThat(node.getFiringSequence(), hasSize(1));
+		assertThat(findNode(CoverabilityGraph.get(getNonPersistentNet()), isDeadlock()), nullValue());
+	}
+
+	@Test
+	public void testFires() {
+		PetriNet pn = getDeadTransitionNet();
+		CoverabilityGraph graph = CoverabilityGraph.get(pn);
+		assertThat(findNode(graph, fires(pn.getTransition("td"))), nullValue());
+		assertThat(findNode(graph, fires(pn.getTransition("tl"))), is(graph.getInitialNode()));
+	}
+
+	@Test
+	public void testFindNodeNotReaching() {
+		PetriNet pn = getDeadlockNet();
+		CoverabilityGraph graph = CoverabilityGraph.get(pn);
+		CoverabilityGraphNode node = findNodeNotReaching(graph, fires(pn.getTransition("t1")));
+		assertThat(node, not(nullValue()));
+		assertThat(node.getFiringSequence(), hasSize(1));
+		assertThat(findNodeNotReaching(graph, hasOmega()), is(graph.getInitialNode()));
+		assertThat(findNodeNotReaching(graph, isDeadlock()), nullValue());
+	}
+
+	@Test
+	public void testIsFiredOnCycle() {
+		PetriNet pn = getDeadlockNet();
+		assertThat(isFiredOnCycle(CoverabilityGraph.get(pn), pn.getTransition("t1")), is(false));
+
+		pn = new TristatePhilNetGenerator().generateNet(3);
+		for (Transition t : pn.getTransitions())
+			assertThat(isFiredOnCycle(CoverabilityGraph.get(pn), t), is(true));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
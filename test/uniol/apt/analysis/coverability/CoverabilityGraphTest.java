@@ -20,9 +20,13 @@
 package uniol.apt.analysis.coverability;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import org.hamcrest.Matcher;
 
@@ -30,13 +34,19 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.pn.Marking;
 import uniol.apt.adt.pn.Transition;
+import uniol.apt.generator.bitnet.SimpleBitNetGenerator;
 import uniol.apt.generator.cycle.CycleGenerator;
+import uniol.apt.generator.philnet.BistatePhilNetGenerator;
+import uniol.apt.generator.philnet.PhilNetGenerator;
+import uniol.apt.generator.philnet.QuadstatePhilNetGenerator;
 
 import static uniol.apt.TestNetCollection.*;
 import static uniol.apt.adt.matcher.Matchers.*;
@@ -91,6 +101,114 @@ public class CoverabilityGraphTest {
 		assertThat(cov.getEdges(), containsInAnyOrder(edgeMatchers));
 	}
 
+	private List<String> describeGraph(CoverabilityGraph cov) {
+		List<String> result = new ArrayList<>();
+		for (CoverabilityGraphNode node : cov.getNodes()) {
+			StringBuilder sb = new StringBuilder(node.getMarking().toString());
+			sb.append(" via");
+			for (Transition t : node.getFiringSequence())
+				sb.append(" ").append(t.getId());
+			List<String> edges = new ArrayList<>();
+			for (CoverabilityGraphEdge edge : node.getPostsetEdges())
+				edges.add(edge.getTransition().getId() + "->" + edge.getTarget().getMarking());
+			Collections.sort(edges);
+			sb.append(" edges ").append(edges);
+			result.add(sb.toString());
+		}
+		return result;
+	}
+
+	@Test(dataProvider = "IntRange", dataProviderClass = IntRangeDataProvider.class)
+	@IntRangeParameter(start = 2, end = 6)
+	public void testParallel(int size) {
+		PhilNetGenerator generator = new QuadstatePhilNetGenerator();
+		CoverabilityGraph sequential = CoverabilityGraph.getReachabilityGraph(generator.generateNet(size));
+		CoverabilityGraph parallel = CoverabilityGraph.getReachabilityGraph(generator.generateNet(size));
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			assertEquals(parallel.calculateNodes(pool), sequential.calculateNodes());
+		} finally {
+			pool.shutdown();
+		}
+		assertEquals(describeGraph(parallel), describeGraph(sequential));
+	}
+
+	@Test
+	public void testParallelCoverability() {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			CoverabilityGraph sequential = CoverabilityGraph.get(getTokenGeneratorNet());
+			CoverabilityGraph parallel = CoverabilityGraph.get(getTokenGeneratorNet());
+			// Expand the initial node before the parallel calculation starts
+			parallel.getInitialNode().getPostsetEdges();
+			parallel.calculateNodes(pool);
+			assertEquals(describeGraph(parallel), describeGraph(sequential));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test(dataProvider = "IntRange", dataProviderClass = IntRangeDataProvider.class)
+	@IntRangeParameter(start = 2, end = 5)
+	public void testHeapBudget(int size) {
+		PhilNetGenerator generator = new QuadstatePhilNetGenerator();
+		CoverabilityGraph unlimited = CoverabilityGraph.getReachabilityGraph(generator.generateNet(size));
+		// A budget of zero bytes forces all markings into memory-mapped files
+		CoverabilityGraph limited = CoverabilityGraph.getReachabilityGraph(generator.generateNet(size), 0);
+
+		assertEquals(limited.calculateNodes(), unlimited.calculateNodes());
+		assertEquals(describeGraph(limited), describeGraph(unlimited));
+	}
+
+	@Test
+	public void testHeapBudgetCoverability() {
+		CoverabilityGraph unlimited = CoverabilityGraph.get(getTokenGeneratorNet());
+		CoverabilityGraph limited = CoverabilityGraph.get(getTokenGeneratorNet(), 0);
+		assertEquals(describeGraph(limited), describeGraph(unlimited));
+		assertEquals(limited.getInitialNode(), limited.getInitialNode());
+	}
+
+	@Test(dataProvider = "IntRange", dataProviderClass = IntRangeDataProvider.class)
+	@IntRangeParameter(start = 1, end = 10)
+	public void testReducedBitNet(int size) {
+		// All bits are independent, so only a single transition has to be fired in each marking
+		PetriNet pn = new SimpleBitNetGenerator().generateNet(size);
+		CoverabilityGraph reduced = CoverabilityGraph.getReducedGraph(pn, Collections.<Transition>emptySet());
+		assertThat(reduced.calculateNodes(), lessThanOrEqualTo(2 * size));
+		assertEquals(CoverabilityGraph.get(pn).calculateNodes(), 1 << size);
+	}
+
+	@Test(dataProvider = "IntRange", dataProviderClass = IntRangeDataProvider.class)
+	@IntRangeParameter(start = 4, end = 8)
+	public void testReducedPhilNet(int size) {
+		PetriNet pn = new BistatePhilNetGenerator().generateNet(size);
+		CoverabilityGraph full = CoverabilityGraph.get(pn);
+		CoverabilityGraph reduced = CoverabilityGraph.getReducedGraph(pn, Collections.<Transition>emptySet());
+		assertThat(reduced.calculateNodes(), lessThan(full.calculateNodes()));
+
+		// Both graphs must contain the same deadlocks
+		Set<Marking> fullDeadlocks = new HashSet<>();
+		for (CoverabilityGraphNode node : full.getNodes())
+			if (node.getPostsetEdges().isEmpty())
+				fullDeadlocks.add(node.getMarking());
+		Set<Marking> reducedDeadlocks = new HashSet<>();
+		for (CoverabilityGraphNode node : reduced.getNodes())
+			if (node.getPostsetEdges().isEmpty())
+				reducedDeadlocks.add(node.getMarking());
+		assertEquals(reducedDeadlocks, fullDeadlocks);
+	}
+
+	@Test
+	public void testReducedVisible() {
+		// Both transitions are independent, but must still be fired when they are visible
+		PetriNet pn = getConcurrentDiamondNet();
+		CoverabilityGraph reduced = CoverabilityGraph.getReducedGraph(pn, pn.getTransitions());
+		assertEquals(reduced.calculateNodes(), 4);
+		reduced = CoverabilityGraph.getReducedGraph(pn, Collections.<Transition>emptySet());
+		assertEquals(reduced.calculateNodes(), 3);
+	}
+
 	@Test
 	public void testCache() {
 		PetriNet pn = getEmptyNet();
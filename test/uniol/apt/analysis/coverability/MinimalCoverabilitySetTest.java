@@ -0,0 +1,151 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package uniol.apt.analysis.coverability;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Place;
+import uniol.apt.adt.pn.Transition;
+import uniol.apt.generator.philnet.QuadstatePhilNetGenerator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static uniol.apt.TestNetCollection.*;
+
+public class MinimalCoverabilitySetTest {
+
+	// Calculate the maximal markings of the coverability graph
+	private List<Marking> getMaximalMarkings(PetriNet pn) {
+		List<Marking> markings = new ArrayList<>();
+		for (CoverabilityGraphNode node : CoverabilityGraph.get(pn).getNodes())
+			markings.add(node.getMarking());
+
+		List<Marking> result = new ArrayList<>();
+		for (Marking marking : markings) {
+			boolean maximal = true;
+			for (Marking other : markings) {
+				if (!other.equals(marking) && covers(other, marking))
+					maximal = false;
+			}
+			if (maximal)
+				result.add(marking);
+		}
+		return result;
+	}
+
+	private boolean covers(Marking cur, Marking other) {
+		for (Place p : cur.getNet().getPlaces()) {
+			if (cur.getToken(p).isOmega())
+				continue;
+			if (other.getToken(p).isOmega() || cur.getToken(p).getValue() < other.getToken(p).getValue())
+				return false;
+		}
+		return true;
+	}
+
+	@DataProvider(name = "nets")
+	private Object[][] getNets() {
+		return new Object[][] {
+			{ getEmptyNet() },
+			{ getNoTransitionOnePlaceNet() },
+			{ getOneTransitionNoPlaceNet() },
+			{ getTokenGeneratorNet() },
+			{ getDeadlockNet() },
+			{ getNonPersistentNet() },
+			{ getPersistentBiCFNet() },
+			{ getConcurrentDiamondNet() },
+			{ getConflictingDiamondNet() },
+			{ getABCLanguageNet() },
+			{ getMultiArcNet() },
+			{ getACBCCLoopNet() },
+			{ new QuadstatePhilNetGenerator().generateNet(3) },
+			{ getUnboundedNet() },
+		};
+	}
+
+	// A net where a place can grow in two different ways and an OMEGA enables further transitions
+	private PetriNet getUnboundedNet() {
+		PetriNet pn = new PetriNet();
+		Place[] p = pn.createPlaces("p0", "p1", "p2", "p3");
+		Transition[] t = pn.createTransitions("a", "b", "c", "d");
+		p[0].setInitialToken(1);
+		pn.createFlow(p[0], t[0]);
+		pn.createFlow(t[0], p[0]);
+		pn.createFlow(t[0], p[1]);
+		pn.createFlow(p[1], t[1], 3);
+		pn.createFlow(t[1], p[2]);
+		pn.createFlow(p[0], t[2]);
+		pn.createFlow(t[2], p[3]);
+		pn.createFlow(p[3], t[3]);
+		pn.createFlow(p[2], t[3]);
+		pn.createFlow(t[3], p[0]);
+		return pn;
+	}
+
+	@Test(dataProvider = "nets")
+	public void testSameAsCoverabilityGraph(PetriNet pn) {
+		List<Marking> expected = getMaximalMarkings(pn);
+		MinimalCoverabilitySet set = new MinimalCoverabilitySet(pn);
+		assertThat(set.getMarkings(), containsInAnyOrder(expected.toArray()));
+		for (Marking marking : expected)
+			assertThat(set.covers(marking), is(true));
+	}
+
+	@Test(dataProvider = "nets")
+	public void testNodes(PetriNet pn) {
+		MinimalCoverabilitySet set = new MinimalCoverabilitySet(pn);
+		for (MinimalCoverabilitySet.Element node : set.getNodes()) {
+			Marking marking = node.getMarking();
+			if (marking.hasOmega())
+				continue;
+			Marking reached = pn.getInitialMarking().fireTransitions(
+					node.getFiringSequence().toArray(new Transition[0]));
+			assertThat(reached, equalTo(marking));
+		}
+	}
+
+	@Test
+	public void testTokenGeneratorNet() {
+		PetriNet pn = getTokenGeneratorNet();
+		MinimalCoverabilitySet set = MinimalCoverabilitySet.get(pn);
+		assertThat(set.isBounded(), is(false));
+		assertThat(set.getMarkings(), hasSize(1));
+		assertThat(set.covers(new Marking(pn, Collections.singletonMap("p1", 42))), is(true));
+		assertThat(MinimalCoverabilitySet.get(pn), sameInstance(set));
+	}
+
+	@Test
+	public void testDeadlockNet() {
+		PetriNet pn = getDeadlockNet();
+		MinimalCoverabilitySet set = MinimalCoverabilitySet.get(pn);
+		assertThat(set.isBounded(), is(true));
+		assertThat(set.covers(pn.getInitialMarking()), is(true));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,111 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+
+package uniol.apt.analysis.coverability;
+
+import org.testng.annotations.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StateStoreTest {
+
+	private void fill(StateStore store, int count) {
+		for (int i = 0; i < count; i++) {
+			long[] marking = { i, -1, 1L << 40, i % 7 };
+			assertThat(store.find(marking), equalTo(-1));
+			assertThat(store.add(marking, i - 1, i % 3, i % 5 == 0 ? i / 2 : -1), equalTo(i));
+		}
+	}
+
+	private void check(StateStore store, int count) {
+		assertThat(store.size(), equalTo(count));
+		for (int i = 0; i < count; i++) {
+			long[] marking = { i, -1, 1L << 40, i % 7 };
+			assertThat(store.find(marking), equalTo(i));
+			assertThat(store.getMarking(i), equalTo(marking));
+			assertThat(store.getParent(i), equalTo(i - 1));
+			assertThat(store.getTransition(i), equalTo(i % 3));
+			assertThat(store.getCovered(i), equalTo(i % 5 == 0 ? i / 2 : -1));
+			assertThat(store.getDepth(i), equalTo(i));
+		}
+		assertThat(store.getTransitionSequence(4), equalTo(new int[] { 1, 2, 0, 1 }));
+	}
+
+	@Test
+	public void testEmpty() {
+		StateStore store = new StateStore(2);
+		assertThat(store.size(), equalTo(0));
+		assertThat(store.find(new long[] { 0, 0 }), equalTo(-1));
+	}
+
+	@Test
+	public void testNoPlaces() {
+		StateStore store = new StateStore(0);
+		assertThat(store.add(new long[0], -1, -1, -1), equalTo(0));
+		assertThat(store.find(new long[0]), equalTo(0));
+		assertThat(store.getMarking(0), equalTo(new long[0]));
+		assertThat(store.getTransitionSequence(0), equalTo(new int[0]));
+	}
+
+	@Test
+	public void testHeap() {
+		StateStore store = new StateStore(4);
+		fill(store, 10000);
+		check(store, 10000);
+		assertThat(store.getMappedBytes(), equalTo(0L));
+	}
+
+	@Test
+	public void testSerialisedOnHeap() {
+		StateStore store = new StateStore(4, 1L << 30, null);
+		fill(store, 10000);
+		check(store, 10000);
+		assertThat(store.getMappedBytes(), equalTo(0L));
+	}
+
+	@Test
+	public void testMarkingIsCopied() {
+		StateStore store = new StateStore(2);
+		long[] marking = { 1, 2 };
+		store.add(marking, -1, -1, -1);
+		marking[0] = 3;
+		store.getMarking(0)[1] = 4;
+		assertThat(store.getMarking(0), equalTo(new long[] { 1, 2 }));
+		assertThat(store.find(new long[] { 1, 2 }), equalTo(0));
+	}
+
+	@Test
+	public void testMapped() {
+		StateStore store = new StateStore(4, 1024, null);
+		fill(store, 10000);
+		check(store, 10000);
+		assertThat(store.getMappedBytes(), greaterThan(0L));
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void testInvalidIndex() {
+		StateStore store = new StateStore(1);
+		store.add(new long[] { 0 }, -1, -1, -1);
+		store.getMarking(1);
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,150 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.coverability;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Transition;
+import uniol.apt.generator.bitnet.SimpleBitNetGenerator;
+import uniol.apt.generator.cycle.CycleGenerator;
+import uniol.apt.generator.philnet.BistatePhilNetGenerator;
+import uniol.apt.generator.philnet.QuadstatePhilNetGenerator;
+import uniol.tests.dataprovider.IntRangeDataProvider;
+import uniol.tests.dataprovider.annotations.IntRangeParameter;
+
+import static uniol.apt.TestNetCollection.*;
+
+public class SymmetriesTest {
+	@Test
+	public void testNoSymmetries() {
+		Symmetries symmetries = new Symmetries(getABCLanguageNet());
+		assertEquals(symmetries.getGeneratorCount(), 0);
+		assertEquals(symmetries.getGroupSize(), 1);
+	}
+
+	@Test(dataProvider = "IntRange", dataProviderClass = IntRangeDataProvider.class)
+	@IntRangeParameter(start = 1, end = 10)
+	public void testCycle(int size) {
+		// The symmetries of a cycle are its rotations
+		PetriNet pn = new CycleGenerator().generateNet(size, 2);
+		Symmetries symmetries = new Symmetries(pn);
+		assertEquals(symmetries.getGroupSize(), size);
+
+		// Markings of two tokens only differ in the distance between the tokens
+		CoverabilityGraph reduced = CoverabilityGraph.getReachabilityGraph(pn, symmetries);
+		assertEquals(reduced.calculateNodes(), size / 2 + 1);
+		checkFiringSequences(pn, symmetries, reduced);
+	}
+
+	@Test(dataProvider = "IntRange", dataProviderClass = IntRangeDataProvider.class)
+	@IntRangeParameter(start = 1, end = 8)
+	public void testBitNet(int size) {
+		// Bits can be permuted and each bit can be flipped, so all reachable markings are in the same orbit
+		PetriNet pn = new SimpleBitNetGenerator().generateNet(size);
+		Symmetries symmetries = new Symmetries(pn);
+		if (size <= 4)
+			assertEquals(symmetries.getGroupSize(), (1 << size) * factorial(size));
+		CoverabilityGraph reduced = CoverabilityGraph.getReachabilityGraph(pn, symmetries);
+		assertEquals(reduced.calculateNodes(), 1);
+		assertEquals(CoverabilityGraph.getReachabilityGraph(pn).calculateNodes(), 1 << size);
+	}
+
+	@Test(dataProvider = "IntRange", dataProviderClass = IntRangeDataProvider.class)
+	@IntRangeParameter(start = 3, end = 7)
+	public void testBistatePhilNet(int size) {
+		// Rotations and reflections of the table
+		PetriNet pn = new BistatePhilNetGenerator().generateNet(size);
+		Symmetries symmetries = new Symmetries(pn);
+		assertEquals(symmetries.getGroupSize(), 2 * size);
+		checkReduction(pn, symmetries);
+	}
+
+	@Test(dataProvider = "IntRange", dataProviderClass = IntRangeDataProvider.class)
+	@IntRangeParameter(start = 2, end = 5)
+	public void testQuadstatePhilNet(int size) {
+		PetriNet pn = new QuadstatePhilNetGenerator().generateNet(size);
+		Symmetries symmetries = new Symmetries(pn);
+		assertEquals(symmetries.getGroupSize(), size);
+		checkReduction(pn, symmetries);
+	}
+
+	@Test
+	public void testHeapBudget() {
+		PetriNet pn = new QuadstatePhilNetGenerator().generateNet(4);
+		Symmetries symmetries = new Symmetries(pn);
+		CoverabilityGraph unlimited = CoverabilityGraph.getReachabilityGraph(pn, symmetries);
+		CoverabilityGraph limited = CoverabilityGraph.getReachabilityGraph(pn, 0, symmetries);
+		assertEquals(limited.calculateNodes(), unlimited.calculateNodes());
+		checkFiringSequences(pn, symmetries, limited);
+	}
+
+	static private void checkReduction(PetriNet pn, Symmetries symmetries) {
+		CoverabilityGraph full = CoverabilityGraph.getReachabilityGraph(pn);
+		CoverabilityGraph reduced = CoverabilityGraph.getReachabilityGraph(pn, symmetries);
+		assertThat(reduced.calculateNodes(), lessThan(full.calculateNodes()));
+		checkFiringSequences(pn, symmetries, reduced);
+
+		// Every orbit of the full graph has its representative in the reduced graph and deadlocks are kept
+		Set<Marking> fullMarkings = new HashSet<>();
+		Set<Marking> fullDeadlocks = new HashSet<>();
+		for (CoverabilityGraphNode node : full.getNodes()) {
+			Marking marking = symmetries.canonicalize(node.getMarking());
+			fullMarkings.add(marking);
+			if (node.getPostsetEdges().isEmpty())
+				fullDeadlocks.add(marking);
+		}
+		Set<Marking> reducedMarkings = new HashSet<>();
+		Set<Marking> reducedDeadlocks = new HashSet<>();
+		for (CoverabilityGraphNode node : reduced.getNodes()) {
+			reducedMarkings.add(node.getMarking());
+			if (node.getPostsetEdges().isEmpty())
+				reducedDeadlocks.add(node.getMarking());
+		}
+		assertEquals(reducedMarkings, fullMarkings);
+		assertEquals(reducedDeadlocks, fullDeadlocks);
+	}
+
+	static private void checkFiringSequences(PetriNet pn, Symmetries symmetries, CoverabilityGraph graph) {
+		// The firing sequences are fireable and reach a marking in the orbit of the node's marking
+		for (CoverabilityGraphNode node : graph.getNodes()) {
+			Marking marking = pn.getInitialMarking();
+			for (Transition transition : node.getFiringSequence()) {
+				assertTrue(transition.isFireable(marking));
+				marking = transition.fire(marking);
+			}
+			assertEquals(symmetries.canonicalize(marking), node.getMarking());
+		}
+	}
+
+	static private int factorial(int n) {
+		return n <= 1 ? 1 : n * factorial(n - 1);
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
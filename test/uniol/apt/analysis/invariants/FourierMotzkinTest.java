@@ -0,0 +1,158 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.invariants;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import uniol.apt.adt.pn.PetriNet;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static uniol.apt.io.parser.ParserTestUtils.getAptPN;
+
+@SuppressWarnings("unchecked")
+public class FourierMotzkinTest {
+	static private List<BigInteger> vector(long... values) {
+		List<BigInteger> result = new ArrayList<>();
+		for (long value : values)
+			result.add(BigInteger.valueOf(value));
+		return result;
+	}
+
+	static private boolean supportContains(List<? extends Number> larger, List<? extends Number> smaller) {
+		for (int i = 0; i < larger.size(); i++)
+			if (larger.get(i).longValue() == 0 && smaller.get(i).longValue() != 0)
+				return false;
+		return true;
+	}
+
+	@Test
+	public void testSimple() {
+		int[][] mat = { { 1 }, { -1 } };
+		assertThat(FourierMotzkin.calculate(mat), contains(vector(1, 1)));
+	}
+
+	@Test
+	public void testNoInvariant() {
+		int[][] mat = { { 1, 0 }, { 1, 1 } };
+		assertThat(FourierMotzkin.calculate(mat), is(empty()));
+	}
+
+	@Test
+	public void testNoColumns() {
+		int[][] mat = { {}, {} };
+		assertThat(FourierMotzkin.calculate(mat), containsInAnyOrder(vector(1, 0), vector(0, 1)));
+	}
+
+	@Test
+	public void testGcd() {
+		int[][] mat = { { 2 }, { -4 }, { 0 } };
+		assertThat(FourierMotzkin.calculate(mat), containsInAnyOrder(vector(2, 1, 0), vector(0, 0, 1)));
+	}
+
+	@Test
+	public void testOnlyMinimalSupport() {
+		// (1, 1, 1, 1) is an invariant, but its support is not minimal
+		int[][] mat = { { 1 }, { 1 }, { -1 }, { -1 } };
+		assertThat(FourierMotzkin.calculate(mat), containsInAnyOrder(vector(1, 0, 1, 0), vector(1, 0, 0, 1),
+					vector(0, 1, 1, 0), vector(0, 1, 0, 1)));
+	}
+
+	@Test
+	public void testOverflow() {
+		long a = Integer.MAX_VALUE;
+		long b = Integer.MAX_VALUE - 1;
+		int[][] mat = {
+			{ (int) a, 0, 0 },
+			{ (int) -b, (int) a, 0 },
+			{ 0, (int) -b, (int) a },
+			{ 0, 0, (int) -b },
+		};
+		BigInteger bigA = BigInteger.valueOf(a);
+		BigInteger bigB = BigInteger.valueOf(b);
+		List<BigInteger> expected = new ArrayList<>();
+		expected.add(bigB.pow(3));
+		expected.add(bigA.multiply(bigB.pow(2)));
+		expected.add(bigA.pow(2).multiply(bigB));
+		expected.add(bigA.pow(3));
+		assertThat(FourierMotzkin.calculate(mat), contains(expected));
+	}
+
+	@Test
+	public void testParallel() {
+		// A single column with 80 producers and 80 consumers creates 6400 pairs
+		int n = 80;
+		int[][] mat = new int[2 * n][];
+		for (int i = 0; i < 2 * n; i++)
+			mat[i] = new int[] { i < n ? 1 : -1 };
+
+		Set<List<BigInteger>> sequential = FourierMotzkin.calculate(mat, 1);
+		Set<List<BigInteger>> parallel = FourierMotzkin.calculate(mat, 3);
+		assertThat(sequential, hasSize(n * n));
+		assertThat(parallel, equalTo(sequential));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidNumberOfThreads() {
+		FourierMotzkin.calculate(new int[0][], 0);
+	}
+
+	@DataProvider(name = "nets")
+	private Object[][] createNets() throws Exception {
+		return new Object[][] {
+			{ getAptPN("nets/readerWriter-net.apt") },
+			{ getAptPN("nets/eb-nets/more/aabbcc-net.apt") },
+			{ getAptPN("nets/eb-nets/trap-siphon-linalg/traps-siphons-1-net.apt") },
+		};
+	}
+
+	@Test(dataProvider = "nets")
+	public void testAgainstFarkas(PetriNet pn) {
+		// The Farkas algorithm also finds non-minimal invariants, but all minimal ones
+		Set<List<Integer>> farkas = InvariantCalculator.calcSInvariants(pn,
+				InvariantCalculator.InvariantAlgorithm.FARKAS);
+		Set<List<Integer>> minimal = InvariantCalculator.calcSInvariants(pn,
+				InvariantCalculator.InvariantAlgorithm.MARTINEZ_SILVA);
+
+		for (List<Integer> invariant : minimal)
+			assertThat(farkas, hasItem(invariant));
+		for (List<Integer> invariant : farkas) {
+			boolean found = false;
+			for (List<Integer> other : minimal)
+				if (supportContains(invariant, other))
+					found = true;
+			assertThat(invariant + " is not generated", found, is(true));
+		}
+		for (List<Integer> invariant : minimal)
+			for (List<Integer> other : minimal)
+				if (invariant != other)
+					assertThat(invariant + " contains " + other, supportContains(invariant, other),
+							is(false));
+		assertThat(new HashSet<>(minimal), hasSize(minimal.size()));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
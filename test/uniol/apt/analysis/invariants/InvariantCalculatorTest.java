@@ -46,6 +46,10 @@ public class InvariantCalculatorTest {
 		for (List<Integer> inv : expected) {
 			assertTrue(calculated.contains(inv), inv.toString() + " " + calculated.toString());
 		}
+		calculated = InvariantCalculator.calcSInvariants(pn, InvariantCalculator.InvariantAlgorithm.PIPE);
+		for (List<Integer> inv : expected) {
+			assertTrue(calculated.contains(inv), inv.toString() + " " + calculated.toString());
+		}
 	}
 
 	private void testTInvariant(PetriNet pn, Set<List<Integer>> expected) {
@@ -57,6 +61,10 @@ public class InvariantCalculatorTest {
 		for (List<Integer> inv : expected) {
 			assertTrue(calculated.contains(inv), inv.toString() + " " + calculated.toString());
 		}
+		calculated = InvariantCalculator.calcTInvariants(pn, InvariantCalculator.InvariantAlgorithm.PIPE);
+		for (List<Integer> inv : expected) {
+			assertTrue(calculated.contains(inv), inv.toString() + " " + calculated.toString());
+		}
 	}
 
 	private void coveredBySInvariant(PetriNet pn, boolean covered) {
@@ -64,6 +72,8 @@ public class InvariantCalculatorTest {
 			InvariantCalculator.InvariantAlgorithm.FARKAS) != null, covered);
 		assertEquals(InvariantCalculator.coveredBySInvariants(pn,
 			InvariantCalculator.InvariantAlgorithm.PIPE) != null, covered);
+		assertEquals(InvariantCalculator.coveredBySInvariants(pn,
+			InvariantCalculator.InvariantAlgorithm.MARTINEZ_SILVA) != null, covered);
 	}
 
 	private void coveredByTInvariant(PetriNet pn, boolean covered) {
@@ -71,6 +81,8 @@ public class InvariantCalculatorTest {
 			InvariantCalculator.InvariantAlgorithm.FARKAS) != null, covered);
 		assertEquals(InvariantCalculator.coveredByTInvariants(pn,
 			InvariantCalculator.InvariantAlgorithm.PIPE) != null, covered);
+		assertEquals(InvariantCalculator.coveredByTInvariants(pn,
+			InvariantCalculator.InvariantAlgorithm.MARTINEZ_SILVA) != null, covered);
 	}
 
 	// TESTNETCOLLECTION ....
@@ -0,0 +1,165 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.isomorphism;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import uniol.apt.adt.ts.TransitionSystem;
+
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ColorRefinementTest {
+	// Create cycles of the given lengths. The initial state is the first state of the first cycle. Arcs are
+	// labeled "a" for even and "b" for odd positions in a cycle.
+	static private TransitionSystem cycles(int... lengths) {
+		TransitionSystem ts = new TransitionSystem();
+		int offset = 0;
+		for (int length : lengths) {
+			for (int i = 0; i < length; i++)
+				ts.createState("s" + (offset + i));
+			for (int i = 0; i < length; i++) {
+				String label = i % 2 == 0 ? "a" : "b";
+				ts.createArc("s" + (offset + i), "s" + (offset + (i + 1) % length), label);
+			}
+			offset += length;
+		}
+		ts.setInitialState("s0");
+		return ts;
+	}
+
+	// Create a pseudo-random transition system whose states are created in the order of the given permutation. A
+	// path through all states makes sure that every state is reachable.
+	static private TransitionSystem randomTS(int numStates, List<Integer> order) {
+		TransitionSystem ts = new TransitionSystem();
+		for (int state : order)
+			ts.createState("s" + state);
+		for (int state = 0; state + 1 < numStates; state++)
+			ts.createArc("s" + state, "s" + (state + 1), "next");
+		Random random = new Random(42);
+		Set<String> arcs = new HashSet<>();
+		for (int state = 0; state < numStates; state++)
+			for (int i = 0; i < 3; i++) {
+				String target = "s" + random.nextInt(numStates);
+				String label = "t" + random.nextInt(4);
+				if (arcs.add(state + " " + target + " " + label))
+					ts.createArc("s" + state, target, label);
+			}
+		ts.setInitialState("s0");
+		return ts;
+	}
+
+	static private List<Integer> range(int n) {
+		List<Integer> result = new ArrayList<>();
+		for (int i = 0; i < n; i++)
+			result.add(i);
+		return result;
+	}
+
+	@Test
+	public void testCycle() {
+		TransitionSystem ts = cycles(6);
+		ColorRefinement colors = new ColorRefinement(ts, true);
+		// All states have different distances to the initial state
+		assertThat(colors.getNumberOfColors(), is(6));
+		assertThat(colors.getColor(ts.getNode("s0")), not(equalTo(colors.getColor(ts.getNode("s2")))));
+	}
+
+	@Test
+	public void testSameDegreesNotIsomorphic() {
+		// Every state has one predecessor and one successor in both systems
+		TransitionSystem ts1 = cycles(6);
+		TransitionSystem ts2 = cycles(2, 4);
+		for (boolean checkLabels : new boolean[] { true, false }) {
+			assertThat(new ColorRefinement(ts1, checkLabels).getHash(),
+					not(equalTo(new ColorRefinement(ts2, checkLabels).getHash())));
+			assertThat(new IsomorphismLogic(ts1, ts2, checkLabels).isIsomorphic(), is(false));
+		}
+	}
+
+	@Test
+	public void testSymmetricStates() {
+		// The states of the second cycle cannot be distinguished from each other
+		TransitionSystem ts = cycles(2, 4);
+		ColorRefinement colors = new ColorRefinement(ts, false);
+		assertThat(colors.getNumberOfColors(), is(3));
+		assertThat(colors.getColor(ts.getNode("s2")), equalTo(colors.getColor(ts.getNode("s5"))));
+	}
+
+	@Test
+	public void testLabels() {
+		TransitionSystem ts1 = cycles(4);
+		TransitionSystem ts2 = cycles(4);
+		ts2.removeArc("s0", "s1", "a");
+		ts2.createArc("s0", "s1", "c");
+		assertThat(new ColorRefinement(ts1, true).getHash(),
+				not(equalTo(new ColorRefinement(ts2, true).getHash())));
+		assertThat(new ColorRefinement(ts1, false).getHash(),
+				equalTo(new ColorRefinement(ts2, false).getHash()));
+	}
+
+	@Test
+	public void testParallelArcsWithoutLabels() {
+		// Without labels, only the existence of an arc between two states matters
+		TransitionSystem ts1 = cycles(3);
+		TransitionSystem ts2 = cycles(3);
+		ts2.createArc("s0", "s1", "c");
+		assertThat(new ColorRefinement(ts1, false).getHash(),
+				equalTo(new ColorRefinement(ts2, false).getHash()));
+		assertThat(new ColorRefinement(ts1, true).getHash(),
+				not(equalTo(new ColorRefinement(ts2, true).getHash())));
+	}
+
+	@Test
+	public void testIsomorphicLargeTS() {
+		int n = 500;
+		List<Integer> order = range(n);
+		Collections.shuffle(order, new Random(1));
+		TransitionSystem ts1 = randomTS(n, range(n));
+		TransitionSystem ts2 = randomTS(n, order);
+
+		ColorRefinement colors1 = new ColorRefinement(ts1, true);
+		ColorRefinement colors2 = new ColorRefinement(ts2, true);
+		assertThat(colors1.getHash(), equalTo(colors2.getHash()));
+		assertThat(colors1.getNumberOfColors(), equalTo(colors2.getNumberOfColors()));
+		for (int i = 0; i < n; i++)
+			assertThat(colors1.getColor(ts1.getNode("s" + i)),
+					equalTo(colors2.getColor(ts2.getNode("s" + i))));
+		assertThat(new IsomorphismLogic(ts1, ts2, true).isIsomorphic(), is(true));
+
+		// An additional arc makes them non-isomorphic
+		ts2.createArc("s0", "s0", "x");
+		assertThat(new ColorRefinement(ts2, true).getHash(), not(equalTo(colors1.getHash())));
+		assertThat(new IsomorphismLogic(ts1, ts2, true).isIsomorphic(), is(false));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testUnknownState() {
+		new ColorRefinement(cycles(2), true).getColor(cycles(2).getInitialState());
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
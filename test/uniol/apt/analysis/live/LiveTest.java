@@ -19,6 +19,8 @@
 
 package uniol.apt.analysis.live;
 
+import java.util.List;
+
 import org.testng.annotations.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -28,7 +30,10 @@ import static uniol.apt.TestNetCollection.*;
 import uniol.apt.adt.pn.PetriNet;
 import uniol.apt.adt.pn.Transition;
 import uniol.apt.analysis.exception.UnboundedException;
+import uniol.apt.generator.philnet.BistatePhilNetGenerator;
 import uniol.apt.generator.philnet.TristatePhilNetGenerator;
+import uniol.tests.dataprovider.IntRangeDataProvider;
+import uniol.tests.dataprovider.annotations.IntRangeParameter;
 
 /** @author Uli Schlachter, vsp */
 public class LiveTest {
@@ -36,6 +41,7 @@ public class LiveTest {
 	private void testLiveness(PetriNet pn, Transition transition, boolean simply,
 		boolean weakly, boolean strongly) throws Exception {
 		assertThat(Live.checkSimplyLive(pn, transition) != null, equalTo(simply));
+		assertThat(Live.checkSimplyLive(pn, transition, true) != null, equalTo(simply));
 		assertThat(Live.checkWeaklyLive(pn, transition), equalTo(weakly));
 		assertThat(Live.checkStronglyLive(pn, transition), equalTo(strongly));
 	}
@@ -55,10 +61,11 @@ public class LiveTest {
 		testLiveNet(getOneTransitionNoPlaceNet(), true);
 	}
 
-	@Test(expectedExceptions = UnboundedException.class)
+	@Test
 	public void testTokenGeneratorNetSimply() throws Exception {
+		// The transition fires before the unbounded part of the net is explored
 		PetriNet pn = getTokenGeneratorNet();
-		Live.checkSimplyLive(pn, pn.getTransition("t1"));
+		assertThat(Live.checkSimplyLive(pn, pn.getTransition("t1")), contains(pn.getTransition("t1")));
 	}
 
 	@Test(expectedExceptions = UnboundedException.class)
@@ -93,6 +100,30 @@ public class LiveTest {
 		testLiveNet(new TristatePhilNetGenerator().generateNet(3), true, true, false);
 	}
 
+	@Test
+	public void testFindDeadlock() throws Exception {
+		PetriNet pn = getDeadlockNet();
+		assertThat(Live.findDeadlock(pn, false), hasSize(1));
+		assertThat(Live.findDeadlock(pn, true), hasSize(1));
+		pn = getNonPersistentNet();
+		assertThat(Live.findDeadlock(pn, false), nullValue());
+		assertThat(Live.findDeadlock(pn, true), nullValue());
+	}
+
+	@Test(dataProvider = "IntRange", dataProviderClass = IntRangeDataProvider.class)
+	@IntRangeParameter(start = 2, end = 6)
+	public void testFindDeadlockPhilNet(int size) throws Exception {
+		PetriNet pn = new BistatePhilNetGenerator().generateNet(size);
+		List<Transition> deadlock = Live.findDeadlock(pn, true);
+		assertThat(deadlock, equalTo(Live.findDeadlock(pn, false)));
+		assertThat(Live.findDeadTransition(pn, true), equalTo(Live.findDeadTransition(pn, false)));
+	}
+
+	@Test(expectedExceptions = UnboundedException.class)
+	public void testFindDeadlockTokenGeneratorNet() throws Exception {
+		Live.findDeadlock(getTokenGeneratorNet(), true);
+	}
+
 	@Test
 	public void testDeadTransitionNet() throws Exception {
 		PetriNet pn = getDeadTransitionNet();
@@ -0,0 +1,106 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.symbolic;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class BDDTest {
+	@Test
+	public void testConstants() {
+		BDD bdd = new BDD(2);
+		assertThat(bdd.not(BDD.TRUE), is(BDD.FALSE));
+		assertThat(bdd.and(BDD.TRUE, BDD.FALSE), is(BDD.FALSE));
+		assertThat(bdd.or(BDD.TRUE, BDD.FALSE), is(BDD.TRUE));
+		assertThat(bdd.satCount(BDD.TRUE), is(BigInteger.valueOf(4)));
+		assertThat(bdd.satCount(BDD.FALSE), is(BigInteger.ZERO));
+		assertThat(bdd.firstSat(BDD.FALSE), is(nullValue()));
+	}
+
+	@Test
+	public void testCanonical() {
+		BDD bdd = new BDD(3);
+		int a = bdd.variable(0);
+		int b = bdd.variable(1);
+		assertThat(bdd.and(a, bdd.not(a)), is(BDD.FALSE));
+		assertThat(bdd.or(a, bdd.notVariable(0)), is(BDD.TRUE));
+		assertThat(bdd.or(bdd.and(a, b), bdd.and(a, bdd.not(b))), is(a));
+		assertThat(bdd.not(bdd.and(a, b)), is(bdd.or(bdd.not(a), bdd.not(b))));
+		assertThat(bdd.ite(a, b, bdd.not(b)), is(bdd.not(bdd.ite(a, bdd.not(b), b))));
+	}
+
+	@Test
+	public void testExists() {
+		BDD bdd = new BDD(3);
+		int a = bdd.variable(0);
+		int b = bdd.variable(1);
+		int c = bdd.variable(2);
+		assertThat(bdd.exists(bdd.and(a, c), a), is(c));
+		assertThat(bdd.exists(bdd.and(a, c), bdd.and(a, c)), is(BDD.TRUE));
+		assertThat(bdd.exists(bdd.and(a, bdd.not(a)), a), is(BDD.FALSE));
+		assertThat(bdd.exists(bdd.or(bdd.and(a, b), bdd.and(bdd.not(a), c)), a), is(bdd.or(b, c)));
+		assertThat(bdd.exists(bdd.and(a, b), c), is(bdd.and(a, b)));
+	}
+
+	@Test
+	public void testSatCount() {
+		BDD bdd = new BDD(3);
+		int a = bdd.variable(0);
+		int c = bdd.variable(2);
+		assertThat(bdd.satCount(a), is(BigInteger.valueOf(4)));
+		assertThat(bdd.satCount(bdd.or(a, c)), is(BigInteger.valueOf(6)));
+		assertThat(bdd.satCount(bdd.and(a, bdd.not(c))), is(BigInteger.valueOf(2)));
+
+		BDD large = new BDD(100);
+		assertThat(large.satCount(large.variable(50)), is(BigInteger.ONE.shiftLeft(99)));
+	}
+
+	@Test
+	public void testEnumeration() {
+		BDD bdd = new BDD(4);
+		int f = bdd.or(bdd.and(bdd.variable(0), bdd.variable(3)), bdd.notVariable(1));
+		Set<String> seen = new HashSet<>();
+		String previous = "";
+		for (boolean[] sat = bdd.firstSat(f); sat != null; sat = bdd.nextSat(f, sat)) {
+			assertThat(bdd.evaluate(f, sat), is(true));
+			String string = toString(sat);
+			assertThat(string, greaterThan(previous));
+			previous = string;
+			seen.add(string);
+		}
+		assertThat(BigInteger.valueOf(seen.size()), is(bdd.satCount(f)));
+		assertThat(seen, hasSize(10));
+	}
+
+	static private String toString(boolean[] assignment) {
+		StringBuilder result = new StringBuilder();
+		for (boolean value : assignment)
+			result.append(value ? '1' : '0');
+		return result.toString();
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -0,0 +1,194 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.symbolic;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import uniol.apt.adt.pn.Marking;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.pn.Place;
+import uniol.apt.adt.pn.Transition;
+import uniol.apt.analysis.bounded.Bounded;
+import uniol.apt.analysis.coverability.CoverabilityGraph;
+import uniol.apt.analysis.coverability.CoverabilityGraphNode;
+import uniol.apt.analysis.exception.PreconditionFailedException;
+import uniol.apt.analysis.live.Live;
+import uniol.apt.analysis.reversible.ReversibleNet;
+import uniol.apt.generator.bitnet.SimpleBitNetGenerator;
+import uniol.apt.generator.cycle.CycleGenerator;
+import uniol.apt.generator.philnet.BistatePhilNetGenerator;
+import uniol.apt.generator.philnet.QuadstatePhilNetGenerator;
+import uniol.tests.dataprovider.IntRangeDataProvider;
+import uniol.tests.dataprovider.annotations.IntRangeParameter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static uniol.apt.TestNetCollection.*;
+
+public class SymbolicReachabilityTest {
+	@DataProvider(name = "nets")
+	public Object[][] nets() {
+		return new Object[][] {
+			{ getEmptyNet() }, { getNoTransitionOnePlaceNet() }, { getOneTransitionNoPlaceNet() },
+			{ getTokenGeneratorNet() }, { getDeadlockNet() }, { getNonPersistentNet() },
+			{ getPersistentBiCFNet() }, { getConcurrentDiamondNet() }, { getConflictingDiamondNet() },
+			{ getABCLanguageNet() }, { getDeadTransitionNet() }, { getDeadNet() }, { getMultiArcNet() },
+			{ getACBCCLoopNet() }, { new QuadstatePhilNetGenerator().generateNet(3) },
+		};
+	}
+
+	@Test(dataProvider = "nets")
+	public void testAgainstExplicit(PetriNet pn) throws Exception {
+		SymbolicReachability reachability = new SymbolicReachability(pn);
+		assertThat(reachability.isSafe(), is(Bounded.checkBounded(pn).isSafe()));
+		if (!reachability.isSafe()) {
+			// The witness really puts a second token onto the place
+			Marking marking = pn.getInitialMarking();
+			for (Transition transition : reachability.getUnsafeFiringSequence())
+				marking = transition.fire(marking);
+			assertThat(marking.getToken(reachability.getUnsafePlace()).getValue(), greaterThan(1L));
+			return;
+		}
+
+		Set<Marking> explicit = new HashSet<>();
+		for (CoverabilityGraphNode node : CoverabilityGraph.getReachabilityGraph(pn).getNodes())
+			explicit.add(node.getMarking());
+		Set<Marking> symbolic = new HashSet<>();
+		for (Marking marking : reachability.getMarkings()) {
+			symbolic.add(marking);
+			assertThat(fire(pn, reachability.getFiringSequence(marking)), is(marking));
+		}
+		assertThat(symbolic, is(explicit));
+		assertThat(reachability.getNumberOfMarkings(), is(BigInteger.valueOf(explicit.size())));
+
+		assertThat(reachability.findDeadTransition() == null, is(Live.findDeadTransition(pn) == null));
+		assertThat(reachability.findNonStronglyLiveTransition() == null,
+				is(Live.findNonStronglyLiveTransition(pn) == null));
+		for (Transition transition : pn.getTransitions()) {
+			List<Transition> simplyLive = reachability.checkSimplyLive(transition);
+			assertThat(simplyLive == null, is(Live.checkSimplyLive(pn, transition) == null));
+			if (simplyLive != null)
+				assertThat(simplyLive, hasItem(transition));
+			assertThat(reachability.findKillingFireSequence(transition) == null,
+					is(Live.findKillingFireSequence(pn, transition) == null));
+		}
+
+		List<Transition> deadlock = reachability.findDeadlock();
+		assertThat(deadlock == null, is(Live.findDeadlock(pn, false) == null));
+		if (deadlock != null) {
+			Marking marking = fire(pn, deadlock);
+			for (Transition transition : pn.getTransitions())
+				assertThat(transition.isFireable(marking), is(false));
+		}
+
+		ReversibleNet reversible = new ReversibleNet(pn);
+		reversible.check();
+		Marking nonReversible = reachability.findNonReversibleMarking();
+		assertThat(nonReversible == null, is(reversible.isReversible()));
+		if (nonReversible != null)
+			assertThat(reachability.isReachable(nonReversible), is(true));
+	}
+
+	@Test(dataProvider = "IntRange", dataProviderClass = IntRangeDataProvider.class)
+	@IntRangeParameter(start = 2, end = 8)
+	public void testBistatePhilNet(int size) throws Exception {
+		PetriNet pn = new BistatePhilNetGenerator().generateNet(size);
+		SymbolicReachability reachability = new SymbolicReachability(pn);
+		assertThat(reachability.getNumberOfMarkings(),
+				is(BigInteger.valueOf(CoverabilityGraph.getReachabilityGraph(pn).calculateNodes())));
+		assertThat(reachability.findDeadlock(), is(nullValue()));
+		assertThat(reachability.findNonStronglyLiveTransition(), is(nullValue()));
+		assertThat(reachability.findNonReversibleMarking(), is(nullValue()));
+	}
+
+	@Test
+	public void testLargeBitNet() throws Exception {
+		// Far too many markings for the reachability graph
+		PetriNet pn = new SimpleBitNetGenerator().generateNet(64);
+		SymbolicReachability reachability = new SymbolicReachability(pn);
+		assertThat(reachability.getNumberOfMarkings(), is(BigInteger.ONE.shiftLeft(64)));
+		assertThat(reachability.findDeadlock(), is(nullValue()));
+		assertThat(reachability.findDeadTransition(), is(nullValue()));
+	}
+
+	@Test
+	public void testLargePhilNet() throws Exception {
+		PetriNet pn = new BistatePhilNetGenerator().generateNet(40);
+		SymbolicReachability reachability = new SymbolicReachability(pn);
+		assertThat(reachability.getNumberOfMarkings(), is(new BigInteger("228826127")));
+	}
+
+	@Test
+	public void testUnsafeInitialMarking() {
+		SymbolicReachability reachability = new SymbolicReachability(new CycleGenerator().generateNet(3, 2));
+		assertThat(reachability.isSafe(), is(false));
+		assertThat(reachability.getUnsafeFiringSequence(), is(empty()));
+		assertThat(reachability.getUnsafePlace().getId(), is("p0"));
+	}
+
+	@Test(expectedExceptions = PreconditionFailedException.class)
+	public void testUnsafeQuery() throws Exception {
+		new SymbolicReachability(getTokenGeneratorNet()).getNumberOfMarkings();
+	}
+
+	@Test
+	public void testVariables() throws Exception {
+		PetriNet pn = new QuadstatePhilNetGenerator().generateNet(3);
+		SymbolicReachability reachability = new SymbolicReachability(pn);
+		BDD bdd = reachability.getBDD();
+		Set<Integer> variables = new HashSet<>();
+		for (Place place : pn.getPlaces())
+			variables.add(reachability.getVariable(place));
+		assertThat(variables, hasSize(pn.getPlaces().size()));
+
+		// Every reachable marking is contained in the BDD when the places are translated to their variables
+		for (CoverabilityGraphNode node : CoverabilityGraph.getReachabilityGraph(pn).getNodes()) {
+			boolean[] assignment = new boolean[bdd.getNumberOfVariables()];
+			for (Place place : pn.getPlaces())
+				assignment[reachability.getVariable(place)] =
+					node.getMarking().getToken(place).getValue() == 1;
+			assertThat(bdd.evaluate(reachability.getReachableMarkings(), assignment), is(true));
+		}
+	}
+
+	@Test
+	public void testCache() {
+		PetriNet pn = getConcurrentDiamondNet();
+		SymbolicReachability reachability = SymbolicReachability.get(pn);
+		assertThat(SymbolicReachability.get(pn), is(sameInstance(reachability)));
+		pn.createPlace();
+		assertThat(SymbolicReachability.get(pn), is(not(sameInstance(reachability))));
+	}
+
+	static private Marking fire(PetriNet pn, List<Transition> sequence) {
+		Marking marking = pn.getInitialMarking();
+		for (Transition transition : sequence)
+			marking = transition.fire(marking);
+		return marking;
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
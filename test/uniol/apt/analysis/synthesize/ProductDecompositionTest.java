@@ -0,0 +1,202 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import uniol.apt.TestTSCollection;
+import uniol.apt.adt.ts.Arc;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.isomorphism.IsomorphismLogic;
+import uniol.apt.util.Pair;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uniol.apt.analysis.synthesize.Matchers.*;
+
+public class ProductDecompositionTest {
+	static private TransitionSystem product(TransitionSystem ts1, TransitionSystem ts2) {
+		TransitionSystem result = new TransitionSystem();
+		Map<Pair<State, State>, State> states = new HashMap<>();
+		for (State s1 : ts1.getNodes())
+			for (State s2 : ts2.getNodes())
+				states.put(new Pair<>(s1, s2), result.createState());
+		result.setInitialState(states.get(new Pair<>(ts1.getInitialState(), ts2.getInitialState())));
+
+		for (Map.Entry<Pair<State, State>, State> entry : states.entrySet()) {
+			State s1 = entry.getKey().getFirst();
+			State s2 = entry.getKey().getSecond();
+			for (Arc arc : s1.getPostsetEdges())
+				result.createArc(entry.getValue(), states.get(new Pair<>(arc.getTarget(), s2)),
+						arc.getLabel());
+			for (Arc arc : s2.getPostsetEdges())
+				result.createArc(entry.getValue(), states.get(new Pair<>(s1, arc.getTarget())),
+						arc.getLabel());
+		}
+		return result;
+	}
+
+	static private TransitionSystem cycle(String... labels) {
+		TransitionSystem ts = new TransitionSystem();
+		State first = ts.createState();
+		ts.setInitialState(first);
+		State current = first;
+		for (int i = 0; i < labels.length; i++) {
+			State next = i == labels.length - 1 ? first : ts.createState();
+			ts.createArc(current, next, labels[i]);
+			current = next;
+		}
+		return ts;
+	}
+
+	static private TransitionSystem path(String... labels) {
+		TransitionSystem ts = new TransitionSystem();
+		State current = ts.createState();
+		ts.setInitialState(current);
+		for (String label : labels) {
+			State next = ts.createState();
+			ts.createArc(current, next, label);
+			current = next;
+		}
+		return ts;
+	}
+
+	static private TransitionSystem renameEvents(TransitionSystem ts, String suffix) {
+		for (Arc arc : new HashSet<>(ts.getEdges())) {
+			ts.removeArc(arc);
+			ts.createArc(arc.getSource(), arc.getTarget(), arc.getLabel() + suffix);
+		}
+		return ts;
+	}
+
+	static private int[] getFactorSizes(TransitionSystem ts) {
+		List<TransitionSystem> factors = new ProductDecomposition(ts).getFactors();
+		int[] result = new int[factors.size()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = factors.get(i).getNodes().size();
+		Arrays.sort(result);
+		return result;
+	}
+
+	@Test
+	public void testNoProduct() {
+		TransitionSystem ts = TestTSCollection.getABandB();
+		List<TransitionSystem> factors = new ProductDecomposition(ts).getFactors();
+		assertThat(factors, contains(sameInstance(ts)));
+	}
+
+	@Test
+	public void testNonDeterministic() {
+		TransitionSystem ts = TestTSCollection.getNonDeterministicTS();
+		assertThat(new ProductDecomposition(ts).getFactors(), contains(sameInstance(ts)));
+	}
+
+	@Test
+	public void testPersistentTS() {
+		// The diamond is the product of a single a and a single b
+		assertThat(getFactorSizes(TestTSCollection.getPersistentTS()), equalTo(new int[] { 2, 2 }));
+	}
+
+	@Test
+	public void testThreeFactors() {
+		TransitionSystem ts = product(product(cycle("a", "b"), path("c", "d", "e")), cycle("f", "g", "h"));
+		assertThat(getFactorSizes(ts), equalTo(new int[] { 2, 3, 4 }));
+	}
+
+	@Test
+	public void testFactorsAreIsomorphic() {
+		TransitionSystem first = cycle("a", "b", "c");
+		TransitionSystem second = renameEvents(TestTSCollection.getABandB(), "'");
+
+		ProductDecomposition decomposition = new ProductDecomposition(product(first, second));
+		List<TransitionSystem> factors = decomposition.getFactors();
+		assertThat(factors, hasSize(2));
+		int firstIndex = factors.get(0).getAlphabet().contains("a") ? 0 : 1;
+		assertThat(new IsomorphismLogic(factors.get(firstIndex), first, true).isIsomorphic(), is(true));
+		assertThat(new IsomorphismLogic(factors.get(1 - firstIndex), second, true).isIsomorphic(),
+				is(true));
+	}
+
+	@Test
+	public void testProjection() {
+		TransitionSystem ts = TestTSCollection.getPersistentTS();
+		ProductDecomposition decomposition = new ProductDecomposition(ts);
+		for (int i = 0; i < 2; i++) {
+			TransitionSystem factor = decomposition.getFactors().get(i);
+			assertThat(decomposition.project(i, ts.getInitialState()), is(factor.getInitialState()));
+			assertThat(decomposition.project(i, ts.getNode("s1")), is(not(factor.getInitialState())));
+		}
+		State left = ts.getNode("l");
+		State right = ts.getNode("r");
+		assertThat(decomposition.project(0, left), is(not(decomposition.project(0, right))));
+		assertThat(decomposition.project(1, left), is(not(decomposition.project(1, right))));
+	}
+
+	@DataProvider(name = "products")
+	private Object[][] createProducts() {
+		TransitionSystem abAndB = TestTSCollection.getABandB();
+		return new Object[][] {
+			{ TestTSCollection.getPersistentTS() },
+			{ product(cycle("a", "b"), cycle("c", "d")) },
+			{ product(product(cycle("a", "b"), path("c", "d", "e")), cycle("f", "g", "h")) },
+			{ product(abAndB, cycle("c", "d")) },
+			{ product(abAndB, renameEvents(TestTSCollection.getStateSeparationFailureTS(), "'")) },
+		};
+	}
+
+	@Test(dataProvider = "products")
+	public void testSynthesis(TransitionSystem ts) throws Exception {
+		for (PNProperties properties : Arrays.asList(new PNProperties(), new PNProperties().setPure(true),
+					new PNProperties().requireSafe())) {
+			SynthesizePN synth = new SynthesizePN.Builder(ts).setProperties(properties)
+				.buildForIsomorphicBehavior();
+			SynthesizePN decomposed = new SynthesizePN.Builder(ts).setProperties(properties)
+				.setDecompose(true).buildForIsomorphicBehavior();
+
+			assertThat(decomposed.wasSuccessfullySeparated(), equalTo(synth.wasSuccessfullySeparated()));
+			assertThat(decomposed.getFailedEventStateSeparationProblems(),
+					equalTo(synth.getFailedEventStateSeparationProblems()));
+			assertThat(new HashSet<>(decomposed.getFailedStateSeparationProblems()),
+					equalTo(new HashSet<>(synth.getFailedStateSeparationProblems())));
+			if (decomposed.wasSuccessfullySeparated())
+				// This checks that the net has the right reachability graph
+				assertThat(decomposed.synthesizePetriNet(), is(notNullValue()));
+		}
+	}
+
+	@Test(dataProvider = "products")
+	public void testParallelSynthesis(TransitionSystem ts) throws Exception {
+		SynthesizePN synth = new SynthesizePN.Builder(ts).setDecompose(true).buildForIsomorphicBehavior();
+		SynthesizePN parallel = new SynthesizePN.Builder(ts).setDecompose(true).setNumberOfThreads(2)
+			.buildForIsomorphicBehavior();
+
+		assertThat(parallel.getSeparatingRegions(), hasSize(synth.getSeparatingRegions().size()));
+		assertThat(parallel.getFailedEventStateSeparationProblems(),
+				equalTo(synth.getFailedEventStateSeparationProblems()));
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
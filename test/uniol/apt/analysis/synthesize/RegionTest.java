@@ -434,6 +434,42 @@ public class RegionTest {
 		assertThat(region.getMarkingForState(ts.getNode("v")), equalTo(BigInteger.valueOf(1)));
 		assertThat(region.getMarkingForState(ts.getNode("w")), equalTo(BigInteger.valueOf(0)));
 	}
+
+	@Test
+	public void testGetMarkingForStateLongOverflow() throws UnreachableException {
+		TransitionSystem ts = TestTSCollection.getPathTS();
+		RegionUtility utility = new RegionUtility(ts);
+
+		// Each weight fits into a long, but the marking after firing 'a' twice does not
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		List<BigInteger> forward = new ArrayList<>(makeVector(0, 0, 1, 0, 2, 0));
+		forward.set(utility.getEventIndex("a"), max);
+		Region region = new Region.Builder(utility, makeVector(0, 0, 1, 0, 2, 0), forward)
+			.withInitialMarking(BigInteger.ONE);
+
+		assertThat(region.getMarkingForState(ts.getNode("s")), equalTo(BigInteger.ONE));
+		assertThat(region.getMarkingForState(ts.getNode("t")), equalTo(max.add(BigInteger.ONE)));
+		assertThat(region.getMarkingForState(ts.getNode("v")), equalTo(max.add(BigInteger.ONE)));
+		assertThat(region.getMarkingForState(ts.getNode("w")),
+				equalTo(max.shiftLeft(1).add(BigInteger.ONE)));
+	}
+
+	@Test
+	public void testGetMarkingForStateHugeWeight() throws UnreachableException {
+		TransitionSystem ts = TestTSCollection.getPathTS();
+		RegionUtility utility = new RegionUtility(ts);
+
+		// This weight does not fit into a long
+		BigInteger huge = BigInteger.ONE.shiftLeft(70);
+		List<BigInteger> backward = new ArrayList<>(makeVector(0, 0, 1, 0, 2, 0));
+		backward.set(utility.getEventIndex("b"), huge);
+		Region region = new Region.Builder(utility, backward, makeVector(0, 0, 1, 0, 2, 0))
+			.withNormalRegionInitialMarking();
+
+		assertThat(region.getInitialMarking(), equalTo(huge));
+		assertThat(region.getMarkingForState(ts.getNode("t")), equalTo(huge));
+		assertThat(region.getMarkingForState(ts.getNode("u")), equalTo(BigInteger.ZERO));
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -239,6 +239,35 @@ public class RegionUtilityTest {
 					pureRegionWithWeights(Arrays.asList("a", "b"), asBigIntegerList(1, 0)),
 					pureRegionWithWeights(Arrays.asList("a", "b"), asBigIntegerList(0, 1))));
 	}
+
+	@Test
+	public void testDeepTS() throws UnreachableException {
+		// A long cycle a^n b; this must not cause a stack overflow
+		int n = 100000;
+		TransitionSystem ts = new TransitionSystem();
+		State first = ts.createState();
+		ts.setInitialState(first);
+		State last = first;
+		for (int i = 0; i < n; i++) {
+			State next = ts.createState();
+			ts.createArc(last, next, "a");
+			last = next;
+		}
+		ts.createArc(last, first, "b");
+
+		RegionUtility utility = new RegionUtility(ts);
+		int a = utility.getEventIndex("a");
+		int b = utility.getEventIndex("b");
+		assertThat(utility.getReachingParikhVector(last), parikhVector(a, n, b, 0));
+
+		// The only chord gives the equation n*a + b = 0
+		List<Region> basis = utility.getRegionBasis();
+		assertThat(basis, hasSize(1));
+		Region region = basis.get(0);
+		assertThat(region.getWeight("b"), equalTo(region.getWeight("a").multiply(BigInteger.valueOf(-n))));
+		assertThat(region.getMarkingForState(last), equalTo(region.getMarkingForState(first)
+					.add(region.getWeight("a").multiply(BigInteger.valueOf(n)))));
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
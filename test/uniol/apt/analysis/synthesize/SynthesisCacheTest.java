@@ -0,0 +1,220 @@
+/*-
+ * APT - Analysis of Petri Nets and labeled Transition systems
+ * Copyright (C) 2026  Members of the project group APT
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package uniol.apt.analysis.synthesize;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import uniol.apt.TestTSCollection;
+import uniol.apt.adt.pn.PetriNet;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
+import uniol.apt.analysis.coverability.CoverabilityGraph;
+import uniol.apt.analysis.isomorphism.IsomorphismLogic;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static uniol.apt.analysis.synthesize.Matchers.*;
+import static uniol.apt.adt.matcher.Matchers.nodeWithID;
+
+@SuppressWarnings("unchecked")
+public class SynthesisCacheTest {
+	private File directory;
+
+	@BeforeMethod
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("apt-synthesis-cache").toFile();
+	}
+
+	@AfterMethod
+	public void teardown() {
+		File[] files = directory.listFiles();
+		if (files != null)
+			for (File file : files)
+				file.delete();
+		directory.delete();
+	}
+
+	private int countEntries() {
+		return directory.listFiles().length;
+	}
+
+	// The same as TestTSCollection.getABandB(), but with different state names and creation order
+	static private TransitionSystem getRenamedABandB() {
+		TransitionSystem ts = new TransitionSystem();
+		State z = ts.createState("z");
+		State y = ts.createState("y");
+		State x = ts.createState("x");
+		ts.setInitialState(x);
+		ts.createArc(x, z, "b");
+		ts.createArc(y, z, "b");
+		ts.createArc(x, y, "a");
+		return ts;
+	}
+
+	@Test
+	public void testCanonicalStateOrder() {
+		assertThat(SynthesisCache.getCanonicalStateOrder(TestTSCollection.getABandB()),
+				contains(nodeWithID("s"), nodeWithID("t"), nodeWithID("u")));
+		assertThat(SynthesisCache.getCanonicalStateOrder(getRenamedABandB()),
+				contains(nodeWithID("x"), nodeWithID("y"), nodeWithID("z")));
+	}
+
+	@Test
+	public void testCanonicalStateOrderNonDeterministic() {
+		assertThat(SynthesisCache.getCanonicalStateOrder(TestTSCollection.getNonDeterministicTS()),
+				is(nullValue()));
+	}
+
+	@Test
+	public void testCanonicalStateOrderUnreachable() {
+		TransitionSystem ts = TestTSCollection.getABandB();
+		ts.createState();
+		assertThat(SynthesisCache.getCanonicalStateOrder(ts), is(nullValue()));
+	}
+
+	@Test
+	public void testMiss() {
+		SynthesisCache cache = new SynthesisCache(directory, 1024 * 1024);
+		TransitionSystem ts = TestTSCollection.getPersistentTS();
+		assertThat(cache.lookup(ts, new RegionUtility(ts), new PNProperties(), false, false), is(nullValue()));
+	}
+
+	@Test
+	public void testHitOnIsomorphicTS() throws Exception {
+		SynthesisCache cache = new SynthesisCache(directory, 1024 * 1024);
+		TransitionSystem ts1 = TestTSCollection.getPersistentTS();
+		SynthesizePN synth1 = new SynthesizePN.Builder(ts1).setCache(cache).buildForIsomorphicBehavior();
+		assertThat(synth1.wasSuccessfullySeparated(), is(true));
+		assertThat(countEntries(), is(1));
+
+		TransitionSystem ts2 = TestTSCollection.getPersistentTS();
+		RegionUtility utility = new RegionUtility(ts2);
+		SynthesizePN synth2 = cache.lookup(ts2, utility, new PNProperties(), false, false);
+		assertThat(synth2, is(notNullValue()));
+		assertThat(synth2.getUtility(), is(sameInstance(utility)));
+		assertThat(synth2.wasSuccessfullySeparated(), is(true));
+		assertThat(synth2.getSeparatingRegions(), hasSize(synth1.getSeparatingRegions().size()));
+
+		PetriNet pn = synth2.synthesizePetriNet();
+		TransitionSystem reachabilityGraph = CoverabilityGraph.get(pn).toReachabilityLTS();
+		assertThat(new IsomorphismLogic(reachabilityGraph, ts2, true).isIsomorphic(), is(true));
+	}
+
+	@Test
+	public void testHitRemapsFailures() throws Exception {
+		SynthesisCache cache = new SynthesisCache(directory, 1024 * 1024);
+		new SynthesizePN.Builder(TestTSCollection.getABandB()).setCache(cache).buildForIsomorphicBehavior();
+
+		TransitionSystem ts = getRenamedABandB();
+		SynthesizePN synth = cache.lookup(ts, new RegionUtility(ts), new PNProperties(), false, false);
+		assertThat(synth, is(notNullValue()));
+		assertThat(synth.wasSuccessfullySeparated(), is(false));
+		assertThat(synth.getSeparatingRegions(), contains(
+					allOf(regionWithInitialMarking(1), pureRegionWithWeight("b", -1),
+						impureRegionWithWeight("a", 1, 1))));
+		assertThat(synth.getFailedStateSeparationProblems(),
+				contains(containsInAnyOrder(nodeWithID("x"), nodeWithID("y"))));
+		assertThat(synth.getFailedEventStateSeparationProblems(),
+				hasEntry(equalTo("a"), contains(nodeWithID("y"))));
+	}
+
+	@Test
+	public void testDifferentProperties() throws Exception {
+		SynthesisCache cache = new SynthesisCache(directory, 1024 * 1024);
+		TransitionSystem ts = TestTSCollection.getPersistentTS();
+		new SynthesizePN.Builder(ts).setCache(cache).buildForIsomorphicBehavior();
+
+		RegionUtility utility = new RegionUtility(ts);
+		assertThat(cache.lookup(ts, utility, new PNProperties().setPure(true), false, false), is(nullValue()));
+		assertThat(cache.lookup(ts, utility, new PNProperties(), true, false), is(nullValue()));
+		assertThat(cache.lookup(ts, utility, new PNProperties(), false, true), is(nullValue()));
+		assertThat(cache.lookup(ts, utility, new PNProperties(), false, false), is(notNullValue()));
+	}
+
+	@Test
+	public void testLanguageEquivalence() throws Exception {
+		SynthesisCache cache = new SynthesisCache(directory, 1024 * 1024);
+		TransitionSystem ts = TestTSCollection.getABandB();
+		SynthesizePN synth1 = new SynthesizePN.Builder(ts).setCache(cache).buildForLanguageEquivalence();
+		SynthesizePN synth2 = new SynthesizePN.Builder(ts).setCache(cache).buildForLanguageEquivalence();
+
+		assertThat(countEntries(), is(1));
+		assertThat(synth2, is(not(sameInstance(synth1))));
+		assertThat(synth2.onlyEventSeparation(), is(true));
+		assertThat(synth2.wasSuccessfullySeparated(), equalTo(synth1.wasSuccessfullySeparated()));
+		assertThat(synth2.getFailedEventStateSeparationProblems(),
+				equalTo(synth1.getFailedEventStateSeparationProblems()));
+	}
+
+	@Test
+	public void testBrokenEntry() throws Exception {
+		SynthesisCache cache = new SynthesisCache(directory, 1024 * 1024);
+		TransitionSystem ts = TestTSCollection.getPersistentTS();
+		new SynthesizePN.Builder(ts).setCache(cache).buildForIsomorphicBehavior();
+
+		File entry = directory.listFiles()[0];
+		Files.write(entry.toPath(), "garbage".getBytes("UTF-8"));
+		assertThat(cache.lookup(ts, new RegionUtility(ts), new PNProperties(), false, false), is(nullValue()));
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		SynthesisCache cache = new SynthesisCache(directory, 0);
+		new SynthesizePN.Builder(TestTSCollection.getPersistentTS()).setCache(cache)
+			.buildForIsomorphicBehavior();
+		assertThat(countEntries(), is(0));
+	}
+
+	@Test
+	public void testEvictionKeepsRecentEntries() throws Exception {
+		SynthesisCache unlimited = new SynthesisCache(directory, 1024 * 1024);
+		new SynthesizePN.Builder(TestTSCollection.getABandB()).setCache(unlimited).buildForIsomorphicBehavior();
+		File oldEntry = directory.listFiles()[0];
+		assertThat(oldEntry.setLastModified(0), is(true));
+
+		TransitionSystem ts = TestTSCollection.getPersistentTS();
+		SynthesizePN synth = new SynthesizePN.Builder(ts).setCache(unlimited).buildForIsomorphicBehavior();
+		assertThat(countEntries(), is(2));
+		long newSize = 0;
+		for (File file : directory.listFiles())
+			if (!file.equals(oldEntry))
+				newSize = file.length();
+
+		// Only leave space for the new entry
+		SynthesisCache cache = new SynthesisCache(directory, newSize);
+		cache.store(ts, synth, false);
+
+		assertThat(countEntries(), is(1));
+		assertThat(oldEntry.exists(), is(false));
+		assertThat(cache.lookup(ts, new RegionUtility(ts), new PNProperties(), false, false),
+				is(notNullValue()));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNegativeSize() {
+		new SynthesisCache(directory, -1);
+	}
+}
+
+// vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
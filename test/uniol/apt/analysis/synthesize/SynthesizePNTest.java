@@ -504,6 +504,65 @@ public class SynthesizePNTest {
 		}
 	}
 
+	static public class CalculateUnseparatedStates {
+		private TransitionSystem ts;
+		private RegionUtility utility;
+		private State unreachable;
+
+		@BeforeClass
+		public void setup() {
+			ts = SynthesizeWordModule.makeTS(Arrays.asList("a", "b"));
+			unreachable = ts.createState();
+			utility = new RegionUtility(ts);
+		}
+
+		@Test
+		public void testNoRegions() {
+			Set<Region> regions = Collections.emptySet();
+			assertThat(SynthesizePN.calculateUnseparatedStates(ts.getNodes(), regions),
+					containsInAnyOrder(ts.getNodes().toArray()));
+		}
+
+		@Test
+		public void testSingleRegion() {
+			// Marks the initial state with one and all other states with zero
+			Region region = Region.Builder.createPure(utility, asBigIntegerList(-1, 0))
+					.withInitialMarking(BigInteger.ONE);
+			Set<State> expected = new HashSet<>(ts.getNodes());
+			expected.remove(ts.getInitialState());
+
+			assertThat(SynthesizePN.calculateUnseparatedStates(ts.getNodes(),
+						Collections.singleton(region)), containsInAnyOrder(expected.toArray()));
+		}
+
+		@Test
+		public void testSeparated() {
+			Region region1 = Region.Builder.createPure(utility, asBigIntegerList(-1, 0))
+					.withInitialMarking(BigInteger.ONE);
+			Region region2 = Region.Builder.createPure(utility, asBigIntegerList(0, -1))
+					.withInitialMarking(BigInteger.ONE);
+			Set<Region> regions = new HashSet<>(Arrays.asList(region1, region2));
+
+			assertThat(SynthesizePN.calculateUnseparatedStates(ts.getNodes(), regions),
+					contains(unreachable));
+		}
+
+		@Test
+		public void testSubsetOfStates() {
+			Region region = Region.Builder.createPure(utility, asBigIntegerList(-1, 0))
+					.withInitialMarking(BigInteger.ONE);
+			Set<State> states = new HashSet<>(ts.getNodes());
+			states.remove(unreachable);
+			states.remove(ts.getInitialState());
+			State remaining = states.iterator().next();
+			states.remove(remaining);
+			states.add(ts.getInitialState());
+
+			assertThat(SynthesizePN.calculateUnseparatedStates(states, Collections.singleton(region)),
+					empty());
+		}
+	}
+
 	static public class DistributedImplementation {
 		private TransitionSystem ts;
 		private RegionUtility utility;
@@ -676,6 +735,82 @@ public class SynthesizePNTest {
 		assertThat(synth.getFailedEventStateSeparationProblems().size(), equalTo(size - 1));
 		assertThat(synth.getFailedStateSeparationProblems(), emptyIterable());
 	}
+
+	@DataProvider(name = "ParallelTS")
+	private Object[][] createParallelTS() throws Exception {
+		return new Object[][] {
+			{ TestTSCollection.getPersistentTS() },
+			{ TestTSCollection.getNonDeterministicTS() },
+			{ TestTSCollection.getcc1LTS() },
+			{ TestTSCollection.getPathTS() },
+			{ TestTSCollection.getStateSeparationFailureTS() },
+			{ TestTSCollection.getOverflowTS(10) },
+			{ CoverabilityGraph.get(TestNetCollection.getPersistentBiCFNet()).toReachabilityLTS() },
+			{ CoverabilityGraph.get(TestNetCollection.getConcurrentDiamondNet()).toReachabilityLTS() },
+		};
+	}
+
+	@Test(dataProvider = "ParallelTS")
+	public void testParallelSynthesis(TransitionSystem ts) throws Exception {
+		SynthesizePN synth = new SynthesizePN.Builder(ts).buildForIsomorphicBehavior();
+		SynthesizePN parallel = new SynthesizePN.Builder(ts).setNumberOfThreads(3).buildForIsomorphicBehavior();
+
+		assertThat(parallel.wasSuccessfullySeparated(), equalTo(synth.wasSuccessfullySeparated()));
+		assertThat(parallel.getFailedEventStateSeparationProblems(),
+				equalTo(synth.getFailedEventStateSeparationProblems()));
+		assertThat(new HashSet<>(parallel.getFailedStateSeparationProblems()),
+				equalTo(new HashSet<>(synth.getFailedStateSeparationProblems())));
+		if (parallel.wasSuccessfullySeparated()) {
+			PetriNet pn = parallel.synthesizePetriNet();
+			assertThat(new IsomorphismLogic(CoverabilityGraph.get(pn).toReachabilityLTS(), ts, true)
+					.isIsomorphic(), is(true));
+		}
+	}
+
+	@Test(dataProvider = "ParallelTS")
+	public void testParallelSynthesisIsDeterministic(TransitionSystem ts) throws Exception {
+		RegionUtility utility = new RegionUtility(ts);
+		Set<Region> regions = new SynthesizePN.Builder(utility).setNumberOfThreads(4)
+			.buildForIsomorphicBehavior().getSeparatingRegions();
+		for (int i = 0; i < 5; i++)
+			assertThat(new SynthesizePN.Builder(utility).setNumberOfThreads(4)
+					.buildForIsomorphicBehavior().getSeparatingRegions(), equalTo(regions));
+	}
+
+	@Test
+	public void testParallelSynthesisQuickFail() throws Exception {
+		TransitionSystem ts = TestTSCollection.getStateSeparationFailureTS();
+		SynthesizePN synth = new SynthesizePN.Builder(ts).setQuickFail(true).setNumberOfThreads(2)
+			.buildForIsomorphicBehavior();
+		assertThat(synth.wasSuccessfullySeparated(), is(false));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidNumberOfThreads() {
+		new SynthesizePN.Builder(TestTSCollection.getPersistentTS()).setNumberOfThreads(0);
+	}
+
+	@Test(dataProvider = "ParallelTS")
+	public void testSimplexSynthesis(TransitionSystem ts) throws Exception {
+		for (PNProperties properties : Arrays.asList(new PNProperties(), new PNProperties().setPure(true),
+					new PNProperties().requireSafe())) {
+			SynthesizePN synth = new SynthesizePN.Builder(ts).setProperties(properties)
+				.buildForIsomorphicBehavior();
+			SynthesizePN simplex = new SynthesizePN.Builder(ts).setProperties(properties)
+				.setUseSimplexSolver(true).buildForIsomorphicBehavior();
+
+			assertThat(simplex.wasSuccessfullySeparated(), equalTo(synth.wasSuccessfullySeparated()));
+			assertThat(simplex.getFailedEventStateSeparationProblems(),
+					equalTo(synth.getFailedEventStateSeparationProblems()));
+			assertThat(new HashSet<>(simplex.getFailedStateSeparationProblems()),
+					equalTo(new HashSet<>(synth.getFailedStateSeparationProblems())));
+			if (simplex.wasSuccessfullySeparated()) {
+				PetriNet pn = simplex.synthesizePetriNet();
+				assertThat(new IsomorphismLogic(CoverabilityGraph.get(pn).toReachabilityLTS(), ts, true)
+						.isIsomorphic(), is(true));
+			}
+		}
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
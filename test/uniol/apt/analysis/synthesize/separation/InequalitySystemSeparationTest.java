@@ -23,10 +23,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import uniol.apt.TestTSCollection;
+import uniol.apt.adt.ts.State;
+import uniol.apt.adt.ts.TransitionSystem;
 import uniol.apt.analysis.synthesize.PNProperties;
+import uniol.apt.analysis.synthesize.Region;
 import uniol.apt.analysis.synthesize.RegionUtility;
 
 import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static uniol.apt.analysis.synthesize.separation.SeparationUtility.isSeparatingRegion;
 
 /** @author Uli Schlachter */
 public class InequalitySystemSeparationTest {
@@ -77,6 +86,44 @@ public class InequalitySystemSeparationTest {
 
 		return tests.toArray(new Object[tests.size()]);
 	}
+
+	static private Separation create(RegionUtility utility) {
+		String[] locationMap = new String[utility.getNumberOfEvents()];
+		return new InequalitySystemSeparation(utility, new PNProperties(), locationMap);
+	}
+
+	@Test
+	public void testReusedMarkings() {
+		// The same instance solves all problems twice with the cached marking terms. It must solve exactly the
+		// problems that a new instance solves.
+		TransitionSystem ts = TestTSCollection.getPathTS();
+		RegionUtility utility = new RegionUtility(ts);
+		Separation separation = create(utility);
+		for (int round = 0; round < 2; round++) {
+			for (State state : ts.getNodes()) {
+				for (State other : ts.getNodes()) {
+					if (state.equals(other))
+						continue;
+					Separation fresh = create(utility);
+					Region region = separation.calculateSeparatingRegion(state, other);
+					Region expected = fresh.calculateSeparatingRegion(state, other);
+					assertThat(region == null, is(expected == null));
+					if (region != null)
+						assertThat(isSeparatingRegion(region, state, other), is(true));
+				}
+				for (String event : ts.getAlphabet()) {
+					if (SeparationUtility.isEventEnabled(state, event))
+						continue;
+					Separation fresh = create(utility);
+					Region region = separation.calculateSeparatingRegion(state, event);
+					Region expected = fresh.calculateSeparatingRegion(state, event);
+					assertThat(region == null, is(expected == null));
+					if (region != null)
+						assertThat(isSeparatingRegion(region, state, event), is(true));
+				}
+			}
+		}
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
@@ -36,6 +36,61 @@ public class MathToolsTest {
 		assertEquals(-11 % 5, -1);
 		assertEquals(MathTools.mod(-11, 5), 4);
 	}
+
+	@Test
+	public void testAddExact() {
+		assertEquals(MathTools.addExact(17, -5), 12);
+		assertEquals(MathTools.addExact(Long.MAX_VALUE, -1), Long.MAX_VALUE - 1);
+		assertEquals(MathTools.addExact(Long.MIN_VALUE, Long.MAX_VALUE), -1);
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void testAddExactOverflow() {
+		MathTools.addExact(Long.MAX_VALUE, 1);
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void testAddExactUnderflow() {
+		MathTools.addExact(Long.MIN_VALUE, -1);
+	}
+
+	@Test
+	public void testMultiplyExact() {
+		assertEquals(MathTools.multiplyExact(17, -5), -85);
+		assertEquals(MathTools.multiplyExact(1L << 31, 1L << 31), 1L << 62);
+		assertEquals(MathTools.multiplyExact(Long.MIN_VALUE, 1), Long.MIN_VALUE);
+		assertEquals(MathTools.multiplyExact(Long.MAX_VALUE, -1), -Long.MAX_VALUE);
+		assertEquals(MathTools.multiplyExact(0, Long.MIN_VALUE), 0);
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void testMultiplyExactOverflow() {
+		MathTools.multiplyExact(1L << 32, 1L << 31);
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void testMultiplyExactMinValue() {
+		MathTools.multiplyExact(Long.MIN_VALUE, -1);
+	}
+
+	@Test
+	public void testGcdLong() {
+		assertEquals(MathTools.gcd(12L, 18L), 6);
+		assertEquals(MathTools.gcd(-12L, 18L), 6);
+		assertEquals(MathTools.gcd(0L, -7L), 7);
+		assertEquals(MathTools.gcd(1L << 40, 3L << 38), 1L << 38);
+	}
+
+	@Test
+	public void testCheckNotMinValue() {
+		assertEquals(MathTools.checkNotMinValue(Long.MAX_VALUE), Long.MAX_VALUE);
+		assertEquals(MathTools.checkNotMinValue(Long.MIN_VALUE + 1), Long.MIN_VALUE + 1);
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void testCheckNotMinValueOverflow() {
+		MathTools.checkNotMinValue(Long.MIN_VALUE);
+	}
 }
 
 // vim: ft=java:noet:sw=8:sts=8:ts=8:tw=120
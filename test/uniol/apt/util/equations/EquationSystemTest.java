@@ -21,6 +21,7 @@ package uniol.apt.util.equations;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -159,6 +160,79 @@ public class EquationSystemTest {
 		assertThat(basis, containsInAnyOrder(matchers));
 	}
 
+	@Test
+	public void testSparseEquation() {
+		EquationSystem system = new EquationSystem(3);
+		system.addSparseEquation(new int[] { 2, 1 }, new int[] { 5, 42 });
+
+		Set<List<BigInteger>> basis = system.findBasis();
+		List<Matcher<? super Iterable<? extends BigInteger>>> matchers = new ArrayList<>();
+		matchers.add(equation(1, 0, 0));
+		matchers.add(equation(0, 5, -42));
+		assertThat(basis, containsInAnyOrder(matchers));
+	}
+
+	@Test
+	public void testEmptySparseEquation() {
+		EquationSystem system = new EquationSystem(2);
+		system.addSparseEquation(new int[0], new int[0]);
+
+		Set<List<BigInteger>> basis = system.findBasis();
+		List<Matcher<? super Iterable<? extends BigInteger>>> matchers = new ArrayList<>();
+		matchers.add(equation(1, 0));
+		matchers.add(equation(0, 1));
+		assertThat(basis, containsInAnyOrder(matchers));
+	}
+
+	@Test
+	public void testHermiteNormalForm() {
+		// The solutions are spanned by (1, 1, 0, 0) and (1, 0, 1, -1), but the basis is normalised
+		EquationSystem system = new EquationSystem(4);
+		system.addEquation(1, -1, 0, 1);
+		system.addEquation(0, 0, 1, 1);
+
+		Set<List<BigInteger>> basis = system.findBasis();
+		List<Matcher<? super Iterable<? extends BigInteger>>> matchers = new ArrayList<>();
+		matchers.add(equation(1, 0, 1, -1));
+		matchers.add(equation(0, 1, -1, 1));
+		assertThat(basis, containsInAnyOrder(matchers));
+	}
+
+	@Test
+	public void testBigCoefficients() {
+		BigInteger big = BigInteger.ONE.shiftLeft(100);
+		EquationSystem system = new EquationSystem(3);
+		system.addEquation(Arrays.asList(big, big.negate(), BigInteger.ZERO));
+		system.addEquation(Arrays.asList(BigInteger.ZERO, big.add(BigInteger.ONE), BigInteger.ONE));
+
+		Set<List<BigInteger>> basis = system.findBasis();
+		assertThat(basis, contains(contains(BigInteger.ONE, BigInteger.ONE,
+						big.add(BigInteger.ONE).negate())));
+	}
+
+	@Test
+	public void testOverflow() {
+		// Intermediate results do not fit into a long
+		long big = 1L << 40;
+		EquationSystem system = new EquationSystem(3);
+		system.addEquation(Arrays.asList(BigInteger.valueOf(big), BigInteger.valueOf(big + 1),
+					BigInteger.valueOf(big + 2)));
+		system.addEquation(Arrays.asList(BigInteger.valueOf(big + 3), BigInteger.valueOf(big),
+					BigInteger.valueOf(big - 7)));
+
+		Set<List<BigInteger>> basis = system.findBasis();
+		assertThat(basis, hasSize(1));
+		List<BigInteger> solution = basis.iterator().next();
+		BigInteger first = BigInteger.valueOf(big).multiply(solution.get(0))
+			.add(BigInteger.valueOf(big + 1).multiply(solution.get(1)))
+			.add(BigInteger.valueOf(big + 2).multiply(solution.get(2)));
+		BigInteger second = BigInteger.valueOf(big + 3).multiply(solution.get(0))
+			.add(BigInteger.valueOf(big).multiply(solution.get(1)))
+			.add(BigInteger.valueOf(big - 7).multiply(solution.get(2)));
+		assertThat(first, equalTo(BigInteger.ZERO));
+		assertThat(second, equalTo(BigInteger.ZERO));
+	}
+
 	@Test
 	public void testEmptySystem1() {
 		EquationSystem system = new EquationSystem(0);